@@ -89,13 +89,18 @@ public class DataSeeder implements CommandLineRunner {
 
 			List<Section> savedSections = sectionRepository.saveAll(List.of(vipSection, generalSection));
 
+			// The event carries its price range, so listings never need to look at sections or seats for it
+			event.setMinPrice(generalSection.getPrice());
+			event.setMaxPrice(vipSection.getPrice());
+			event = eventRepository.save(event);
+
 			// Level 3: Create Rows
-			Row vipRowA = Row.builder().name("A").rowOrder(1).section(savedSections.get(0)).build();
-			Row vipRowB = Row.builder().name("B").rowOrder(2).section(savedSections.get(0)).build();
+			Row vipRowA = Row.builder().name("A").rowOrder(1).seatCount(10).section(savedSections.get(0)).build();
+			Row vipRowB = Row.builder().name("B").rowOrder(2).seatCount(10).section(savedSections.get(0)).build();
 
-			Row genRowC = Row.builder().name("C").rowOrder(3).section(savedSections.get(1)).build();
-			Row genRowD = Row.builder().name("D").rowOrder(4).section(savedSections.get(1)).build();
-			Row genRowE = Row.builder().name("E").rowOrder(5).section(savedSections.get(1)).build();
+			Row genRowC = Row.builder().name("C").rowOrder(3).seatCount(10).section(savedSections.get(1)).build();
+			Row genRowD = Row.builder().name("D").rowOrder(4).seatCount(10).section(savedSections.get(1)).build();
+			Row genRowE = Row.builder().name("E").rowOrder(5).seatCount(10).section(savedSections.get(1)).build();
 
 			List<Row> savedRows = rowRepository.saveAll(List.of(vipRowA, vipRowB, genRowC, genRowD, genRowE));
 
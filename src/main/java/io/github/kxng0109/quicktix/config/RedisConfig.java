@@ -7,12 +7,15 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import tools.jackson.databind.ObjectMapper;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Global configuration for Spring Cache using Redis.
@@ -20,14 +23,26 @@ import java.util.Map;
  * Configures default serialization and TTLs, while providing specific short-lived
  * micro-caches for highly volatile data like available seat inventory.
  * </p>
+ * <p>
+ * Event, venue and booking details are read far more often than they change, so those caches also keep a small
+ * copy in each node's memory in front of Redis (see {@link TwoTierCacheManager}).
+ * </p>
  */
 @Configuration
 @EnableCaching
 @Profile("!slice-test")
 public class RedisConfig {
 
+	private static final Set<String> NEAR_CACHE_NAMES = Set.of("events", "venues", "bookings", "bookingReferences");
+	private static final long NEAR_CACHE_MAXIMUM_SIZE = 10_000;
+	private static final Duration NEAR_CACHE_TTL = Duration.ofSeconds(30);
+
 	@Bean
-	public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+	public TwoTierCacheManager cacheManager(
+			RedisConnectionFactory connectionFactory,
+			StringRedisTemplate redisTemplate,
+			ObjectMapper objectMapper
+	) {
 		GenericJacksonJsonRedisSerializer serializer = GenericJacksonJsonRedisSerializer.builder()
 		                                                                                .enableUnsafeDefaultTyping()
 		                                                                                .enableSpringCacheNullValueSupport()
@@ -43,10 +58,27 @@ public class RedisConfig {
 
 		Map<String, RedisCacheConfiguration> specificCacheConfigs = new HashMap<>();
 		specificCacheConfigs.put("availableSeats", defaultConfig.entryTtl(Duration.ofSeconds(5)));
+		//Search results carry seat counts and aren't evicted on writes, so they only live long enough to absorb popular queries
+		specificCacheConfigs.put("eventSearch", defaultConfig.entryTtl(Duration.ofSeconds(30)));
+		//Bookings are evicted on every status change, the TTL only bounds changes made around them (e.g. event renames)
+		specificCacheConfigs.put("bookings", defaultConfig.entryTtl(Duration.ofMinutes(5)));
+		//A reference never moves to another booking
+		specificCacheConfigs.put("bookingReferences", defaultConfig.entryTtl(Duration.ofDays(1)));
+
+		RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+		                                                       .cacheDefaults(defaultConfig)
+		                                                       .withInitialCacheConfigurations(specificCacheConfigs)
+		                                                       .build();
+		//Not a bean of its own, so the container won't initialize it for us
+		redisCacheManager.initializeCaches();
 
-		return RedisCacheManager.builder(connectionFactory)
-		                        .cacheDefaults(defaultConfig)
-		                        .withInitialCacheConfigurations(specificCacheConfigs)
-		                        .build();
+		return new TwoTierCacheManager(
+				redisCacheManager,
+				redisTemplate,
+				objectMapper,
+				NEAR_CACHE_NAMES,
+				NEAR_CACHE_MAXIMUM_SIZE,
+				NEAR_CACHE_TTL
+		);
 	}
 }
@@ -0,0 +1,37 @@
+package io.github.kxng0109.quicktix.config;
+
+import io.github.kxng0109.quicktix.service.SeatStatusStreamService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Configures Redis Pub/Sub subscriptions.
+ * <p>
+ * Every node subscribes to the seat status channels so that live seat updates published by one node
+ * reach the Server-Sent Event streams held open by all the others.
+ * </p>
+ * <p>
+ * Every node also listens for cache invalidations, so an entry changed on one node is dropped from the
+ * in-memory cache tier of all the others.
+ * </p>
+ */
+@Configuration
+@Profile("!slice-test")
+public class RedisMessagingConfig {
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(
+			RedisConnectionFactory connectionFactory,
+			SeatStatusStreamService seatStatusStreamService,
+			TwoTierCacheManager cacheManager
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(seatStatusStreamService, SeatStatusStreamService.CHANNEL_PATTERN);
+		container.addMessageListener(cacheManager, TwoTierCacheManager.INVALIDATION_TOPIC);
+		return container;
+	}
+}
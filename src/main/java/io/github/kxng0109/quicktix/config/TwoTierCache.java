@@ -0,0 +1,175 @@
+package io.github.kxng0109.quicktix.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * A cache with a bounded in-process tier in front of a shared Redis cache.
+ * <p>
+ * Reads are served from local memory when possible and fall through to Redis otherwise, copying what they find
+ * into the local tier. Writes and evictions go to Redis first, then to the local tier, and are then announced to
+ * the other nodes (through the {@code invalidationPublisher}) so they drop their local copy of the key and read
+ * the new value from Redis on next access.
+ * </p>
+ * <p>
+ * Local entries expire on their own after a short time, which bounds how long a node can serve a stale value if an
+ * announcement is lost. Values are handed out as-is to every caller, so only immutable values should be cached
+ * here.
+ * </p>
+ */
+final class TwoTierCache implements Cache {
+
+	private final Cache remote;
+	private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+	/**
+	 * Called with the key that changed, or {@code null} when the whole cache was cleared.
+	 */
+	private final Consumer<String> invalidationPublisher;
+
+	TwoTierCache(Cache remote, com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+	             Consumer<String> invalidationPublisher) {
+		this.remote = remote;
+		this.local = local;
+		this.invalidationPublisher = invalidationPublisher;
+	}
+
+	/**
+	 * Local keys are the keys' string form, which is also what Redis stores them under. That way a key received
+	 * in an invalidation message matches the local entry no matter what type the original key had.
+	 */
+	static String localKey(Object key) {
+		return String.valueOf(key);
+	}
+
+	@Override
+	public String getName() {
+		return remote.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return remote.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		Object value = local.getIfPresent(localKey(key));
+		if (value != null) return new SimpleValueWrapper(value);
+
+		ValueWrapper wrapper = remote.get(key);
+		if (wrapper != null && wrapper.get() != null) {
+			local.put(localKey(key), wrapper.get());
+		}
+		return wrapper;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		Object value = local.getIfPresent(localKey(key));
+
+		if (value == null) {
+			value = remote.get(key, type);
+			if (value == null) return null;
+
+			local.put(localKey(key), value);
+		}
+
+		if (type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		Object cached = local.getIfPresent(localKey(key));
+		if (cached != null) return (T) cached;
+
+		//The Redis cache already makes sure only one caller per node runs the loader for a key,
+		//we only need to know whether it did
+		AtomicBoolean loaded = new AtomicBoolean();
+		T value = remote.get(key, () -> {
+			loaded.set(true);
+			return valueLoader.call();
+		});
+
+		if (value != null) {
+			local.put(localKey(key), value);
+		}
+		if (loaded.get()) {
+			invalidationPublisher.accept(localKey(key));
+		}
+		return value;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		remote.put(key, value);
+
+		if (value != null) {
+			local.put(localKey(key), value);
+		} else {
+			local.invalidate(localKey(key));
+		}
+		invalidationPublisher.accept(localKey(key));
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		ValueWrapper existing = remote.putIfAbsent(key, value);
+
+		//Whichever value won is in Redis now, the next local read picks it up from there
+		local.invalidate(localKey(key));
+		invalidationPublisher.accept(localKey(key));
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		remote.evict(key);
+		local.invalidate(localKey(key));
+		invalidationPublisher.accept(localKey(key));
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		boolean evicted = remote.evictIfPresent(key);
+		local.invalidate(localKey(key));
+		invalidationPublisher.accept(localKey(key));
+		return evicted;
+	}
+
+	@Override
+	public void clear() {
+		remote.clear();
+		local.invalidateAll();
+		invalidationPublisher.accept(null);
+	}
+
+	@Override
+	public boolean invalidate() {
+		boolean invalidated = remote.invalidate();
+		local.invalidateAll();
+		invalidationPublisher.accept(null);
+		return invalidated;
+	}
+
+	/**
+	 * Drops this node's copy of a key after another node changed it.
+	 *
+	 * @param key The key in its string form, or {@code null} to drop every local entry.
+	 */
+	void invalidateLocal(String key) {
+		if (key == null) {
+			local.invalidateAll();
+		} else {
+			local.invalidate(key);
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package io.github.kxng0109.quicktix.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.Topic;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache manager that puts a bounded in-process tier in front of Redis for the hottest caches.
+ * <p>
+ * Caches listed in {@code nearCacheNames} are wrapped in a {@link TwoTierCache}, so a hit is served from local
+ * memory without a network round-trip or a JSON deserialization. Every other cache is handed out straight from the
+ * Redis cache manager, unchanged.
+ * </p>
+ * <p>
+ * <b>Invalidation:</b> whenever a node writes or evicts a near-cached entry it publishes a small message on
+ * {@link #INVALIDATION_CHANNEL}. Every node is subscribed to it (see {@link RedisMessagingConfig}) and drops its
+ * local copy of the key, or of the whole cache for {@code allEntries} evictions. Nodes ignore their own messages,
+ * they have already updated their local tier by then. Pub/sub gives no delivery guarantee, so local entries also
+ * expire after {@code localTtl}, which bounds how long a missed message can leave a node serving stale data.
+ * </p>
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+	public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+	public static final Topic INVALIDATION_TOPIC = new ChannelTopic(INVALIDATION_CHANNEL);
+
+	private final RedisCacheManager remote;
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final Set<String> nearCacheNames;
+	private final long localMaximumSize;
+	private final Duration localTtl;
+
+	/**
+	 * Identifies this node in invalidation messages, so it can skip the ones it sent itself.
+	 */
+	private final String nodeId = UUID.randomUUID().toString();
+	private final ConcurrentMap<String, TwoTierCache> nearCaches = new ConcurrentHashMap<>();
+
+	public TwoTierCacheManager(
+			RedisCacheManager remote,
+			StringRedisTemplate redisTemplate,
+			ObjectMapper objectMapper,
+			Set<String> nearCacheNames,
+			long localMaximumSize,
+			Duration localTtl
+	) {
+		this.remote = remote;
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.nearCacheNames = Set.copyOf(nearCacheNames);
+		this.localMaximumSize = localMaximumSize;
+		this.localTtl = localTtl;
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		if (!nearCacheNames.contains(name)) {
+			return remote.getCache(name);
+		}
+
+		return nearCaches.computeIfAbsent(name, cacheName -> {
+			Cache remoteCache = remote.getCache(cacheName);
+			return new TwoTierCache(
+					remoteCache,
+					Caffeine.newBuilder()
+					        .maximumSize(localMaximumSize)
+					        .expireAfterWrite(localTtl)
+					        .build(),
+					key -> publishInvalidation(cacheName, key)
+			);
+		});
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return remote.getCacheNames();
+	}
+
+	/**
+	 * Drops local entries that another node has changed.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			CacheInvalidation invalidation = objectMapper.readValue(message.getBody(), CacheInvalidation.class);
+			if (nodeId.equals(invalidation.origin())) return;
+
+			TwoTierCache cache = nearCaches.get(invalidation.cacheName());
+			//Nothing to drop if this node never used the cache
+			if (cache != null) {
+				cache.invalidateLocal(invalidation.key());
+			}
+		} catch (Exception e) {
+			log.error("Failed to apply cache invalidation: {}", e.getMessage());
+		}
+	}
+
+	private void publishInvalidation(String cacheName, String key) {
+		try {
+			redisTemplate.convertAndSend(
+					INVALIDATION_CHANNEL,
+					objectMapper.writeValueAsString(new CacheInvalidation(nodeId, cacheName, key))
+			);
+		} catch (Exception e) {
+			//Redis itself has already been updated, other nodes catch up once their local copy expires
+			log.warn("Failed to publish invalidation for cache {}: {}", cacheName, e.getMessage());
+		}
+	}
+
+	/**
+	 * @param origin    The node that made the change.
+	 * @param cacheName The cache that changed.
+	 * @param key       The key that changed, or {@code null} if the whole cache was cleared.
+	 */
+	record CacheInvalidation(String origin, String cacheName, String key) {
+	}
+}
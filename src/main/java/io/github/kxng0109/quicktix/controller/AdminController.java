@@ -1,8 +1,12 @@
 package io.github.kxng0109.quicktix.controller;
 
+import io.github.kxng0109.quicktix.dto.request.BlockReservationRequest;
+import io.github.kxng0109.quicktix.dto.request.WaitingRoomConfigRequest;
+import io.github.kxng0109.quicktix.dto.response.BlockReservationResponse;
 import io.github.kxng0109.quicktix.dto.response.DashboardMetricsResponse;
 import io.github.kxng0109.quicktix.service.*;
 import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -38,6 +42,8 @@ public class AdminController {
 	private final PaymentService paymentService;
 	private final UserService userService;
 	private final AdminDashboardService adminDashboardService;
+	private final WaitingRoomService waitingRoomService;
+	private final BlockReservationService blockReservationService;
 
 	/**
 	 * Forcibly deactivates a user account and scrambles their Personally Identifiable Information (PII).
@@ -115,6 +121,73 @@ public class AdminController {
 		return ResponseEntity.noContent().build();
 	}
 
+	/**
+	 * Puts a high-demand event behind a virtual waiting room, or changes the rate its queue is admitted at.
+	 * <p>
+	 * Once enabled, seats of the event can only be held and booked with an admission token handed out by the
+	 * waiting room, so the load reaching the database is capped by the admission rate rather than the crowd size.
+	 * </p>
+	 *
+	 * @param eventId The unique identifier of the event to gate.
+	 * @param request The payload containing the admission rate.
+	 * @return 204 No Content once the waiting room is configured.
+	 */
+	@PutMapping("/events/{eventId}/waiting-room")
+	public ResponseEntity<Void> configureWaitingRoom(
+			@PathVariable long eventId,
+			@Valid @RequestBody WaitingRoomConfigRequest request
+	){
+		waitingRoomService.configure(eventId, request);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Removes an event's waiting room, reopening its seats to everyone and discarding the queue.
+	 *
+	 * @param eventId The unique identifier of the event.
+	 * @return 204 No Content once the waiting room is removed.
+	 */
+	@DeleteMapping("/events/{eventId}/waiting-room")
+	public ResponseEntity<Void> disableWaitingRoom(
+			@PathVariable long eventId
+	){
+		waitingRoomService.disable(eventId);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Reserves a large block of an event's seats (whole sections, rows or a long list of seats) for a group order.
+	 * <p>
+	 * A pending booking is created for the customer right away and the block's available seats are attached to it
+	 * in the background, in set-based batches that skip seats consumers are holding. Poll the returned reservation
+	 * for progress; once it completes, the booking is paid for like any other.
+	 * </p>
+	 *
+	 * @param eventId The unique identifier of the event.
+	 * @param request The payload containing the customer and the sections, rows and seats to reserve.
+	 * @return 202 Accepted containing the reservation's initial {@link BlockReservationResponse}.
+	 */
+	@PostMapping("/events/{eventId}/block-reservations")
+	public ResponseEntity<BlockReservationResponse> reserveSeatBlock(
+			@PathVariable long eventId,
+			@Valid @RequestBody BlockReservationRequest request
+	){
+		return ResponseEntity.accepted().body(blockReservationService.start(eventId, request));
+	}
+
+	/**
+	 * Reports how far a block reservation has come.
+	 *
+	 * @param reservationId The identifier returned when the reservation was started.
+	 * @return 200 OK containing the reservation's {@link BlockReservationResponse}.
+	 */
+	@GetMapping("/block-reservations/{reservationId}")
+	public ResponseEntity<BlockReservationResponse> getBlockReservation(
+			@PathVariable String reservationId
+	){
+		return ResponseEntity.ok(blockReservationService.getProgress(reservationId));
+	}
+
 	/**
 	 * Retrieves high-level, aggregated platform metrics for the executive dashboard.
 	 * <p>
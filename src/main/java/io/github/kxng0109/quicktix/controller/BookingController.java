@@ -1,11 +1,13 @@
 package io.github.kxng0109.quicktix.controller;
 
+import io.github.kxng0109.quicktix.dto.request.HoldSeatsRequest;
 import io.github.kxng0109.quicktix.dto.request.InitiateBookingRequest;
 import io.github.kxng0109.quicktix.dto.response.BookingResponse;
 import io.github.kxng0109.quicktix.dto.response.PaymentResponse;
 import io.github.kxng0109.quicktix.entity.User;
 import io.github.kxng0109.quicktix.service.BookingService;
 import io.github.kxng0109.quicktix.service.PaymentService;
+import io.github.kxng0109.quicktix.service.WaitingRoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -33,6 +35,7 @@ public class BookingController {
 
 	private final BookingService bookingService;
 	private final PaymentService paymentService;
+	private final WaitingRoomService waitingRoomService;
 
 	@Operation(
 			summary = "Create a pending booking",
@@ -43,6 +46,7 @@ public class BookingController {
 					- User must have held the seats first using `/api/v1/seats/hold`
 					- All seats must be held by the requesting user
 					- Total amount must match the calculated price (seat count × ticket price)
+					- For events with a waiting room, the admission token must be sent in the `X-Admission-Token` header
 					
 					**Booking lifecycle:**
 					1. `PENDING` - Created, awaiting payment (15 minutes to complete)
@@ -64,20 +68,75 @@ public class BookingController {
 					description = "Seats not held by user or validation failed",
 					content = @Content
 			),
+			@ApiResponse(
+					responseCode = "403",
+					description = "Event has a waiting room and no valid admission token was sent",
+					content = @Content
+			),
 			@ApiResponse(responseCode = "404", description = "User or event not found", content = @Content)
 	})
 	@PreAuthorize("hasAnyRole('USER', 'ADMIN')")
 	@PostMapping
 	public ResponseEntity<BookingResponse> createBooking(
 			@Valid @RequestBody InitiateBookingRequest request,
-			@AuthenticationPrincipal User currentUser
+			@AuthenticationPrincipal User currentUser,
+			@RequestHeader(value = WaitingRoomService.ADMISSION_TOKEN_HEADER, required = false) String admissionToken
 	) {
+		waitingRoomService.checkAdmission(request.eventId(), currentUser, admissionToken);
 		return new ResponseEntity<>(
 				bookingService.createPendingBooking(request, currentUser),
 				HttpStatus.CREATED
 		);
 	}
 
+	@Operation(
+			summary = "Hold seats and create a pending booking in one step",
+			description = """
+					Holds the given seats and creates a PENDING booking for them in a single request, replacing
+					`/api/v1/seats/hold` followed by `/api/v1/bookings` on the purchase path.
+					
+					**Behavior:**
+					- Either every seat is held and booked, or nothing changes
+					- Seats held by another user, or already part of another booking, are rejected with 400 Bad Request
+					- Total amount is calculated on the server from the seat prices
+					- Shares the seat hold rate limit
+					- For events with a waiting room, send the admission token in the `X-Admission-Token` header
+					
+					The booking follows the usual lifecycle and expires if no payment is received within 15 minutes.
+					
+					**Next step:** Initialize payment using `/api/v1/payments/initialize`
+					"""
+	)
+	@ApiResponses(value = {
+			@ApiResponse(
+					responseCode = "201",
+					description = "Seats held and booking created successfully",
+					content = @Content(schema = @Schema(implementation = BookingResponse.class))
+			),
+			@ApiResponse(
+					responseCode = "400",
+					description = "Seats not available or already held by another user",
+					content = @Content
+			),
+			@ApiResponse(
+					responseCode = "403",
+					description = "Event has a waiting room and no valid admission token was sent",
+					content = @Content
+			),
+			@ApiResponse(responseCode = "404", description = "Event or seats not found", content = @Content),
+			@ApiResponse(responseCode = "429", description = "Too many seat hold attempts", content = @Content)
+	})
+	@PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+	@PostMapping("/checkout")
+	public ResponseEntity<BookingResponse> checkout(
+			@Valid @RequestBody HoldSeatsRequest request,
+			@AuthenticationPrincipal User currentUser,
+			@RequestHeader(value = WaitingRoomService.ADMISSION_TOKEN_HEADER, required = false) String admissionToken
+	) {
+		waitingRoomService.checkAdmission(request.eventId(), currentUser, admissionToken);
+		return new ResponseEntity<>(bookingService.checkout(request, currentUser), HttpStatus.CREATED);
+	}
+
 	@Operation(
 			summary = "Get booking by ID",
 			description = "Retrieves a booking's details by its unique identifier"
@@ -5,9 +5,18 @@ import io.github.kxng0109.quicktix.dto.request.EventDateSearchRequest;
 import io.github.kxng0109.quicktix.dto.request.UpdateEventRequest;
 import io.github.kxng0109.quicktix.dto.response.EventResponse;
 import io.github.kxng0109.quicktix.dto.response.PagedResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatAvailabilityResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatGenerationResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatMapChangesResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatMapResponse;
 import io.github.kxng0109.quicktix.dto.response.SeatResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatScrollResponse;
+import io.github.kxng0109.quicktix.enums.SeatStatus;
 import io.github.kxng0109.quicktix.service.EventService;
+import io.github.kxng0109.quicktix.service.SeatGenerationService;
+import io.github.kxng0109.quicktix.service.SeatMapService;
 import io.github.kxng0109.quicktix.service.SeatService;
+import io.github.kxng0109.quicktix.service.SeatStatusStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,15 +24,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/events")
@@ -34,13 +49,22 @@ public class EventController {
 
 	private final EventService eventService;
 	private final SeatService seatService;
+	private final SeatMapService seatMapService;
+	private final SeatStatusStreamService seatStatusStreamService;
+	private final SeatGenerationService seatGenerationService;
 
 	@Operation(
 			summary = "Create a new event",
 			description = """
-					Creates a new event at the specified venue. Seats are automatically generated based on the `numberOfSeats` parameter.
+					Creates a new event at the specified venue. Seats are automatically generated from the rows of each section.
 					
-					The event will be created with status `UPCOMING`. Status transitions:
+					The layout is either sent as `sections`, or copied from one of the venue's seating templates by passing
+					`seatingTemplateId`, optionally with `sectionPriceOverrides` keyed by template section ID.
+					
+					Events with up to 2,000 seats are created with status `UPCOMING`. Larger events are created as `DRAFT`
+					and get their seats generated in the background; their progress can be followed at
+					`/{eventId}/seat-generation`, and they move to `UPCOMING` once every seat exists. Status transitions:
+					- `DRAFT` → `UPCOMING` (when seat generation finishes)
 					- `UPCOMING` → `ONGOING` (when event start time is reached)
 					- `ONGOING` → `COMPLETED` (when event end time is reached)
 					- Any status → `CANCELLED` (manual cancellation)
@@ -63,6 +87,28 @@ public class EventController {
 		return new ResponseEntity<>(eventService.createEvent(request), HttpStatus.CREATED);
 	}
 
+	@Operation(
+			summary = "Get seat generation progress",
+			description = "Reports how far the background seat generation of an event has come. Events created " +
+					"with their seats right away report `Completed`."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(
+					responseCode = "200",
+					description = "Progress retrieved successfully",
+					content = @Content(schema = @Schema(implementation = SeatGenerationResponse.class))
+			),
+			@ApiResponse(responseCode = "400", description = "Invalid event ID", content = @Content),
+			@ApiResponse(responseCode = "404", description = "Event not found", content = @Content)
+	})
+	@GetMapping("/{eventId}/seat-generation")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<SeatGenerationResponse> getSeatGenerationProgress(
+			@Min(value = 1, message = "Event ID must have a value of at least 1") @PathVariable long eventId
+	) {
+		return ResponseEntity.ok(seatGenerationService.getProgress(eventId));
+	}
+
 	@Operation(
 			summary = "Get event by ID",
 			description = "Retrieves an event's details including the current number of available seats"
@@ -97,6 +143,26 @@ public class EventController {
 		return ResponseEntity.ok(eventService.getAllUpcomingEvents(pageable));
 	}
 
+	@Operation(
+			summary = "Search events",
+			description = "Full-text searches upcoming and ongoing events by name, description, venue name and city, " +
+					"best match first. The query accepts quoted phrases, `or` and `-word` exclusions. Results may " +
+					"be up to 30 seconds old."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Matching events retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "Missing or too long search query", content = @Content)
+	})
+	@GetMapping("/search")
+	public ResponseEntity<PagedResponse<EventResponse>> searchEvents(
+			@NotBlank(message = "Search query can't be blank")
+			@Size(max = 200, message = "Search query can't be longer than 200 characters")
+			@RequestParam String q,
+			Pageable pageable
+	) {
+		return ResponseEntity.ok(eventService.searchEvents(q, pageable));
+	}
+
 	@Operation(
 			summary = "Get all seats for an event",
 			description = "Retrieves all seats (available, held, and booked) for a specific event with pagination support"
@@ -114,6 +180,30 @@ public class EventController {
 		return ResponseEntity.ok(seatService.getAllSeatsByEvent(eventId, pageable));
 	}
 
+	@Operation(
+			summary = "Scroll through the seats of an event",
+			description = "Retrieves the seats of an event in layout order (section, row, seat number), one slice at a time. " +
+					"Pass the `nextCursor` of a response as `cursor` to get the next slice. Unlike the paged endpoints, no " +
+					"total count is computed and deep slices are as fast as the first one, which makes this the endpoint " +
+					"to use for large venues. Optionally filter by `status`."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Seats retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid event ID, cursor or size", content = @Content),
+			@ApiResponse(responseCode = "404", description = "Event not found", content = @Content)
+	})
+	@GetMapping("/{eventId}/seats/scroll")
+	public ResponseEntity<SeatScrollResponse> scrollSeatsByEvent(
+			@Min(value = 1, message = "Event ID must have a value of at least 1") @PathVariable long eventId,
+			@RequestParam(required = false) SeatStatus status,
+			@RequestParam(required = false) String cursor,
+			@Min(value = 1, message = "Size must be at least 1")
+			@Max(value = 500, message = "Size must be at most 500")
+			@RequestParam(defaultValue = "50") int size
+	) {
+		return ResponseEntity.ok(seatService.scrollSeatsByEvent(eventId, status, cursor, size));
+	}
+
 	@Operation(
 			summary = "Get available seats for an event",
 			description = "Retrieves only seats with status `AVAILABLE` for a specific event. Use this endpoint when displaying seat selection to users."
@@ -131,6 +221,89 @@ public class EventController {
 		return ResponseEntity.ok(seatService.getAvailableSeats(eventId, pageable));
 	}
 
+	@Operation(
+			summary = "Get seat availability counts",
+			description = "Retrieves the number of available seats of an event, overall and per section. Cheaper than " +
+					"paging through `/seats/available` when only the numbers are needed."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Availability retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid event ID", content = @Content),
+			@ApiResponse(responseCode = "404", description = "Event not found", content = @Content)
+	})
+	@GetMapping("/{eventId}/seats/availability")
+	public ResponseEntity<SeatAvailabilityResponse> getSeatAvailability(
+			@Min(value = 1, message = "Event ID must have a value of at least 1") @PathVariable long eventId
+	) {
+		return ResponseEntity.ok(seatService.getSeatAvailability(eventId));
+	}
+
+	@Operation(
+			summary = "Stream live seat status changes",
+			description = "Opens a Server-Sent Events stream that pushes a `seat-status` event whenever seats of the event " +
+					"are held, released, or booked. Each event's ID is the seat map version it produced, so the stream " +
+					"can be applied on top of a seat map fetched from `/seat-map`. Clients that fall too far behind are " +
+					"disconnected and should fetch the seat map again before reconnecting."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Stream opened successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid event ID", content = @Content),
+			@ApiResponse(responseCode = "404", description = "Event not found", content = @Content)
+	})
+	@GetMapping(value = "/{eventId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamSeatStatusChanges(
+			@Min(value = 1, message = "Event ID must have a value of at least 1") @PathVariable long eventId
+	) {
+		return seatStatusStreamService.subscribe(eventId);
+	}
+
+	@Operation(
+			summary = "Get the seat map of an event",
+			description = "Retrieves the whole seat layout of an event in one compact response, plus a `statuses` string " +
+					"with one code per seat (`A` available, `H` held, `B` booked) in layout order. The response is " +
+					"versioned: send its `ETag` back in `If-None-Match` to get a `304` while nothing has changed, " +
+					"or poll `?since=<version>` to receive only the changes."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Seat map retrieved successfully"),
+			@ApiResponse(responseCode = "304", description = "Seat map has not changed since the given version", content = @Content),
+			@ApiResponse(responseCode = "400", description = "Invalid event ID", content = @Content),
+			@ApiResponse(responseCode = "404", description = "Event not found", content = @Content)
+	})
+	@GetMapping("/{eventId}/seat-map")
+	public ResponseEntity<SeatMapResponse> getSeatMap(
+			@Min(value = 1, message = "Event ID must have a value of at least 1") @PathVariable long eventId,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+	) {
+		//Checking the version first is a single Redis read, so unchanged maps cost next to nothing
+		String currentETag = seatMapETag(eventId, seatMapService.getCurrentVersion(eventId));
+		if (currentETag.equals(ifNoneMatch)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+		}
+
+		SeatMapResponse seatMap = seatMapService.getSeatMap(eventId);
+		return ResponseEntity.ok()
+		                     .eTag(seatMapETag(eventId, seatMap.version()))
+		                     .body(seatMap);
+	}
+
+	@Operation(
+			summary = "Get seat map changes",
+			description = "Retrieves the seat status changes of an event after the given seat map version, oldest first. " +
+					"If `resyncRequired` is true, the changes are no longer available and the full seat map should be fetched again."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Changes retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid event ID or version", content = @Content)
+	})
+	@GetMapping(value = "/{eventId}/seat-map", params = "since")
+	public ResponseEntity<SeatMapChangesResponse> getSeatMapChanges(
+			@Min(value = 1, message = "Event ID must have a value of at least 1") @PathVariable long eventId,
+			@Min(value = 0, message = "Version must be at least 0") @RequestParam long since
+	) {
+		return ResponseEntity.ok(seatMapService.getSeatMapChanges(eventId, since));
+	}
+
 	@Operation(
 			summary = "Get events by venue",
 			description = "Retrieves all events scheduled at a specific venue with pagination support"
@@ -206,4 +379,8 @@ public class EventController {
 	) {
 		return ResponseEntity.ok(eventService.updateEventById(id, request));
 	}
+
+	private static String seatMapETag(long eventId, long version) {
+		return "\"" + eventId + "-" + version + "\"";
+	}
 }
@@ -1,9 +1,11 @@
 package io.github.kxng0109.quicktix.controller;
 
+import io.github.kxng0109.quicktix.dto.request.HoldBestAvailableRequest;
 import io.github.kxng0109.quicktix.dto.request.HoldSeatsRequest;
 import io.github.kxng0109.quicktix.dto.response.SeatResponse;
 import io.github.kxng0109.quicktix.entity.User;
 import io.github.kxng0109.quicktix.service.SeatService;
+import io.github.kxng0109.quicktix.service.WaitingRoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -20,6 +22,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -33,6 +36,7 @@ import java.util.List;
 public class SeatController {
 
 	private final SeatService seatService;
+	private final WaitingRoomService waitingRoomService;
 
 	@Operation(
 			summary = "Hold seats",
@@ -41,9 +45,10 @@ public class SeatController {
 					
 					**Important:**
 					- Uses pessimistic locking to prevent race conditions
-					- If seats are already held by another user, returns 400 Bad Request
-					- If the same user already holds these seats, the hold is refreshed
+					- If any of the seats is already held, by another user or by the same one, returns 400 Bad Request
+					  and none of them is held (holds are all-or-nothing and are not refreshed)
 					- Seats must belong to the specified event
+					- For events with a waiting room, send the admission token in the `X-Admission-Token` header
 					
 					**Next step:** After holding seats, create a booking using the `/api/v1/bookings` endpoint.
 					"""
@@ -56,7 +61,7 @@ public class SeatController {
 			),
 			@ApiResponse(
 					responseCode = "400",
-					description = "Seats not available or already held by another user",
+					description = "Seats not available or already held",
 					content = @Content(
 							mediaType = "application/json",
 							examples = @ExampleObject(
@@ -71,17 +76,67 @@ public class SeatController {
 							)
 					)
 			),
+			@ApiResponse(
+					responseCode = "403",
+					description = "Event has a waiting room and no valid admission token was sent",
+					content = @Content
+			),
 			@ApiResponse(responseCode = "404", description = "Event or user not found", content = @Content)
 	})
 	@PreAuthorize("hasAnyRole('ADMIN', 'USER')")
 	@PostMapping("/hold")
 	public ResponseEntity<List<SeatResponse>> holdSeats(
 			@Valid @RequestBody HoldSeatsRequest request,
-			@AuthenticationPrincipal User currentUser
+			@AuthenticationPrincipal User currentUser,
+			@RequestHeader(value = WaitingRoomService.ADMISSION_TOKEN_HEADER, required = false) String admissionToken
 	) {
+		waitingRoomService.checkAdmission(request.eventId(), currentUser, admissionToken);
 		return new ResponseEntity<>(seatService.holdSeats(request, currentUser), HttpStatus.CREATED);
 	}
 
+	@Operation(
+			summary = "Hold the best available seats",
+			description = """
+					Holds a block of adjacent seats without having to pick seat IDs. Held seats are reserved for 15 minutes.
+					
+					**How seats are picked:**
+					- Front rows are preferred, optionally within a single section
+					- Seats are adjacent when they are in the same row with consecutive seat numbers
+					- The block is centred within the free stretch of the row
+					- If another user takes the chosen block first, the next best block is tried
+					
+					**Next step:** After holding seats, create a booking using the `/api/v1/bookings` endpoint.
+					"""
+	)
+	@ApiResponses(value = {
+			@ApiResponse(
+					responseCode = "201",
+					description = "Seats held successfully",
+					content = @Content(schema = @Schema(implementation = SeatResponse.class))
+			),
+			@ApiResponse(
+					responseCode = "400",
+					description = "Not enough adjacent seats are available",
+					content = @Content
+			),
+			@ApiResponse(
+					responseCode = "403",
+					description = "Event has a waiting room and no valid admission token was sent",
+					content = @Content
+			),
+			@ApiResponse(responseCode = "404", description = "Event not found", content = @Content)
+	})
+	@PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+	@PostMapping("/hold/best-available")
+	public ResponseEntity<List<SeatResponse>> holdBestAvailableSeats(
+			@Valid @RequestBody HoldBestAvailableRequest request,
+			@AuthenticationPrincipal User currentUser,
+			@RequestHeader(value = WaitingRoomService.ADMISSION_TOKEN_HEADER, required = false) String admissionToken
+	) {
+		waitingRoomService.checkAdmission(request.eventId(), currentUser, admissionToken);
+		return new ResponseEntity<>(seatService.holdBestAvailableSeats(request, currentUser), HttpStatus.CREATED);
+	}
+
 	@Operation(
 			summary = "Release seats",
 			description = """
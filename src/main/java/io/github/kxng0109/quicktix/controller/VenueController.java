@@ -1,8 +1,11 @@
 package io.github.kxng0109.quicktix.controller;
 
+import io.github.kxng0109.quicktix.dto.request.CreateSeatingTemplateRequest;
 import io.github.kxng0109.quicktix.dto.request.CreateVenueRequest;
 import io.github.kxng0109.quicktix.dto.response.PagedResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatingTemplateResponse;
 import io.github.kxng0109.quicktix.dto.response.VenueResponse;
+import io.github.kxng0109.quicktix.service.SeatingTemplateService;
 import io.github.kxng0109.quicktix.service.VenueService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,6 +23,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/venues")
 @RequiredArgsConstructor
@@ -28,6 +33,7 @@ import org.springframework.web.bind.annotation.*;
 public class VenueController {
 
 	private final VenueService venueService;
+	private final SeatingTemplateService seatingTemplateService;
 
 	@Operation(
 			summary = "Create a new venue",
@@ -139,4 +145,42 @@ public class VenueController {
 
 		return ResponseEntity.noContent().build();
 	}
+
+	@Operation(
+			summary = "Create a seating template",
+			description = "Saves a reusable seating layout (sections and rows) for a venue. Events at the venue can then be created from the template's ID instead of sending the whole layout again."
+	)
+	@ApiResponses(value = {
+			@ApiResponse(
+					responseCode = "201",
+					description = "Seating template created successfully",
+					content = @Content(schema = @Schema(implementation = SeatingTemplateResponse.class))
+			),
+			@ApiResponse(responseCode = "400", description = "Invalid request data", content = @Content),
+			@ApiResponse(responseCode = "404", description = "Venue not found", content = @Content)
+	})
+	@PreAuthorize("hasRole('ADMIN')")
+	@PostMapping("/{venueId}/seating-templates")
+	public ResponseEntity<SeatingTemplateResponse> createSeatingTemplate(
+			@Min(value = 1, message = "Venue ID must be at least 1") @PathVariable long venueId,
+			@Valid @RequestBody CreateSeatingTemplateRequest request
+	) {
+		return new ResponseEntity<>(seatingTemplateService.createTemplate(venueId, request), HttpStatus.CREATED);
+	}
+
+	@Operation(
+			summary = "Get seating templates of a venue",
+			description = "Retrieves every seating template saved for a venue, with the section IDs that event price overrides refer to"
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Seating templates retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid venue ID", content = @Content),
+			@ApiResponse(responseCode = "404", description = "Venue not found", content = @Content)
+	})
+	@GetMapping("/{venueId}/seating-templates")
+	public ResponseEntity<List<SeatingTemplateResponse>> getSeatingTemplates(
+			@Min(value = 1, message = "Venue ID must be at least 1") @PathVariable long venueId
+	) {
+		return ResponseEntity.ok(seatingTemplateService.getTemplatesByVenue(venueId));
+	}
 }
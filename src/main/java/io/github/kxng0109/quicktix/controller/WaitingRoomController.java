@@ -0,0 +1,58 @@
+package io.github.kxng0109.quicktix.controller;
+
+import io.github.kxng0109.quicktix.dto.response.WaitingRoomResponse;
+import io.github.kxng0109.quicktix.entity.User;
+import io.github.kxng0109.quicktix.service.WaitingRoomService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/waiting-room")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Waiting Room", description = "Admission queue for high-demand events")
+public class WaitingRoomController {
+
+	private final WaitingRoomService waitingRoomService;
+
+	@Operation(
+			summary = "Join an event's waiting room",
+			description = """
+					Joins the waiting room of a high-demand event, or returns the current place in it.
+					
+					**How it works:**
+					- Users are admitted in the order they joined, at a fixed rate per event
+					- Poll this endpoint until the status is `Admitted`; polling never loses your place
+					- Once admitted, send the returned token in the `X-Admission-Token` header when holding seats and creating the booking
+					- The token is valid for 20 minutes, after which you have to queue again
+					
+					If the event has no waiting room, the status is `Open` and no token is needed.
+					"""
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Place in the waiting room returned"),
+			@ApiResponse(responseCode = "400", description = "Invalid event ID", content = @Content),
+			@ApiResponse(responseCode = "404", description = "Event not found", content = @Content)
+	})
+	@PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+	@PostMapping("/{eventId}")
+	public ResponseEntity<WaitingRoomResponse> joinWaitingRoom(
+			@Min(value = 1, message = "Event ID must have a value of at least 1") @PathVariable long eventId,
+			@AuthenticationPrincipal User currentUser
+	) {
+		return ResponseEntity.ok(waitingRoomService.join(eventId, currentUser));
+	}
+}
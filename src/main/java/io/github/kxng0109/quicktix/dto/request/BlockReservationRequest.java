@@ -0,0 +1,36 @@
+package io.github.kxng0109.quicktix.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Request payload for reserving a large block of an event's seats on behalf of a customer")
+public record BlockReservationRequest(
+		@Schema(
+				description = "ID of the customer (e.g. a corporate buyer or promoter) the seats are reserved for",
+				example = "42",
+				requiredMode = Schema.RequiredMode.REQUIRED,
+				minimum = "1"
+		)
+		@NotNull(message = "User ID can't be null")
+		@Positive(message = "User ID can't be negative or zero")
+		Long userId,
+
+		@Schema(description = "Sections whose every available seat should be reserved", example = "[3]")
+		@Size(max = 100, message = "Can't reserve more than 100 sections at once")
+		List<@NotNull(message = "Section ID can't be null") @Positive(message = "Section ID must be positive") Long> sectionIds,
+
+		@Schema(description = "Rows whose every available seat should be reserved", example = "[10, 11]")
+		@Size(max = 1000, message = "Can't reserve more than 1000 rows at once")
+		List<@NotNull(message = "Row ID can't be null") @Positive(message = "Row ID must be positive") Long> rowIds,
+
+		@Schema(description = "Individual seats to reserve", example = "[501, 502, 503]")
+		@Size(max = 10000, message = "Can't reserve more than 10000 individual seats at once")
+		List<@NotNull(message = "Seat ID can't be null") @Positive(message = "Seat ID must be positive") Long> seatIds
+) {
+}
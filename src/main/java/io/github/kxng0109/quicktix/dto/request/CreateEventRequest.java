@@ -5,8 +5,10 @@ import jakarta.validation.constraints.*;
 import lombok.Builder;
 import org.springframework.format.annotation.DateTimeFormat;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 @Builder
 @Schema(description = "Request payload for creating or updating an event")
@@ -69,10 +71,33 @@ public record CreateEventRequest(
 		@PositiveOrZero(message = "Number of seats must be 0 or greater.")
 		Long numberOfSeats,
 
-		@NotEmpty(message = "Sections can't be empty")
-		@Size(min = 1, message = "Sections must be at least 1")
-		List<SectionRequest> sections
+		@Schema(description = "Sections of the event with their rows. Leave out when using `seatingTemplateId`")
+		List<SectionRequest> sections,
+
+		@Schema(
+				description = "ID of one of the venue's seating templates to copy the layout from, instead of sending `sections`",
+				example = "3",
+				minimum = "1"
+		)
+		@Positive(message = "Seating template ID must be greater than 0")
+		Long seatingTemplateId,
+
+		@Schema(
+				description = "Prices that replace the template's defaults, keyed by template section ID. " +
+						"Only used with `seatingTemplateId`",
+				example = "{\"12\": 30000.00}"
+		)
+		Map<Long, @DecimalMin(value = "0.01", message = "Ticket price must be greater than 0.01")
+		@Digits(integer = 6, fraction = 2, message = "Ticket price must be in the format '999999.99'") BigDecimal>
+				sectionPriceOverrides
 ) {
+	@AssertTrue(message = "Provide either sections or a seating template ID, not both")
+	@Schema(hidden = true)
+	public boolean isLayoutValid() {
+		boolean hasSections = sections != null && !sections.isEmpty();
+		return hasSections != (seatingTemplateId != null);
+	}
+
 	@AssertTrue(message = "Start date time must be before end date time")
 	@Schema(hidden = true)
 	public boolean isDateRangeValid() {
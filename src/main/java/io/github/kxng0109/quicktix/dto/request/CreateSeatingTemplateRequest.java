@@ -0,0 +1,29 @@
+package io.github.kxng0109.quicktix.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Request payload for saving a reusable seating layout of a venue")
+public record CreateSeatingTemplateRequest(
+		@Schema(
+				description = "Name of the layout",
+				example = "Full stadium, standing pitch",
+				requiredMode = Schema.RequiredMode.REQUIRED
+		)
+		@NotBlank(message = "Template name can't be blank.")
+		String name,
+
+		@Schema(
+				description = "Sections of the layout with their rows. Section prices are defaults that events can override",
+				requiredMode = Schema.RequiredMode.REQUIRED
+		)
+		@NotEmpty(message = "Sections can't be empty")
+		List<@Valid SectionRequest> sections
+) {
+}
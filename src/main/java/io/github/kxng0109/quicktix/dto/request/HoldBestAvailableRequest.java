@@ -0,0 +1,43 @@
+package io.github.kxng0109.quicktix.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Request payload for holding the best available block of adjacent seats")
+public record HoldBestAvailableRequest(
+		@Schema(
+				description = "ID of the event for which seats are being held",
+				example = "1",
+				requiredMode = Schema.RequiredMode.REQUIRED,
+				minimum = "1"
+		)
+		@NotNull(message = "Event ID can't be null")
+		@Positive(message = "Event ID can't be negative or zero")
+		Long eventId,
+
+		@Schema(
+				description = "ID of the section to pick seats from. Leave empty to search every section",
+				example = "2",
+				minimum = "1"
+		)
+		@Positive(message = "Section ID can't be negative or zero")
+		Long sectionId,
+
+		@Schema(
+				description = "Number of adjacent seats to hold",
+				example = "4",
+				requiredMode = Schema.RequiredMode.REQUIRED,
+				minimum = "1",
+				maximum = "10"
+		)
+		@NotNull(message = "Quantity can't be null")
+		@Min(value = 1, message = "Quantity must be at least 1")
+		@Max(value = 10, message = "Quantity can't be more than 10")
+		Integer quantity
+) {
+}
@@ -0,0 +1,24 @@
+package io.github.kxng0109.quicktix.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Request payload for enabling or adjusting an event's virtual waiting room")
+public record WaitingRoomConfigRequest(
+		@Schema(
+				description = "How many queued users are admitted per minute",
+				example = "600",
+				requiredMode = Schema.RequiredMode.REQUIRED,
+				minimum = "1",
+				maximum = "100000"
+		)
+		@NotNull(message = "Admission rate can't be null")
+		@Min(value = 1, message = "Admission rate must be at least 1 per minute")
+		@Max(value = 100000, message = "Admission rate can't be more than 100000 per minute")
+		Integer admissionsPerMinute
+) {
+}
@@ -0,0 +1,19 @@
+package io.github.kxng0109.quicktix.dto.request.projection;
+
+/**
+ * A Spring Data JPA Projection interface capturing how far the seats of an event have moved on.
+ * <p>
+ * Every seat write bumps the seat's optimistic lock version, so the sum over an event's seats only ever grows
+ * and changes whenever any of its seats does.
+ */
+public interface EventSeatRevision {
+	/**
+	 * @return The unique identifier of the Event.
+	 */
+	Long getEventId();
+
+	/**
+	 * @return The sum of the versions of the event's seats.
+	 */
+	Long getRevision();
+}
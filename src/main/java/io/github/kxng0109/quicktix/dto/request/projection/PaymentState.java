@@ -0,0 +1,21 @@
+package io.github.kxng0109.quicktix.dto.request.projection;
+
+import io.github.kxng0109.quicktix.enums.PaymentStatus;
+
+import java.time.Instant;
+
+/**
+ * The mutable part of a payment, read on its own when replaying a stored payment initialization (see
+ * {@link io.github.kxng0109.quicktix.service.PaymentIdempotencyStore}).
+ */
+public interface PaymentState {
+	/**
+	 * @return The current status of the payment.
+	 */
+	PaymentStatus getStatus();
+
+	/**
+	 * @return When the payment was completed, {@code null} if it hasn't been.
+	 */
+	Instant getPaidAt();
+}
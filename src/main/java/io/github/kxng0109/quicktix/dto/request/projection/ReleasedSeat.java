@@ -0,0 +1,23 @@
+package io.github.kxng0109.quicktix.dto.request.projection;
+
+import io.github.kxng0109.quicktix.enums.SeatStatus;
+
+/**
+ * One row returned by a bulk seat release (see {@link io.github.kxng0109.quicktix.repositories.SeatBulkOperations}).
+ * <p>
+ * Carries just enough to finish the release outside the database: the event (to announce the change), the status
+ * the seat had before (only real transitions are announced) and who owned its Redis lock.
+ *
+ * @param seatId         The unique identifier of the released seat.
+ * @param eventId        The unique identifier of the event the seat belongs to.
+ * @param previousStatus The status the seat had before it was released.
+ * @param lockOwner      The email of the user holding the seat (or, failing that, of the booking's owner),
+ *                       {@code null} if neither is known.
+ */
+public record ReleasedSeat(
+		Long seatId,
+		Long eventId,
+		SeatStatus previousStatus,
+		String lockOwner
+) {
+}
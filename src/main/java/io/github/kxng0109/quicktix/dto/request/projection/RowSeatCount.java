@@ -0,0 +1,18 @@
+package io.github.kxng0109.quicktix.dto.request.projection;
+
+/**
+ * A Spring Data JPA Projection of a row's identifier and the number of seats it was created with.
+ * <p>
+ * Used to split an event's seat generation into batches of roughly equal size without loading the rows.
+ */
+public interface RowSeatCount {
+	/**
+	 * @return The unique identifier of the row.
+	 */
+	Long getRowId();
+
+	/**
+	 * @return The number of seats the row holds once its seats are generated.
+	 */
+	Integer getSeatCount();
+}
@@ -0,0 +1,32 @@
+package io.github.kxng0109.quicktix.dto.request.projection;
+
+import io.github.kxng0109.quicktix.enums.SeatStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * A Spring Data JPA Projection interface describing a single seat and where it sits in the venue layout.
+ * <p>
+ * Used to load the complete seat layout of an event in one flat query (seat, row and section joined together),
+ * which is what the in-memory seat indexes are built from. Rows are returned ordered by seat ID, so the
+ * position of a seat in the result is its dense ordinal within the event.
+ */
+public interface SeatLayoutEntry {
+	Long getSeatId();
+
+	Integer getSeatNumber();
+
+	Long getRowId();
+
+	String getRowName();
+
+	Integer getRowOrder();
+
+	Long getSectionId();
+
+	String getSectionName();
+
+	BigDecimal getPrice();
+
+	SeatStatus getSeatStatus();
+}
@@ -0,0 +1,31 @@
+package io.github.kxng0109.quicktix.dto.request.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * A Spring Data JPA Projection of a section's price, tagged with the event it belongs to.
+ * <p>
+ * Lets a whole page of events list their per-section prices in a single query on the sections, without going
+ * near their seats.
+ */
+public interface SectionPrice {
+	/**
+	 * @return The unique identifier of the Event.
+	 */
+	Long getEventId();
+
+	/**
+	 * @return The unique identifier of the section.
+	 */
+	Long getSectionId();
+
+	/**
+	 * @return The name of the section.
+	 */
+	String getName();
+
+	/**
+	 * @return The price every seat of the section was created with.
+	 */
+	BigDecimal getPrice();
+}
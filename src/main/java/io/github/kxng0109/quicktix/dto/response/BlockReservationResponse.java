@@ -0,0 +1,32 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.github.kxng0109.quicktix.enums.BlockReservationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Progress of the background reservation of a block of seats")
+public record BlockReservationResponse(
+		@Schema(description = "Identifier of the reservation, used to poll its progress",
+				example = "6f1c2b1e-4c1a-4e0e-9a53-2f4f8d3c9b10")
+		String reservationId,
+
+		@Schema(description = "Identifier of the event", example = "1")
+		Long eventId,
+
+		@Schema(description = "Identifier of the pending booking the seats are attached to", example = "1234")
+		Long bookingId,
+
+		@Schema(description = "Public reference of that booking", example = "QT-A9K4P2M")
+		String bookingReference,
+
+		@Schema(description = "Where the reservation stands", example = "In Progress")
+		BlockReservationStatus status,
+
+		@Schema(description = "Number of seats in the requested block, whatever their status", example = "2000")
+		long requestedSeats,
+
+		@Schema(description = "Number of seats reserved so far", example = "1500")
+		long reservedSeats
+) {
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 
 @Builder
 @Schema(description = "Event details response")
@@ -22,9 +23,18 @@ public record EventResponse(
 		@Schema(description = "Name of the venue hosting the event", example = "Grand Arena")
 		String venueName,
 
-		@Schema(description = "Price per ticket", example = "15000.00")
+		@Schema(description = "Lowest price per ticket, i.e. the price tickets start from", example = "15000.00")
 		BigDecimal ticketPrice,
 
+		@Schema(description = "Lowest ticket price of the event", example = "15000.00")
+		BigDecimal minPrice,
+
+		@Schema(description = "Highest ticket price of the event", example = "25000.00")
+		BigDecimal maxPrice,
+
+		@Schema(description = "Ticket price of each section, in layout order")
+		List<SectionPriceResponse> sectionPrices,
+
 		@Schema(
 				description = "Current status of the event",
 				example = "Upcoming",
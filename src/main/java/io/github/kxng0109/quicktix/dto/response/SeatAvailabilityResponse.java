@@ -0,0 +1,23 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+@Schema(description = "How many seats of an event are still available, overall and per section")
+public record SeatAvailabilityResponse(
+		@Schema(description = "Unique event identifier", example = "1")
+		Long eventId,
+
+		@Schema(description = "Number of available seats across the whole event", example = "4213")
+		long availableSeats,
+
+		@Schema(
+				description = "Number of available seats per section, keyed by section ID",
+				example = "{\"1\": 120, \"2\": 4093}"
+		)
+		Map<Long, Long> sections
+) {
+}
@@ -0,0 +1,22 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.github.kxng0109.quicktix.enums.SeatGenerationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Progress of the background generation of an event's seats")
+public record SeatGenerationResponse(
+		@Schema(description = "Identifier of the event", example = "1")
+		Long eventId,
+
+		@Schema(description = "Where the generation stands", example = "In Progress")
+		SeatGenerationStatus status,
+
+		@Schema(description = "Number of seats the event will have once generation is done", example = "50000")
+		long totalSeats,
+
+		@Schema(description = "Number of seats generated so far", example = "15000")
+		long generatedSeats
+) {
+}
@@ -0,0 +1,24 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "A group of seats that moved to the same status in one seat map version")
+public record SeatMapChangeResponse(
+		@Schema(description = "The seat map version this change produced", example = "1041")
+		long version,
+
+		@Schema(
+				description = "New status of the seats, using the seat map status codes",
+				example = "H",
+				allowableValues = {"A", "H", "B"}
+		)
+		String status,
+
+		@Schema(description = "Identifiers of the seats that changed", example = "[101, 102]")
+		List<Long> seatIds
+) {
+}
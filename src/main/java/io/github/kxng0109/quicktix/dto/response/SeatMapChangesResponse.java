@@ -0,0 +1,29 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Seat status changes of an event between two seat map versions")
+public record SeatMapChangesResponse(
+		@Schema(description = "Unique event identifier", example = "1")
+		Long eventId,
+
+		@Schema(description = "The version the changes start after (the `since` parameter)", example = "1040")
+		long fromVersion,
+
+		@Schema(description = "The current version. Use it as `since` on the next poll", example = "1042")
+		long toVersion,
+
+		@Schema(
+				description = "True if the changes since `fromVersion` are no longer retained. The client must fetch the full seat map again",
+				example = "false"
+		)
+		boolean resyncRequired,
+
+		@Schema(description = "The changes, oldest first")
+		List<SeatMapChangeResponse> changes
+) {
+}
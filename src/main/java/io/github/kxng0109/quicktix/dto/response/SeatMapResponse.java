@@ -0,0 +1,32 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Compact seat map of an event: the full seat layout plus the status of every seat")
+public record SeatMapResponse(
+		@Schema(description = "Unique event identifier", example = "1")
+		Long eventId,
+
+		@Schema(
+				description = "Seat map version. Increases every time a seat changes status; pass it as `since` to fetch only the changes after it",
+				example = "1042"
+		)
+		long version,
+
+		@Schema(description = "Sections of the event, each with its rows and seats")
+		List<SeatMapSectionResponse> sections,
+
+		@Schema(
+				description = """
+						One character per seat, in layout order (sections, then rows, then seats, exactly as listed in `sections`).
+						`A` = Available, `H` = Held, `B` = Booked.
+						""",
+				example = "AAAHHBBA"
+		)
+		String statuses
+) {
+}
@@ -0,0 +1,26 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "A row of the seat map. `seatIds` and `seatNumbers` are parallel arrays")
+public record SeatMapRowResponse(
+		@Schema(description = "Unique row identifier", example = "1")
+		Long id,
+
+		@Schema(description = "Name of the row", example = "A")
+		String name,
+
+		@Schema(description = "Position of the row within its section, front rows first", example = "1")
+		Integer rowOrder,
+
+		@Schema(description = "Seat identifiers, ordered by seat number", example = "[101, 102, 103]")
+		List<Long> seatIds,
+
+		@Schema(description = "Seat numbers, matching `seatIds` position by position", example = "[1, 2, 3]")
+		List<Integer> seatNumbers
+) {
+}
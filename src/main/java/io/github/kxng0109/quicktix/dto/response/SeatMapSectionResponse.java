@@ -0,0 +1,24 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Builder
+@Schema(description = "A section of the seat map")
+public record SeatMapSectionResponse(
+		@Schema(description = "Unique section identifier", example = "1")
+		Long id,
+
+		@Schema(description = "Name of the section", example = "VIP")
+		String name,
+
+		@Schema(description = "Price of every seat in the section", example = "25000.00")
+		BigDecimal price,
+
+		@Schema(description = "Rows of the section, front to back")
+		List<SeatMapRowResponse> rows
+) {
+}
@@ -0,0 +1,23 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "A slice of an event's seats in layout order, with a cursor to continue from")
+public record SeatScrollResponse(
+		@Schema(description = "The seats of this slice, ordered by section, row and seat number")
+		List<SeatResponse> content,
+
+		@Schema(
+				description = "Opaque cursor to pass back as `cursor` for the next slice, or null if this is the last one",
+				example = "MTI6MzoxNDo0NDAx"
+		)
+		String nextCursor,
+
+		@Schema(description = "True if more seats follow this slice", example = "true")
+		boolean hasMore
+) {
+}
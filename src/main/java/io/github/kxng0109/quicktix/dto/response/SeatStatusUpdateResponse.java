@@ -0,0 +1,30 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "A live seat status change pushed over the seat status stream")
+public record SeatStatusUpdateResponse(
+		@Schema(description = "Identifier of the event the seats belong to", example = "1")
+		Long eventId,
+
+		@Schema(
+				description = "The seat map version this change produced, or 0 if it could not be recorded",
+				example = "1041"
+		)
+		long version,
+
+		@Schema(
+				description = "New status of the seats, using the seat map status codes",
+				example = "H",
+				allowableValues = {"A", "H", "B"}
+		)
+		String status,
+
+		@Schema(description = "Identifiers of the seats that changed", example = "[101, 102]")
+		List<Long> seatIds
+) {
+}
@@ -0,0 +1,26 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "A reusable seating layout of a venue")
+public record SeatingTemplateResponse(
+		@Schema(description = "Unique seating template identifier", example = "3")
+		Long id,
+
+		@Schema(description = "Identifier of the venue the layout belongs to", example = "1")
+		Long venueId,
+
+		@Schema(description = "Name of the layout", example = "Full stadium, standing pitch")
+		String name,
+
+		@Schema(description = "Number of seats an event created from this layout gets", example = "100000")
+		long totalSeats,
+
+		@Schema(description = "Sections of the layout, in order")
+		List<SeatingTemplateSectionResponse> sections
+) {
+}
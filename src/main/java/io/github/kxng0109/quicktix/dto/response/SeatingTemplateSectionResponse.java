@@ -0,0 +1,26 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+@Builder
+@Schema(description = "A section of a seating template")
+public record SeatingTemplateSectionResponse(
+		@Schema(
+				description = "Unique template section identifier, used as the key of `sectionPriceOverrides` when creating an event",
+				example = "12"
+		)
+		Long id,
+
+		@Schema(description = "Name of the section", example = "VIP")
+		String name,
+
+		@Schema(description = "Maximum capacity of the section", example = "500")
+		long capacity,
+
+		@Schema(description = "Default price of every seat in the section", example = "25000.00")
+		BigDecimal basePrice
+) {
+}
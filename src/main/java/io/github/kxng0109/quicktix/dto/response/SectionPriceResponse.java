@@ -0,0 +1,21 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+@Builder
+@Schema(description = "The price of the seats of one section of an event")
+public record SectionPriceResponse(
+		@Schema(description = "Unique section identifier", example = "12")
+		Long sectionId,
+
+		@Schema(description = "Name of the section", example = "VIP")
+		String name,
+
+		@Schema(description = "Price of every seat in the section", example = "25000.00")
+		BigDecimal price
+) implements Serializable {
+}
@@ -0,0 +1,29 @@
+package io.github.kxng0109.quicktix.dto.response;
+
+import io.github.kxng0109.quicktix.enums.AdmissionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "A user's place in an event's virtual waiting room")
+public record WaitingRoomResponse(
+		@Schema(description = "Identifier of the event", example = "1")
+		Long eventId,
+
+		@Schema(description = "Whether the user is still waiting or has been admitted", example = "Waiting")
+		AdmissionStatus status,
+
+		@Schema(description = "Place in the queue, where 1 is next to be admitted. 0 once admitted", example = "1250")
+		long position,
+
+		@Schema(description = "Rough estimate of the remaining wait, in seconds", example = "125")
+		long estimatedWaitSeconds,
+
+		@Schema(
+				description = "Token to send in the `X-Admission-Token` header when holding and booking seats. " +
+						"Only present once admitted",
+				example = "9b2f6c1e-4a7d-4a43-8c1a-0f3c2d9e7b51"
+		)
+		String admissionToken
+) {
+}
@@ -6,6 +6,7 @@ import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 
@@ -45,6 +46,13 @@ public class Event {
     @Builder.Default
     private EventStatus status = EventStatus.UPCOMING;
 
+    //Price range of the sections, kept here so listings never aggregate sections or seats for it
+    @Column(name = "min_price", precision = 10, scale = 2)
+    private BigDecimal minPrice;
+
+    @Column(name = "max_price", precision = 10, scale = 2)
+    private BigDecimal maxPrice;
+
     @OneToMany(mappedBy = "event", fetch = FetchType.LAZY)
     private List<Seat> seats;
 
@@ -9,7 +9,9 @@ import java.time.Instant;
 import java.util.List;
 
 @Entity
-@Table(name = "seat_rows")
+@Table(name = "seat_rows", indexes = {
+		@Index(name = "idx_row_section_order", columnList = "section_id, row_order")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -26,6 +28,10 @@ public class Row{
 	@Column(nullable = false, name = "row_order")
 	private Integer rowOrder;
 
+	//How many seats the row was created with, seat generation reads it to know what to insert
+	@Column(name = "seat_count")
+	private Integer seatCount;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "section_id")
 	private Section section;
@@ -11,7 +11,10 @@ import java.time.Instant;
 
 @Entity
 @Table(name = "seats", indexes = {
-        @Index(name = "idx_seat_event_status", columnList = "event_id, seat_status")
+        @Index(name = "idx_seat_event_status", columnList = "event_id, seat_status"),
+        @Index(name = "idx_seat_row_number", columnList = "row_id, seat_number, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uc_seats_row_seat_number", columnNames = {"row_id", "seat_number"})
 })
 @Getter
 @Setter
@@ -34,7 +37,7 @@ public class Seat {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal price;
 
-    @Column(name = "seat_number")
+    @Column(name = "seat_number", nullable = false)
     private Integer seatNumber;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,53 @@
+package io.github.kxng0109.quicktix.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A reusable seating layout of a venue (its sections and rows), stored once and copied into every event that
+ * uses it, instead of every event sending the whole layout again.
+ */
+@Entity
+@Table(name = "seating_templates", indexes = {
+		@Index(name = "idx_seating_template_venue", columnList = "venue_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatingTemplate {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private String name;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "venue_id", nullable = false)
+	private Venue venue;
+
+	//Kept here so creating an event from the template knows its size without adding up the rows
+	@Column(name = "total_seats", nullable = false)
+	private long totalSeats;
+
+	@OneToMany(mappedBy = "template", cascade = CascadeType.ALL, orphanRemoval = true)
+	@OrderBy("id")
+	@Builder.Default
+	private List<TemplateSection> sections = new ArrayList<>();
+
+	@CreationTimestamp
+	@Column(name = "created_at", updatable = false)
+	private Instant createdAt;
+
+	@UpdateTimestamp
+	@Column(name = "updated_at")
+	private Instant updatedAt;
+}
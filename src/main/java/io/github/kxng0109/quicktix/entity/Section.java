@@ -10,7 +10,9 @@ import java.time.Instant;
 import java.util.List;
 
 @Entity
-@Table(name = "sections")
+@Table(name = "sections", indexes = {
+		@Index(name = "idx_section_event", columnList = "event_id, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
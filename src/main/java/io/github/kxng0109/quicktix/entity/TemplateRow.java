@@ -0,0 +1,32 @@
+package io.github.kxng0109.quicktix.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "template_rows", indexes = {
+		@Index(name = "idx_template_row_section", columnList = "template_section_id, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TemplateRow {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private String name;
+
+	@Column(nullable = false, name = "row_order")
+	private Integer rowOrder;
+
+	@Column(nullable = false, name = "seat_count")
+	private Integer seatCount;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "template_section_id", nullable = false)
+	private TemplateSection section;
+}
@@ -0,0 +1,45 @@
+package io.github.kxng0109.quicktix.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "template_sections", indexes = {
+		@Index(name = "idx_template_section_template", columnList = "template_id, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TemplateSection {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private String name;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String description;
+
+	@Column(nullable = false)
+	private long capacity;
+
+	//Default price of the section, events may override it
+	@Column(nullable = false, precision = 10, scale = 2)
+	private BigDecimal price;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "template_id", nullable = false)
+	private SeatingTemplate template;
+
+	@OneToMany(mappedBy = "section", cascade = CascadeType.ALL, orphanRemoval = true)
+	@OrderBy("id")
+	@Builder.Default
+	private List<TemplateRow> rows = new ArrayList<>();
+}
@@ -0,0 +1,38 @@
+package io.github.kxng0109.quicktix.enums;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents where a user stands in an event's virtual waiting room.
+ * <p>
+ * High-demand events can be gated by a waiting room, in which case seats can only be held and booked with an
+ * admission token. Users are admitted in the order they joined, at a rate configured per event.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AdmissionStatus {
+    /**
+     * The event has no waiting room. Seats can be held without an admission token.
+     */
+    OPEN("Open"),
+
+    /**
+     * The user is queued and has not been admitted yet.
+     */
+    WAITING("Waiting"),
+
+    /**
+     * The user has been admitted and holds a valid admission token.
+     */
+    ADMITTED("Admitted");
+
+    private final String displayName;
+
+    @JsonValue
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.kxng0109.quicktix.enums;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents how far the background reservation of a block of seats has come.
+ * <p>
+ * Block reservations are started by an administrator for group orders and worked through by the
+ * {@link io.github.kxng0109.quicktix.service.BlockReservationService}, which attaches the seats to a single
+ * {@link BookingStatus#PENDING} booking.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BlockReservationStatus {
+    /**
+     * The booking exists but no seats have been reserved yet.
+     */
+    PENDING("Pending"),
+
+    /**
+     * Seats are being reserved.
+     */
+    IN_PROGRESS("In Progress"),
+
+    /**
+     * Every seat of the block that was available has been reserved and the booking total is final.
+     */
+    COMPLETED("Completed"),
+
+    /**
+     * The reservation stopped. Seats reserved so far stay on the booking, which expires like any unpaid booking.
+     */
+    FAILED("Failed");
+
+    private final String displayName;
+
+    @JsonValue
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -15,6 +15,12 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum EventStatus {
+    /**
+     * Event has been created but its seats are still being generated in the background. It is not listed and its
+     * seats can't be browsed until generation finishes and the event moves to {@link #UPCOMING}.
+     */
+    DRAFT("Draft"),
+
     /**
      * Event is scheduled for the future. Tickets are available for purchase.
      */
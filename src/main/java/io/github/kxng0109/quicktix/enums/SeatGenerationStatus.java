@@ -0,0 +1,44 @@
+package io.github.kxng0109.quicktix.enums;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents how far the background generation of an event's seats has come.
+ * <p>
+ * Large events are created as {@link EventStatus#DRAFT} and get their seats generated by the
+ * {@link io.github.kxng0109.quicktix.service.SeatGenerationService}, which publishes the event once every seat
+ * exists.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SeatGenerationStatus {
+    /**
+     * Generation has been requested but has not started yet.
+     */
+    PENDING("Pending"),
+
+    /**
+     * Seats are being generated.
+     */
+    IN_PROGRESS("In Progress"),
+
+    /**
+     * Every seat exists and the event has been published.
+     */
+    COMPLETED("Completed"),
+
+    /**
+     * The last attempt failed. It is retried automatically and picks up where it stopped.
+     */
+    FAILED("Failed");
+
+    private final String displayName;
+
+    @JsonValue
+    public String getDisplayName() {
+        return displayName;
+    }
+}
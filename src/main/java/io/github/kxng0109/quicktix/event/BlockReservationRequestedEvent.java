@@ -0,0 +1,29 @@
+package io.github.kxng0109.quicktix.event;
+
+import java.util.List;
+
+/**
+ * Domain event published when an administrator starts the reservation of a block of seats.
+ * <p>
+ * Consumed asynchronously by the {@link io.github.kxng0109.quicktix.listener.BlockReservationListener} once the
+ * pending booking the seats go to has been committed.
+ * </p>
+ *
+ * @param reservationId The identifier the progress is reported under.
+ * @param eventId       The unique identifier of the event.
+ * @param bookingId     The unique identifier of the pending booking.
+ * @param userId        The unique identifier of the booking's owner.
+ * @param sectionIds    Sections whose seats are part of the block.
+ * @param rowIds        Rows whose seats are part of the block.
+ * @param seatIds       Individual seats of the block.
+ */
+public record BlockReservationRequestedEvent(
+		String reservationId,
+		Long eventId,
+		Long bookingId,
+		Long userId,
+		List<Long> sectionIds,
+		List<Long> rowIds,
+		List<Long> seatIds
+) {
+}
@@ -0,0 +1,18 @@
+package io.github.kxng0109.quicktix.event;
+
+import java.util.List;
+
+/**
+ * Domain event published when bookings are confirmed, cancelled or expired, i.e. whenever their cached read model
+ * may no longer match the database.
+ * <p>
+ * Consumed by the {@link io.github.kxng0109.quicktix.listener.BookingChangeListener} once the change has been
+ * committed.
+ * </p>
+ *
+ * @param bookingIds The unique identifiers of the bookings that changed.
+ */
+public record BookingChangedEvent(
+		List<Long> bookingIds
+) {
+}
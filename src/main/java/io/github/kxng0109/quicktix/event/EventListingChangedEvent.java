@@ -0,0 +1,16 @@
+package io.github.kxng0109.quicktix.event;
+
+/**
+ * Domain event published when an event is created, changed, removed or moves between statuses, i.e. whenever the
+ * public event listings may no longer match the database.
+ * <p>
+ * Consumed by the {@link io.github.kxng0109.quicktix.listener.EventListingChangeListener} once the change has
+ * been committed.
+ * </p>
+ *
+ * @param eventId The unique identifier of the event that changed, or {@code null} if several did.
+ */
+public record EventListingChangedEvent(
+		Long eventId
+) {
+}
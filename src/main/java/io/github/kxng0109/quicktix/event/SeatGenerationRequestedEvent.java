@@ -0,0 +1,15 @@
+package io.github.kxng0109.quicktix.event;
+
+/**
+ * Domain event published when an event is created with too many seats to generate within the request.
+ * <p>
+ * Consumed asynchronously by the {@link io.github.kxng0109.quicktix.listener.SeatGenerationListener} once the
+ * event, its sections and its rows have been committed.
+ * </p>
+ *
+ * @param eventId The unique identifier of the draft event.
+ */
+public record SeatGenerationRequestedEvent(
+		Long eventId
+) {
+}
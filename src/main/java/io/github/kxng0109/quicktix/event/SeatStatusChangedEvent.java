@@ -0,0 +1,30 @@
+package io.github.kxng0109.quicktix.event;
+
+import io.github.kxng0109.quicktix.enums.SeatStatus;
+
+import java.util.List;
+
+/**
+ * Domain event published whenever a group of seats belonging to one event moves to a new {@link SeatStatus}.
+ * <p>
+ * Raised by the seat and booking services on hold, release, booking confirmation, cancellation and expiry,
+ * and consumed once the surrounding transaction has committed by the
+ * {@link io.github.kxng0109.quicktix.listener.SeatStatusChangeListener} to keep derived read models
+ * (like the seat availability index) in step with the database.
+ * </p>
+ * <p>
+ * Only seats whose status actually changed are included. A user refreshing a hold they already own, or an
+ * administrator releasing a seat that was already available, does not show up here, so consumers can safely
+ * treat every entry as a real transition into {@code status}.
+ * </p>
+ *
+ * @param eventId The unique identifier of the event the seats belong to.
+ * @param seatIds The identifiers of the seats that transitioned.
+ * @param status  The status the seats transitioned into.
+ */
+public record SeatStatusChangedEvent(
+		Long eventId,
+		List<Long> seatIds,
+		SeatStatus status
+) {
+}
@@ -0,0 +1,19 @@
+package io.github.kxng0109.quicktix.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a user tries to hold or book seats for an event gated by a virtual waiting room
+ * without a valid admission token.
+ * <p>
+ * Annotated with {@code @ResponseStatus(HttpStatus.FORBIDDEN)} to translate into a 403 Forbidden response.
+ * The client is expected to join the event's waiting room and retry once it has been admitted.
+ * </p>
+ */
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class AdmissionRequiredException extends RuntimeException {
+    public AdmissionRequiredException(String message) {
+        super(message);
+    }
+}
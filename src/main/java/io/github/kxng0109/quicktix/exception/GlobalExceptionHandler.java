@@ -100,6 +100,15 @@ public class GlobalExceptionHandler {
 		return buildErrorResponse(ex, request, status);
 	}
 
+	@ExceptionHandler(AdmissionRequiredException.class)
+	public ResponseEntity<ErrorResponse> handleAdmissionRequiredException(
+			AdmissionRequiredException ex,
+			HttpServletRequest request
+	) {
+		HttpStatus status = HttpStatus.FORBIDDEN;
+		return buildErrorResponse(ex, request, status);
+	}
+
 	@ExceptionHandler(InvalidAmountException.class)
 	public ResponseEntity<ErrorResponse> handleInvalidAmountException(
 			InvalidAmountException ex,
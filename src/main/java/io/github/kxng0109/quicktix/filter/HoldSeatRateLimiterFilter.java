@@ -29,7 +29,7 @@ import java.util.function.Supplier;
  * A servlet filter implementation for rate limiting "Hold Seat" requests based on user identity.
  *
  * <p>This filter applies a {@code token bucket} algorithm to limit the rate of requests to the
- * {@code /api/v1/seats/hold} endpoint. Requests from authenticated users are identified via their email address,
+ * {@code /api/v1/seats/hold} and {@code /api/v1/bookings/checkout} endpoints. Requests from authenticated users are identified via their email address,
  * which is used as the key to track and enforce rate-limiting rules. If the consumption limit is exceeded,
  * the response is returned with a status of {@code 429 Too Many Requests}, along with appropriate headers
  * and a JSON payload detailing retry timing.
@@ -73,7 +73,9 @@ public class HoldSeatRateLimiterFilter extends OncePerRequestFilter {
 			FilterChain filterChain
 	) throws ServletException, IOException {
 
-		if (!Objects.equals(request.getRequestURI(), "/api/v1/seats/hold")) {
+		//Covers explicit holds, best-available holds and one-step checkouts, which all share the same bucket
+		if (!request.getRequestURI().startsWith("/api/v1/seats/hold")
+				&& !request.getRequestURI().equals("/api/v1/bookings/checkout")) {
 			filterChain.doFilter(request, response);
 			return;
 		}
@@ -0,0 +1,32 @@
+package io.github.kxng0109.quicktix.listener;
+
+import io.github.kxng0109.quicktix.event.BlockReservationRequestedEvent;
+import io.github.kxng0109.quicktix.service.BlockReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Reserves the seats of a block reservation in the background.
+ * <p>
+ * Runs only after the pending booking has been committed, since every batch of seats is attached to it in a
+ * transaction of its own.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class BlockReservationListener {
+
+	private final BlockReservationService blockReservationService;
+
+	/**
+	 * @param event The record describing the block and the booking it goes to.
+	 */
+	@Async
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleBlockReservationRequest(BlockReservationRequestedEvent event) {
+		blockReservationService.reserve(event);
+	}
+}
@@ -0,0 +1,38 @@
+package io.github.kxng0109.quicktix.listener;
+
+import io.github.kxng0109.quicktix.event.BookingChangedEvent;
+import io.github.kxng0109.quicktix.service.BookingReadModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops the cached read model of bookings after they change.
+ * <p>
+ * Runs only after the publishing transaction has committed, so the next read can't load the booking from before
+ * the change and cache it again. Reads that were already underway are caught by the booking's generation (see
+ * {@link BookingReadModel}). Failures are logged and swallowed; the cached bookings then simply run out on
+ * their own.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingChangeListener {
+
+	private final BookingReadModel bookingReadModel;
+
+	/**
+	 * @param event The record containing the IDs of the changed bookings.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleBookingChange(BookingChangedEvent event) {
+		try {
+			bookingReadModel.evict(event.bookingIds());
+		} catch (Exception e) {
+			log.error("Failed to evict cached bookings {}: {}", event.bookingIds(), e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package io.github.kxng0109.quicktix.listener;
+
+import io.github.kxng0109.quicktix.event.EventListingChangedEvent;
+import io.github.kxng0109.quicktix.service.UpcomingEventsCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Marks the cached upcoming events listing stale after events change.
+ * <p>
+ * Runs only after the publishing transaction has committed, so the refresh it triggers can't read the listing
+ * from before the change and cache it again. Failures are logged and swallowed; the pages then simply refresh
+ * once their soft TTL runs out.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventListingChangeListener {
+
+	private final UpcomingEventsCache upcomingEventsCache;
+
+	/**
+	 * @param event The record containing the ID of the changed event.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleEventListingChange(EventListingChangedEvent event) {
+		try {
+			upcomingEventsCache.invalidate();
+		} catch (Exception e) {
+			log.error("Failed to invalidate upcoming events listing after event {} changed: {}",
+			          event.eventId(), e.getMessage());
+		}
+	}
+}
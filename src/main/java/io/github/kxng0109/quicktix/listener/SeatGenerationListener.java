@@ -0,0 +1,33 @@
+package io.github.kxng0109.quicktix.listener;
+
+import io.github.kxng0109.quicktix.event.SeatGenerationRequestedEvent;
+import io.github.kxng0109.quicktix.service.SeatGenerationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Starts the seat generation of newly created draft events in the background.
+ * <p>
+ * Runs only after the creating transaction has committed, since generation reads the event's rows from the
+ * database in transactions of its own. If this node goes down halfway through, the
+ * {@link io.github.kxng0109.quicktix.service.SchedulerService} picks the draft up again.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatGenerationListener {
+
+	private final SeatGenerationService seatGenerationService;
+
+	/**
+	 * @param event The record containing the ID of the draft event.
+	 */
+	@Async
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleSeatGenerationRequest(SeatGenerationRequestedEvent event) {
+		seatGenerationService.generateSeats(event.eventId());
+	}
+}
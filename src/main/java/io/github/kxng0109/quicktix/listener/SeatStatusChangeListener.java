@@ -0,0 +1,83 @@
+package io.github.kxng0109.quicktix.listener;
+
+import io.github.kxng0109.quicktix.event.SeatStatusChangedEvent;
+import io.github.kxng0109.quicktix.service.AvailableSeatsCacheGeneration;
+import io.github.kxng0109.quicktix.service.SeatAvailabilityIndex;
+import io.github.kxng0109.quicktix.service.SeatMapService;
+import io.github.kxng0109.quicktix.service.SeatStatusStreamService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the seat read models in step with committed seat status transitions.
+ * <p>
+ * Runs only after the publishing transaction has committed, so a hold that gets rolled back never shows up
+ * in the index. Flows that run outside a transaction (like administrative force releases) are still delivered
+ * thanks to {@code fallbackExecution}. Failures are logged and swallowed: the database write has already
+ * succeeded at this point, so the index for the event is dropped instead and rebuilt by its next reader.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatStatusChangeListener {
+
+	private final SeatAvailabilityIndex seatAvailabilityIndex;
+	private final AvailableSeatsCacheGeneration availableSeatsCacheGeneration;
+	private final SeatMapService seatMapService;
+	private final SeatStatusStreamService seatStatusStreamService;
+
+	/**
+	 * Applies the transition to the seat availability index, invalidates the event's cached
+	 * available-seat pages, records the transition as a new seat map version and pushes it to live seat
+	 * status streams on every node.
+	 * <p>
+	 * The order matters: the cache generation only moves on once the index reflects the change, so pages
+	 * cached under the new generation are never built from the old state.
+	 * </p>
+	 *
+	 * @param event The committed seat status transition.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleSeatStatusChange(SeatStatusChangedEvent event) {
+		try {
+			seatAvailabilityIndex.apply(event);
+		} catch (Exception e) {
+			log.error("Failed to update seat availability index for event {}: {}", event.eventId(), e.getMessage(), e);
+			dropIndex(event.eventId());
+		}
+
+		try {
+			availableSeatsCacheGeneration.advance(event.eventId());
+		} catch (Exception e) {
+			log.error("Failed to invalidate available seats cache for event {}: {}", event.eventId(), e.getMessage());
+		}
+
+		long version = 0;
+		try {
+			version = seatMapService.recordChange(event);
+		} catch (Exception e) {
+			//The seats' revision has moved on without the version, so the next seat map reconcile seals the log
+			log.error("Failed to record seat map change for event {}: {}", event.eventId(), e.getMessage());
+		}
+
+		try {
+			seatStatusStreamService.publish(event, version);
+		} catch (Exception e) {
+			log.error("Failed to publish seat status update for event {}: {}", event.eventId(), e.getMessage());
+		}
+	}
+
+	//A half-applied update would leave the index wrong until it expires, so throw it away instead
+	//and let the next reader rebuild it from the database
+	private void dropIndex(Long eventId) {
+		try {
+			seatAvailabilityIndex.evict(eventId);
+		} catch (Exception e) {
+			log.warn("Could not drop seat availability index for event {}: {}", eventId, e.getMessage());
+		}
+	}
+}
@@ -2,26 +2,116 @@ package io.github.kxng0109.quicktix.repositories;
 
 import io.github.kxng0109.quicktix.entity.Booking;
 import io.github.kxng0109.quicktix.enums.BookingStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-	Optional<Booking> findByBookingReference(String bookingReference);
+	/**
+	 * Loads a booking with everything a {@code BookingResponse} reads (event, seats and each seat's row and section)
+	 * in a single query, instead of one select for the seats plus one per row and per section.
+	 *
+	 * @param id The unique identifier of the booking.
+	 * @return The booking, if it exists.
+	 */
+	@EntityGraph(attributePaths = {"event", "seats", "seats.row", "seats.row.section"})
+	Optional<Booking> findWithDetailsById(Long id);
 
-	boolean existsByBookingReference(String bookingReference);
+	@Query("SELECT b.id FROM Booking b WHERE b.bookingReference = :bookingReference")
+	Optional<Long> findIdByBookingReference(@Param("bookingReference") String bookingReference);
 
+	/**
+	 * Claims the next block of booking reference numbers.
+	 * <p>
+	 * The sequence advances by a whole block per call, so the returned value and the block size after it belong to
+	 * the caller alone. Sequences are not transactional, so the block stays claimed even if the caller rolls back.
+	 * </p>
+	 *
+	 * @return The first number of the claimed block.
+	 */
+	@Query(value = "SELECT nextval('booking_reference_seq')", nativeQuery = true)
+	long nextBookingReferenceBlock();
+
+	/**
+	 * Loads a page of a user's bookings with their event.
+	 * <p>
+	 * The seats are deliberately left out: fetching a collection alongside a page makes Hibernate apply the limit in
+	 * memory over every booking of the user. Load them for the whole page afterwards with
+	 * {@link #findWithSeatsByIdIn(Collection)}.
+	 * </p>
+	 */
+	@EntityGraph(attributePaths = "event")
 	Page<Booking> findByUserId(Long userId, Pageable pageable);
 
-	List<Booking> findByStatusAndCreatedAtBefore(BookingStatus status, Instant createdAt);
+	/**
+	 * Loads the given bookings with their seats and each seat's row and section in a single query.
+	 * <p>
+	 * Bookings already in the persistence context are returned as the same instances, with their seats now
+	 * initialized, so calling this after {@link #findByUserId(Long, Pageable)} completes the page.
+	 * </p>
+	 *
+	 * @param ids The bookings to load.
+	 * @return The bookings that exist, in no particular order.
+	 */
+	@EntityGraph(attributePaths = {"seats", "seats.row", "seats.row.section"})
+	List<Booking> findWithSeatsByIdIn(Collection<Long> ids);
+
+	/**
+	 * Claims up to {@code limit} of the oldest bookings still pending since before the cutoff.
+	 * <p>
+	 * The bookings stay row-locked until the caller's transaction ends, and rows already locked by another
+	 * transaction are skipped, so several nodes running expiry at once each get a different chunk instead of
+	 * waiting on (or redoing) each other's.
+	 * </p>
+	 *
+	 * @param cutoffTime The pending booking expiration threshold.
+	 * @param limit      The maximum number of bookings to claim.
+	 * @return The IDs of the claimed bookings. Fewer than {@code limit} means nothing else is left to claim.
+	 */
+	@Query(value = "SELECT id FROM bookings " +
+			"WHERE status = 'PENDING' AND created_at < :cutoffTime " +
+			"ORDER BY created_at " +
+			"LIMIT :limit " +
+			"FOR UPDATE SKIP LOCKED",
+			nativeQuery = true)
+	List<Long> claimExpiredPendingBookingIds(@Param("cutoffTime") Instant cutoffTime, @Param("limit") int limit);
+
+	/**
+	 * Moves the given bookings to a new status in a single statement, bumping their version so anyone holding a
+	 * stale copy fails their optimistic lock check.
+	 *
+	 * @param ids    The bookings to update.
+	 * @param status The new status.
+	 * @return The number of bookings updated.
+	 */
+	@Modifying
+	@Query("UPDATE Booking b SET b.status = :status, b.version = b.version + 1, b.updatedAt = CURRENT_TIMESTAMP " +
+			"WHERE b.id IN :ids")
+	int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") BookingStatus status);
+
+	/**
+	 * Loads a booking and row-locks it until the caller's transaction ends, so it can't be expired, confirmed or
+	 * cancelled while the caller is still attaching seats to it.
+	 *
+	 * @param id The unique identifier of the booking.
+	 * @return The booking, if it exists.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT b FROM Booking b WHERE b.id = :id")
+	Optional<Booking> findByIdWithLock(@Param("id") Long id);
 
 	@Query("SELECT b FROM Booking b LEFT JOIN FETCH b.payment WHERE b.id = :id")
 	Optional<Booking> findByIdWithPayment(@Param("id") Long id);
@@ -5,22 +5,59 @@ import io.github.kxng0109.quicktix.entity.Venue;
 import io.github.kxng0109.quicktix.enums.EventStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
+	//The read paths below all render the venue name, so it's joined in rather than loaded once per event
+	@EntityGraph(attributePaths = "venue")
+	Optional<Event> findWithVenueById(Long id);
+
+	@EntityGraph(attributePaths = "venue")
 	Page<Event> findEventsByStatus(EventStatus status, Pageable pageable);
 
+	@EntityGraph(attributePaths = "venue")
 	Page<Event> findByVenue(Venue venue, Pageable pageable);
 
+	@EntityGraph(attributePaths = "venue")
 	Page<Event> findByEventStartDateTimeBetween(Instant eventDateTimeAfter, Instant eventDateTimeBefore, Pageable pageable);
 
+	@EntityGraph(attributePaths = "venue")
+	List<Event> findWithVenueByIdIn(Collection<Long> ids);
+
+	/**
+	 * Full-text searches upcoming and ongoing events by name, description, venue name and city, best match first.
+	 * <p>
+	 * Only the IDs are returned, as a native query can't join the venue in; load the events with
+	 * {@link #findWithVenueByIdIn(Collection)}. The query is parsed with {@code websearch_to_tsquery}, so it
+	 * accepts quoted phrases, {@code or} and {@code -word} like a search box would.
+	 * </p>
+	 * <b>Warning:</b> The pageable must not carry a sort, the ranking is the order.
+	 *
+	 * @param query    The search text as typed by the user.
+	 * @param pageable The page to return.
+	 * @return A page of matching event IDs.
+	 */
+	@Query(value = "SELECT e.id FROM events e " +
+			"WHERE e.search_vector @@ websearch_to_tsquery('english', :query) " +
+			"AND e.status IN ('UPCOMING', 'ONGOING') " +
+			"ORDER BY ts_rank(e.search_vector, websearch_to_tsquery('english', :query)) DESC, " +
+			"e.event_start_date_time, e.id",
+			countQuery = "SELECT COUNT(*) FROM events e " +
+					"WHERE e.search_vector @@ websearch_to_tsquery('english', :query) " +
+					"AND e.status IN ('UPCOMING', 'ONGOING')",
+			nativeQuery = true)
+	Page<Long> searchIds(@Param("query") String query, Pageable pageable);
+
 	//Using it to select events that are currently ongoing but whose status are not updated to show ONGOING
 	@Query("select e from Event e where e.status = :status and e.eventStartDateTime <= :now and e.eventEndDateTime > :now")
 	List<Event> findStartedEvent(@Param("status") EventStatus status, @Param("now") Instant now);
@@ -31,5 +68,10 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
 	List<Event> findByStatus(EventStatus status);
 
+	@Query("select e.id from Event e where e.status in :statuses")
+	List<Long> findIdsByStatusIn(@Param("statuses") List<EventStatus> statuses);
+
 	long countAllByStatus(EventStatus status);
+
+	boolean existsByIdAndStatusNot(Long id, EventStatus status);
 }
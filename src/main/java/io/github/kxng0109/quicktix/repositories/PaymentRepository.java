@@ -1,5 +1,6 @@
 package io.github.kxng0109.quicktix.repositories;
 
+import io.github.kxng0109.quicktix.dto.request.projection.PaymentState;
 import io.github.kxng0109.quicktix.entity.Payment;
 import io.github.kxng0109.quicktix.enums.PaymentStatus;
 import jakarta.persistence.LockModeType;
@@ -25,6 +26,9 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
 	Optional<Payment> findByIdempotencyKey(String idempotencyKey);
 
+	@Query("SELECT p.status AS status, p.paidAt AS paidAt FROM Payment p WHERE p.id = :paymentId")
+	Optional<PaymentState> findStateById(@Param("paymentId") Long paymentId);
+
 	//Using it to get all payments for an event in order to do something like
 	//issue a refund for canceled events
 	List<Payment> findByBooking_EventIdAndStatus(Long eventId, PaymentStatus status);
@@ -0,0 +1,17 @@
+package io.github.kxng0109.quicktix.repositories;
+
+/**
+ * Set-based row writes, mixed into {@link RowRepository}.
+ */
+public interface RowBulkOperations {
+
+	/**
+	 * Copies every row of a seating template section into an event's section with a single
+	 * {@code INSERT ... SELECT}, keeping the rows' names, order and seat counts.
+	 *
+	 * @param templateSectionId The template section to copy the rows of.
+	 * @param sectionId         The event section that receives the rows.
+	 * @return The number of rows created.
+	 */
+	int copyTemplateRows(Long templateSectionId, Long sectionId);
+}
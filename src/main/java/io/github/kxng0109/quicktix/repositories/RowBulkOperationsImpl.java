@@ -0,0 +1,38 @@
+package io.github.kxng0109.quicktix.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Postgres implementation of {@link RowBulkOperations}.
+ * <p>
+ * Rows are copied in template order, so their IDs (and the IDs of the seats generated from them) follow the
+ * layout just like for rows sent in the request.
+ * </p>
+ */
+class RowBulkOperationsImpl implements RowBulkOperations {
+
+	private static final String COPY_TEMPLATE_ROWS = """
+			INSERT INTO seat_rows (name, row_order, seat_count, section_id, created_at, updated_at)
+			SELECT tr.name, tr.row_order, tr.seat_count, :sectionId, now(), now()
+			FROM template_rows tr
+			WHERE tr.template_section_id = :templateSectionId
+			ORDER BY tr.id
+			""";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@Transactional
+	public int copyTemplateRows(Long templateSectionId, Long sectionId) {
+		//The section has just been saved in this same transaction
+		entityManager.flush();
+
+		return entityManager.createNativeQuery(COPY_TEMPLATE_ROWS)
+		                    .setParameter("templateSectionId", templateSectionId)
+		                    .setParameter("sectionId", sectionId)
+		                    .executeUpdate();
+	}
+}
@@ -1,7 +1,18 @@
 package io.github.kxng0109.quicktix.repositories;
 
+import io.github.kxng0109.quicktix.dto.request.projection.RowSeatCount;
 import io.github.kxng0109.quicktix.entity.Row;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface RowRepository extends JpaRepository<Row, Long> {
+import java.util.List;
+
+public interface RowRepository extends JpaRepository<Row, Long>, RowBulkOperations {
+	//Ordered by ID, which is the order the rows were created in and the order their seats are generated in
+	@Query("SELECT r.id AS rowId, r.seatCount AS seatCount " +
+			"FROM Row r " +
+			"WHERE r.section.event.id = :eventId " +
+			"ORDER BY r.id")
+	List<RowSeatCount> findSeatCountsByEventId(@Param("eventId") Long eventId);
 }
@@ -0,0 +1,103 @@
+package io.github.kxng0109.quicktix.repositories;
+
+import io.github.kxng0109.quicktix.dto.request.projection.ReleasedSeat;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based seat writes, mixed into {@link SeatRepository}.
+ * <p>
+ * Each release method is a single {@code UPDATE ... RETURNING} statement that resets at most one batch of seats to
+ * {@code AVAILABLE} and hands back what the caller needs to finish the job (see {@link ReleasedSeat}), instead of
+ * loading every {@code Seat}, mutating it in Java and flushing one versioned {@code UPDATE} per row. The seat
+ * version is still bumped, so anyone holding a stale copy of a released seat fails their optimistic lock check.
+ * </p>
+ * <p>
+ * Every method runs in its own transaction unless called inside one, so callers that loop over batches keep both
+ * their memory use and their row locks bounded by the batch size.
+ * </p>
+ */
+public interface SeatBulkOperations {
+
+	/**
+	 * Releases up to {@code limit} seats whose hold was placed before the cutoff and never turned into a booking.
+	 * Rows currently locked by another transaction are skipped; they are being held or booked right now.
+	 *
+	 * @param cutoffTime The hold expiration threshold.
+	 * @param limit      The maximum number of seats to release.
+	 * @return The released seats. Fewer than {@code limit} means there is nothing left to release.
+	 */
+	List<ReleasedSeat> releaseExpiredHolds(Instant cutoffTime, int limit);
+
+	/**
+	 * Same as {@link #releaseExpiredHolds(Instant, int)}, restricted to the given seats.
+	 *
+	 * @param seatIds    The candidate seats, e.g. claimed from the hold expiry queue.
+	 * @param cutoffTime The hold expiration threshold.
+	 * @return The seats that were actually still expired and got released.
+	 */
+	List<ReleasedSeat> releaseExpiredHoldsByIdIn(Collection<Long> seatIds, Instant cutoffTime);
+
+	/**
+	 * Unconditionally releases the given seats, detaching them from any booking or hold.
+	 *
+	 * @param seatIds The seats to release.
+	 * @return The seats that were not already fully released.
+	 */
+	List<ReleasedSeat> releaseByIdIn(Collection<Long> seatIds);
+
+	/**
+	 * Releases up to {@code limit} seats attached to the given bookings.
+	 *
+	 * @param bookingIds The bookings whose seats should be released.
+	 * @param limit      The maximum number of seats to release.
+	 * @return The released seats. Fewer than {@code limit} means every seat of the bookings has been released.
+	 */
+	List<ReleasedSeat> releaseByBookingIdIn(Collection<Long> bookingIds, int limit);
+
+	/**
+	 * Creates the seats of the given rows in a single multi-row {@code INSERT ... SELECT}, one seat per number
+	 * from 1 to the row's {@code seatCount}, priced at the row's section price.
+	 * <p>
+	 * Rows that already have seats are skipped, so a generation that was interrupted can simply be run again.
+	 * Two generations racing on the same row can't double it either: seat numbers are unique per row, and a seat
+	 * that already exists is left alone. Seats are inserted in row and seat number order, which keeps their IDs in
+	 * layout order.
+	 * </p>
+	 *
+	 * @param rowIds The rows to generate seats for.
+	 * @return The number of seats created.
+	 */
+	int insertSeatsForRows(Collection<Long> rowIds);
+
+	/**
+	 * Attaches up to {@code limit} available seats of a block to a booking in a single {@code UPDATE ... RETURNING},
+	 * marking them {@link io.github.kxng0109.quicktix.enums.SeatStatus#HELD} on behalf of the booking's owner.
+	 * <p>
+	 * The block is the union of the given sections, rows and seats of the event. Seats that are taken, held or
+	 * currently row-locked by another transaction are skipped, so a block reservation never waits on (or blocks) a
+	 * consumer's hold; it simply doesn't get those seats.
+	 * </p>
+	 *
+	 * @param eventId    The event the block belongs to.
+	 * @param sectionIds Sections whose every seat is part of the block. May be empty.
+	 * @param rowIds     Rows whose every seat is part of the block. May be empty.
+	 * @param seatIds    Individual seats of the block. May be empty.
+	 * @param bookingId  The booking the seats are attached to.
+	 * @param userId     The owner of the booking, recorded as the seats' holder.
+	 * @param limit      The maximum number of seats to reserve.
+	 * @return The IDs of the reserved seats. Fewer than {@code limit} means nothing reservable is left in the block.
+	 */
+	List<Long> reserveBlock(Long eventId, Collection<Long> sectionIds, Collection<Long> rowIds,
+	                        Collection<Long> seatIds, Long bookingId, Long userId, int limit);
+
+	/**
+	 * Counts the seats of a block, whatever their status. Takes the same block as
+	 * {@link #reserveBlock(Long, Collection, Collection, Collection, Long, Long, int)}.
+	 *
+	 * @return The number of seats in the block.
+	 */
+	long countBlock(Long eventId, Collection<Long> sectionIds, Collection<Long> rowIds, Collection<Long> seatIds);
+}
@@ -0,0 +1,244 @@
+package io.github.kxng0109.quicktix.repositories;
+
+import io.github.kxng0109.quicktix.dto.request.projection.ReleasedSeat;
+import io.github.kxng0109.quicktix.entity.Seat;
+import io.github.kxng0109.quicktix.enums.SeatStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Postgres implementation of {@link SeatBulkOperations}.
+ * <p>
+ * The CTE picks and row-locks the batch and remembers each seat's previous status, holder and booking, since
+ * {@code RETURNING} only sees the updated row. The lock owner comes from the holder, falling back to the
+ * booking's owner for seats that were already booked.
+ * </p>
+ * <p>
+ * Seat generation expands each row into its seats with {@code generate_series} inside Postgres, so creating a
+ * stadium's worth of seats sends the row IDs over the wire instead of one {@code INSERT} per seat (IDENTITY keys
+ * keep Hibernate from batching those).
+ * </p>
+ * <p>
+ * Block reservations resolve sections and rows to seats inside the same statement, and use {@code SKIP LOCKED}
+ * so they only ever pick up seats no one else is touching.
+ * </p>
+ */
+class SeatBulkOperationsImpl implements SeatBulkOperations {
+
+	private static final String RELEASE_TEMPLATE = """
+			WITH released AS (
+			    SELECT id, seat_status, held_by_user_id, booking_id
+			    FROM seats
+			    WHERE %s
+			    ORDER BY id
+			    LIMIT :batchSize
+			    FOR UPDATE%s
+			)
+			UPDATE seats s
+			SET seat_status = 'AVAILABLE',
+			    held_at = NULL,
+			    held_by_user_id = NULL,
+			    booking_id = NULL,
+			    version = COALESCE(s.version, 0) + 1,
+			    updated_at = now()
+			FROM released r
+			LEFT JOIN users holder ON holder.id = r.held_by_user_id
+			LEFT JOIN bookings b ON b.id = r.booking_id
+			LEFT JOIN users booker ON booker.id = b.user_id
+			WHERE s.id = r.id
+			RETURNING s.id, s.event_id, r.seat_status, COALESCE(holder.email, booker.email)
+			""";
+
+	private static final String EXPIRED_HOLDS = RELEASE_TEMPLATE.formatted(
+			"seat_status = 'HELD' AND held_at < :cutoffTime AND booking_id IS NULL",
+			" SKIP LOCKED"
+	);
+
+	private static final String EXPIRED_HOLDS_BY_ID = RELEASE_TEMPLATE.formatted(
+			"id IN (:seatIds) AND seat_status = 'HELD' AND held_at <= :cutoffTime AND booking_id IS NULL",
+			" SKIP LOCKED"
+	);
+
+	private static final String BY_ID = RELEASE_TEMPLATE.formatted(
+			"id IN (:seatIds) " +
+					"AND (seat_status <> 'AVAILABLE' OR held_by_user_id IS NOT NULL OR booking_id IS NOT NULL)",
+			""
+	);
+
+	private static final String BY_BOOKING_ID = RELEASE_TEMPLATE.formatted(
+			"booking_id IN (:bookingIds)",
+			""
+	);
+
+	private static final String INSERT_FOR_ROWS = """
+			INSERT INTO seats (event_id, row_id, price, seat_number, seat_status, version, created_at, updated_at)
+			SELECT sec.event_id, r.id, sec.price, n, 'AVAILABLE', 0, now(), now()
+			FROM seat_rows r
+			JOIN sections sec ON sec.id = r.section_id
+			CROSS JOIN LATERAL generate_series(1, r.seat_count) AS n
+			WHERE r.id IN (:rowIds)
+			  AND NOT EXISTS (SELECT 1 FROM seats s WHERE s.row_id = r.id)
+			ORDER BY r.id, n
+			ON CONFLICT (row_id, seat_number) DO NOTHING
+			""";
+
+	/**
+	 * Seats of an event in any of the given seats, rows or sections. Postgres rejects {@code IN ()}, so empty
+	 * lists are bound as {@link #NO_IDS}.
+	 */
+	private static final String IN_BLOCK = """
+			s.event_id = :eventId
+			AND (s.id IN (:seatIds)
+			     OR s.row_id IN (:rowIds)
+			     OR s.row_id IN (SELECT r.id FROM seat_rows r WHERE r.section_id IN (:sectionIds)))
+			""";
+
+	private static final String RESERVE_BLOCK = """
+			WITH reserved AS (
+			    SELECT s.id
+			    FROM seats s
+			    WHERE %s
+			      AND s.seat_status = 'AVAILABLE' AND s.held_by_user_id IS NULL AND s.booking_id IS NULL
+			    ORDER BY s.id
+			    LIMIT :batchSize
+			    FOR UPDATE SKIP LOCKED
+			)
+			UPDATE seats s
+			SET seat_status = 'HELD',
+			    held_at = now(),
+			    held_by_user_id = :userId,
+			    booking_id = :bookingId,
+			    version = COALESCE(s.version, 0) + 1,
+			    updated_at = now()
+			FROM reserved r
+			WHERE s.id = r.id
+			RETURNING s.id
+			""".formatted(IN_BLOCK);
+
+	private static final String COUNT_BLOCK = "SELECT COUNT(*) FROM seats s WHERE " + IN_BLOCK;
+
+	//IDs are IDENTITY keys and start at 1, so this never matches anything
+	private static final List<Long> NO_IDS = List.of(0L);
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@Transactional
+	public List<ReleasedSeat> releaseExpiredHolds(Instant cutoffTime, int limit) {
+		return execute(entityManager.createNativeQuery(EXPIRED_HOLDS)
+		                            .setParameter("cutoffTime", cutoffTime)
+		                            .setParameter("batchSize", limit));
+	}
+
+	@Override
+	@Transactional
+	public List<ReleasedSeat> releaseExpiredHoldsByIdIn(Collection<Long> seatIds, Instant cutoffTime) {
+		if (seatIds.isEmpty()) return List.of();
+
+		return execute(entityManager.createNativeQuery(EXPIRED_HOLDS_BY_ID)
+		                            .setParameter("seatIds", seatIds)
+		                            .setParameter("cutoffTime", cutoffTime)
+		                            .setParameter("batchSize", seatIds.size()));
+	}
+
+	@Override
+	@Transactional
+	public List<ReleasedSeat> releaseByIdIn(Collection<Long> seatIds) {
+		if (seatIds.isEmpty()) return List.of();
+
+		return execute(entityManager.createNativeQuery(BY_ID)
+		                            .setParameter("seatIds", seatIds)
+		                            .setParameter("batchSize", seatIds.size()));
+	}
+
+	@Override
+	@Transactional
+	public List<ReleasedSeat> releaseByBookingIdIn(Collection<Long> bookingIds, int limit) {
+		if (bookingIds.isEmpty()) return List.of();
+
+		return execute(entityManager.createNativeQuery(BY_BOOKING_ID)
+		                            .setParameter("bookingIds", bookingIds)
+		                            .setParameter("batchSize", limit));
+	}
+
+	@Override
+	@Transactional
+	public int insertSeatsForRows(Collection<Long> rowIds) {
+		if (rowIds.isEmpty()) return 0;
+
+		//The rows may have been saved in this same transaction
+		entityManager.flush();
+
+		return entityManager.createNativeQuery(INSERT_FOR_ROWS)
+		                    .setParameter("rowIds", rowIds)
+		                    .executeUpdate();
+	}
+
+	@Override
+	@Transactional
+	public List<Long> reserveBlock(Long eventId, Collection<Long> sectionIds, Collection<Long> rowIds,
+	                               Collection<Long> seatIds, Long bookingId, Long userId, int limit) {
+		//The booking may have been saved in this same transaction
+		entityManager.flush();
+
+		Query query = bindBlock(entityManager.createNativeQuery(RESERVE_BLOCK), eventId, sectionIds, rowIds, seatIds)
+				.setParameter("bookingId", bookingId)
+				.setParameter("userId", userId)
+				.setParameter("batchSize", limit);
+
+		@SuppressWarnings("unchecked")
+		List<Number> rows = query.getResultList();
+		List<Long> reservedSeatIds = rows.stream().map(Number::longValue).toList();
+
+		//Same as for released seats, any loaded copy is stale now
+		reservedSeatIds.forEach(seatId -> entityManager.detach(entityManager.getReference(Seat.class, seatId)));
+
+		return reservedSeatIds;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public long countBlock(Long eventId, Collection<Long> sectionIds, Collection<Long> rowIds,
+	                       Collection<Long> seatIds) {
+		Query query = bindBlock(entityManager.createNativeQuery(COUNT_BLOCK), eventId, sectionIds, rowIds, seatIds);
+		return ((Number) query.getSingleResult()).longValue();
+	}
+
+	private static Query bindBlock(Query query, Long eventId, Collection<Long> sectionIds, Collection<Long> rowIds,
+	                               Collection<Long> seatIds) {
+		return query.setParameter("eventId", eventId)
+		            .setParameter("sectionIds", sectionIds.isEmpty() ? NO_IDS : sectionIds)
+		            .setParameter("rowIds", rowIds.isEmpty() ? NO_IDS : rowIds)
+		            .setParameter("seatIds", seatIds.isEmpty() ? NO_IDS : seatIds);
+	}
+
+	private List<ReleasedSeat> execute(Query query) {
+		//Pending changes have to reach the database before the statement reads it
+		entityManager.flush();
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = query.getResultList();
+
+		List<ReleasedSeat> released = rows.stream()
+		                                  .map(row -> new ReleasedSeat(
+				                                  ((Number) row[0]).longValue(),
+				                                  ((Number) row[1]).longValue(),
+				                                  SeatStatus.valueOf((String) row[2]),
+				                                  (String) row[3]
+		                                  ))
+		                                  .toList();
+
+		//Any of these seats already loaded in this transaction is now stale, so it's dropped from the persistence
+		//context and reloaded on next access. getReference doesn't touch the database for seats that aren't loaded.
+		released.forEach(seat -> entityManager.detach(entityManager.getReference(Seat.class, seat.seatId())));
+
+		return released;
+	}
+}
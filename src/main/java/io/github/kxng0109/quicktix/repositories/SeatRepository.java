@@ -1,26 +1,61 @@
 package io.github.kxng0109.quicktix.repositories;
 
 import io.github.kxng0109.quicktix.dto.request.projection.EventSeatCount;
+import io.github.kxng0109.quicktix.dto.request.projection.EventSeatRevision;
+import io.github.kxng0109.quicktix.dto.request.projection.SeatLayoutEntry;
 import io.github.kxng0109.quicktix.entity.Seat;
 import io.github.kxng0109.quicktix.enums.SeatStatus;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.Instant;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface SeatRepository extends JpaRepository<Seat, Long> {
+public interface SeatRepository extends JpaRepository<Seat, Long>, SeatBulkOperations {
+	/**
+	 * Loads a page of an event's seats together with their row and section.
+	 * <p>
+	 * Both associations are lazy and every {@code SeatResponse} reads them, so without the entity graph a page of
+	 * 50 seats costs up to 100 extra selects. Both are to-one joins, so the page is still limited in SQL.
+	 * </p>
+	 */
+	@EntityGraph(attributePaths = {"row", "row.section"})
 	Page<Seat> findByEventId(Long eventId, Pageable pageable);
 
+	/**
+	 * Loads the given seats together with their row and section, for callers that build responses from them.
+	 *
+	 * @param seatIds The seats to load.
+	 * @return The seats that exist, in no particular order.
+	 */
+	@EntityGraph(attributePaths = {"row", "row.section"})
+	List<Seat> findWithLayoutByIdIn(Collection<Long> seatIds);
+
 	long countByEventIdAndSeatStatus(Long eventId, SeatStatus seatStatus);
 
+	long countByEventId(Long eventId);
+
+	long countByBookingId(Long bookingId);
+
+	/**
+	 * Adds up the prices of the seats attached to a booking, for bookings whose seats were attached in bulk.
+	 *
+	 * @param bookingId The unique identifier of the booking.
+	 * @return The total price, zero if the booking has no seats.
+	 */
+	@Query("SELECT COALESCE(SUM(s.price), 0) FROM Seat s WHERE s.booking.id = :bookingId")
+	BigDecimal sumPriceByBookingId(@Param("bookingId") Long bookingId);
+
 	/**
 	 * Retrieves the count of seats matching a specific status, grouped by their associated Event IDs.
 	 * <p>
@@ -44,11 +79,84 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
 			@Param("status") SeatStatus status
 	);
 
-	Page<Seat> findByEventIdAndSeatStatus(Long eventId, SeatStatus seatStatus, Pageable pageable);
+	/**
+	 * Sums the seat versions of multiple events in a single query. Any seat status change moves the sum, which
+	 * makes it a cheap way to tell whether an event's seats changed since it was last looked at.
+	 *
+	 * @param eventIds A list of Event IDs to compute the revisions for.
+	 * @return A list of {@link EventSeatRevision} projections. Events without seats are not included.
+	 */
+	@Query("SELECT s.event.id AS eventId, SUM(COALESCE(s.version, 0)) AS revision " +
+			"FROM Seat s " +
+			"WHERE s.event.id IN :eventIds " +
+			"GROUP BY s.event.id")
+	List<EventSeatRevision> sumSeatVersionsByEventIds(@Param("eventIds") List<Long> eventIds);
 
-	List<Seat> findBySeatStatusAndHeldAtBefore(SeatStatus seatStatus, Instant cutoffTime);
+	@EntityGraph(attributePaths = {"row", "row.section"})
+	Page<Seat> findByEventIdAndSeatStatus(Long eventId, SeatStatus seatStatus, Pageable pageable);
 
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	@Query("SELECT s FROM Seat s WHERE s.id IN :seatIds")
 	List<Seat> findAllByIdWithLock(@Param("seatIds") List<Long> seatIds);
+
+	/**
+	 * Loads the full seat layout of an event (seat, row and section) as flat projections, ordered by seat ID.
+	 * <p>
+	 * The ordering is part of the contract: the position of each entry is the seat's dense ordinal within
+	 * the event, which is what the seat availability bitmap is keyed by.
+	 *
+	 * @param eventId The unique identifier of the event.
+	 * @return Every seat of the event with its layout details and current status.
+	 */
+	@Query("SELECT s.id AS seatId, s.seatNumber AS seatNumber, r.id AS rowId, r.name AS rowName, " +
+			"r.rowOrder AS rowOrder, sec.id AS sectionId, sec.name AS sectionName, s.price AS price, " +
+			"s.seatStatus AS seatStatus " +
+			"FROM Seat s JOIN s.row r JOIN r.section sec " +
+			"WHERE s.event.id = :eventId " +
+			"ORDER BY s.id")
+	List<SeatLayoutEntry> findSeatLayoutByEventId(@Param("eventId") Long eventId);
+
+	/**
+	 * Loads the next slice of an event's seats in layout order, (section, row order, seat number, seat ID), starting
+	 * strictly after the given position.
+	 * <p>
+	 * This is keyset (seek) pagination: the position is compared as a single tuple, so Postgres starts reading
+	 * right where the previous slice ended instead of skipping over an ever-growing {@code OFFSET}, and no total
+	 * count is taken. Every slice costs the same however deep the client has scrolled.
+	 * </p>
+	 *
+	 * @param eventId    The unique identifier of the event.
+	 * @param statuses   The seat statuses to include.
+	 * @param sectionId  Section ID of the last seat already returned.
+	 * @param rowOrder   Row order of the last seat already returned.
+	 * @param seatNumber Seat number of the last seat already returned.
+	 * @param seatId     ID of the last seat already returned.
+	 * @param limit      The maximum number of seats to load.
+	 * @return The seats after the given position, in layout order.
+	 */
+	@Query("SELECT s.id AS seatId, s.seatNumber AS seatNumber, r.id AS rowId, r.name AS rowName, " +
+			"r.rowOrder AS rowOrder, sec.id AS sectionId, sec.name AS sectionName, s.price AS price, " +
+			"s.seatStatus AS seatStatus " +
+			"FROM Seat s JOIN s.row r JOIN r.section sec " +
+			"WHERE sec.event.id = :eventId AND s.event.id = :eventId AND s.seatStatus IN :statuses " +
+			"AND (sec.id, r.rowOrder, s.seatNumber, s.id) > (:sectionId, :rowOrder, :seatNumber, :seatId) " +
+			"ORDER BY sec.id, r.rowOrder, s.seatNumber, s.id")
+	List<SeatLayoutEntry> findSeatLayoutAfter(
+			@Param("eventId") Long eventId,
+			@Param("statuses") Collection<SeatStatus> statuses,
+			@Param("sectionId") long sectionId,
+			@Param("rowOrder") int rowOrder,
+			@Param("seatNumber") int seatNumber,
+			@Param("seatId") long seatId,
+			Limit limit
+	);
+
+	@Query("SELECT s.id FROM Seat s WHERE s.event.id = :eventId AND s.seatStatus = :status")
+	List<Long> findSeatIdsByEventIdAndSeatStatus(@Param("eventId") Long eventId, @Param("status") SeatStatus status);
+
+	@Query("SELECT s.id FROM Seat s WHERE s.id IN :seatIds AND s.seatStatus = :status AND s.booking IS NULL")
+	List<Long> findUnbookedSeatIdsByIdInAndSeatStatus(
+			@Param("seatIds") Collection<Long> seatIds,
+			@Param("status") SeatStatus status
+	);
 }
@@ -0,0 +1,19 @@
+package io.github.kxng0109.quicktix.repositories;
+
+import io.github.kxng0109.quicktix.entity.SeatingTemplate;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SeatingTemplateRepository extends JpaRepository<SeatingTemplate, Long> {
+	//Sections are read by every caller, rows only ever by the database when a template is copied
+	@EntityGraph(attributePaths = "sections")
+	List<SeatingTemplate> findByVenueIdOrderById(Long venueId);
+
+	@EntityGraph(attributePaths = "sections")
+	Optional<SeatingTemplate> findWithSectionsByIdAndVenueId(Long id, Long venueId);
+}
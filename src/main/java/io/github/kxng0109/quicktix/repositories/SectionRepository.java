@@ -1,7 +1,26 @@
 package io.github.kxng0109.quicktix.repositories;
 
+import io.github.kxng0109.quicktix.dto.request.projection.SectionPrice;
 import io.github.kxng0109.quicktix.entity.Section;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface SectionRepository extends JpaRepository<Section, Long> {
+
+	/**
+	 * Lists the section prices of several events at once, in layout order.
+	 * <p>
+	 * <b>Warning:</b> Do not pass an empty list.
+	 *
+	 * @param eventIds The events to look up.
+	 * @return One entry per section of the given events.
+	 */
+	@Query("SELECT s.event.id AS eventId, s.id AS sectionId, s.name AS name, s.price AS price " +
+			"FROM Section s " +
+			"WHERE s.event.id IN :eventIds " +
+			"ORDER BY s.event.id, s.id")
+	List<SectionPrice> findPricesByEventIds(@Param("eventIds") List<Long> eventIds);
 }
@@ -0,0 +1,57 @@
+package io.github.kxng0109.quicktix.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Per-event generation counters for the {@code availableSeats} cache.
+ * <p>
+ * The current generation of an event is baked into every {@code availableSeats} cache key
+ * (see {@link SeatService#getAvailableSeats}). Invalidating an event's cached pages is then a single
+ * {@code INCR}: readers immediately start using keys of the new generation, and the entries of the old
+ * one simply age out with the cache TTL. Unlike {@code allEntries = true} eviction, this never scans Redis
+ * and never touches the cached pages of other events.
+ * </p>
+ * <p>
+ * The counters live in Redis so that every application node agrees on the current generation.
+ * </p>
+ */
+@Component("availableSeatsCacheGeneration")
+@RequiredArgsConstructor
+public class AvailableSeatsCacheGeneration {
+
+	private static final String GENERATION_PREFIX = "availableSeats:generation:";
+	/**
+	 * Far longer than the cache TTL, so a counter can only expire (and restart at 0) once every entry
+	 * that was written under its old values is long gone.
+	 */
+	private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * Returns the current cache generation of an event.
+	 *
+	 * @param eventId The unique identifier of the event.
+	 * @return The current generation, or {@code 0} if the event's cache has never been invalidated.
+	 */
+	public long current(Long eventId) {
+		String generation = redisTemplate.opsForValue().get(GENERATION_PREFIX + eventId);
+		return generation == null ? 0 : Long.parseLong(generation);
+	}
+
+	/**
+	 * Moves an event to a new cache generation, invalidating all of its cached available-seat pages.
+	 *
+	 * @param eventId The unique identifier of the event.
+	 */
+	public void advance(Long eventId) {
+		String key = GENERATION_PREFIX + eventId;
+
+		redisTemplate.opsForValue().increment(key);
+		redisTemplate.expire(key, GENERATION_TTL);
+	}
+}
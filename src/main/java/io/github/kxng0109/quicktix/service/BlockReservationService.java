@@ -0,0 +1,233 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.request.BlockReservationRequest;
+import io.github.kxng0109.quicktix.dto.response.BlockReservationResponse;
+import io.github.kxng0109.quicktix.dto.response.BookingResponse;
+import io.github.kxng0109.quicktix.enums.BlockReservationStatus;
+import io.github.kxng0109.quicktix.event.BlockReservationRequestedEvent;
+import io.github.kxng0109.quicktix.exception.InvalidOperationException;
+import io.github.kxng0109.quicktix.repositories.SeatRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reserves large blocks of seats (whole sections, rows or long seat lists) for group orders in the background.
+ * <p>
+ * A block reservation creates a single {@link io.github.kxng0109.quicktix.enums.BookingStatus#PENDING} booking for
+ * the customer and then attaches the block's available seats to it {@value #BATCH_SIZE} at a time. Each batch is
+ * one set-based {@code UPDATE} in its own short transaction (see
+ * {@link io.github.kxng0109.quicktix.repositories.SeatBulkOperations#reserveBlock}), instead of one Redis lock
+ * and one {@code PESSIMISTIC_WRITE} select per seat group as on the consumer path.
+ * </p>
+ * <p>
+ * <b>Fairness:</b> Seats are picked with {@code SKIP LOCKED} and only while available, so a consumer holding a seat
+ * of the block never waits on the reservation, and the reservation never waits on them; it just doesn't get that
+ * seat. Row locks only last one batch and the reservation pauses for {@link #BATCH_PAUSE} between batches, so
+ * consumer holds on the same rows keep going through while it runs. The result is best effort: the booking ends
+ * up with every seat of the block that was free, which the progress reports next to the size of the block.
+ * </p>
+ * <p>
+ * Progress is kept in a Redis hash per reservation so any node can report it. The booking's total is settled once
+ * the last batch is done, after which it is paid for and expires like any other pending booking.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlockReservationService {
+
+	static final int BATCH_SIZE = 500;
+	static final Duration BATCH_PAUSE = Duration.ofMillis(50);
+
+	private static final String PROGRESS_PREFIX = "block-reservation:";
+	private static final Duration PROGRESS_TTL = Duration.ofDays(1);
+
+	private final StringRedisTemplate redisTemplate;
+	private final BookingService bookingService;
+	private final SeatRepository seatRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	/**
+	 * Starts the reservation of a block of an event's seats for a customer.
+	 * <p>
+	 * Creates the pending booking right away and hands the seats over to the background, which starts once the
+	 * booking has been committed.
+	 * </p>
+	 *
+	 * @param eventId The ID of the event.
+	 * @param request The payload containing the customer and the sections, rows and seats of the block.
+	 * @return The reservation's progress, {@link BlockReservationStatus#PENDING} with no seats reserved yet.
+	 * @throws IllegalArgumentException  if the block is empty.
+	 * @throws EntityNotFoundException   if the event or the user does not exist.
+	 * @throws InvalidOperationException if the event's seats are not on sale.
+	 */
+	@Transactional
+	public BlockReservationResponse start(Long eventId, BlockReservationRequest request) {
+		List<Long> sectionIds = orEmpty(request.sectionIds());
+		List<Long> rowIds = orEmpty(request.rowIds());
+		List<Long> seatIds = orEmpty(request.seatIds());
+
+		if (sectionIds.isEmpty() && rowIds.isEmpty() && seatIds.isEmpty()) {
+			throw new IllegalArgumentException("At least one section, row or seat must be given");
+		}
+
+		BookingResponse booking = bookingService.createBlockBooking(eventId, request.userId());
+		long requestedSeats = seatRepository.countBlock(eventId, sectionIds, rowIds, seatIds);
+
+		String reservationId = UUID.randomUUID().toString();
+		BlockReservationResponse response = BlockReservationResponse.builder()
+		                                                            .reservationId(reservationId)
+		                                                            .eventId(eventId)
+		                                                            .bookingId(booking.id())
+		                                                            .bookingReference(booking.bookingReference())
+		                                                            .status(BlockReservationStatus.PENDING)
+		                                                            .requestedSeats(requestedSeats)
+		                                                            .reservedSeats(0)
+		                                                            .build();
+		recordProgress(response);
+
+		applicationEventPublisher.publishEvent(new BlockReservationRequestedEvent(
+				reservationId, eventId, booking.id(), request.userId(), sectionIds, rowIds, seatIds
+		));
+
+		log.info("Block reservation {} of {} seats for event {} started on booking {}",
+		         reservationId, requestedSeats, eventId, booking.id());
+		return response;
+	}
+
+	/**
+	 * Attaches every available seat of the block to its booking, batch by batch, and settles the booking's total.
+	 * <p>
+	 * Failures are logged and recorded in the progress. Seats reserved before the failure stay on the booking, which
+	 * is still settled, so the customer can pay for what was reserved or let it expire.
+	 * </p>
+	 *
+	 * @param request The record describing the block and the booking it goes to.
+	 */
+	public void reserve(BlockReservationRequestedEvent request) {
+		String reservationId = request.reservationId();
+		long reservedSeats = 0;
+
+		try {
+			recordProgress(reservationId, BlockReservationStatus.IN_PROGRESS, reservedSeats);
+
+			List<Long> batch;
+			do {
+				batch = bookingService.reserveBlockBatch(
+						request.bookingId(),
+						request.sectionIds(),
+						request.rowIds(),
+						request.seatIds(),
+						BATCH_SIZE
+				);
+				reservedSeats += batch.size();
+				recordProgress(reservationId, BlockReservationStatus.IN_PROGRESS, reservedSeats);
+
+				//Leaves room for the consumer holds that queued up behind this batch's row locks
+				if (batch.size() == BATCH_SIZE) Thread.sleep(BATCH_PAUSE.toMillis());
+			} while (batch.size() == BATCH_SIZE);
+
+			reservedSeats = bookingService.completeBlockBooking(request.bookingId());
+			recordProgress(reservationId, BlockReservationStatus.COMPLETED, reservedSeats);
+
+			log.info("Block reservation {} reserved {} seats on booking {}",
+			         reservationId, reservedSeats, request.bookingId());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			fail(request, e);
+		} catch (Exception e) {
+			fail(request, e);
+		}
+	}
+
+	/**
+	 * Reports how far a block reservation has come.
+	 *
+	 * @param reservationId The identifier returned when the reservation was started.
+	 * @return The reservation's status together with the requested and reserved seat counts.
+	 * @throws EntityNotFoundException if the reservation is unknown or its progress has expired.
+	 */
+	public BlockReservationResponse getProgress(String reservationId) {
+		Map<Object, Object> progress = redisTemplate.opsForHash().entries(PROGRESS_PREFIX + reservationId);
+		if (progress.isEmpty()) {
+			throw new EntityNotFoundException("Block reservation not found");
+		}
+
+		return BlockReservationResponse.builder()
+		                               .reservationId(reservationId)
+		                               .eventId(Long.parseLong((String) progress.get("eventId")))
+		                               .bookingId(Long.parseLong((String) progress.get("bookingId")))
+		                               .bookingReference((String) progress.get("bookingReference"))
+		                               .status(BlockReservationStatus.valueOf((String) progress.get("status")))
+		                               .requestedSeats(Long.parseLong((String) progress.get("requestedSeats")))
+		                               .reservedSeats(Long.parseLong((String) progress.get("reservedSeats")))
+		                               .build();
+	}
+
+	private void fail(BlockReservationRequestedEvent request, Exception e) {
+		log.error("Block reservation {} on booking {} failed: {}",
+		          request.reservationId(), request.bookingId(), e.getMessage(), e);
+
+		long reservedSeats;
+		try {
+			reservedSeats = bookingService.completeBlockBooking(request.bookingId());
+		} catch (Exception completionFailure) {
+			//The booking keeps a zero total until it expires, which releases its seats
+			log.error("Failed to settle booking {} of block reservation {}: {}",
+			          request.bookingId(), request.reservationId(), completionFailure.getMessage());
+			reservedSeats = -1;
+		}
+
+		try {
+			Map<String, String> fields = new HashMap<>();
+			fields.put("status", BlockReservationStatus.FAILED.name());
+			if (reservedSeats >= 0) fields.put("reservedSeats", String.valueOf(reservedSeats));
+
+			String key = PROGRESS_PREFIX + request.reservationId();
+			redisTemplate.opsForHash().putAll(key, fields);
+			redisTemplate.expire(key, PROGRESS_TTL);
+		} catch (Exception progressFailure) {
+			log.warn("Failed to record failure of block reservation {}: {}",
+			         request.reservationId(), progressFailure.getMessage());
+		}
+	}
+
+	private void recordProgress(BlockReservationResponse response) {
+		String key = PROGRESS_PREFIX + response.reservationId();
+
+		redisTemplate.opsForHash().putAll(key, Map.of(
+				"eventId", String.valueOf(response.eventId()),
+				"bookingId", String.valueOf(response.bookingId()),
+				"bookingReference", response.bookingReference(),
+				"status", response.status().name(),
+				"requestedSeats", String.valueOf(response.requestedSeats()),
+				"reservedSeats", String.valueOf(response.reservedSeats())
+		));
+		redisTemplate.expire(key, PROGRESS_TTL);
+	}
+
+	private void recordProgress(String reservationId, BlockReservationStatus status, long reservedSeats) {
+		String key = PROGRESS_PREFIX + reservationId;
+
+		redisTemplate.opsForHash().putAll(key, Map.of(
+				"status", status.name(),
+				"reservedSeats", String.valueOf(reservedSeats)
+		));
+		redisTemplate.expire(key, PROGRESS_TTL);
+	}
+
+	private static List<Long> orEmpty(List<Long> ids) {
+		return ids == null ? List.of() : ids;
+	}
+}
@@ -0,0 +1,142 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.response.BookingResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Cached, denormalized read model of single bookings.
+ * <p>
+ * A booking page renders the event, every seat and each seat's row and section, and buyers keep refreshing it
+ * while they wait for their payment to go through. Each booking is therefore cached once as its finished
+ * {@link BookingResponse} together with its owner's ID (for the ownership check), in the {@code bookings} cache
+ * keyed by booking ID. References never change, so {@code bookingReferences} simply maps each one to its booking
+ * ID and both lookups share the same cached booking.
+ * </p>
+ * <p>
+ * Bookings are evicted once a confirmation, cancellation or expiry commits (see
+ * {@link io.github.kxng0109.quicktix.listener.BookingChangeListener}) and rebuilt by the next read. Changes made
+ * outside of those transitions, such as an event being renamed or an administrator force-releasing a booked seat,
+ * show up once the entry's TTL runs out.
+ * </p>
+ * <p>
+ * A read that started before such a commit can finish after the eviction and put the old booking back. Every
+ * eviction therefore also bumps a per-booking generation counter in Redis first. Readers note the generation
+ * before loading and check it again once their view is cached; if it moved in between, they take the view back
+ * out. Either the check sees the bump, or the eviction comes after the view was cached and drops it itself.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingReadModel {
+
+	static final String BOOKINGS_CACHE = "bookings";
+	static final String BOOKING_REFERENCES_CACHE = "bookingReferences";
+	private static final String GENERATION_PREFIX = "bookings:generation:";
+	/**
+	 * A generation only has to outlive the loads that started before it was bumped.
+	 */
+	private static final Duration GENERATION_TTL = Duration.ofHours(1);
+
+	private final CacheManager cacheManager;
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * Returns the read model of a booking, building it with {@code loader} on a miss.
+	 *
+	 * @param bookingId The unique identifier of the booking.
+	 * @param loader    Builds the read model from the database. Exceptions it throws are passed on unchanged.
+	 * @return The read model of the booking.
+	 */
+	public BookingView get(Long bookingId, Function<Long, BookingView> loader) {
+		Cache cache = cache(BOOKINGS_CACHE);
+
+		BookingView cached = cache.get(bookingId, BookingView.class);
+		if (cached != null) return cached;
+
+		String generationKey = GENERATION_PREFIX + bookingId;
+		String generation;
+		try {
+			generation = redisTemplate.opsForValue().get(generationKey);
+		} catch (RuntimeException e) {
+			//Without a generation there is no telling whether the view is stale by the time it's cached
+			log.warn("Could not read generation of booking {}, serving it uncached: {}", bookingId, e.getMessage());
+			return loader.apply(bookingId);
+		}
+
+		BookingView view = loader.apply(bookingId);
+		cache.put(bookingId, view);
+
+		boolean changed;
+		try {
+			changed = !Objects.equals(generation, redisTemplate.opsForValue().get(generationKey));
+		} catch (RuntimeException e) {
+			changed = true;
+		}
+		if (changed) {
+			//The booking changed while it was being loaded, and its eviction may have come before the put above
+			cache.evict(bookingId);
+		}
+		return view;
+	}
+
+	/**
+	 * Resolves a booking reference to its booking ID, looking it up with {@code loader} on a miss.
+	 *
+	 * @param bookingReference The public reference code of the booking.
+	 * @param loader           Looks the booking ID up in the database. Exceptions it throws are passed on unchanged.
+	 * @return The unique identifier of the booking.
+	 */
+	public Long getBookingId(String bookingReference, Function<String, Long> loader) {
+		Cache cache = cache(BOOKING_REFERENCES_CACHE);
+
+		//Small numbers come back from the JSON serializer as Integers
+		Cache.ValueWrapper cached = cache.get(bookingReference);
+		if (cached != null && cached.get() instanceof Number bookingId) return bookingId.longValue();
+
+		Long bookingId = loader.apply(bookingReference);
+		cache.put(bookingReference, bookingId);
+		return bookingId;
+	}
+
+	/**
+	 * Drops the cached read models of the given bookings, after moving each of them to a new generation so reads
+	 * already underway don't cache them again. Their reference mappings never change and are kept.
+	 *
+	 * @param bookingIds The unique identifiers of the bookings that changed.
+	 */
+	public void evict(Collection<Long> bookingIds) {
+		Cache cache = cache(BOOKINGS_CACHE);
+
+		for (Long bookingId : bookingIds) {
+			String generationKey = GENERATION_PREFIX + bookingId;
+			redisTemplate.opsForValue().increment(generationKey);
+			redisTemplate.expire(generationKey, GENERATION_TTL);
+
+			cache.evict(bookingId);
+		}
+	}
+
+	private Cache cache(String name) {
+		return Objects.requireNonNull(cacheManager.getCache(name), () -> "Cache " + name + " is not configured");
+	}
+
+	/**
+	 * A booking as its owner sees it.
+	 *
+	 * @param userId  The ID of the user that owns the booking.
+	 * @param booking The booking, ready to be returned.
+	 */
+	public record BookingView(Long userId, BookingResponse booking) {
+	}
+}
@@ -0,0 +1,60 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.repositories.BookingRepository;
+import io.github.kxng0109.quicktix.utils.BookingReferenceGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out booking reference codes that cannot collide, without checking the database for duplicates.
+ * <p>
+ * Reference numbers come from the {@code booking_reference_seq} Postgres sequence, which advances by
+ * {@link #BLOCK_SIZE} per call. Each node claims a whole block with one {@code nextval} and hands out its numbers
+ * from memory, so only one booking in {@link #BLOCK_SIZE} on a node touches the database for its reference, and no
+ * two nodes ever hold the same number. Each number is then encoded by {@link BookingReferenceGenerator}.
+ * </p>
+ * <p>
+ * The unused part of a block is lost when the node stops. That only leaves gaps in the sequence, which nobody sees
+ * since the codes are scrambled.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingReferenceAllocator {
+
+	/**
+	 * Must match the {@code INCREMENT BY} of {@code booking_reference_seq}.
+	 */
+	static final int BLOCK_SIZE = 50;
+
+	private final BookingRepository bookingRepository;
+
+	//A lock rather than synchronized, so a virtual thread waiting on nextval doesn't pin its carrier
+	private final ReentrantLock lock = new ReentrantLock();
+	private long nextNumber;
+	private long blockEnd;
+
+	/**
+	 * Allocates the next booking reference code of this node.
+	 *
+	 * @return A reference code no other booking has or will get.
+	 */
+	public String allocate() {
+		long number;
+
+		lock.lock();
+		try {
+			if (nextNumber >= blockEnd) {
+				nextNumber = bookingRepository.nextBookingReferenceBlock();
+				blockEnd = nextNumber + BLOCK_SIZE;
+			}
+			number = nextNumber++;
+		} finally {
+			lock.unlock();
+		}
+
+		return BookingReferenceGenerator.encode(number);
+	}
+}
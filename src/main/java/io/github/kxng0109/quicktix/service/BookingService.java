@@ -1,22 +1,26 @@
 package io.github.kxng0109.quicktix.service;
 
+import io.github.kxng0109.quicktix.dto.request.HoldSeatsRequest;
 import io.github.kxng0109.quicktix.dto.request.InitiateBookingRequest;
 import io.github.kxng0109.quicktix.dto.response.BookingResponse;
 import io.github.kxng0109.quicktix.dto.response.SeatResponse;
 import io.github.kxng0109.quicktix.entity.*;
 import io.github.kxng0109.quicktix.enums.BookingStatus;
+import io.github.kxng0109.quicktix.enums.EventStatus;
 import io.github.kxng0109.quicktix.enums.PaymentStatus;
 import io.github.kxng0109.quicktix.enums.SeatStatus;
+import io.github.kxng0109.quicktix.event.BookingChangedEvent;
+import io.github.kxng0109.quicktix.event.SeatStatusChangedEvent;
 import io.github.kxng0109.quicktix.exception.InvalidOperationException;
 import io.github.kxng0109.quicktix.repositories.BookingRepository;
 import io.github.kxng0109.quicktix.repositories.EventRepository;
 import io.github.kxng0109.quicktix.repositories.SeatRepository;
 import io.github.kxng0109.quicktix.repositories.UserRepository;
+import io.github.kxng0109.quicktix.service.BookingReadModel.BookingView;
 import io.github.kxng0109.quicktix.utils.AssertOwnershipOrAdmin;
-import io.github.kxng0109.quicktix.utils.BookingReferenceGenerator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,7 +39,6 @@ import java.util.List;
  * booking confirmations after payment, and both user-initiated and system-initiated cancellations.
  * </p>
  */
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BookingService {
@@ -44,13 +48,16 @@ public class BookingService {
 	private final EventRepository eventRepository;
 	private final SeatRepository seatRepository;
 	private final SeatService seatService;
-	private final SeatLockService seatLockService;
+	private final BookingReferenceAllocator bookingReferenceAllocator;
+	private final BookingReadModel bookingReadModel;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	/**
 	 * Retrieves a specific booking by its internal database ID.
 	 * <p>
 	 * Enforces strict authorization by verifying through {@link AssertOwnershipOrAdmin} that the requesting
 	 * user either legitimately owns the booking or possesses system-wide administrative privileges.
+	 * The booking is served from the {@link BookingReadModel}, so repeated lookups don't touch the database.
 	 * </p>
 	 *
 	 * @param bookId      The unique internal identifier of the booking.
@@ -59,42 +66,37 @@ public class BookingService {
 	 * @throws EntityNotFoundException                                   if the requested booking ID does not exist.
 	 * @throws org.springframework.security.access.AccessDeniedException if the user lacks ownership or admin rights.
 	 */
-	@Transactional(readOnly = true)
 	public BookingResponse getBookingById(Long bookId, User currentUser) {
-		Booking booking = bookingRepository.findById(bookId)
-		                                   .orElseThrow(
-				                                   () -> new EntityNotFoundException("Booking not found.")
-		                                   );
+		BookingView view = bookingReadModel.get(bookId, this::loadBookingView);
 
-		AssertOwnershipOrAdmin.check(currentUser, booking.getUser());
+		AssertOwnershipOrAdmin.check(currentUser, view.userId());
 
-		return buildBookingResponse(booking);
+		return view.booking();
 	}
 
 	/**
 	 * Retrieves a specific booking using its human-readable public reference code.
 	 * <p>
 	 * Primarily utilized for customer support lookups or order tracking. It enforces the exact same
-	 * strict ownership and authorization constraints as ID-based retrieval.
+	 * strict ownership and authorization constraints as ID-based retrieval, and shares its cached booking.
 	 * </p>
 	 *
-	 * @param bookingReference The unique public alphanumeric reference (e.g., "QT-A9K4P2").
+	 * @param bookingReference The unique public alphanumeric reference (e.g., "QT-A9K4P2M").
 	 * @param currentUser      The currently authenticated user making the request.
 	 * @return A {@link BookingResponse} detailing the booking and its associated seats.
 	 * @throws EntityNotFoundException                                   if no booking matches the provided reference string.
 	 * @throws org.springframework.security.access.AccessDeniedException if the user lacks ownership or admin rights.
 	 */
-	@Transactional(readOnly = true)
 	public BookingResponse getBookingByReference(String bookingReference, User currentUser) {
-		Booking booking = bookingRepository.findByBookingReference(bookingReference)
-		                                   .orElseThrow(
-				                                   () -> new EntityNotFoundException("Booking not found.")
-		                                   );
-
-		AssertOwnershipOrAdmin.check(currentUser, booking.getUser());
-
+		Long bookingId = bookingReadModel.getBookingId(
+				bookingReference,
+				reference -> bookingRepository.findIdByBookingReference(reference)
+				                              .orElseThrow(
+						                              () -> new EntityNotFoundException("Booking not found.")
+				                              )
+		);
 
-		return buildBookingResponse(booking);
+		return getBookingById(bookingId, currentUser);
 	}
 
 	/**
@@ -122,6 +124,11 @@ public class BookingService {
 
 		Page<Booking> bookings = bookingRepository.findByUserId(user.getId(), pageable);
 
+		//Seats for the whole page in one go, this initializes them on the bookings we already have
+		if (bookings.hasContent()) {
+			bookingRepository.findWithSeatsByIdIn(bookings.map(Booking::getId).getContent());
+		}
+
 		return bookings.map(this::buildBookingResponse);
 	}
 
@@ -164,7 +171,7 @@ public class BookingService {
 		                         .event(event)
 		                         .seats(seats)
 		                         .status(BookingStatus.PENDING)
-		                         .bookingReference(generateUniqueBookingReference())
+		                         .bookingReference(bookingReferenceAllocator.allocate())
 		                         .totalAmount(calculatedTotalAmount)
 		                         .build();
 
@@ -178,6 +185,177 @@ public class BookingService {
 		return buildBookingResponse(savedBooking);
 	}
 
+	/**
+	 * Holds seats and creates a pending booking for them in one step.
+	 * <p>
+	 * Replaces the separate hold and booking calls on the hot purchase path: the seats are locked in Redis in a
+	 * single call, row-locked, marked held and linked to the new {@link BookingStatus#PENDING} booking within one
+	 * transaction, so every seat is written once instead of twice and never re-read. The total is computed on the
+	 * backend from the seat prices, exactly like {@link #createPendingBooking(InitiateBookingRequest, User)}.
+	 * If the transaction rolls back, the seats' Redis locks are released with it (see
+	 * {@link SeatService#holdSeatsForBooking(Long, List, User)}).
+	 * </p>
+	 *
+	 * @param request     The payload containing the event ID and the seat IDs to buy.
+	 * @param currentUser The authenticated user checking out.
+	 * @return A {@link BookingResponse} detailing the pending booking and the generated reference code.
+	 * @throws EntityNotFoundException   if the event or one of the seats does not exist.
+	 * @throws InvalidOperationException if the event's seats are not on sale, or one or more seats are already
+	 *                                   locked by someone else.
+	 * @throws IllegalArgumentException  if a seat is not available in the database.
+	 */
+	@Transactional
+	public BookingResponse checkout(HoldSeatsRequest request, User currentUser) {
+		Event event = eventRepository.findById(request.eventId())
+		                             .orElseThrow(
+				                             () -> new EntityNotFoundException("Event not found.")
+		                             );
+
+		if (event.getStatus() != EventStatus.UPCOMING && event.getStatus() != EventStatus.ONGOING) {
+			throw new InvalidOperationException("Cannot book seats of an event in status: " + event.getStatus());
+		}
+
+		List<Seat> seats = seatService.holdSeatsForBooking(request.eventId(), request.seatIds(), currentUser);
+
+		BigDecimal calculatedTotalAmount = BigDecimal.ZERO;
+		for (Seat seat : seats) {
+			calculatedTotalAmount = calculatedTotalAmount.add(seat.getPrice());
+		}
+
+		Booking booking = Booking.builder()
+		                         .user(currentUser)
+		                         .event(event)
+		                         .seats(seats)
+		                         .status(BookingStatus.PENDING)
+		                         .bookingReference(bookingReferenceAllocator.allocate())
+		                         .totalAmount(calculatedTotalAmount)
+		                         .build();
+
+		Booking savedBooking = bookingRepository.save(booking);
+
+		//The seats are still managed, so the hold and the link to the booking go out in the same UPDATE
+		for (Seat seat : seats) {
+			seat.setBooking(savedBooking);
+		}
+
+		return buildBookingResponse(savedBooking);
+	}
+
+	/**
+	 * INTERNAL USE ONLY.
+	 * Creates the empty pending booking that a block reservation attaches its seats to.
+	 * <p>
+	 * The booking starts without seats and with a zero total; seats are added in batches by
+	 * {@link #reserveBlockBatch(Long, Collection, Collection, Collection, int)} and the total is settled by
+	 * {@link #completeBlockBooking(Long)}.
+	 * </p>
+	 *
+	 * @param eventId The ID of the event the block belongs to.
+	 * @param userId  The ID of the customer the block is reserved for.
+	 * @return A {@link BookingResponse} with the new booking's ID and reference.
+	 * @throws EntityNotFoundException   if the event or the user does not exist.
+	 * @throws InvalidOperationException if the event's seats are not on sale.
+	 */
+	@Transactional
+	public BookingResponse createBlockBooking(Long eventId, Long userId) {
+		Event event = eventRepository.findById(eventId)
+		                             .orElseThrow(
+				                             () -> new EntityNotFoundException("Event not found.")
+		                             );
+
+		if (event.getStatus() != EventStatus.UPCOMING && event.getStatus() != EventStatus.ONGOING) {
+			throw new InvalidOperationException("Cannot reserve seats of an event in status: " + event.getStatus());
+		}
+
+		User user = userRepository.findById(userId)
+		                          .orElseThrow(
+				                          () -> new EntityNotFoundException("User not found.")
+		                          );
+
+		Booking booking = Booking.builder()
+		                         .user(user)
+		                         .event(event)
+		                         .seats(new ArrayList<>())
+		                         .status(BookingStatus.PENDING)
+		                         .bookingReference(bookingReferenceAllocator.allocate())
+		                         .totalAmount(BigDecimal.ZERO)
+		                         .build();
+
+		return buildBookingResponse(bookingRepository.save(booking));
+	}
+
+	/**
+	 * INTERNAL USE ONLY.
+	 * Attaches the next batch of a block's seats to its pending booking, in a transaction of its own.
+	 * <p>
+	 * The booking stays row-locked for the length of the batch, so it can't expire or be cancelled while seats
+	 * are being attached to it. Pending booking expiry skips locked bookings and simply gets to it next round.
+	 * </p>
+	 *
+	 * @param bookingId  The ID of the block's pending booking.
+	 * @param sectionIds Sections whose seats are part of the block.
+	 * @param rowIds     Rows whose seats are part of the block.
+	 * @param seatIds    Individual seats of the block.
+	 * @param limit      The maximum number of seats to attach.
+	 * @return The IDs of the attached seats. Fewer than {@code limit} means the block has nothing left to reserve.
+	 * @throws InvalidOperationException if the booking is no longer pending.
+	 */
+	@Transactional
+	public List<Long> reserveBlockBatch(Long bookingId, Collection<Long> sectionIds, Collection<Long> rowIds,
+	                                    Collection<Long> seatIds, int limit) {
+		Booking booking = bookingRepository.findByIdWithLock(bookingId)
+		                                   .orElseThrow(
+				                                   () -> new EntityNotFoundException("Booking not found.")
+		                                   );
+
+		if (booking.getStatus() != BookingStatus.PENDING) {
+			throw new InvalidOperationException("Cannot reserve seats for a booking in status: " + booking.getStatus());
+		}
+
+		return seatService.reserveBlock(
+				booking.getEvent().getId(),
+				sectionIds,
+				rowIds,
+				seatIds,
+				bookingId,
+				booking.getUser().getId(),
+				limit
+		);
+	}
+
+	/**
+	 * INTERNAL USE ONLY.
+	 * Settles the total of a block reservation's booking once no more seats are being attached to it.
+	 * <p>
+	 * The total is summed from the attached seats in the database, like every other booking it is never taken
+	 * from the caller. A block that got no seats at all leaves nothing to pay for, so its booking is expired.
+	 * Bookings that are no longer pending are left alone.
+	 * </p>
+	 *
+	 * @param bookingId The ID of the block's pending booking.
+	 * @return The number of seats on the booking.
+	 */
+	@Transactional
+	public long completeBlockBooking(Long bookingId) {
+		Booking booking = bookingRepository.findByIdWithLock(bookingId)
+		                                   .orElseThrow(
+				                                   () -> new EntityNotFoundException("Booking not found.")
+		                                   );
+
+		long seatCount = seatRepository.countByBookingId(bookingId);
+		if (booking.getStatus() != BookingStatus.PENDING) return seatCount;
+
+		if (seatCount == 0) {
+			booking.setStatus(BookingStatus.EXPIRED);
+		} else {
+			booking.setTotalAmount(seatRepository.sumPriceByBookingId(bookingId));
+		}
+
+		bookingRepository.save(booking);
+		publishBookingChange(List.of(bookingId));
+		return seatCount;
+	}
+
 	/**
 	 * Confirms a pending booking after a successful payment transaction.
 	 * <p>
@@ -208,6 +386,8 @@ public class BookingService {
 			throw new InvalidOperationException("Cannot confirm a booking. Payment is missing or not completed");
 		}
 
+		publishSeatStatusChange(booking, booking.getSeats(), SeatStatus.BOOKED);
+
 		booking.setStatus(BookingStatus.CONFIRMED);
 		for (Seat seat : booking.getSeats()) {
 			seat.setSeatStatus(SeatStatus.BOOKED);
@@ -215,6 +395,7 @@ public class BookingService {
 
 		seatRepository.saveAll(booking.getSeats());
 		bookingRepository.save(booking);
+		publishBookingChange(List.of(bookingId));
 	}
 
 	/**
@@ -267,20 +448,29 @@ public class BookingService {
 	}
 
 	/**
-	 * Expire pending bookings for an event after a certain time.
-	 * This handles when payment for a booking isn't made within a certain time
+	 * Expires one chunk of the bookings whose payment wasn't made within the allowed window.
+	 * <p>
+	 * The chunk is claimed with {@code FOR UPDATE SKIP LOCKED}, so every node can run expiry at the same time and
+	 * each works through a different chunk. The claimed bookings are expired and their seats released without
+	 * loading either, and the chunk commits on its own; callers loop until fewer than {@code limit} bookings come
+	 * back, so a large backlog never turns into one long transaction.
+	 * </p>
 	 *
-	 * @param cutoffTime the {@link Instant time} in the past from now to which all pending bookings should be
-	 *                   cancelled
+	 * @param cutoffTime the {@link Instant time} in the past before which all pending bookings should be expired
+	 * @param limit      the maximum number of bookings to expire in this chunk
+	 * @return the number of bookings expired
 	 */
 	@Transactional
-	public void expirePendingBookings(Instant cutoffTime) {
-		List<Booking> expiredBookings = bookingRepository.findByStatusAndCreatedAtBefore(
-				BookingStatus.PENDING,
-				cutoffTime
-		);
+	public int expirePendingBookings(Instant cutoffTime, int limit) {
+		List<Long> expiredBookingIds = bookingRepository.claimExpiredPendingBookingIds(cutoffTime, limit);
+		if (expiredBookingIds.isEmpty()) return 0;
+
+		//Seats are released in bulk straight from the booking IDs, they never have to be loaded
+		seatService.releaseBookedSeats(expiredBookingIds);
+		bookingRepository.updateStatusByIdIn(expiredBookingIds, BookingStatus.EXPIRED);
+		publishBookingChange(expiredBookingIds);
 
-		handleBookingCancellation(expiredBookings);
+		return expiredBookingIds.size();
 	}
 
 	/**
@@ -305,9 +495,9 @@ public class BookingService {
 	 * Processes a batch cancellation of pending or abandoned bookings.
 	 * <p>
 	 * Iterates through the provided list, transitioning each booking to an {@link BookingStatus#EXPIRED} state.
-	 * It systematically communicates with the {@link SeatLockService} to gracefully release any lingering
-	 * Redis distributed locks, detaches the seats from the booking, and returns them to the global
-	 * {@link SeatStatus#AVAILABLE} pool for immediate resale.
+	 * The seats of every booking are then released in bulk through {@link SeatService#releaseBookedSeats(List)},
+	 * which releases any lingering Redis distributed locks, detaches the seats from the booking, and returns them
+	 * to the global {@link SeatStatus#AVAILABLE} pool for immediate resale.
 	 * </p>
 	 *
 	 * @param expiredBookings A list of bookings that have timed out during checkout or belong to a cancelled event.
@@ -315,24 +505,16 @@ public class BookingService {
 	private void handleBookingCancellation(List<Booking> expiredBookings) {
 		if (expiredBookings.isEmpty()) return;
 
-		List<Seat> seatsToUpdate = new ArrayList<>();
-
 		for (Booking booking : expiredBookings) {
 			booking.setStatus(BookingStatus.EXPIRED);
-
-			for (Seat seat : booking.getSeats()) {
-				seatLockService.releaseLock(seat.getId(), booking.getUser().getEmail());
-
-				seat.setBooking(null);
-				seat.setHeldByUser(null);
-				seat.setHeldAt(null);
-				seat.setSeatStatus(SeatStatus.AVAILABLE);
-				seatsToUpdate.add(seat);
-			}
 		}
 
-		seatRepository.saveAll(seatsToUpdate);
+		List<Long> expiredBookingIds = expiredBookings.stream().map(Booking::getId).toList();
+
+		//Seats are released in bulk straight from the booking IDs, they never have to be loaded
+		seatService.releaseBookedSeats(expiredBookingIds);
 		bookingRepository.saveAll(expiredBookings);
+		publishBookingChange(expiredBookingIds);
 	}
 
 	//Booking cancelled by user, or successfully refunded
@@ -341,9 +523,9 @@ public class BookingService {
 	 * INTERNAL USE ONLY.
 	 * Processes the cancellation of a single booking, typically initiated by the user or triggered by a gateway refund.
 	 * <p>
-	 * Transitions the specific booking to a {@link BookingStatus#CANCELLED} state. It safely destroys the
-	 * associated Redis seat locks, wipes the temporary user hold metadata, and restores the physical seats
-	 * to the {@link SeatStatus#AVAILABLE} pool.
+	 * Transitions the specific booking to a {@link BookingStatus#CANCELLED} state. Through
+	 * {@link SeatService#releaseBookedSeats(List)}, it safely destroys the associated Redis seat locks, wipes the
+	 * temporary user hold metadata, and restores the physical seats to the {@link SeatStatus#AVAILABLE} pool.
 	 * </p>
 	 *
 	 * @param booking The specific booking entity to be cancelled.
@@ -351,18 +533,38 @@ public class BookingService {
 	private void handleBookingCancellation(Booking booking) {
 		booking.setStatus(BookingStatus.CANCELLED);
 
-		List<Seat> seatsToRelease = booking.getSeats();
-		for (Seat seat : seatsToRelease) {
-			seatLockService.releaseLock(seat.getId(), booking.getUser().getEmail());
+		seatService.releaseBookedSeats(List.of(booking.getId()));
+		bookingRepository.save(booking);
+		publishBookingChange(List.of(booking.getId()));
+	}
 
-			seat.setSeatStatus(SeatStatus.AVAILABLE);
-			seat.setHeldAt(null);
-			seat.setHeldByUser(null);
-			seat.setBooking(null);
-		}
+	//Only seats that actually change status are announced, so this has to be called before the seats are updated.
+	//Listeners run after the transaction commits.
+	private void publishSeatStatusChange(Booking booking, List<Seat> seats, SeatStatus status) {
+		List<Long> changedSeatIds = seats.stream()
+		                                 .filter(seat -> seat.getSeatStatus() != status)
+		                                 .map(Seat::getId)
+		                                 .toList();
 
-		seatRepository.saveAll(seatsToRelease);
-		bookingRepository.save(booking);
+		if (changedSeatIds.isEmpty()) return;
+
+		applicationEventPublisher.publishEvent(
+				new SeatStatusChangedEvent(booking.getEvent().getId(), changedSeatIds, status)
+		);
+	}
+
+	private BookingView loadBookingView(Long bookingId) {
+		Booking booking = bookingRepository.findWithDetailsById(bookingId)
+		                                   .orElseThrow(
+				                                   () -> new EntityNotFoundException("Booking not found.")
+		                                   );
+
+		return new BookingView(booking.getUser().getId(), buildBookingResponse(booking));
+	}
+
+	//Listeners run after the transaction commits, so the cached bookings can't be rebuilt from before the change
+	private void publishBookingChange(List<Long> bookingIds) {
+		applicationEventPublisher.publishEvent(new BookingChangedEvent(bookingIds));
 	}
 
 	private BookingResponse buildBookingResponse(Booking booking) {
@@ -391,35 +593,4 @@ public class BookingService {
 		                      .createdAt(booking.getCreatedAt())
 		                      .build();
 	}
-
-	/**
-	 * INTERNAL USE ONLY.
-	 * Generates a cryptographically secure, collision-resistant public reference code for a new booking.
-	 * <p>
-	 * Utilizes a randomized generation strategy and verifies uniqueness against the database.
-	 * To prevent thread-blocking infinite loops in a highly saturated database environment,
-	 * it enforces a maximum of 4 generation attempts before explicitly failing.
-	 * </p>
-	 *
-	 * @return A guaranteed unique, human-readable alphanumeric booking reference string.
-	 * @throws IllegalStateException if a unique reference cannot be generated after the maximum number of retries.
-	 */
-	private String generateUniqueBookingReference() {
-		int maxRetries = 4;
-		int tries = 0;
-		String bookingReference;
-		do {
-			bookingReference = BookingReferenceGenerator.generate();
-			tries++;
-
-			if (tries > maxRetries) {
-				log.error("Max tries reached. Tried {} times out of {}.", tries, maxRetries);
-				throw new IllegalStateException(
-						"Failed to generate a unique booking reference. Maximum tries reached.");
-			}
-		} while (bookingRepository.existsByBookingReference(bookingReference));
-
-		log.debug("Took {} tries to generate booking reference.", tries);
-		return bookingReference;
-	}
 }
@@ -2,41 +2,86 @@ package io.github.kxng0109.quicktix.service;
 
 import io.github.kxng0109.quicktix.dto.request.*;
 import io.github.kxng0109.quicktix.dto.request.projection.EventSeatCount;
+import io.github.kxng0109.quicktix.dto.request.projection.EventSeatRevision;
+import io.github.kxng0109.quicktix.dto.request.projection.RowSeatCount;
+import io.github.kxng0109.quicktix.dto.request.projection.SectionPrice;
 import io.github.kxng0109.quicktix.dto.response.EventResponse;
+import io.github.kxng0109.quicktix.dto.response.PagedResponse;
+import io.github.kxng0109.quicktix.dto.response.SectionPriceResponse;
 import io.github.kxng0109.quicktix.entity.*;
 import io.github.kxng0109.quicktix.enums.EventStatus;
 import io.github.kxng0109.quicktix.enums.SeatStatus;
 import io.github.kxng0109.quicktix.event.EventCancelledEvent;
+import io.github.kxng0109.quicktix.event.EventListingChangedEvent;
+import io.github.kxng0109.quicktix.event.SeatGenerationRequestedEvent;
 import io.github.kxng0109.quicktix.exception.InvalidOperationException;
 import io.github.kxng0109.quicktix.exception.ResourceInUseException;
 import io.github.kxng0109.quicktix.repositories.*;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class EventService {
 
+	private static final int RECONCILE_CHUNK_SIZE = 500;
+	/**
+	 * Largest layout whose seats are generated within the creating request.
+	 */
+	static final int INLINE_SEAT_GENERATION_LIMIT = 2_000;
+
 	private final EventRepository eventRepository;
 	private final VenueRepository venueRepository;
 	private final SeatRepository seatRepository;
 	private final ApplicationEventPublisher applicationEventPublisher;
 	private final SectionRepository sectionRepository;
 	private final RowRepository rowRepository;
-
+	private final SeatAvailabilityIndex seatAvailabilityIndex;
+	private final SeatMapService seatMapService;
+	private final SeatingTemplateRepository seatingTemplateRepository;
+	private final UpcomingEventsCache upcomingEventsCache;
+
+	/**
+	 * Creates an event together with its sections, rows and seats.
+	 * <p>
+	 * The layout either comes with the request or is copied from one of the venue's seating templates, with
+	 * optional per-section price overrides. A template's rows are copied with one {@code INSERT ... SELECT} per
+	 * section, so the layout never travels through the application.
+	 * </p>
+	 * <p>
+	 * Seats are never built one entity at a time: each row only records its seat count, and the seats are expanded
+	 * from the rows inside Postgres. Layouts of up to {@value #INLINE_SEAT_GENERATION_LIMIT} seats are generated
+	 * right here and the event is {@link EventStatus#UPCOMING} straight away. Larger ones are left to the
+	 * {@link SeatGenerationService} in the background, and the event stays a {@link EventStatus#DRAFT} until its
+	 * last seat exists.
+	 * </p>
+	 *
+	 * @param request The event details and its seating layout.
+	 * @return The created event. Drafts report no available seats yet.
+	 * @throws EntityNotFoundException  if the venue or the seating template does not exist.
+	 * @throws IllegalArgumentException if a price override targets a section that is not part of the template.
+	 */
 	@Transactional
 	public EventResponse createEvent(CreateEventRequest request) {
 		Venue venue = venueRepository.findById(request.venueId())
@@ -44,85 +89,127 @@ public class EventService {
 				                             () -> new EntityNotFoundException("Venue not found")
 		                             );
 
+		SeatingTemplate template = null;
+		long totalSeats;
+
+		if (request.seatingTemplateId() != null) {
+			template = seatingTemplateRepository.findWithSectionsByIdAndVenueId(request.seatingTemplateId(), venue.getId())
+			                                    .orElseThrow(
+					                                    () -> new EntityNotFoundException("Seating template not found")
+			                                    );
+			totalSeats = template.getTotalSeats();
+		} else {
+			totalSeats = request.sections()
+			                    .stream()
+			                    .flatMap(sectionRequest -> sectionRequest.rows().stream())
+			                    .mapToLong(RowRequest::numberOfSeats)
+			                    .sum();
+		}
+		boolean generateInline = totalSeats <= INLINE_SEAT_GENERATION_LIMIT;
+
 		Event event = Event.builder()
 		                   .name(request.name())
 		                   .description(request.description())
 		                   .venue(venue)
 		                   .eventStartDateTime(request.eventStartDateTime())
 		                   .eventEndDateTime(request.eventEndDateTime())
-		                   .status(EventStatus.UPCOMING)
+		                   .status(generateInline ? EventStatus.UPCOMING : EventStatus.DRAFT)
 		                   .build();
 
 		Event savedEvent = eventRepository.save(event);
 
-		List<Seat> seats = new ArrayList<>();
-
-		for (SectionRequest sectionRequest : request.sections()) {
-			Section section = Section.builder()
-			                         .name(sectionRequest.name())
-			                         .description(sectionRequest.description())
-			                         .capacity(sectionRequest.capacity())
-			                         .price(sectionRequest.basePrice())
-			                         .event(savedEvent)
-			                         .build();
-
-			Section savedSection = sectionRepository.save(section);
+		List<Section> savedSections = template != null
+		                              ? copyTemplateLayout(template, request.sectionPriceOverrides(), savedEvent)
+		                              : saveRequestedLayout(request.sections(), savedEvent);
+		List<SectionPriceResponse> sectionPrices = savedSections.stream()
+		                                                       .map(section -> buildSectionPriceResponse(
+				                                                       section.getId(),
+				                                                       section.getName(),
+				                                                       section.getPrice()
+		                                                       ))
+		                                                       .toList();
+
+		//The event is still managed, so its price summary is written along with the rest of the transaction
+		savedEvent.setMinPrice(savedSections.stream().map(Section::getPrice).min(BigDecimal::compareTo).orElseThrow());
+		savedEvent.setMaxPrice(savedSections.stream().map(Section::getPrice).max(BigDecimal::compareTo).orElseThrow());
+
+		if (!generateInline) {
+			//Generation reads the rows back from the database, so it only starts once they are committed
+			applicationEventPublisher.publishEvent(new SeatGenerationRequestedEvent(savedEvent.getId()));
+			log.info("Event {} created as a draft, its {} seats are generated in the background",
+			         savedEvent.getId(), totalSeats);
+
+			return buildEventResponse(0L, sectionPrices, savedEvent);
+		}
 
-			for(RowRequest rowRequest : sectionRequest.rows()){
-				Row row = Row.builder()
-						.name(rowRequest.name())
-						     .rowOrder(rowRequest.rowOrder())
-						     .section(savedSection)
-						     .build();
+		List<Long> rowIds = rowRepository.findSeatCountsByEventId(savedEvent.getId())
+		                                 .stream()
+		                                 .map(RowSeatCount::getRowId)
+		                                 .toList();
+		seatRepository.insertSeatsForRows(rowIds);
+		applicationEventPublisher.publishEvent(new EventListingChangedEvent(savedEvent.getId()));
+
+		return buildEventResponse(
+				seatRepository.countByEventIdAndSeatStatus(savedEvent.getId(), SeatStatus.AVAILABLE),
+				sectionPrices,
+				savedEvent
+		);
+	}
 
-				Row savedRow = rowRepository.save(row);
-
-				for (int i = 1; i <= rowRequest.numberOfSeats(); i++) {
-					Seat seat = Seat.builder()
-					                .event(savedEvent)
-					                .seatNumber(i)
-							.row(savedRow)
-					                .seatStatus(SeatStatus.AVAILABLE)
-							.price(sectionRequest.basePrice())
-					                .build();
-					seats.add(seat);
-				}
-			}
-		}
+	/**
+	 * Publishes a draft event once all of its seats have been generated, moving it to {@link EventStatus#UPCOMING}.
+	 *
+	 * @param eventId The unique identifier of the draft event.
+	 * @return {@code true} if the event was published, {@code false} if it was no longer a draft
+	 * (e.g. it got cancelled in the meantime).
+	 * @throws EntityNotFoundException if the event does not exist.
+	 */
+	@Transactional
+	@CacheEvict(value = "events", allEntries = true)
+	public boolean publishDraftEvent(Long eventId) {
+		Event event = eventRepository.findById(eventId)
+		                             .orElseThrow(() -> new EntityNotFoundException("Event not found"));
 
-		seatRepository.saveAll(seats);
-		savedEvent.setSeats(seats);
+		if (event.getStatus() != EventStatus.DRAFT) return false;
 
-		return EventResponse
-				.builder()
-				.id(savedEvent.getId())
-				.name(savedEvent.getName())
-				.description(savedEvent.getDescription())
-				.venueName(savedEvent.getVenue().getName())
-				.ticketPrice(savedEvent.getSeats().getFirst().getPrice())
-				.status(savedEvent.getStatus().getDisplayName())
-				.availableSeats(seatRepository.countByEventIdAndSeatStatus(savedEvent.getId(), SeatStatus.AVAILABLE))
-				.build();
+		event.setStatus(EventStatus.UPCOMING);
+		eventRepository.save(event);
+		applicationEventPublisher.publishEvent(new EventListingChangedEvent(eventId));
+		return true;
 	}
 
 	@Transactional(readOnly = true)
 	@Cacheable(value = "events", key = "#id", sync = true)
 	public EventResponse getEventById(Long id) {
-		Event event = eventRepository.findById(id)
+		Event event = eventRepository.findWithVenueById(id)
 		                             .orElseThrow(
 				                             () -> new EntityNotFoundException("Event not found")
 		                             );
 
-		long availableSeats = seatRepository.countByEventIdAndSeatStatus(event.getId(), SeatStatus.AVAILABLE);
+		long availableSeats = countAvailableSeats(event.getId());
 
-		return buildEventResponse(availableSeats, event);
+		return buildEventResponse(availableSeats, findSectionPrices(event.getId()), event);
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * Retrieves a page of upcoming events through the {@link UpcomingEventsCache}.
+	 * <p>
+	 * Deliberately not transactional: callers that wait for another node to refresh the page shouldn't hold a
+	 * database connection while they do, and the loader's queries each run in a transaction of their own.
+	 * </p>
+	 *
+	 * @param pageable The requested page, including its sort.
+	 * @return The page of upcoming events. Seat counts may be a few seconds old.
+	 */
 	public Page<EventResponse> getAllUpcomingEvents(Pageable pageable) {
-		Page<Event> events = eventRepository.findEventsByStatus(EventStatus.UPCOMING, pageable);
+		PagedResponse<EventResponse> page = upcomingEventsCache.get(
+				pageable,
+				() -> PagedResponse.from(
+						buildEventResponsePage(eventRepository.findEventsByStatus(EventStatus.UPCOMING, pageable))
+				)
+		);
 
-		return buildEventResponsePage(events);
+		return new PageImpl<>(page.content(), pageable, page.totalElements());
 	}
 
 	@Transactional(readOnly = true)
@@ -146,6 +233,40 @@ public class EventService {
 		return buildEventResponsePage(events);
 	}
 
+	/**
+	 * Full-text searches upcoming and ongoing events by name, description, venue name and city.
+	 * <p>
+	 * Matching and ranking happen in Postgres against the GIN-indexed {@code search_vector} of each event. Results
+	 * are cached for a few seconds per normalized query and page, so a popular query hits the database once
+	 * however many users send it; they aren't evicted on writes and may be that much behind.
+	 * </p>
+	 *
+	 * @param query    The search text, e.g. {@code jazz lagos}.
+	 * @param pageable The page to return. Any sort is ignored, results are ordered by relevance.
+	 * @return A page of matching events, best match first.
+	 */
+	@Transactional(readOnly = true)
+	@Cacheable(
+			value = "eventSearch",
+			key = "#query.trim().toLowerCase() + '-' + #pageable.pageNumber + '-' + #pageable.pageSize",
+			sync = true
+	)
+	public PagedResponse<EventResponse> searchEvents(String query, Pageable pageable) {
+		Page<Long> eventIds = eventRepository.searchIds(
+				query.trim(),
+				PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+		);
+
+		//Loaded separately so the venue is joined in, then put back in ranking order
+		Map<Long, Event> events = eventIds.isEmpty()
+		                          ? Map.of()
+		                          : eventRepository.findWithVenueByIdIn(eventIds.getContent())
+		                                           .stream()
+		                                           .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+		return PagedResponse.from(buildEventResponsePage(eventIds.map(events::get)));
+	}
+
 	@Transactional
 	@CacheEvict(value = "events", allEntries = true)
 	public EventResponse updateEventById(Long id, UpdateEventRequest request) {
@@ -160,13 +281,11 @@ public class EventService {
 		event.setEventEndDateTime(request.eventEndDateTime());
 
 		Event savedEvent = eventRepository.save(event);
+		applicationEventPublisher.publishEvent(new EventListingChangedEvent(savedEvent.getId()));
 
-		long availableSeats = seatRepository.countByEventIdAndSeatStatus(
-				event.getId(),
-				SeatStatus.AVAILABLE
-		);
+		long availableSeats = countAvailableSeats(event.getId());
 
-		return buildEventResponse(availableSeats, savedEvent);
+		return buildEventResponse(availableSeats, findSectionPrices(savedEvent.getId()), savedEvent);
 	}
 
 	@Transactional
@@ -185,6 +304,7 @@ public class EventService {
 		eventRepository.save(event);
 
 		applicationEventPublisher.publishEvent(new EventCancelledEvent(eventId));
+		applicationEventPublisher.publishEvent(new EventListingChangedEvent(eventId));
 	}
 
 	@Transactional
@@ -202,6 +322,9 @@ public class EventService {
 
 		// Will cascade to Seats automatically
 		eventRepository.delete(event);
+		seatAvailabilityIndex.evict(id);
+		seatMapService.evict(id);
+		applicationEventPublisher.publishEvent(new EventListingChangedEvent(id));
 	}
 
 	@Transactional
@@ -226,17 +349,194 @@ public class EventService {
 			event.setStatus(EventStatus.COMPLETED);
 		}
 		eventRepository.saveAll(finishedOngoingOrUpcomingEvents);
+
+		if (!startedUpcomingEvents.isEmpty() || !finishedOngoingOrUpcomingEvents.isEmpty()) {
+			applicationEventPublisher.publishEvent(new EventListingChangedEvent(null));
+		}
 	}
 
+	/**
+	 * Corrects the available seat counters of every upcoming and ongoing event against the database.
+	 * <p>
+	 * The counters are kept up to date incrementally by {@link SeatAvailabilityIndex}; this catches the rare
+	 * update that was lost along the way and seeds counters for events nobody has browsed yet, so their
+	 * availability can be read without a {@code COUNT}. Events are counted in chunks of
+	 * {@value #RECONCILE_CHUNK_SIZE}, one grouped query per chunk.
+	 * </p>
+	 *
+	 * @return The number of events whose counters were missing or wrong.
+	 */
+	public int reconcileAvailableSeatCounters() {
+		List<Long> eventIds = eventRepository.findIdsByStatusIn(List.of(EventStatus.UPCOMING, EventStatus.ONGOING));
+		int corrected = 0;
+
+		for (int from = 0; from < eventIds.size(); from += RECONCILE_CHUNK_SIZE) {
+			List<Long> chunk = eventIds.subList(from, Math.min(eventIds.size(), from + RECONCILE_CHUNK_SIZE));
+
+			Map<Long, Long> availableSeats = seatRepository
+					.countAvailableSeatsByEventIds(chunk, SeatStatus.AVAILABLE)
+					.stream()
+					.collect(Collectors.toMap(EventSeatCount::getEventId, EventSeatCount::getAvailableSeats));
+
+			for (Long eventId : chunk) {
+				try {
+					if (seatAvailabilityIndex.reconcile(eventId, availableSeats.getOrDefault(eventId, 0L))) {
+						corrected++;
+					}
+				} catch (Exception e) {
+					log.error("Failed to reconcile available seat counter for event {}: {}", eventId, e.getMessage());
+				}
+			}
+		}
 
-	private EventResponse buildEventResponse(Long numberOfAvailableSeats, Event event) {
+		return corrected;
+	}
+
+	/**
+	 * Seals the seat map change logs of every upcoming and ongoing event whose seats moved on since the last run.
+	 * <p>
+	 * Seat map changes are recorded after commit and can reach Redis out of order or not at all; sealing makes
+	 * every client of such an event rebuild its seat map from the database (see {@link SeatMapService#reconcile}).
+	 * Events are looked at in chunks of {@value #RECONCILE_CHUNK_SIZE}, one grouped query per chunk.
+	 * </p>
+	 *
+	 * @return The number of events whose change logs were sealed.
+	 */
+	public int reconcileSeatMaps() {
+		List<Long> eventIds = eventRepository.findIdsByStatusIn(List.of(EventStatus.UPCOMING, EventStatus.ONGOING));
+		int sealed = 0;
+
+		for (int from = 0; from < eventIds.size(); from += RECONCILE_CHUNK_SIZE) {
+			List<Long> chunk = eventIds.subList(from, Math.min(eventIds.size(), from + RECONCILE_CHUNK_SIZE));
+
+			Map<Long, Long> revisions = seatRepository
+					.sumSeatVersionsByEventIds(chunk)
+					.stream()
+					.collect(Collectors.toMap(EventSeatRevision::getEventId, EventSeatRevision::getRevision));
+
+			for (Long eventId : chunk) {
+				try {
+					if (seatMapService.reconcile(eventId, revisions.getOrDefault(eventId, 0L))) {
+						sealed++;
+					}
+				} catch (Exception e) {
+					log.error("Failed to reconcile seat map for event {}: {}", eventId, e.getMessage());
+				}
+			}
+		}
+
+		return sealed;
+	}
+
+	private List<Section> saveRequestedLayout(List<SectionRequest> sectionRequests, Event event) {
+		List<Section> savedSections = new ArrayList<>();
+
+		for (SectionRequest sectionRequest : sectionRequests) {
+			Section section = Section.builder()
+			                         .name(sectionRequest.name())
+			                         .description(sectionRequest.description())
+			                         .capacity(sectionRequest.capacity())
+			                         .price(sectionRequest.basePrice())
+			                         .event(event)
+			                         .build();
+
+			Section savedSection = sectionRepository.save(section);
+
+			for(RowRequest rowRequest : sectionRequest.rows()){
+				Row row = Row.builder()
+						.name(rowRequest.name())
+						     .rowOrder(rowRequest.rowOrder())
+						     .seatCount(rowRequest.numberOfSeats())
+						     .section(savedSection)
+						     .build();
+
+				rowRepository.save(row);
+			}
+
+			savedSections.add(savedSection);
+		}
+
+		return savedSections;
+	}
+
+	//A template has a handful of sections but can have thousands of rows, so only the rows are copied in the database
+	private List<Section> copyTemplateLayout(
+			SeatingTemplate template,
+			Map<Long, BigDecimal> priceOverrides,
+			Event event
+	) {
+		Map<Long, BigDecimal> overrides = priceOverrides == null ? Map.of() : priceOverrides;
+
+		Set<Long> templateSectionIds = template.getSections()
+		                                       .stream()
+		                                       .map(TemplateSection::getId)
+		                                       .collect(Collectors.toSet());
+		if (!templateSectionIds.containsAll(overrides.keySet())) {
+			throw new IllegalArgumentException("Price overrides must reference sections of the seating template");
+		}
+
+		List<Section> savedSections = new ArrayList<>();
+
+		for (TemplateSection templateSection : template.getSections()) {
+			Section section = Section.builder()
+			                         .name(templateSection.getName())
+			                         .description(templateSection.getDescription())
+			                         .capacity(templateSection.getCapacity())
+			                         .price(overrides.getOrDefault(templateSection.getId(), templateSection.getPrice()))
+			                         .event(event)
+			                         .build();
+
+			Section savedSection = sectionRepository.save(section);
+			rowRepository.copyTemplateRows(templateSection.getId(), savedSection.getId());
+
+			savedSections.add(savedSection);
+		}
+
+		return savedSections;
+	}
+
+	//O(1) from the Redis counter when there is one, a COUNT over the event's seats otherwise
+	private long countAvailableSeats(Long eventId) {
+		Long counted = seatAvailabilityIndex.countAvailable(List.of(eventId)).get(eventId);
+		if (counted != null) return counted;
+
+		return seatRepository.countByEventIdAndSeatStatus(eventId, SeatStatus.AVAILABLE);
+	}
+
+	private List<SectionPriceResponse> findSectionPrices(Long eventId) {
+		return sectionRepository.findPricesByEventIds(List.of(eventId))
+		                        .stream()
+		                        .map(price -> buildSectionPriceResponse(
+				                        price.getSectionId(),
+				                        price.getName(),
+				                        price.getPrice()
+		                        ))
+		                        .toList();
+	}
+
+	private SectionPriceResponse buildSectionPriceResponse(Long sectionId, String name, BigDecimal price) {
+		return SectionPriceResponse.builder()
+		                           .sectionId(sectionId)
+		                           .name(name)
+		                           .price(price)
+		                           .build();
+	}
+
+	private EventResponse buildEventResponse(
+			Long numberOfAvailableSeats,
+			List<SectionPriceResponse> sectionPrices,
+			Event event
+	) {
 		return EventResponse
 				.builder()
 				.id(event.getId())
 				.name(event.getName())
 				.description(event.getDescription())
 				.venueName(event.getVenue().getName())
-				.ticketPrice(event.getSeats().getFirst().getPrice())
+				.ticketPrice(event.getMinPrice())
+				.minPrice(event.getMinPrice())
+				.maxPrice(event.getMaxPrice())
+				.sectionPrices(sectionPrices)
 				.status(event.getStatus().getDisplayName())
 				.availableSeats(numberOfAvailableSeats)
 				.eventStartDateTime(event.getEventStartDateTime())
@@ -252,19 +552,42 @@ public class EventService {
 		                                .map(Event::getId)
 		                                .toList();
 
-		//Convert them to a map
-		Map<Long, Long> eventSeatCountsList = seatRepository
-				.countAvailableSeatsByEventIds(eventIds, SeatStatus.AVAILABLE)
-				.stream()
-				.collect(
-						Collectors.toMap(
-								EventSeatCount::getEventId,
-								EventSeatCount::getAvailableSeats
-						)
-				);
+		//Counts come from the Redis counters, only events without one are counted in the database
+		Map<Long, Long> eventSeatCountsList = new HashMap<>(seatAvailabilityIndex.countAvailable(eventIds));
+
+		List<Long> uncountedEventIds = eventIds.stream()
+		                                       .filter(eventId -> !eventSeatCountsList.containsKey(eventId))
+		                                       .toList();
+
+		if (!uncountedEventIds.isEmpty()) {
+			seatRepository.countAvailableSeatsByEventIds(uncountedEventIds, SeatStatus.AVAILABLE)
+			              .forEach(count -> eventSeatCountsList.put(count.getEventId(), count.getAvailableSeats()));
+		}
+
+		//The price range is stored on the event itself, only the per-section prices need one query for the page
+		Map<Long, List<SectionPriceResponse>> sectionPrices = eventIds.isEmpty()
+		                                                      ? Map.of()
+		                                                      : sectionRepository
+				                                                      .findPricesByEventIds(eventIds)
+				                                                      .stream()
+				                                                      .collect(Collectors.groupingBy(
+						                                                      SectionPrice::getEventId,
+						                                                      Collectors.mapping(
+								                                                      price -> buildSectionPriceResponse(
+										                                                      price.getSectionId(),
+										                                                      price.getName(),
+										                                                      price.getPrice()
+								                                                      ),
+								                                                      Collectors.toList()
+						                                                      )
+				                                                      ));
 
 		return eventsPage.map(
-				event -> buildEventResponse(eventSeatCountsList.get(event.getId()), event)
+				event -> buildEventResponse(
+						eventSeatCountsList.get(event.getId()),
+						sectionPrices.getOrDefault(event.getId(), List.of()),
+						event
+				)
 		);
 	}
 }
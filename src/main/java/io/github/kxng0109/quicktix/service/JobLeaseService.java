@@ -0,0 +1,268 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cluster-wide leases for scheduled jobs, so each run of a job happens on exactly one node.
+ * <p>
+ * Every node still ticks every {@code @Scheduled} method, but the tick only runs the job if it wins the job's
+ * lease in Redis and the job hasn't completed anywhere within the given spacing. The other nodes skip that tick.
+ * A node that dies mid-run stops renewing its lease, which then runs out within {@link #LEASE_TTL} and the next
+ * tick of any other node takes over. Failed runs don't count as completed, so they are retried on the next tick.
+ * </p>
+ * <p>
+ * <b>Fencing:</b> Each acquisition gets a number from a per-job counter that only goes up. A run that lost its
+ * lease (e.g. a long GC pause outlived the TTL) still has the old number, so it can no longer mark the job
+ * completed or release the newer holder's lease; its outcome only shows up in the run history.
+ * </p>
+ * <p>
+ * The last {@value #HISTORY_SIZE} runs of each job are kept in Redis ({@code scheduler:job:{name}:history}),
+ * next to a hash with the latest outcome ({@code scheduler:job:{name}}), and every run is timed in the
+ * {@code quicktix.scheduler.job} metric, tagged by job and outcome. Times come from the Redis clock, so clock skew
+ * between nodes doesn't affect the spacing.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobLeaseService {
+
+	private static final String LEASE_PREFIX = "scheduler:lease:";
+	private static final String FENCE_PREFIX = "scheduler:fence:";
+	private static final String JOB_PREFIX = "scheduler:job:";
+	private static final String HISTORY_SUFFIX = ":history";
+
+	/**
+	 * How long a lease survives without renewal, and so the longest a job stays orphaned after its node dies.
+	 */
+	static final Duration LEASE_TTL = Duration.ofSeconds(15);
+	private static final Duration RENEW_INTERVAL = Duration.ofSeconds(5);
+	static final int HISTORY_SIZE = 50;
+
+	static final String SUCCEEDED = "SUCCEEDED";
+	static final String FAILED = "FAILED";
+
+	/**
+	 * KEYS are the lease, the fencing counter and the job hash. ARGV[1] is the node, ARGV[2] the lease TTL and
+	 * ARGV[3] the minimum spacing since the last completed run, both in milliseconds. Returns the fencing token of
+	 * the new lease, or 0 if the lease is taken or the job ran too recently.
+	 */
+	private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+			"""
+			if redis.call('exists', KEYS[1]) == 1 then
+				return 0
+			end
+			local time = redis.call('time')
+			local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+			local lastCompletedAt = redis.call('hget', KEYS[3], 'lastCompletedAt')
+			if lastCompletedAt and now - tonumber(lastCompletedAt) < tonumber(ARGV[3]) then
+				return 0
+			end
+			local token = redis.call('incr', KEYS[2])
+			redis.call('set', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2])
+			return token
+			""",
+			Long.class
+	);
+
+	/**
+	 * Extends the lease (KEYS[1]) to ARGV[2] milliseconds only if it is still held as ARGV[1].
+	 */
+	private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+			"""
+			if redis.call('get', KEYS[1]) == ARGV[1] then
+				return redis.call('pexpire', KEYS[1], ARGV[2])
+			end
+			return 0
+			""",
+			Long.class
+	);
+
+	/**
+	 * KEYS are the lease, the job hash and the history list. ARGV[1] is the lease value, ARGV[2] the outcome,
+	 * ARGV[3] the duration in milliseconds, ARGV[4] the history entry and ARGV[5] the history size. The run is
+	 * always added to the history, but only the current holder updates the job and releases the lease. Returns 1
+	 * if the lease was still held, 0 otherwise.
+	 */
+	private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+			"""
+			redis.call('lpush', KEYS[3], ARGV[4])
+			redis.call('ltrim', KEYS[3], 0, tonumber(ARGV[5]) - 1)
+			if redis.call('get', KEYS[1]) ~= ARGV[1] then
+				return 0
+			end
+			local time = redis.call('time')
+			local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+			redis.call('hset', KEYS[2], 'lastOutcome', ARGV[2], 'lastDurationMs', ARGV[3], 'lastLease', ARGV[1],
+					'lastFinishedAt', now)
+			if ARGV[2] == 'SUCCEEDED' then
+				redis.call('hset', KEYS[2], 'lastCompletedAt', now)
+			end
+			redis.call('del', KEYS[1])
+			return 1
+			""",
+			Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	/**
+	 * Runs a job on this node if it holds the job's lease for this tick.
+	 * <p>
+	 * The job is skipped if another node holds the lease, if the job completed less than {@code spacing} ago, or
+	 * if Redis can't be reached (every job is a sweep the next tick repeats, so skipping is always safe). Failures
+	 * of the job itself are logged and recorded, not rethrown.
+	 * </p>
+	 *
+	 * @param jobName The job, unique across the application.
+	 * @param spacing The minimum time between two completed runs. Set it a little below the job's period, so
+	 *                the node that ran the last tick is the one that runs the next.
+	 * @param job     The work to do.
+	 * @return {@code true} if the job ran on this node, whether it succeeded or not.
+	 */
+	public boolean runExclusively(String jobName, Duration spacing, Runnable job) {
+		String leaseKey = LEASE_PREFIX + jobName;
+		Long token;
+
+		try {
+			token = redisTemplate.execute(
+					ACQUIRE_SCRIPT,
+					List.of(leaseKey, FENCE_PREFIX + jobName, JOB_PREFIX + jobName),
+					nodeId,
+					String.valueOf(LEASE_TTL.toMillis()),
+					String.valueOf(spacing.toMillis())
+			);
+		} catch (Exception e) {
+			log.warn("Skipping job {}, its lease could not be acquired: {}", jobName, e.getMessage());
+			return false;
+		}
+
+		if (token == null || token == 0) {
+			log.debug("Skipping job {}, it is running or has just run on another node", jobName);
+			return false;
+		}
+
+		String leaseValue = nodeId + ":" + token;
+		AtomicBoolean leaseLost = new AtomicBoolean();
+		Thread renewal = startRenewal(jobName, leaseKey, leaseValue, leaseLost);
+
+		Instant startedAt = Instant.now();
+		long start = System.nanoTime();
+		String outcome = SUCCEEDED;
+
+		try {
+			job.run();
+		} catch (Exception e) {
+			outcome = FAILED;
+			log.error("Job {} failed on lease {}", jobName, leaseValue, e);
+		} finally {
+			renewal.interrupt();
+		}
+
+		long durationNanos = System.nanoTime() - start;
+		Timer.builder("quicktix.scheduler.job")
+		     .tag("job", jobName)
+		     .tag("outcome", outcome)
+		     .register(meterRegistry)
+		     .record(Duration.ofNanos(durationNanos));
+
+		complete(jobName, leaseKey, leaseValue, token, startedAt, Duration.ofNanos(durationNanos), outcome);
+
+		if (leaseLost.get()) {
+			log.warn("Job {} outlived its lease {}, another node may have run it concurrently", jobName, leaseValue);
+		}
+		return true;
+	}
+
+	private Thread startRenewal(String jobName, String leaseKey, String leaseValue, AtomicBoolean leaseLost) {
+		return Thread.ofVirtual()
+		             .name("job-lease-" + jobName)
+		             .start(() -> renewUntilInterrupted(jobName, leaseKey, leaseValue, leaseLost, RENEW_INTERVAL,
+		                                                LEASE_TTL));
+	}
+
+	/**
+	 * Renews the lease every {@code interval} until the job is done (the thread is interrupted) or the lease is
+	 * lost. A failed renewal is retried on the next interval; only once {@code ttl} has passed without a successful
+	 * one is the lease given up as lost, since by then it has expired in Redis.
+	 */
+	void renewUntilInterrupted(String jobName, String leaseKey, String leaseValue, AtomicBoolean leaseLost,
+	                           Duration interval, Duration ttl) {
+		long renewedAt = System.nanoTime();
+
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				Thread.sleep(interval.toMillis());
+			} catch (InterruptedException e) {
+				//The job is done
+				return;
+			}
+
+			try {
+				Long renewed = redisTemplate.execute(
+						RENEW_SCRIPT,
+						List.of(leaseKey),
+						leaseValue,
+						String.valueOf(ttl.toMillis())
+				);
+				if (renewed == null || renewed == 0) {
+					leaseLost.set(true);
+					return;
+				}
+				renewedAt = System.nanoTime();
+			} catch (Exception e) {
+				//Keep the job going, the lease may still have time left and the completion re-checks it anyway
+				log.warn("Failed to renew lease {} of job {}: {}", leaseValue, jobName, e.getMessage());
+
+				if (System.nanoTime() - renewedAt >= ttl.toNanos()) {
+					leaseLost.set(true);
+					return;
+				}
+			}
+		}
+	}
+
+	private void complete(String jobName, String leaseKey, String leaseValue, long token, Instant startedAt,
+	                      Duration duration, String outcome) {
+		JobRun run = new JobRun(nodeId, token, startedAt, duration.toMillis(), outcome);
+
+		try {
+			redisTemplate.execute(
+					COMPLETE_SCRIPT,
+					List.of(leaseKey, JOB_PREFIX + jobName, JOB_PREFIX + jobName + HISTORY_SUFFIX),
+					leaseValue,
+					outcome,
+					String.valueOf(duration.toMillis()),
+					objectMapper.writeValueAsString(run),
+					String.valueOf(HISTORY_SIZE)
+			);
+		} catch (Exception e) {
+			//The lease runs out on its own, the job is just not recorded as completed and runs again next tick
+			log.warn("Failed to record run of job {} on lease {}: {}", jobName, leaseValue, e.getMessage());
+		}
+	}
+
+	/**
+	 * One entry of a job's run history.
+	 */
+	record JobRun(String node, long fencingToken, Instant startedAt, long durationMs, String outcome) {
+	}
+}
@@ -0,0 +1,178 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.response.PaymentResponse;
+import io.github.kxng0109.quicktix.enums.PaymentMethod;
+import io.github.kxng0109.quicktix.enums.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Redis store of the responses to payment initializations, keyed by their normalized idempotency key.
+ * <p>
+ * Clients on flaky networks retry the same initialization again and again. Each stored entry holds the parts of the
+ * response that never change (the payment, its amount and method, and the client secret) together with the
+ * fingerprint of the request that produced it and the ID of the user it belongs to, so a retry is authorized and
+ * checked for a changed payload without loading the payment and its booking. The status does change once the
+ * payment goes through, so it isn't stored; callers read it by primary key when answering. Entries live for
+ * {@link #TTL}; after that, or whenever Redis can't be reached, callers fall back to the payment row, which stays
+ * the source of truth.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentIdempotencyStore {
+
+	private static final String KEY_PREFIX = "payment:idempotency:";
+
+	/**
+	 * How long a response is replayed from Redis. Well beyond any client's retry window.
+	 */
+	static final Duration TTL = Duration.ofHours(24);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Fingerprints the parts of a payment initialization that must not change between retries of the same key.
+	 *
+	 * @param bookingId     The booking being paid for.
+	 * @param paymentMethod The payment method.
+	 * @return A hex-encoded SHA-256 digest of both.
+	 */
+	public static String fingerprint(Long bookingId, PaymentMethod paymentMethod) {
+		String canonical = "bookingId=" + bookingId + "&paymentMethod=" + paymentMethod;
+
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			//Every JVM is required to ship SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Looks up the stored response for an idempotency key.
+	 *
+	 * @param idempotencyKey The normalized idempotency key.
+	 * @return The stored response, or empty if there is none, it can't be read or Redis can't be reached.
+	 */
+	public Optional<StoredPayment> find(String idempotencyKey) {
+		String json;
+
+		try {
+			json = redisTemplate.opsForValue().get(KEY_PREFIX + idempotencyKey);
+		} catch (Exception e) {
+			log.warn("Failed to read stored payment response for idempotency key {}: {}", idempotencyKey,
+			         e.getMessage());
+			return Optional.empty();
+		}
+
+		if (json == null) return Optional.empty();
+
+		try {
+			StoredPayment payment = objectMapper.readValue(json, StoredPayment.class);
+			if (payment.paymentId() != null) return Optional.of(payment);
+		} catch (JacksonException e) {
+			//Most likely written by an older version of the response, treat it like a miss
+			log.warn("Discarding unreadable stored payment response for idempotency key {}: {}", idempotencyKey,
+			         e.getMessage());
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Stores the response to an idempotency key.
+	 * <p>
+	 * Inside a transaction the write waits until it commits, so a payment that gets rolled back is never replayed.
+	 * Failures are logged and ignored; the next retry simply falls back to the database.
+	 * </p>
+	 *
+	 * @param idempotencyKey The normalized idempotency key.
+	 * @param payment        The response, with the fingerprint of its request and the ID of its owner.
+	 */
+	public void save(String idempotencyKey, StoredPayment payment) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					write(idempotencyKey, payment);
+				}
+			});
+			return;
+		}
+
+		write(idempotencyKey, payment);
+	}
+
+	private void write(String idempotencyKey, StoredPayment payment) {
+		try {
+			redisTemplate.opsForValue().set(KEY_PREFIX + idempotencyKey, objectMapper.writeValueAsString(payment), TTL);
+		} catch (Exception e) {
+			log.warn("Failed to store payment response for idempotency key {}: {}", idempotencyKey, e.getMessage());
+		}
+	}
+
+	/**
+	 * The immutable parts of a response to a payment initialization.
+	 *
+	 * @param fingerprint   The {@link #fingerprint(Long, PaymentMethod) fingerprint} of the original request.
+	 * @param ownerId       The ID of the user who owns the booking being paid for.
+	 * @param paymentId     The ID of the payment that was created.
+	 * @param amount        The amount of the payment.
+	 * @param paymentMethod The display name of the payment method.
+	 * @param clientSecret  The gateway's client secret.
+	 */
+	public record StoredPayment(
+			String fingerprint,
+			Long ownerId,
+			Long paymentId,
+			BigDecimal amount,
+			String paymentMethod,
+			String clientSecret
+	) {
+		/**
+		 * Keeps the immutable parts of a response.
+		 */
+		public static StoredPayment of(String fingerprint, Long ownerId, PaymentResponse response) {
+			return new StoredPayment(
+					fingerprint,
+					ownerId,
+					response.paymentId(),
+					response.amount(),
+					response.paymentMethod(),
+					response.clientSecret()
+			);
+		}
+
+		/**
+		 * Rebuilds the response with the payment's current status.
+		 */
+		public PaymentResponse toResponse(PaymentStatus status, Instant paidAt) {
+			return PaymentResponse.builder()
+			                      .paymentId(paymentId)
+			                      .amount(amount)
+			                      .status(status.getDisplayName())
+			                      .paymentMethod(paymentMethod)
+			                      .clientSecret(clientSecret)
+			                      .paidAt(paidAt)
+			                      .build();
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package io.github.kxng0109.quicktix.service;
 
 import io.github.kxng0109.quicktix.dto.request.PaymentRequest;
+import io.github.kxng0109.quicktix.dto.request.projection.PaymentState;
 import io.github.kxng0109.quicktix.dto.request.message.NotificationRequest;
 import io.github.kxng0109.quicktix.dto.response.PaymentResponse;
 import io.github.kxng0109.quicktix.entity.Booking;
@@ -16,6 +17,7 @@ import io.github.kxng0109.quicktix.exception.InvalidOperationException;
 import io.github.kxng0109.quicktix.exception.PaymentFailedException;
 import io.github.kxng0109.quicktix.repositories.BookingRepository;
 import io.github.kxng0109.quicktix.repositories.PaymentRepository;
+import io.github.kxng0109.quicktix.service.PaymentIdempotencyStore.StoredPayment;
 import io.github.kxng0109.quicktix.service.gateway.PaymentGateway;
 import io.github.kxng0109.quicktix.service.gateway.dto.GatewayInitializationResponse;
 import io.github.kxng0109.quicktix.utils.AssertOwnershipOrAdmin;
@@ -44,6 +46,7 @@ public class PaymentService {
 	private final PaymentGateway paymentGateway;
 	private final NotificationPublisherService notificationPublisherService;
 	private final StringRedisTemplate stringRedisTemplate;
+	private final PaymentIdempotencyStore paymentIdempotencyStore;
 
 	@Transactional(readOnly = true)
 	public PaymentResponse getPaymentByBookingId(Long bookingId, User currentUser) {
@@ -66,20 +69,51 @@ public class PaymentService {
 	 * creates a {@link Payment} record in a {@code PENDING} state, and delegates to the
 	 * external {@link PaymentGateway} to generate a client secret / checkout URL.
 	 * </p>
+	 * <p>
+	 * <b>Idempotency:</b> Retries with the same key get the original response back from the
+	 * {@link PaymentIdempotencyStore} in Redis, with the payment's current status read by primary key; the payment
+	 * and its booking are only loaded once the stored response has expired or Redis can't be reached. Reusing a key
+	 * for a different booking or payment method is rejected either way.
+	 * </p>
 	 *
 	 * @param request     The payload containing the booking ID and payment method.
 	 * @param currentUser The authenticated user initiating the payment.
 	 * @return A {@link PaymentResponse} containing the gateway's client secret.
+	 * @throws IllegalArgumentException if the idempotency key was already used with a different request.
 	 */
 	@Transactional
 	public PaymentResponse initializePayment(PaymentRequest request, String idempotencyKey, User currentUser) {
 		String normalizedIdempotencyKey = idempotencyKey.trim().toLowerCase();
+		String fingerprint = PaymentIdempotencyStore.fingerprint(request.bookingId(), request.paymentMethod());
+
+		StoredPayment storedPayment = paymentIdempotencyStore.find(normalizedIdempotencyKey).orElse(null);
+		if (storedPayment != null) {
+			validateIdempotentRequest(storedPayment.ownerId(), storedPayment.fingerprint(), fingerprint, currentUser);
+
+			//The payment may have gone through (or failed) since it was initialized
+			PaymentState state = paymentRepository.findStateById(storedPayment.paymentId()).orElse(null);
+			if (state != null) return storedPayment.toResponse(state.getStatus(), state.getPaidAt());
+		}
+
 		Payment existingPayment = paymentRepository.findByIdempotencyKey(normalizedIdempotencyKey)
 		                                           .orElse(null);
 
 		if (existingPayment != null) {
-			validateIdempotentPaymentOwnership(existingPayment, currentUser);
-			return buildPaymentResponse(existingPayment, existingPayment.getGatewayToken());
+			Long ownerId = existingPayment.getBooking().getUser().getId();
+			validateIdempotentRequest(
+					ownerId,
+					PaymentIdempotencyStore.fingerprint(
+							existingPayment.getBooking().getId(),
+							existingPayment.getPaymentMethod()
+					),
+					fingerprint,
+					currentUser
+			);
+
+			PaymentResponse response = buildPaymentResponse(existingPayment, existingPayment.getGatewayToken());
+			//Refill the store, so the retries after this one are answered from Redis again
+			paymentIdempotencyStore.save(normalizedIdempotencyKey, StoredPayment.of(fingerprint, ownerId, response));
+			return response;
 		}
 
 		String redisLockKey = "payment:lock:" + normalizedIdempotencyKey;
@@ -140,7 +174,12 @@ public class PaymentService {
 			savedPayment.setGatewayToken(gatewayToken.clientSecret());
 			paymentRepository.save(savedPayment);
 
-			return buildPaymentResponse(savedPayment, gatewayToken.clientSecret());
+			PaymentResponse response = buildPaymentResponse(savedPayment, gatewayToken.clientSecret());
+			paymentIdempotencyStore.save(
+					normalizedIdempotencyKey,
+					StoredPayment.of(fingerprint, booking.getUser().getId(), response)
+			);
+			return response;
 		} finally {
 			stringRedisTemplate.delete(redisLockKey);
 		}
@@ -277,15 +316,21 @@ public class PaymentService {
 		}
 	}
 
-	private void validateIdempotentPaymentOwnership(
-			Payment existingPayment,
+	//Ownership is checked first, so a key guessed by someone else doesn't reveal anything about its payload
+	private void validateIdempotentRequest(
+			Long ownerId,
+			String storedFingerprint,
+			String requestFingerprint,
 			User currentUser
 	){
-		if (currentUser.getRole().equals(Role.ADMIN)) return;
-
-		if (!Objects.equals(currentUser.getId(), existingPayment.getBooking().getUser().getId())) {
+		if (!currentUser.getRole().equals(Role.ADMIN) && !Objects.equals(currentUser.getId(), ownerId)) {
 			throw new EntityNotFoundException("Payment Not Found!");
 		}
+
+		if (!Objects.equals(storedFingerprint, requestFingerprint)) {
+			throw new IllegalArgumentException(
+					"Idempotency key was already used with a different payment request. Please use a new key.");
+		}
 	}
 
 	private PaymentResponse buildPaymentResponse(Payment payment, String clientSecret) {
@@ -18,6 +18,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -28,20 +29,51 @@ import java.util.List;
  * Utilizes Spring's {@code @Scheduled} mechanics to run asynchronous maintenance jobs.
  * Responsible for garbage collection and state transitions, including:
  * <ul>
- * <li>Releasing orphaned Redis seat holds after 15 minutes.</li>
+ * <li>Releasing seat holds within seconds of their 15 minute expiry, with a periodic sweep as a safety net.</li>
  * <li>Expiring abandoned pending bookings.</li>
  * <li>Updating event statuses based on elapsed time.</li>
+ * <li>Reconciling the Redis available seat counters with the database.</li>
+ * <li>Resuming the seat generation of draft events whose generation was interrupted.</li>
  * <li>Retrying failed gateway refunds for cancelled events.</li>
  * <li>Dispatching 24-hour reminder notifications to attendees via RabbitMQ.</li>
  * </ul>
  * </p>
+ * <p>
+ * Every node ticks every job, but apart from {@link #releaseDueSeatHolds()}, whose claims are already atomic per
+ * seat, each job body only runs on the node that wins its lease from the {@link JobLeaseService}, so a tick does
+ * the work once for the whole cluster instead of once per node.
+ * </p>
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SchedulerService {
 
+	/**
+	 * How many due seats are claimed and released per transaction.
+	 */
+	private static final int HOLD_EXPIRY_BATCH_SIZE = 100;
+	/**
+	 * Upper bound on batches per poll, so a backlog can't keep one node busy forever.
+	 */
+	private static final int MAX_HOLD_EXPIRY_BATCHES = 50;
+	private static final Duration HOLD_EXPIRY_RETRY_DELAY = Duration.ofSeconds(30);
+	/**
+	 * How many pending bookings are claimed and expired per transaction.
+	 */
+	private static final int BOOKING_EXPIRY_BATCH_SIZE = 200;
+
+	/*
+	 * Minimum time between two completed runs of a leased job across the cluster, a little below the job's period
+	 * so the node that ran one tick isn't beaten to the next by its own delay.
+	 */
+	private static final Duration EVERY_MINUTE = Duration.ofSeconds(50);
+	private static final Duration EVERY_FIVE_MINUTES = Duration.ofMinutes(4);
+	private static final Duration EVERY_TEN_MINUTES = Duration.ofMinutes(9);
+	private static final Duration EVERY_HOUR = Duration.ofMinutes(50);
+
 	private final SeatService seatService;
+	private final SeatHoldExpiryService seatHoldExpiryService;
 	private final BookingService bookingService;
 	private final EventService eventService;
 	private final PaymentRepository paymentRepository;
@@ -49,10 +81,52 @@ public class SchedulerService {
 	private final PaymentService paymentService;
 	private final NotificationPublisherService notificationPublisherService;
 	private final BookingRepository bookingRepository;
+	private final SeatGenerationService seatGenerationService;
+	private final JobLeaseService jobLeaseService;
+
+	/**
+	 * Releases seat holds as soon as they expire.
+	 * <p>
+	 * <strong>Frequency:</strong> Every 2 seconds (2,000 ms).
+	 * <br>
+	 * <strong>Logic:</strong> Claims the seats whose hold deadline has passed from the
+	 * {@link SeatHoldExpiryService} queue and releases them in small batches, each in its own transaction.
+	 * Claiming is atomic, so every node can run this job without releasing the same seat twice.
+	 * A batch that fails is put back on the queue and retried 30 seconds later.
+	 * <p>
+	 * Each batch claims and releases against the same instant, so every seat that is due in the queue is also
+	 * past the release cutoff in the database.
+	 */
+	@Scheduled(fixedDelay = 2_000)
+	public void releaseDueSeatHolds() {
+		int released = 0;
+
+		for (int batch = 0; batch < MAX_HOLD_EXPIRY_BATCHES; batch++) {
+			Instant now = Instant.now();
+			List<Long> dueSeatIds = seatHoldExpiryService.claimDue(now, HOLD_EXPIRY_BATCH_SIZE);
+			if (dueSeatIds.isEmpty()) break;
+
+			try {
+				released += seatService.releaseExpiredHolds(dueSeatIds, now.minus(SeatLockService.LOCK_TTL));
+			} catch (Exception e) {
+				log.error("Failed to release expired holds for seats {}, retrying later", dueSeatIds, e);
+				seatHoldExpiryService.retryLater(dueSeatIds, HOLD_EXPIRY_RETRY_DELAY);
+			}
+
+			if (dueSeatIds.size() < HOLD_EXPIRY_BATCH_SIZE) break;
+		}
+
+		if (released > 0) {
+			log.info("Released {} expired seat holds", released);
+		}
+	}
 
 	/**
 	 * Periodically releases seats that have been HELD but not proceeded to booking.
 	 * <p>
+	 * This is the safety net for holds that never reached the expiry queue (e.g., Redis was briefly down when
+	 * they were placed); {@link #releaseDueSeatHolds()} normally gets to them first.
+	 * <p>
 	 * <strong>Frequency:</strong> Every 5 minutes (300,000 ms).
 	 * <br>
 	 * <strong>Logic:</strong> A seat hold is considered expired if it was created more than
@@ -61,13 +135,15 @@ public class SchedulerService {
 	 */
 	@Scheduled(fixedDelay = 300_000)
 	public void releaseExpiredSeatHolds() {
-		log.info("Running job: Release Expired Seat Holds");
+		jobLeaseService.runExclusively("releaseExpiredSeatHolds", EVERY_FIVE_MINUTES, () -> {
+			log.info("Running job: Release Expired Seat Holds");
 
-		Instant cutoff = Instant.now()
-		                        .minus(15, ChronoUnit.MINUTES);
-		seatService.releaseExpiredHolds(cutoff);
+			Instant cutoff = Instant.now()
+			                        .minus(15, ChronoUnit.MINUTES);
+			seatService.releaseExpiredHolds(cutoff);
 
-		log.info("Job Completed: Release Expired Seat Holds");
+			log.info("Job Completed: Release Expired Seat Holds");
+		});
 	}
 
 	/**
@@ -78,17 +154,27 @@ public class SchedulerService {
 	 * <strong>Logic:</strong> A booking is considered abandoned if it has remained in
 	 * {@code PENDING} status for more than <strong>15 minutes</strong>.
 	 * This usually happens when a user closes the payment window without completing the transaction.
-	 * The system cancels the booking and releases the associated seats.
+	 * The system expires the bookings and releases the associated seats, in chunks that each commit on their own.
+	 * Chunks are claimed with {@code SKIP LOCKED}, so even a run that outlived its lease never expires the same
+	 * booking as the run that took over.
 	 */
 	@Scheduled(fixedDelay = 300_000)
 	public void expirePendingBookings() {
-		log.info("Running job: Expire Pending Bookings");
+		jobLeaseService.runExclusively("expirePendingBookings", EVERY_FIVE_MINUTES, () -> {
+			log.info("Running job: Expire Pending Bookings");
 
-		Instant cutoffTime = Instant.now()
-		                            .minus(15, ChronoUnit.MINUTES);
-		bookingService.expirePendingBookings(cutoffTime);
+			Instant cutoffTime = Instant.now()
+			                            .minus(15, ChronoUnit.MINUTES);
+			int expired = 0;
+			int batch;
 
-		log.info("Job Completed: Expire Pending Bookings");
+			do {
+				batch = bookingService.expirePendingBookings(cutoffTime, BOOKING_EXPIRY_BATCH_SIZE);
+				expired += batch;
+			} while (batch == BOOKING_EXPIRY_BATCH_SIZE);
+
+			log.info("Job Completed: Expire Pending Bookings ({} expired)", expired);
+		});
 	}
 
 	/**
@@ -101,11 +187,71 @@ public class SchedulerService {
 	 */
 	@Scheduled(fixedDelay = 3_600_000)
 	public void updateEventStatuses() {
-		log.info("Running job: Update Events Statuses");
+		jobLeaseService.runExclusively("updateEventStatuses", EVERY_HOUR, () -> {
+			log.info("Running job: Update Events Statuses");
+
+			eventService.updateEventStatus();
+
+			log.info("Job Completed: Update Events Statuses");
+		});
+	}
+
+	/**
+	 * Keeps the Redis available seat counters honest.
+	 * <p>
+	 * <strong>Frequency:</strong> Every 5 minutes (300,000 ms).
+	 * <br>
+	 * <strong>Logic:</strong> Compares the counter of every upcoming and ongoing event with a count from the
+	 * database, rebuilding the ones that drifted and seeding the ones that are missing.
+	 */
+	@Scheduled(fixedDelay = 300_000)
+	public void reconcileAvailableSeatCounters() {
+		jobLeaseService.runExclusively("reconcileAvailableSeatCounters", EVERY_FIVE_MINUTES, () -> {
+			log.info("Running job: Reconcile Available Seat Counters");
 
-		eventService.updateEventStatus();
+			int corrected = eventService.reconcileAvailableSeatCounters();
+
+			log.info("Job Completed: Reconcile Available Seat Counters ({} corrected)", corrected);
+		});
+	}
+
+	/**
+	 * Keeps the seat map change logs honest.
+	 * <p>
+	 * <strong>Frequency:</strong> Every 5 minutes (300,000 ms).
+	 * <br>
+	 * <strong>Logic:</strong> Seals the change log of every upcoming and ongoing event whose seats changed since
+	 * the last run, so changes recorded out of order or lost on the way to Redis are undone by a rebuild from the
+	 * database.
+	 */
+	@Scheduled(fixedDelay = 300_000)
+	public void reconcileSeatMaps() {
+		jobLeaseService.runExclusively("reconcileSeatMaps", EVERY_FIVE_MINUTES, () -> {
+			log.info("Running job: Reconcile Seat Maps");
+
+			int sealed = eventService.reconcileSeatMaps();
+
+			log.info("Job Completed: Reconcile Seat Maps ({} sealed)", sealed);
+		});
+	}
+
+	/**
+	 * SAFETY NET: Crash Recovery for Seat Generation.
+	 * <p>
+	 * <strong>Frequency:</strong> Every minute (60,000 ms).
+	 * <br>
+	 * <strong>Logic:</strong> Restarts the seat generation of every event still in draft. Generations that are
+	 * running on some node hold a lock and are skipped; the others carry on from the last row that got its seats.
+	 */
+	@Scheduled(fixedDelay = 60_000)
+	public void resumeSeatGeneration() {
+		jobLeaseService.runExclusively("resumeSeatGeneration", EVERY_MINUTE, () -> {
+			int drafts = seatGenerationService.resumeDraftEvents();
 
-		log.info("Job Completed: Update Events Statuses");
+			if (drafts > 0) {
+				log.info("Job Completed: Resume Seat Generation ({} draft events)", drafts);
+			}
+		});
 	}
 
 	/**
@@ -119,34 +265,36 @@ public class SchedulerService {
 	 */
 	@Scheduled(fixedDelay = 600_000)
 	public void retryFailedRefunds() {
-		log.info("Job Started: Safety Net - Retry Failed Refunds");
-
-		//Find all events that are CANCELLED
-		List<Event> cancelledEvents = eventRepository.findByStatus(EventStatus.CANCELLED);
+		jobLeaseService.runExclusively("retryFailedRefunds", EVERY_TEN_MINUTES, () -> {
+			log.info("Job Started: Safety Net - Retry Failed Refunds");
 
-		for (Event event : cancelledEvents) {
-			//Check if any "COMPLETED" payments still exist for this event
-			List<Payment> stuckPayments = paymentRepository.findByBooking_EventIdAndStatus(
-					event.getId(),
-					PaymentStatus.COMPLETED
-			);
+			//Find all events that are CANCELLED
+			List<Event> cancelledEvents = eventRepository.findByStatus(EventStatus.CANCELLED);
 
-			if (!stuckPayments.isEmpty()) {
-				log.warn("Found {} stuck payments for Cancelled Event ID: {}. Triggering recovery.",
-				         stuckPayments.size(), event.getId()
+			for (Event event : cancelledEvents) {
+				//Check if any "COMPLETED" payments still exist for this event
+				List<Payment> stuckPayments = paymentRepository.findByBooking_EventIdAndStatus(
+						event.getId(),
+						PaymentStatus.COMPLETED
 				);
 
-				for (Payment payment : stuckPayments) {
-					try {
-						paymentService.processRefundForCancelledEvent(payment.getId());
-					} catch (Exception e) {
-						log.error("Recovery failed for payment {}", payment.getId(), e);
+				if (!stuckPayments.isEmpty()) {
+					log.warn("Found {} stuck payments for Cancelled Event ID: {}. Triggering recovery.",
+					         stuckPayments.size(), event.getId()
+					);
+
+					for (Payment payment : stuckPayments) {
+						try {
+							paymentService.processRefundForCancelledEvent(payment.getId());
+						} catch (Exception e) {
+							log.error("Recovery failed for payment {}", payment.getId(), e);
+						}
 					}
 				}
 			}
-		}
 
-		log.info("Job Completed: Safety Net");
+			log.info("Job Completed: Safety Net");
+		});
 	}
 
 	/**
@@ -161,41 +309,43 @@ public class SchedulerService {
 	@Scheduled(cron = "0 0 * * * *")
 	@Transactional(readOnly = true)
 	public void sendEventReminders() {
-		log.info("Running job: Send Events Reminders");
-
-		Instant now = Instant.now();
-		Instant startTime = now.plus(23, ChronoUnit.HOURS).plus(30, ChronoUnit.MINUTES);
-		Instant endTime = now.plus(24, ChronoUnit.HOURS).plus(30, ChronoUnit.MINUTES);
-
-		List<Event> upcomingEvents = eventRepository.findByEventStartDateTimeBetween(
-				startTime,
-				endTime,
-				Pageable.unpaged()
-		).getContent();
-
-		if (upcomingEvents.isEmpty()) return;
-
-		int notificationsSent = 0;
-
-		for (Event event : upcomingEvents) {
-			List<Booking> confirmedBookings = bookingRepository.findByEventIdAndStatus(event.getId(),
-			                                                                           BookingStatus.CONFIRMED
-			);
-
-			for (Booking booking : confirmedBookings) {
-				NotificationRequest reminder = NotificationRequest.builder()
-				                                                  .to(List.of(booking.getUser().getEmail()))
-				                                                  .subject(
-						                                                  "Reminder: " + event.getName() + " is tomorrow!")
-				                                                  .htmlBody(
-						                                                  "<h1>Get Ready!</h1><p>Your event <b>" + event.getName() + "</b> starts in 24 hours. Have your ticket ready.</p>")
-				                                                  .build();
-
-				notificationPublisherService.publishNotification(reminder);
-				notificationsSent++;
+		jobLeaseService.runExclusively("sendEventReminders", EVERY_HOUR, () -> {
+			log.info("Running job: Send Events Reminders");
+
+			Instant now = Instant.now();
+			Instant startTime = now.plus(23, ChronoUnit.HOURS).plus(30, ChronoUnit.MINUTES);
+			Instant endTime = now.plus(24, ChronoUnit.HOURS).plus(30, ChronoUnit.MINUTES);
+
+			List<Event> upcomingEvents = eventRepository.findByEventStartDateTimeBetween(
+					startTime,
+					endTime,
+					Pageable.unpaged()
+			).getContent();
+
+			if (upcomingEvents.isEmpty()) return;
+
+			int notificationsSent = 0;
+
+			for (Event event : upcomingEvents) {
+				List<Booking> confirmedBookings = bookingRepository.findByEventIdAndStatus(event.getId(),
+				                                                                           BookingStatus.CONFIRMED
+				);
+
+				for (Booking booking : confirmedBookings) {
+					NotificationRequest reminder = NotificationRequest.builder()
+					                                                  .to(List.of(booking.getUser().getEmail()))
+					                                                  .subject(
+							                                                  "Reminder: " + event.getName() + " is tomorrow!")
+					                                                  .htmlBody(
+							                                                  "<h1>Get Ready!</h1><p>Your event <b>" + event.getName() + "</b> starts in 24 hours. Have your ticket ready.</p>")
+					                                                  .build();
+
+					notificationPublisherService.publishNotification(reminder);
+					notificationsSent++;
+				}
 			}
-		}
 
-		log.info("Finished sending event reminders. Total dispatched to RabbitMQ: {}", notificationsSent);
+			log.info("Finished sending event reminders. Total dispatched to RabbitMQ: {}", notificationsSent);
+		});
 	}
 }
@@ -0,0 +1,718 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.request.projection.SeatLayoutEntry;
+import io.github.kxng0109.quicktix.dto.response.PagedResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatResponse;
+import io.github.kxng0109.quicktix.enums.EventStatus;
+import io.github.kxng0109.quicktix.enums.SeatStatus;
+import io.github.kxng0109.quicktix.event.SeatStatusChangedEvent;
+import io.github.kxng0109.quicktix.repositories.EventRepository;
+import io.github.kxng0109.quicktix.repositories.SeatRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Per-event seat availability index, used to serve available-seat listings and counts without touching Postgres.
+ * <p>
+ * Every seat of an event gets a dense ordinal: its position when the event's seats are ordered by ID. The index
+ * is a bitset over those ordinals where a set bit means the seat is {@link SeatStatus#AVAILABLE}. That bitset
+ * lives in Redis as a {@code BITFIELD} of {@code u1} entries (10,000 seats fit in 1.25 KB), and is mirrored in
+ * local memory together with the event's seat layout (seat numbers, rows, sections and prices), which never
+ * changes once an event has been created.
+ * </p>
+ * <p>
+ * Next to the bitmap, Redis keeps the number of available seats of the event and of each of its sections. They are
+ * adjusted by the same script that flips the bits, and only for bits that actually changed, so repeated or
+ * overlapping updates can't make them drift, and reading an event's availability is a single {@code GET}.
+ * </p>
+ * <p>
+ * <b>Consistency:</b> Postgres remains the source of truth. Hold, release, booking and expiry flows publish
+ * {@link SeatStatusChangedEvent}s, which are applied here incrementally after their transaction commits. Updates
+ * only ever flip bits on an index that already exists in Redis; a missing index is rebuilt from the database by
+ * the next reader. Every update also bumps a per-event version counter, even when there is no index to update,
+ * and a rebuild is only stored if the version is still the one read before the database was queried. Otherwise a
+ * transition committed between that query and the seed would be missing from the index until it expires. Local
+ * mirrors re-read the Redis bitmap at most once per {@link #LOCAL_SYNC_INTERVAL}, so changes made on other nodes
+ * show up within a second.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatAvailabilityIndex {
+
+	private static final String INDEX_PREFIX = "seat:availability:";
+	private static final String COUNT_PREFIX = "seat:availability:count:";
+	private static final String SECTION_COUNTS_PREFIX = "seat:availability:sections:";
+	private static final String VERSION_PREFIX = "seat:availability:version:";
+	/**
+	 * Redis copies of the index are rebuilt from the database when they expire, which also takes care of
+	 * indexes belonging to events that are long over. Every update pushes the expiry back, so the index of an
+	 * event that is selling never expires in the middle of a sale.
+	 */
+	private static final Duration INDEX_TTL = Duration.ofHours(24);
+	private static final Duration LOCAL_SYNC_INTERVAL = Duration.ofSeconds(1);
+	/**
+	 * Upper bound on the number of event layouts kept in memory. A 10,000 seat layout is a few hundred KB,
+	 * so this caps the mirror at a couple of dozen MB even when many events are being browsed.
+	 */
+	private static final int MAX_LOCAL_EVENTS = 64;
+	/**
+	 * Seat groups are small, but event-wide changes (like expiring every pending booking of a cancelled event)
+	 * are not, so updates are sent to Redis in chunks to keep each script call short.
+	 */
+	private static final int MAX_OFFSETS_PER_CALL = 1000;
+
+	/**
+	 * Bumps the event's version (KEYS[4]) and flips the given bit offsets to ARGV[1], but only if the index already
+	 * exists. Writing into a missing key would create a bitmap that is all zeros apart from these bits, so in that
+	 * case nothing is written and the next reader rebuilds the index from the database instead. The version is
+	 * bumped either way, which tells a reader rebuilding right now that its database read may be missing this
+	 * change.
+	 * <p>
+	 * ARGV[2] is the time to live in milliseconds, which every key gets again. ARGV[3..n] are pairs of bit offset
+	 * and section ID. Every bit whose value actually changes moves the event counter (KEYS[2]) and its section's
+	 * counter (in the KEYS[3] hash) by one, if the counters exist.
+	 */
+	private static final RedisScript<Long> UPDATE_BITS_SCRIPT = new DefaultRedisScript<>(
+			"""
+			redis.call('incr', KEYS[4])
+			redis.call('pexpire', KEYS[4], ARGV[2])
+			if redis.call('exists', KEYS[1]) == 0 then
+				return 0
+			end
+			redis.call('pexpire', KEYS[1], ARGV[2])
+			redis.call('pexpire', KEYS[2], ARGV[2])
+			redis.call('pexpire', KEYS[3], ARGV[2])
+			local value = tonumber(ARGV[1])
+			local delta = value == 1 and 1 or -1
+			local counted = redis.call('exists', KEYS[2]) == 1
+			for i = 3, #ARGV, 2 do
+				local previous = redis.call('bitfield', KEYS[1], 'SET', 'u1', ARGV[i], value)[1]
+				if counted and previous ~= value then
+					redis.call('incrby', KEYS[2], delta)
+					redis.call('hincrby', KEYS[3], ARGV[i + 1], delta)
+				end
+			end
+			return 1
+			""",
+			Long.class
+	);
+
+	/**
+	 * Seeds the bitmap (KEYS[1], ARGV[1]) if nobody else has, and if so, its counters in the same step: the event
+	 * count (KEYS[2], ARGV[3]) and the section counts (KEYS[3], pairs of section ID and count in ARGV[5..n]).
+	 * ARGV[2] is the time to live in milliseconds. Nothing is seeded either if the event's version (KEYS[4]) is no
+	 * longer ARGV[4], the version read before the database was; the seed might be missing an update then. The
+	 * bitmap is binary, hence raw bytes instead of a {@link RedisScript}.
+	 */
+	private static final byte[] SEED_SCRIPT = """
+			if (redis.call('get', KEYS[4]) or '0') ~= ARGV[4] then
+				return 0
+			end
+			if not redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+				return 0
+			end
+			redis.call('set', KEYS[2], ARGV[3], 'PX', ARGV[2])
+			redis.call('del', KEYS[3])
+			for i = 5, #ARGV, 2 do
+				redis.call('hset', KEYS[3], ARGV[i], ARGV[i + 1])
+			end
+			redis.call('pexpire', KEYS[3], ARGV[2])
+			return 1
+			""".getBytes(StandardCharsets.UTF_8);
+
+	private final StringRedisTemplate redisTemplate;
+	private final SeatRepository seatRepository;
+	private final EventRepository eventRepository;
+
+	private final Map<Long, EventSeatIndex> localIndexes = Collections.synchronizedMap(
+			new LinkedHashMap<Long, EventSeatIndex>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Long, EventSeatIndex> eldest) {
+					return size() > MAX_LOCAL_EVENTS;
+				}
+			}
+	);
+
+	/**
+	 * Returns a page of the event's available seats straight from the index.
+	 * <p>
+	 * Seats are listed in ordinal (seat ID) order. The total element count is the cardinality of the bitset,
+	 * so no count query is needed either.
+	 * </p>
+	 *
+	 * @param eventId  The unique identifier of the event.
+	 * @param pageable Pagination metadata. Sorting is ignored; the index has a fixed order.
+	 * @return A page of available seats.
+	 * @throws EntityNotFoundException if the event does not exist.
+	 */
+	public PagedResponse<SeatResponse> getAvailableSeats(Long eventId, Pageable pageable) {
+		EventSeatIndex index = indexFor(eventId);
+		BitSet available = currentAvailability(eventId, index);
+
+		long offset = pageable.getOffset();
+		List<SeatResponse> content = new ArrayList<>(pageable.getPageSize());
+
+		long position = 0;
+		for (int ordinal = available.nextSetBit(0);
+		     ordinal >= 0 && content.size() < pageable.getPageSize();
+		     ordinal = available.nextSetBit(ordinal + 1)) {
+			if (position++ < offset) continue;
+
+			content.add(index.toSeatResponse(ordinal, SeatStatus.AVAILABLE));
+		}
+
+		return PagedResponse.from(new PageImpl<>(content, pageable, available.cardinality()));
+	}
+
+	/**
+	 * Finds blocks of adjacent available seats, best block first.
+	 * <p>
+	 * Rows are ranked front to back ({@code rowOrder}), and within a row, seats are adjacent when their seat
+	 * numbers are consecutive. Each free run of the row that is long enough yields one block, centred in the run.
+	 * Blocks never overlap, so if another user wins the race for one block, the next one is still a valid choice.
+	 * </p>
+	 *
+	 * @param eventId   The unique identifier of the event.
+	 * @param sectionId Restricts the search to a single section, or {@code null} to search every section.
+	 * @param quantity  How many adjacent seats each block must contain.
+	 * @param limit     The maximum number of blocks to return.
+	 * @return Up to {@code limit} disjoint blocks of seat IDs, each ordered by seat number. Empty if no row has
+	 * enough adjacent seats available.
+	 * @throws EntityNotFoundException if the event does not exist.
+	 */
+	public List<List<Long>> findContiguousBlocks(Long eventId, Long sectionId, int quantity, int limit) {
+		EventSeatIndex index = indexFor(eventId);
+		BitSet available = currentAvailability(eventId, index);
+
+		List<List<Long>> blocks = new ArrayList<>(limit);
+
+		for (int rowRef : index.rowRanking) {
+			if (sectionId != null && !sectionId.equals(index.rows[rowRef].sectionId())) continue;
+
+			int[] rowSeats = index.rowSeats[rowRef];
+			int runStart = 0;
+
+			//Walk the row in seat number order, closing a run at every taken seat or gap in the numbering
+			for (int i = 1; i <= rowSeats.length && blocks.size() < limit; i++) {
+				boolean runContinues = i < rowSeats.length
+						&& available.get(rowSeats[i])
+						&& available.get(rowSeats[i - 1])
+						&& index.seatNumbers[rowSeats[i]] == index.seatNumbers[rowSeats[i - 1]] + 1;
+				if (runContinues) continue;
+
+				if (!available.get(rowSeats[i - 1])) {
+					runStart = i;
+					continue;
+				}
+
+				int runLength = i - runStart;
+				if (runLength >= quantity) {
+					int blockStart = runStart + (runLength - quantity) / 2;
+					blocks.add(index.seatIdsOf(rowSeats, blockStart, quantity));
+				}
+				runStart = i;
+			}
+
+			if (blocks.size() >= limit) break;
+		}
+
+		return blocks;
+	}
+
+	/**
+	 * Applies a committed seat status transition to the index.
+	 * <p>
+	 * The Redis bitmap and this node's mirror are updated in place. If neither this node nor Redis currently
+	 * holds an index for the event there is nothing to update, and the event's seat layout is not loaded just
+	 * for the sake of it. The event's version is bumped regardless, so a reader rebuilding the index from a
+	 * database read that predates this change doesn't store it.
+	 * </p>
+	 *
+	 * @param change The seat status transition that was committed.
+	 */
+	public void apply(SeatStatusChangedEvent change) {
+		String key = INDEX_PREFIX + change.eventId();
+		String value = change.status() == SeatStatus.AVAILABLE ? "1" : "0";
+		String ttl = String.valueOf(INDEX_TTL.toMillis());
+
+		List<String> keys = List.of(
+				key,
+				COUNT_PREFIX + change.eventId(),
+				SECTION_COUNTS_PREFIX + change.eventId(),
+				VERSION_PREFIX + change.eventId()
+		);
+
+		EventSeatIndex index = localIndexes.get(change.eventId());
+		if (index == null) {
+			//Bump the version before looking for the index, so an index seeded in between is either dropped
+			//or was built from a database read that already saw this change
+			redisTemplate.execute(UPDATE_BITS_SCRIPT, keys, value, ttl);
+			if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) return;
+
+			index = indexFor(change.eventId());
+		}
+
+		int[] ordinals = index.ordinalsOf(change.seatIds());
+		index.set(ordinals, value.equals("1"));
+
+		for (int from = 0; from < ordinals.length; from += MAX_OFFSETS_PER_CALL) {
+			int to = Math.min(ordinals.length, from + MAX_OFFSETS_PER_CALL);
+
+			Object[] args = new Object[(to - from) * 2 + 2];
+			args[0] = value;
+			args[1] = ttl;
+			for (int i = from; i < to; i++) {
+				args[(i - from) * 2 + 2] = String.valueOf(ordinals[i]);
+				args[(i - from) * 2 + 3] = String.valueOf(index.sectionIdOf(ordinals[i]));
+			}
+
+			redisTemplate.execute(UPDATE_BITS_SCRIPT, keys, args);
+		}
+	}
+
+	/**
+	 * Reads the number of available seats of each of the given events from their Redis counters, in a single
+	 * round trip.
+	 * <p>
+	 * Events without counters (no index has been built for them yet, or it expired) are left out of the result,
+	 * and so is everything if Redis can't be reached. Callers count those in the database instead.
+	 * </p>
+	 *
+	 * @param eventIds The unique identifiers of the events.
+	 * @return The number of available seats, keyed by event ID.
+	 */
+	public Map<Long, Long> countAvailable(List<Long> eventIds) {
+		if (eventIds.isEmpty()) return Map.of();
+
+		List<String> values;
+		try {
+			values = redisTemplate.opsForValue().multiGet(
+					eventIds.stream().map(eventId -> COUNT_PREFIX + eventId).toList()
+			);
+		} catch (RuntimeException e) {
+			log.warn("Could not read available seat counters: {}", e.getMessage());
+			return Map.of();
+		}
+
+		if (values == null) return Map.of();
+
+		Map<Long, Long> counts = new HashMap<>();
+		for (int i = 0; i < eventIds.size(); i++) {
+			if (values.get(i) != null) {
+				counts.put(eventIds.get(i), Long.parseLong(values.get(i)));
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * Returns the number of available seats in each section of an event.
+	 * <p>
+	 * Read from the Redis section counters when they exist, otherwise counted from this node's copy of the index,
+	 * which is loaded (and the counters seeded) if needed.
+	 * </p>
+	 *
+	 * @param eventId The unique identifier of the event.
+	 * @return The number of available seats, keyed by section ID. Sections with no seats left are included.
+	 * @throws EntityNotFoundException if the event does not exist.
+	 */
+	public Map<Long, Long> countAvailableBySection(Long eventId) {
+		try {
+			Map<Object, Object> counters = redisTemplate.opsForHash().entries(SECTION_COUNTS_PREFIX + eventId);
+
+			if (!counters.isEmpty()) {
+				Map<Long, Long> counts = new TreeMap<>();
+				counters.forEach((sectionId, count) -> counts.put(
+						Long.parseLong((String) sectionId),
+						Long.parseLong((String) count)
+				));
+				return counts;
+			}
+		} catch (RuntimeException e) {
+			log.warn("Could not read section counters for event {}: {}", eventId, e.getMessage());
+		}
+
+		EventSeatIndex index = indexFor(eventId);
+		return index.countBySection(currentAvailability(eventId, index));
+	}
+
+	/**
+	 * Checks the event's available seat counter against the number of available seats in the database.
+	 * <p>
+	 * If the counter is missing, the index and its counters are seeded from the database. If it disagrees, the
+	 * whole index is assumed to have drifted (an update lost to a Redis failure, for example) and is rebuilt from
+	 * the database. A transition committed but not yet applied can cause a mismatch too; rebuilding then is
+	 * wasted work, but harmless.
+	 * </p>
+	 * <p>
+	 * Unlike reads, this never keeps the event's layout in this node's memory, so sweeping through every
+	 * upcoming event doesn't push the events people are actually browsing out of it.
+	 * </p>
+	 *
+	 * @param eventId             The unique identifier of the event.
+	 * @param availableInDatabase The number of available seats according to the database.
+	 * @return {@code true} if the counter was missing or wrong and has been reseeded.
+	 */
+	public boolean reconcile(Long eventId, long availableInDatabase) {
+		String counter = redisTemplate.opsForValue().get(COUNT_PREFIX + eventId);
+		if (counter != null && Long.parseLong(counter) == availableInDatabase) return false;
+
+		if (counter != null) {
+			log.warn("Available seat counter of event {} drifted ({} in Redis, {} in the database), rebuilding",
+			         eventId, counter, availableInDatabase);
+			evict(eventId);
+		} else if (Boolean.TRUE.equals(redisTemplate.hasKey(INDEX_PREFIX + eventId))) {
+			//The bitmap outlived its counters, so it can't be told apart from a drifted one either
+			evict(eventId);
+		}
+
+		String version = readVersion(eventId);
+		List<SeatLayoutEntry> layout = seatRepository.findSeatLayoutByEventId(eventId);
+		seedRedis(eventId, EventSeatIndex.from(layout), version);
+		return true;
+	}
+
+	/**
+	 * Drops the index of an event, both locally and in Redis. The next read rebuilds it from the database.
+	 * The event's version is kept, so seeds already underway are still checked against it.
+	 *
+	 * @param eventId The unique identifier of the event.
+	 */
+	public void evict(Long eventId) {
+		localIndexes.remove(eventId);
+		redisTemplate.delete(List.of(
+				INDEX_PREFIX + eventId,
+				COUNT_PREFIX + eventId,
+				SECTION_COUNTS_PREFIX + eventId
+		));
+	}
+
+	private EventSeatIndex indexFor(Long eventId) {
+		EventSeatIndex index = localIndexes.get(eventId);
+		if (index != null) return index;
+
+		//Two requests might both end up loading the layout here, that is fine, the last one wins
+		//and both copies are identical anyway
+		//Drafts are still getting their seats, a layout loaded now would be incomplete and kept as is
+		if (!eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)) {
+			throw new EntityNotFoundException("Event not found");
+		}
+
+		String version = readVersion(eventId);
+		List<SeatLayoutEntry> layout = seatRepository.findSeatLayoutByEventId(eventId);
+		index = EventSeatIndex.from(layout);
+
+		seedRedis(eventId, index, version);
+		localIndexes.put(eventId, index);
+
+		log.debug("Loaded seat availability index for event {} ({} seats)", eventId, layout.size());
+		return index;
+	}
+
+	private BitSet currentAvailability(Long eventId, EventSeatIndex index) {
+		if (!index.isStale()) return index.snapshot();
+
+		try {
+			byte[] bitmap = readBitmap(eventId);
+
+			if (bitmap == null) {
+				//The Redis copy expired or was evicted, rebuild it from the database
+				String version = readVersion(eventId);
+				List<Long> availableSeatIds = seatRepository.findSeatIdsByEventIdAndSeatStatus(
+						eventId,
+						SeatStatus.AVAILABLE
+				);
+				index.replace(index.bitsOf(availableSeatIds));
+				seedRedis(eventId, index, version);
+			} else {
+				index.replace(fromRedisBitmap(bitmap, index.size()));
+			}
+		} catch (RuntimeException e) {
+			//Serving slightly stale availability is better than failing the whole listing
+			log.warn("Could not refresh seat availability index for event {}: {}", eventId, e.getMessage());
+		}
+
+		return index.snapshot();
+	}
+
+	private byte[] readBitmap(Long eventId) {
+		byte[] key = (INDEX_PREFIX + eventId).getBytes(StandardCharsets.UTF_8);
+		return redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+	}
+
+	/**
+	 * Reads the event's version, to be passed to {@link #seedRedis} once the database has been read.
+	 *
+	 * @return The version, {@code "0"} if it has never been bumped, or {@code null} if Redis can't be reached.
+	 */
+	private String readVersion(Long eventId) {
+		try {
+			String version = redisTemplate.opsForValue().get(VERSION_PREFIX + eventId);
+			return version == null ? "0" : version;
+		} catch (RuntimeException e) {
+			log.warn("Could not read seat availability version of event {}: {}", eventId, e.getMessage());
+			return null;
+		}
+	}
+
+	private void seedRedis(Long eventId, EventSeatIndex index, String version) {
+		//Without a version there is no telling whether the seed is complete, leave it to the next reader
+		if (version == null) return;
+
+		BitSet available = index.snapshot();
+		Map<Long, Long> sectionCounts = index.countBySection(available);
+
+		List<byte[]> keysAndArgs = new ArrayList<>(8 + sectionCounts.size() * 2);
+		keysAndArgs.add(bytes(INDEX_PREFIX + eventId));
+		keysAndArgs.add(bytes(COUNT_PREFIX + eventId));
+		keysAndArgs.add(bytes(SECTION_COUNTS_PREFIX + eventId));
+		keysAndArgs.add(bytes(VERSION_PREFIX + eventId));
+		keysAndArgs.add(toRedisBitmap(available, index.size()));
+		keysAndArgs.add(bytes(String.valueOf(INDEX_TTL.toMillis())));
+		keysAndArgs.add(bytes(String.valueOf(available.cardinality())));
+		keysAndArgs.add(bytes(version));
+		sectionCounts.forEach((sectionId, count) -> {
+			keysAndArgs.add(bytes(String.valueOf(sectionId)));
+			keysAndArgs.add(bytes(String.valueOf(count)));
+		});
+
+		try {
+			//Only seed if nobody else has and nothing changed since the database was read, an existing index is
+			//always at least as fresh as ours
+			redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+					SEED_SCRIPT,
+					ReturnType.INTEGER,
+					4,
+					keysAndArgs.toArray(byte[][]::new)
+			));
+		} catch (RuntimeException e) {
+			log.warn("Could not seed seat availability index for event {}: {}", eventId, e.getMessage());
+		}
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Converts a Redis bitmap into a {@link BitSet}. Redis numbers bits from the most significant bit of the
+	 * first byte, while {@link BitSet#valueOf(byte[])} starts at the least significant one, hence the manual loop.
+	 */
+	static BitSet fromRedisBitmap(byte[] bitmap, int size) {
+		BitSet bits = new BitSet(size);
+		for (int i = 0; i < size && (i >>> 3) < bitmap.length; i++) {
+			if ((bitmap[i >>> 3] & (0x80 >>> (i & 7))) != 0) {
+				bits.set(i);
+			}
+		}
+		return bits;
+	}
+
+	static byte[] toRedisBitmap(BitSet bits, int size) {
+		byte[] bitmap = new byte[(size + 7) >>> 3];
+		for (int i = bits.nextSetBit(0); i >= 0 && i < size; i = bits.nextSetBit(i + 1)) {
+			bitmap[i >>> 3] |= (byte) (0x80 >>> (i & 7));
+		}
+		return bitmap;
+	}
+
+	private record RowInfo(Long id, String name, Integer rowOrder, Long sectionId, String sectionName) {
+	}
+
+	/**
+	 * The in-memory mirror for one event: an immutable, array-backed seat layout plus the availability bitset.
+	 * Rows and prices are shared between seats instead of being repeated per seat.
+	 */
+	private static final class EventSeatIndex {
+		private final long[] seatIds;
+		private final int[] seatNumbers;
+		private final int[] rowRefs;
+		private final RowInfo[] rows;
+		private final BigDecimal[] prices;
+		/**
+		 * The ordinals of each row's seats in seat number order, indexed like {@link #rows}.
+		 */
+		private final int[][] rowSeats;
+		/**
+		 * Row references ordered front to back, for best-available searches.
+		 */
+		private final int[] rowRanking;
+
+		private BitSet available;
+		private long syncedAtNanos;
+
+		private EventSeatIndex(long[] seatIds, int[] seatNumbers, int[] rowRefs, RowInfo[] rows,
+		                       BigDecimal[] prices, BitSet available) {
+			this.seatIds = seatIds;
+			this.seatNumbers = seatNumbers;
+			this.rowRefs = rowRefs;
+			this.rows = rows;
+			this.prices = prices;
+			this.available = available;
+			this.syncedAtNanos = System.nanoTime();
+			this.rowSeats = groupSeatsByRow(seatNumbers, rowRefs, rows.length);
+			this.rowRanking = rankRows(rows);
+		}
+
+		private static int[][] groupSeatsByRow(int[] seatNumbers, int[] rowRefs, int rowCount) {
+			List<List<Integer>> grouped = new ArrayList<>(rowCount);
+			for (int i = 0; i < rowCount; i++) {
+				grouped.add(new ArrayList<>());
+			}
+			for (int ordinal = 0; ordinal < rowRefs.length; ordinal++) {
+				grouped.get(rowRefs[ordinal]).add(ordinal);
+			}
+
+			int[][] rowSeats = new int[rowCount][];
+			for (int i = 0; i < rowCount; i++) {
+				rowSeats[i] = grouped.get(i)
+				                     .stream()
+				                     .sorted(Comparator.comparingInt(ordinal -> seatNumbers[ordinal]))
+				                     .mapToInt(Integer::intValue)
+				                     .toArray();
+			}
+			return rowSeats;
+		}
+
+		private static int[] rankRows(RowInfo[] rows) {
+			Comparator<Integer> frontToBack = Comparator.comparing(
+					(Integer rowRef) -> rows[rowRef].rowOrder(),
+					Comparator.nullsLast(Comparator.naturalOrder())
+			).thenComparing(rowRef -> rows[rowRef].sectionId()).thenComparing(rowRef -> rows[rowRef].id());
+
+			return IntStream.range(0, rows.length)
+			                .boxed()
+			                .sorted(frontToBack)
+			                .mapToInt(Integer::intValue)
+			                .toArray();
+		}
+
+		static EventSeatIndex from(List<SeatLayoutEntry> layout) {
+			int size = layout.size();
+			long[] seatIds = new long[size];
+			int[] seatNumbers = new int[size];
+			int[] rowRefs = new int[size];
+			BigDecimal[] prices = new BigDecimal[size];
+			BitSet available = new BitSet(size);
+
+			Map<Long, Integer> rowPositions = new HashMap<>();
+			List<RowInfo> rows = new ArrayList<>();
+			Map<BigDecimal, BigDecimal> distinctPrices = new HashMap<>();
+
+			for (int i = 0; i < size; i++) {
+				SeatLayoutEntry entry = layout.get(i);
+
+				seatIds[i] = entry.getSeatId();
+				seatNumbers[i] = entry.getSeatNumber();
+				rowRefs[i] = rowPositions.computeIfAbsent(entry.getRowId(), rowId -> {
+					rows.add(new RowInfo(
+							rowId,
+							entry.getRowName(),
+							entry.getRowOrder(),
+							entry.getSectionId(),
+							entry.getSectionName()
+					));
+					return rows.size() - 1;
+				});
+				prices[i] = distinctPrices.computeIfAbsent(entry.getPrice(), price -> price);
+
+				if (entry.getSeatStatus() == SeatStatus.AVAILABLE) {
+					available.set(i);
+				}
+			}
+
+			return new EventSeatIndex(seatIds, seatNumbers, rowRefs, rows.toArray(RowInfo[]::new), prices, available);
+		}
+
+		int size() {
+			return seatIds.length;
+		}
+
+		Long sectionIdOf(int ordinal) {
+			return rows[rowRefs[ordinal]].sectionId();
+		}
+
+		Map<Long, Long> countBySection(BitSet available) {
+			Map<Long, Long> counts = new TreeMap<>();
+			for (RowInfo row : rows) {
+				counts.putIfAbsent(row.sectionId(), 0L);
+			}
+			for (int ordinal = available.nextSetBit(0); ordinal >= 0; ordinal = available.nextSetBit(ordinal + 1)) {
+				counts.merge(sectionIdOf(ordinal), 1L, Long::sum);
+			}
+			return counts;
+		}
+
+		List<Long> seatIdsOf(int[] ordinals, int from, int count) {
+			List<Long> ids = new ArrayList<>(count);
+			for (int i = from; i < from + count; i++) {
+				ids.add(seatIds[ordinals[i]]);
+			}
+			return ids;
+		}
+
+		int[] ordinalsOf(Collection<Long> ids) {
+			return ids.stream()
+			          .mapToInt(id -> Arrays.binarySearch(seatIds, id))
+			          .filter(ordinal -> ordinal >= 0)
+			          .toArray();
+		}
+
+		BitSet bitsOf(Collection<Long> ids) {
+			BitSet bits = new BitSet(size());
+			for (int ordinal : ordinalsOf(ids)) {
+				bits.set(ordinal);
+			}
+			return bits;
+		}
+
+		synchronized boolean isStale() {
+			return System.nanoTime() - syncedAtNanos > LOCAL_SYNC_INTERVAL.toNanos();
+		}
+
+		synchronized BitSet snapshot() {
+			return (BitSet) available.clone();
+		}
+
+		synchronized void replace(BitSet bits) {
+			available = bits;
+			syncedAtNanos = System.nanoTime();
+		}
+
+		synchronized void set(int[] ordinals, boolean value) {
+			for (int ordinal : ordinals) {
+				available.set(ordinal, value);
+			}
+		}
+
+		SeatResponse toSeatResponse(int ordinal, SeatStatus status) {
+			RowInfo row = rows[rowRefs[ordinal]];
+
+			return SeatResponse.builder()
+			                   .id(seatIds[ordinal])
+			                   .seatNumber(seatNumbers[ordinal])
+			                   .rowName(row.name())
+			                   .sectionName(row.sectionName())
+			                   .price(prices[ordinal])
+			                   .status(status.getDisplayName())
+			                   .build();
+		}
+	}
+}
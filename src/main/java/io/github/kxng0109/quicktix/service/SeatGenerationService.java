@@ -0,0 +1,282 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.request.projection.RowSeatCount;
+import io.github.kxng0109.quicktix.dto.response.SeatGenerationResponse;
+import io.github.kxng0109.quicktix.entity.Event;
+import io.github.kxng0109.quicktix.enums.EventStatus;
+import io.github.kxng0109.quicktix.enums.SeatGenerationStatus;
+import io.github.kxng0109.quicktix.repositories.EventRepository;
+import io.github.kxng0109.quicktix.repositories.RowRepository;
+import io.github.kxng0109.quicktix.repositories.SeatRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Generates the seats of large events in the background and publishes them once every seat exists.
+ * <p>
+ * Events with more seats than can be inserted within the creating request are saved as
+ * {@link EventStatus#DRAFT}, with their sections and rows (each row knowing its seat count) but no seats. This
+ * service then expands the rows into seats in batches of about {@value #BATCH_SEATS} seats, each batch a single
+ * set-based {@code INSERT} in its own transaction (see
+ * {@link io.github.kxng0109.quicktix.repositories.SeatBulkOperations#insertSeatsForRows}), and finally moves the
+ * event to {@link EventStatus#UPCOMING}. Until then the event isn't listed and its seats can't be browsed.
+ * </p>
+ * <p>
+ * Progress is kept in a Redis hash per event so any node can report it. A Redis lock makes sure only one node
+ * generates a given event at a time. Batches skip rows that already have seats, so a generation that died
+ * halfway is simply started again by {@link #resumeDraftEvents()} and carries on where it stopped.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatGenerationService {
+
+	static final int BATCH_SEATS = 5_000;
+
+	private static final String PROGRESS_PREFIX = "event:seat-generation:";
+	private static final String LOCK_PREFIX = "event:seat-generation:lock:";
+	/**
+	 * Refreshed after every batch, so it only runs out if the generating node stops making progress.
+	 */
+	private static final Duration LOCK_TTL = Duration.ofMinutes(2);
+	private static final Duration PROGRESS_TTL = Duration.ofDays(1);
+
+	/**
+	 * Deletes the lock (KEYS[1]) only if it is still owned by the caller (ARGV[1]).
+	 */
+	private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+			"""
+			if redis.call('get', KEYS[1]) == ARGV[1] then
+				return redis.call('del', KEYS[1])
+			end
+			return 0
+			""",
+			Long.class
+	);
+
+	/**
+	 * Extends the lock (KEYS[1]) to ARGV[2] milliseconds only if it is still owned by the caller (ARGV[1]).
+	 */
+	private static final RedisScript<Long> RENEW_LOCK_SCRIPT = new DefaultRedisScript<>(
+			"""
+			if redis.call('get', KEYS[1]) == ARGV[1] then
+				return redis.call('pexpire', KEYS[1], ARGV[2])
+			end
+			return 0
+			""",
+			Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final EventRepository eventRepository;
+	private final RowRepository rowRepository;
+	private final SeatRepository seatRepository;
+	private final EventService eventService;
+
+	/**
+	 * Generates every missing seat of a draft event and publishes it.
+	 * <p>
+	 * Does nothing if the event is not a draft (anymore) or if another node is already generating it. Stops
+	 * between batches if the lock ran out and another node took the generation over. Failures are logged and
+	 * recorded in the progress, the next {@link #resumeDraftEvents()} tries again.
+	 * </p>
+	 *
+	 * @param eventId The unique identifier of the draft event.
+	 */
+	public void generateSeats(Long eventId) {
+		String lockKey = LOCK_PREFIX + eventId;
+		String token = UUID.randomUUID().toString();
+
+		if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, LOCK_TTL))) {
+			log.debug("Seats of event {} are already being generated", eventId);
+			return;
+		}
+
+		try {
+			Event event = eventRepository.findById(eventId).orElse(null);
+			if (event == null || event.getStatus() != EventStatus.DRAFT) return;
+
+			List<RowSeatCount> rows = rowRepository.findSeatCountsByEventId(eventId);
+			long totalSeats = rows.stream().mapToLong(SeatGenerationService::seatCountOf).sum();
+			//Seats from an earlier, interrupted attempt are already there
+			long generatedSeats = seatRepository.countByEventId(eventId);
+
+			log.info("Generating {} seats for event {} ({} already exist)", totalSeats, eventId, generatedSeats);
+			recordProgress(eventId, SeatGenerationStatus.IN_PROGRESS, totalSeats, generatedSeats);
+
+			for (List<Long> batch : batches(rows)) {
+				generatedSeats += seatRepository.insertSeatsForRows(batch);
+
+				recordProgress(eventId, SeatGenerationStatus.IN_PROGRESS, totalSeats, generatedSeats);
+
+				if (!renewLock(lockKey, token)) {
+					log.warn("Lost the seat generation lock of event {}, leaving the rest to its new owner", eventId);
+					return;
+				}
+			}
+
+			eventService.publishDraftEvent(eventId);
+			recordProgress(eventId, SeatGenerationStatus.COMPLETED, totalSeats, generatedSeats);
+
+			log.info("Generated {} seats for event {}, the event is now published", generatedSeats, eventId);
+		} catch (Exception e) {
+			log.error("Failed to generate seats for event {}: {}", eventId, e.getMessage(), e);
+			recordFailure(eventId);
+		} finally {
+			try {
+				redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), token);
+			} catch (Exception e) {
+				//It expires on its own
+				log.warn("Failed to release seat generation lock of event {}: {}", eventId, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Starts the seat generation of every draft event again, for generations whose node went down or that
+	 * failed. Drafts that are still being generated somewhere are skipped.
+	 *
+	 * @return The number of draft events found.
+	 */
+	public int resumeDraftEvents() {
+		List<Long> eventIds = eventRepository.findIdsByStatusIn(List.of(EventStatus.DRAFT));
+
+		for (Long eventId : eventIds) {
+			try {
+				generateSeats(eventId);
+			} catch (Exception e) {
+				log.error("Failed to resume seat generation for event {}: {}", eventId, e.getMessage());
+			}
+		}
+
+		return eventIds.size();
+	}
+
+	/**
+	 * Reports how far the seat generation of an event has come.
+	 * <p>
+	 * Read from Redis while the progress is known there, otherwise worked out from the database.
+	 * </p>
+	 *
+	 * @param eventId The unique identifier of the event.
+	 * @return The generation status together with the total and generated seat counts.
+	 * @throws EntityNotFoundException if the event does not exist.
+	 */
+	public SeatGenerationResponse getProgress(Long eventId) {
+		Map<Object, Object> progress = readProgress(eventId);
+		//A failure recorded before the first batch has no counts yet
+		if (progress.containsKey("totalSeats")) {
+			return SeatGenerationResponse.builder()
+			                             .eventId(eventId)
+			                             .status(SeatGenerationStatus.valueOf((String) progress.get("status")))
+			                             .totalSeats(Long.parseLong((String) progress.get("totalSeats")))
+			                             .generatedSeats(Long.parseLong((String) progress.get("generatedSeats")))
+			                             .build();
+		}
+
+		Event event = eventRepository.findById(eventId)
+		                             .orElseThrow(() -> new EntityNotFoundException("Event not found"));
+		long generatedSeats = seatRepository.countByEventId(eventId);
+
+		if (event.getStatus() != EventStatus.DRAFT) {
+			return SeatGenerationResponse.builder()
+			                             .eventId(eventId)
+			                             .status(SeatGenerationStatus.COMPLETED)
+			                             .totalSeats(generatedSeats)
+			                             .generatedSeats(generatedSeats)
+			                             .build();
+		}
+
+		long totalSeats = rowRepository.findSeatCountsByEventId(eventId)
+		                               .stream()
+		                               .mapToLong(SeatGenerationService::seatCountOf)
+		                               .sum();
+
+		return SeatGenerationResponse.builder()
+		                             .eventId(eventId)
+		                             .status(SeatGenerationStatus.PENDING)
+		                             .totalSeats(totalSeats)
+		                             .generatedSeats(generatedSeats)
+		                             .build();
+	}
+
+	//Rows are kept in order and cut into batches once they add up to BATCH_SEATS seats.
+	//A single row larger than that simply gets a batch of its own
+	static List<List<Long>> batches(List<RowSeatCount> rows) {
+		List<List<Long>> batches = new ArrayList<>();
+		List<Long> batch = new ArrayList<>();
+		long seatsInBatch = 0;
+
+		for (RowSeatCount row : rows) {
+			batch.add(row.getRowId());
+			seatsInBatch += seatCountOf(row);
+
+			if (seatsInBatch >= BATCH_SEATS) {
+				batches.add(batch);
+				batch = new ArrayList<>();
+				seatsInBatch = 0;
+			}
+		}
+
+		if (!batch.isEmpty()) batches.add(batch);
+		return batches;
+	}
+
+	private static long seatCountOf(RowSeatCount row) {
+		return row.getSeatCount() == null ? 0 : row.getSeatCount();
+	}
+
+	//Plain EXPIRE would also extend a lock that has already passed to another node
+	private boolean renewLock(String lockKey, String token) {
+		Long renewed = redisTemplate.execute(
+				RENEW_LOCK_SCRIPT,
+				List.of(lockKey),
+				token,
+				String.valueOf(LOCK_TTL.toMillis())
+		);
+		return renewed != null && renewed == 1;
+	}
+
+	private void recordProgress(Long eventId, SeatGenerationStatus status, long totalSeats, long generatedSeats) {
+		String key = PROGRESS_PREFIX + eventId;
+
+		redisTemplate.opsForHash().putAll(key, Map.of(
+				"status", status.name(),
+				"totalSeats", String.valueOf(totalSeats),
+				"generatedSeats", String.valueOf(generatedSeats)
+		));
+		redisTemplate.expire(key, PROGRESS_TTL);
+	}
+
+	private void recordFailure(Long eventId) {
+		String key = PROGRESS_PREFIX + eventId;
+
+		try {
+			redisTemplate.opsForHash().put(key, "status", SeatGenerationStatus.FAILED.name());
+			redisTemplate.expire(key, PROGRESS_TTL);
+		} catch (Exception e) {
+			log.warn("Failed to record seat generation failure of event {}: {}", eventId, e.getMessage());
+		}
+	}
+
+	private Map<Object, Object> readProgress(Long eventId) {
+		try {
+			return redisTemplate.opsForHash().entries(PROGRESS_PREFIX + eventId);
+		} catch (Exception e) {
+			log.warn("Failed to read seat generation progress of event {}: {}", eventId, e.getMessage());
+			return Map.of();
+		}
+	}
+}
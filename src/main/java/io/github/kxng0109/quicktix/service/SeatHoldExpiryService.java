@@ -0,0 +1,124 @@
+package io.github.kxng0109.quicktix.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Delay queue of seat hold deadlines, shared by every node through Redis.
+ * <p>
+ * Each held seat is stored in a sorted set scored by the moment its hold runs out ({@code heldAt} plus the
+ * {@link SeatLockService#LOCK_TTL}). Re-holding a seat simply moves its score forward. The scheduler polls the
+ * queue every few seconds and claims whatever has fallen due, so a seat goes back on sale within seconds of its
+ * Redis lock expiring instead of waiting for the next five-minute sweep.
+ * </p>
+ * <p>
+ * <b>Claiming:</b> Due seats are popped in small batches by a single Lua script, so no two nodes ever release
+ * the same seat, and each batch is released in its own short transaction. The queue is only a hint: the release
+ * itself re-checks the seat in the database, so stale entries (seats that were released or booked in the
+ * meantime) are harmless. Keyspace notifications on the lock keys were considered, but they are fire-and-forget
+ * and need {@code notify-keyspace-events} configured on the server, whereas a missed poll here is just picked up
+ * by the next one.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatHoldExpiryService {
+
+	static final String DEADLINES_KEY = "seat:hold:deadlines";
+
+	/**
+	 * Pops up to ARGV[2] members of KEYS[1] whose score is at most ARGV[1], and returns them.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CLAIM_DUE_SCRIPT = new DefaultRedisScript<>(
+			"""
+			local due = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+			if #due > 0 then
+				redis.call('zrem', KEYS[1], unpack(due))
+			end
+			return due
+			""",
+			List.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * Schedules the release of freshly held seats.
+	 * <p>
+	 * Failures are only logged: the hold itself has already succeeded, and the periodic sweep in
+	 * {@link SchedulerService#releaseExpiredSeatHolds()} still picks the seats up eventually.
+	 * </p>
+	 *
+	 * @param seatIds The seats that were just held.
+	 * @param heldAt  When they were held.
+	 */
+	public void scheduleExpiry(Collection<Long> seatIds, Instant heldAt) {
+		if (seatIds.isEmpty()) return;
+
+		try {
+			addAll(seatIds, heldAt.plus(SeatLockService.LOCK_TTL));
+		} catch (Exception e) {
+			log.warn("Failed to schedule hold expiry for seats {}: {}", seatIds, e.getMessage());
+		}
+	}
+
+	/**
+	 * Atomically removes and returns seats whose hold deadline has passed.
+	 *
+	 * @param now       The current time.
+	 * @param batchSize The maximum number of seats to claim.
+	 * @return The claimed seat IDs, empty if nothing is due.
+	 */
+	public List<Long> claimDue(Instant now, int batchSize) {
+		List<?> due = redisTemplate.execute(
+				CLAIM_DUE_SCRIPT,
+				List.of(DEADLINES_KEY),
+				String.valueOf(now.toEpochMilli()),
+				String.valueOf(batchSize)
+		);
+
+		if (due == null) return List.of();
+
+		return due.stream()
+		          .map(member -> Long.valueOf(member.toString()))
+		          .toList();
+	}
+
+	/**
+	 * Puts claimed seats back on the queue so another poll retries them, e.g. after their release failed.
+	 *
+	 * @param seatIds The seats to retry.
+	 * @param delay   How long to wait before retrying.
+	 */
+	public void retryLater(Collection<Long> seatIds, Duration delay) {
+		addAll(seatIds, Instant.now().plus(delay));
+	}
+
+	private void addAll(Collection<Long> seatIds, Instant deadline) {
+		//Rounded up to the next millisecond: a seat must never fall due before its hold has actually run out,
+		//or the release would skip it as not yet expired
+		long millis = deadline.toEpochMilli();
+		if (deadline.getNano() % 1_000_000 != 0) millis++;
+		double score = millis;
+
+		Set<TypedTuple<String>> entries = seatIds.stream()
+		                                         .map(seatId -> TypedTuple.of(String.valueOf(seatId), score))
+		                                         .collect(Collectors.toSet());
+
+		redisTemplate.opsForZSet().add(DEADLINES_KEY, entries);
+	}
+}
@@ -2,12 +2,20 @@ package io.github.kxng0109.quicktix.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Service responsible for managing distributed locks for seat reservations using Redis.
@@ -16,6 +24,11 @@ import java.util.Collections;
  * ensuring that only one user can hold a specific seat at any given time across all
  * application instances. It utilizes Redis's atomic SETNX operation via Spring's
  * {@link StringRedisTemplate}.
+ * <p>
+ * Seat groups are locked through {@link #acquireLocks(List, String, Duration)}, which runs a single Lua script
+ * so the whole group is either locked or rejected in one round-trip. The scripts are compiled once as constants;
+ * {@link DefaultRedisScript} caches their SHA1 digests so every call goes out as {@code EVALSHA}, and they are
+ * loaded into the Redis script cache on startup so the first flash-sale request doesn't pay for an {@code EVAL}.
  */
 @Service
 @RequiredArgsConstructor
@@ -31,7 +44,86 @@ public class SeatLockService {
 	 * The Time-To-Live (TTL) for a seat lock. If the lock is not manually released,
 	 * Redis will automatically evict it after this duration to prevent deadlocks.
 	 */
-	private static final long LOCK_TTL_MINUTES = 15;
+	public static final Duration LOCK_TTL = Duration.ofMinutes(15);
+
+	/**
+	 * All-or-nothing {@code SET NX} for a group of seats.
+	 * <p>
+	 * KEYS are the seat lock keys, ARGV[1] is the owner and ARGV[2] the TTL in milliseconds.
+	 * The first pass only reads, so nothing is written unless every key is free. A key that exists counts as taken
+	 * even if the caller owns it, exactly like a single {@code SET NX}, so holding seats again never extends their
+	 * lock. Returns 1 on success, 0 otherwise.
+	 */
+	private static final RedisScript<Long> ACQUIRE_LOCKS_SCRIPT = new DefaultRedisScript<>(
+			"""
+			for i = 1, #KEYS do
+				if redis.call('exists', KEYS[i]) == 1 then
+					return 0
+				end
+			end
+			for i = 1, #KEYS do
+				redis.call('set', KEYS[i], ARGV[1], 'PX', ARGV[2])
+			end
+			return 1
+			""",
+			Long.class
+	);
+
+	/**
+	 * Check-and-delete for any number of seat locks. Only keys whose value matches ARGV[1] are removed.
+	 * Returns the number of locks that were actually released.
+	 */
+	private static final RedisScript<Long> RELEASE_LOCKS_SCRIPT = new DefaultRedisScript<>(
+			"""
+			local released = 0
+			for i = 1, #KEYS do
+				if redis.call('get', KEYS[i]) == ARGV[1] then
+					released = released + redis.call('del', KEYS[i])
+				end
+			end
+			return released
+			""",
+			Long.class
+	);
+
+	/**
+	 * Check-and-delete for seat locks with different owners. KEYS[i] is only removed if its value matches ARGV[i].
+	 * Returns the number of locks that were actually released.
+	 */
+	private static final RedisScript<Long> RELEASE_OWNED_LOCKS_SCRIPT = new DefaultRedisScript<>(
+			"""
+			local released = 0
+			for i = 1, #KEYS do
+				if redis.call('get', KEYS[i]) == ARGV[i] then
+					released = released + redis.call('del', KEYS[i])
+				end
+			end
+			return released
+			""",
+			Long.class
+	);
+
+	/**
+	 * Loads the lock scripts into the Redis script cache once the application is up.
+	 * <p>
+	 * This is purely a warm-up. If Redis isn't reachable yet (or gets restarted later and loses its script cache),
+	 * Spring's script executor falls back to a plain {@code EVAL} on {@code NOSCRIPT}, which re-caches the script.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void preloadScripts() {
+		try {
+			redisTemplate.execute((RedisCallback<Void>) connection -> {
+				for (RedisScript<Long> script : List.of(ACQUIRE_LOCKS_SCRIPT, RELEASE_LOCKS_SCRIPT, RELEASE_OWNED_LOCKS_SCRIPT)) {
+					connection.scriptingCommands()
+					          .scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+				}
+				return null;
+			});
+			log.debug("Seat lock scripts loaded into the Redis script cache");
+		} catch (Exception e) {
+			log.warn("Could not preload seat lock scripts, they will be loaded on first use: {}", e.getMessage());
+		}
+	}
 
 	/**
 	 * Attempts to acquire an exclusive distributed lock for a specific seat.
@@ -49,7 +141,7 @@ public class SeatLockService {
 		String lockKey = LOCK_PREFIX + seatId;
 
 		Boolean acquired = redisTemplate.opsForValue()
-		                                .setIfAbsent(lockKey, userEmail, Duration.ofMinutes(LOCK_TTL_MINUTES));
+		                                .setIfAbsent(lockKey, userEmail, LOCK_TTL);
 
 		if (acquired.equals(Boolean.TRUE)) {
 			log.debug("Lock acquired for seat {} by {}", seatId, userEmail);
@@ -74,16 +166,9 @@ public class SeatLockService {
 	public void releaseLock(Long seatId, String userEmail) {
 		String lockKey = LOCK_PREFIX + seatId;
 
-		// Use Lua script for atomic check-and-delete
-		String luaScript =
-				"if redis.call('get', KEYS[1]) == ARGV[1] then " +
-						"return redis.call('del', KEYS[1]) " +
-						"else " +
-						"return 0 " +
-						"end";
-
+		// Same atomic check-and-delete as the group release, just with a single key
 		redisTemplate.execute(
-				new DefaultRedisScript<>(luaScript, Long.class),
+				RELEASE_LOCKS_SCRIPT,
 				Collections.singletonList(lockKey),
 				userEmail
 		);
@@ -91,6 +176,68 @@ public class SeatLockService {
 		log.debug("Lock release attempted for seat {} by {}", seatId, userEmail);
 	}
 
+	/**
+	 * Atomically acquires the distributed locks for a whole group of seats in a single Redis round-trip.
+	 * <p>
+	 * Either every seat in the group ends up locked by {@code owner}, or none of them is touched. Like
+	 * {@link #acquireLock(Long, String)}, a seat that is already locked is rejected even if {@code owner} holds it,
+	 * so a hold can't be kept alive forever by holding the same seats again. On success every lock belongs to this
+	 * call alone, which makes releasing the whole group the right undo. Because the script runs atomically inside
+	 * Redis, two overlapping groups can never end up each holding half of the seats they asked for.
+	 * </p>
+	 *
+	 * @param seatIds The unique identifiers of the seats to lock. Duplicates are harmless.
+	 * @param owner   The identifier of the lock owner (the user's email). Stored as the value of every key.
+	 * @param ttl     How long the locks should live before Redis evicts them.
+	 * @return {@code true} if the whole group was locked; {@code false} if at least one seat is already locked.
+	 */
+	public boolean acquireLocks(List<Long> seatIds, String owner, Duration ttl) {
+		if (seatIds.isEmpty()) {
+			return true;
+		}
+
+		Long acquired = redisTemplate.execute(
+				ACQUIRE_LOCKS_SCRIPT,
+				toLockKeys(seatIds),
+				owner,
+				String.valueOf(ttl.toMillis())
+		);
+
+		if (Long.valueOf(1L).equals(acquired)) {
+			log.debug("Locks acquired for seats {} by {}", seatIds, owner);
+			return true;
+		}
+
+		log.warn("One or more of seats {} are already locked", seatIds);
+		return false;
+	}
+
+	/**
+	 * Releases the distributed locks for a group of seats in a single Redis round-trip.
+	 * <p>
+	 * Ownership is verified per key inside the script, so only the locks currently held by {@code owner}
+	 * are deleted. Locks that have expired or have since been taken by another user are left untouched.
+	 * </p>
+	 *
+	 * @param seatIds The unique identifiers of the locked seats.
+	 * @param owner   The identifier of the lock owner (the user's email).
+	 * @return The number of locks that were actually released.
+	 */
+	public long releaseLocks(List<Long> seatIds, String owner) {
+		if (seatIds.isEmpty()) {
+			return 0;
+		}
+
+		Long released = redisTemplate.execute(
+				RELEASE_LOCKS_SCRIPT,
+				toLockKeys(seatIds),
+				owner
+		);
+
+		log.debug("Released {} of {} seat locks for {}", released, seatIds.size(), owner);
+		return released == null ? 0 : released;
+	}
+
 	/**
 	 * Forcibly releases a distributed lock for a specific seat, bypassing all ownership validation.
 	 * <p>
@@ -108,4 +255,54 @@ public class SeatLockService {
 
 		log.info("Redis lock for seat {} forcefully release", seatId);
 	}
+
+	/**
+	 * Releases the distributed locks of seats held by different users in a single Redis round-trip.
+	 * <p>
+	 * Used by bulk releases, where one batch can span many holders. As with {@link #releaseLocks(List, String)},
+	 * each lock is only deleted if it is still held by the owner it is paired with.
+	 * </p>
+	 *
+	 * @param ownersBySeatId The lock owner (the user's email) expected for each seat.
+	 * @return The number of locks that were actually released.
+	 */
+	public long releaseLocks(Map<Long, String> ownersBySeatId) {
+		if (ownersBySeatId.isEmpty()) {
+			return 0;
+		}
+
+		List<String> keys = new ArrayList<>(ownersBySeatId.size());
+		List<String> owners = new ArrayList<>(ownersBySeatId.size());
+		ownersBySeatId.forEach((seatId, owner) -> {
+			keys.add(LOCK_PREFIX + seatId);
+			owners.add(owner);
+		});
+
+		Long released = redisTemplate.execute(RELEASE_OWNED_LOCKS_SCRIPT, keys, owners.toArray());
+
+		log.debug("Released {} of {} seat locks", released, keys.size());
+		return released == null ? 0 : released;
+	}
+
+	/**
+	 * Forcibly releases the distributed locks of a group of seats with a single multi-key {@code DEL}.
+	 * <p>
+	 * <b>WARNING:</b> Like {@link #forceReleaseLock(Long)}, this skips all ownership validation.
+	 * </p>
+	 *
+	 * @param seatIds The unique identifiers of the seats whose locks must be destroyed.
+	 */
+	public void forceReleaseLocks(List<Long> seatIds) {
+		if (seatIds.isEmpty()) return;
+
+		Long deleted = redisTemplate.delete(toLockKeys(seatIds));
+
+		log.info("{} Redis locks forcefully released for {} seats", deleted, seatIds.size());
+	}
+
+	private List<String> toLockKeys(List<Long> seatIds) {
+		return seatIds.stream()
+		              .map(seatId -> LOCK_PREFIX + seatId)
+		              .toList();
+	}
 }
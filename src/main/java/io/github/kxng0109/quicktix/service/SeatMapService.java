@@ -0,0 +1,429 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.request.projection.SeatLayoutEntry;
+import io.github.kxng0109.quicktix.dto.response.SeatMapChangeResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatMapChangesResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatMapResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatMapRowResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatMapSectionResponse;
+import io.github.kxng0109.quicktix.enums.EventStatus;
+import io.github.kxng0109.quicktix.enums.SeatStatus;
+import io.github.kxng0109.quicktix.event.SeatStatusChangedEvent;
+import io.github.kxng0109.quicktix.repositories.EventRepository;
+import io.github.kxng0109.quicktix.repositories.SeatRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Serves versioned, compact seat maps and the seat status changes between their versions.
+ * <p>
+ * Every committed {@link SeatStatusChangedEvent} is recorded here: it bumps the event's seat map version and is
+ * appended to a bounded change log in Redis (a sorted set scored by version). Clients fetch the full seat map once
+ * and then poll with {@code ?since=<version>} to receive only what changed, instead of paging through every seat.
+ * </p>
+ * <p>
+ * Each node keeps an in-memory snapshot per event: the immutable layout plus a status array tagged with the version
+ * it reflects. When a newer version is requested, the snapshot catches up by replaying the change log, and is only
+ * rebuilt from the database when the changes it needs are no longer retained.
+ * </p>
+ * <p>
+ * Changes are recorded after commit, so two racing transitions can reach Redis in the opposite order to the one
+ * they committed in, and a change whose recording failed is simply missing. Neither can be seen from the log
+ * itself, so {@link #reconcile(Long, long)} periodically seals it: the log is dropped and the version bumped
+ * past it, which makes every snapshot and client rebuild from the database.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatMapService {
+
+	private static final String VERSION_PREFIX = "seatmap:version:";
+	private static final String CHANGES_PREFIX = "seatmap:changes:";
+	private static final String SEALED_PREFIX = "seatmap:sealed:";
+	/**
+	 * How many changes are kept per event. Clients that fall further behind than this are asked to resync.
+	 */
+	private static final int MAX_RETAINED_CHANGES = 2000;
+	/**
+	 * Refreshed on every change and every seal, so only the seat maps of events nobody has touched in a week are
+	 * dropped.
+	 */
+	private static final Duration RETENTION = Duration.ofDays(7);
+	private static final int MAX_LOCAL_EVENTS = 64;
+
+	/**
+	 * Bumps the version (KEYS[1]) and appends the change to the log (KEYS[2]) atomically, so versions in the
+	 * log are always contiguous. ARGV: status code, comma-separated seat IDs, max retained changes, TTL in seconds.
+	 * Change log members look like {@code <version>:<status code>:<seat id>,<seat id>,...}.
+	 */
+	private static final RedisScript<Long> RECORD_CHANGE_SCRIPT = new DefaultRedisScript<>(
+			"""
+			local version = redis.call('incr', KEYS[1])
+			redis.call('zadd', KEYS[2], version, version .. ':' .. ARGV[1] .. ':' .. ARGV[2])
+			local overflow = redis.call('zcard', KEYS[2]) - tonumber(ARGV[3])
+			if overflow > 0 then
+				redis.call('zremrangebyrank', KEYS[2], 0, overflow - 1)
+			end
+			redis.call('expire', KEYS[1], ARGV[4])
+			redis.call('expire', KEYS[2], ARGV[4])
+			return version
+			""",
+			Long.class
+	);
+
+	/**
+	 * Bumps the version (KEYS[1]) past the change log (KEYS[2]) and drops the log, so nothing can catch up across
+	 * the seal, and remembers the new version together with the seat revision it was sealed at (KEYS[3]).
+	 * ARGV: seat revision, TTL in seconds.
+	 */
+	private static final RedisScript<Long> SEAL_SCRIPT = new DefaultRedisScript<>(
+			"""
+			local version = redis.call('incr', KEYS[1])
+			redis.call('del', KEYS[2])
+			redis.call('set', KEYS[3], version .. ':' .. ARGV[1], 'EX', ARGV[2])
+			redis.call('expire', KEYS[1], ARGV[2])
+			return version
+			""",
+			Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final SeatRepository seatRepository;
+	private final EventRepository eventRepository;
+
+	private final Map<Long, SeatMapSnapshot> snapshots = Collections.synchronizedMap(
+			new LinkedHashMap<Long, SeatMapSnapshot>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Long, SeatMapSnapshot> eldest) {
+					return size() > MAX_LOCAL_EVENTS;
+				}
+			}
+	);
+
+	/**
+	 * Returns the current seat map version of an event. This is a single Redis read, which makes it cheap
+	 * enough to answer conditional ({@code If-None-Match}) requests before doing any other work.
+	 *
+	 * @param eventId The unique identifier of the event.
+	 * @return The current version, or {@code 0} if no seat of the event has changed status yet.
+	 */
+	public long getCurrentVersion(Long eventId) {
+		String version = redisTemplate.opsForValue().get(VERSION_PREFIX + eventId);
+		return version == null ? 0 : Long.parseLong(version);
+	}
+
+	/**
+	 * Returns the full, compact seat map of an event at its current version.
+	 *
+	 * @param eventId The unique identifier of the event.
+	 * @return The seat layout plus one status code per seat, tagged with the version it reflects.
+	 * @throws EntityNotFoundException if the event does not exist.
+	 */
+	@Transactional(readOnly = true)
+	public SeatMapResponse getSeatMap(Long eventId) {
+		long currentVersion = getCurrentVersion(eventId);
+
+		SeatMapSnapshot snapshot = snapshots.get(eventId);
+		if (snapshot == null || !catchUp(eventId, snapshot, currentVersion)) {
+			snapshot = load(eventId, currentVersion);
+			snapshots.put(eventId, snapshot);
+		}
+
+		return snapshot.toResponse(eventId);
+	}
+
+	/**
+	 * Returns the seat status changes of an event that happened after {@code sinceVersion}.
+	 * <p>
+	 * If those changes are no longer retained (the client fell too far behind, or the version it holds
+	 * comes from before the change log was reset), {@code resyncRequired} is set and the client should fetch
+	 * the full seat map again.
+	 * </p>
+	 *
+	 * @param eventId      The unique identifier of the event.
+	 * @param sinceVersion The version the client currently holds.
+	 * @return The changes after {@code sinceVersion}, oldest first.
+	 */
+	public SeatMapChangesResponse getSeatMapChanges(Long eventId, long sinceVersion) {
+		long currentVersion = getCurrentVersion(eventId);
+
+		if (sinceVersion == currentVersion) {
+			return buildChangesResponse(eventId, sinceVersion, currentVersion, false, List.of());
+		}
+
+		if (sinceVersion > currentVersion) {
+			return buildChangesResponse(eventId, sinceVersion, currentVersion, true, List.of());
+		}
+
+		List<SeatMapChangeResponse> changes = readChanges(eventId, sinceVersion, currentVersion);
+		if (!isContiguous(changes, sinceVersion, currentVersion)) {
+			return buildChangesResponse(eventId, sinceVersion, currentVersion, true, List.of());
+		}
+
+		return buildChangesResponse(eventId, sinceVersion, currentVersion, false, changes);
+	}
+
+	/**
+	 * Records a committed seat status transition as a new seat map version.
+	 *
+	 * @param change The committed transition.
+	 * @return The version the transition was recorded as.
+	 */
+	public long recordChange(SeatStatusChangedEvent change) {
+		String seatIds = change.seatIds()
+		                       .stream()
+		                       .map(String::valueOf)
+		                       .collect(Collectors.joining(","));
+
+		Long version = redisTemplate.execute(
+				RECORD_CHANGE_SCRIPT,
+				List.of(VERSION_PREFIX + change.eventId(), CHANGES_PREFIX + change.eventId()),
+				String.valueOf(statusCode(change.status())),
+				seatIds,
+				String.valueOf(MAX_RETAINED_CHANGES),
+				String.valueOf(RETENTION.toSeconds())
+		);
+
+		return version == null ? 0 : version;
+	}
+
+	/**
+	 * Seals an event's change log if anything happened since it was last sealed.
+	 * <p>
+	 * Both the seat map version and the seats' revision in the database are compared with the ones of the last
+	 * seal: a version that moved means changes were recorded (possibly out of order), a revision that moved means
+	 * seats changed (possibly without being recorded). Events that stayed quiet keep their log, so their clients
+	 * keep polling for deltas.
+	 * </p>
+	 *
+	 * @param eventId  The unique identifier of the event.
+	 * @param revision The event's seat revision, see {@link SeatRepository#sumSeatVersionsByEventIds(List)}.
+	 * @return {@code true} if the log has been sealed.
+	 */
+	public boolean reconcile(Long eventId, long revision) {
+		List<String> state = redisTemplate.opsForValue()
+		                                  .multiGet(List.of(VERSION_PREFIX + eventId, SEALED_PREFIX + eventId));
+		String version = state == null || state.get(0) == null ? "0" : state.get(0);
+		String sealed = state == null ? null : state.get(1);
+
+		if ((version + ":" + revision).equals(sealed)) return false;
+
+		Long sealedVersion = redisTemplate.execute(
+				SEAL_SCRIPT,
+				List.of(VERSION_PREFIX + eventId, CHANGES_PREFIX + eventId, SEALED_PREFIX + eventId),
+				String.valueOf(revision),
+				String.valueOf(RETENTION.toSeconds())
+		);
+		log.debug("Sealed seat map of event {} at version {} (seat revision {})", eventId, sealedVersion, revision);
+		return true;
+	}
+
+	/**
+	 * Drops an event's seat map, both locally and in Redis.
+	 *
+	 * @param eventId The unique identifier of the event.
+	 */
+	public void evict(Long eventId) {
+		snapshots.remove(eventId);
+		redisTemplate.delete(List.of(VERSION_PREFIX + eventId, CHANGES_PREFIX + eventId, SEALED_PREFIX + eventId));
+	}
+
+	/**
+	 * The single-character code a seat status is represented by in seat maps.
+	 */
+	static char statusCode(SeatStatus status) {
+		return switch (status) {
+			case AVAILABLE -> 'A';
+			case HELD -> 'H';
+			case BOOKED -> 'B';
+		};
+	}
+
+	private boolean catchUp(Long eventId, SeatMapSnapshot snapshot, long currentVersion) {
+		synchronized (snapshot) {
+			long snapshotVersion = snapshot.version;
+			if (snapshotVersion == currentVersion) return true;
+
+			//The version went backwards, so the change log was reset and the snapshot can't be trusted anymore
+			if (snapshotVersion > currentVersion) return false;
+
+			List<SeatMapChangeResponse> changes = readChanges(eventId, snapshotVersion, currentVersion);
+			if (!isContiguous(changes, snapshotVersion, currentVersion)) return false;
+
+			changes.forEach(snapshot::apply);
+			return true;
+		}
+	}
+
+	private SeatMapSnapshot load(Long eventId, long version) {
+		//Drafts are still getting their seats, a layout loaded now would be incomplete and kept as is
+		if (!eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)) {
+			throw new EntityNotFoundException("Event not found");
+		}
+
+		//The version is read before the statuses. A change that lands in between is then simply applied
+		//twice (once from the database, once from the log), which is harmless since changes are absolute.
+		List<SeatLayoutEntry> layout = seatRepository.findSeatLayoutByEventId(eventId);
+		log.debug("Built seat map for event {} at version {} ({} seats)", eventId, version, layout.size());
+
+		return SeatMapSnapshot.from(layout, version);
+	}
+
+	private List<SeatMapChangeResponse> readChanges(Long eventId, long afterVersion, long upToVersion) {
+		Set<String> entries = redisTemplate.opsForZSet()
+		                                   .rangeByScore(CHANGES_PREFIX + eventId, afterVersion + 1, upToVersion);
+
+		if (entries == null) return List.of();
+
+		return entries.stream()
+		              .map(this::parseChange)
+		              .toList();
+	}
+
+	//The log has no holes, so anything other than exactly one entry per version means some were trimmed
+	private boolean isContiguous(List<SeatMapChangeResponse> changes, long afterVersion, long upToVersion) {
+		return changes.size() == upToVersion - afterVersion
+				&& (changes.isEmpty() || changes.getFirst().version() == afterVersion + 1);
+	}
+
+	private SeatMapChangeResponse parseChange(String entry) {
+		String[] parts = entry.split(":", 3);
+
+		List<Long> seatIds = Arrays.stream(parts[2].split(","))
+		                           .filter(id -> !id.isBlank())
+		                           .map(Long::valueOf)
+		                           .toList();
+
+		return SeatMapChangeResponse.builder()
+		                            .version(Long.parseLong(parts[0]))
+		                            .status(parts[1])
+		                            .seatIds(seatIds)
+		                            .build();
+	}
+
+	private SeatMapChangesResponse buildChangesResponse(Long eventId, long fromVersion, long toVersion,
+	                                                    boolean resyncRequired, List<SeatMapChangeResponse> changes) {
+		return SeatMapChangesResponse.builder()
+		                             .eventId(eventId)
+		                             .fromVersion(fromVersion)
+		                             .toVersion(toVersion)
+		                             .resyncRequired(resyncRequired)
+		                             .changes(changes)
+		                             .build();
+	}
+
+	/**
+	 * One event's seat map as held in memory. The layout DTOs are built once and shared by every response;
+	 * only the status array changes. Seats are found by binary search over their sorted IDs.
+	 */
+	private static final class SeatMapSnapshot {
+		private final List<SeatMapSectionResponse> sections;
+		private final long[] sortedSeatIds;
+		private final int[] positions;
+		private final char[] statuses;
+		private long version;
+
+		private SeatMapSnapshot(List<SeatMapSectionResponse> sections, long[] sortedSeatIds, int[] positions,
+		                        char[] statuses, long version) {
+			this.sections = sections;
+			this.sortedSeatIds = sortedSeatIds;
+			this.positions = positions;
+			this.statuses = statuses;
+			this.version = version;
+		}
+
+		static SeatMapSnapshot from(List<SeatLayoutEntry> layout, long version) {
+			//The layout query is ordered by seat ID, so the index in this list is the seat's ordinal
+			long[] sortedSeatIds = layout.stream().mapToLong(SeatLayoutEntry::getSeatId).toArray();
+			int[] positions = new int[layout.size()];
+			char[] statuses = new char[layout.size()];
+
+			List<SeatLayoutEntry> byPosition = layout.stream()
+			                                         .sorted(Comparator.comparing(SeatLayoutEntry::getSectionId)
+			                                                           .thenComparing(SeatLayoutEntry::getRowOrder)
+			                                                           .thenComparing(SeatLayoutEntry::getRowId)
+			                                                           .thenComparing(SeatLayoutEntry::getSeatNumber)
+			                                                           .thenComparing(SeatLayoutEntry::getSeatId))
+			                                         .toList();
+
+			List<SeatMapSectionResponse> sections = new ArrayList<>();
+			List<SeatMapRowResponse> rows = null;
+			List<Long> seatIds = null;
+			List<Integer> seatNumbers = null;
+			Long currentSectionId = null;
+			Long currentRowId = null;
+
+			for (int position = 0; position < byPosition.size(); position++) {
+				SeatLayoutEntry entry = byPosition.get(position);
+
+				if (!entry.getSectionId().equals(currentSectionId)) {
+					currentSectionId = entry.getSectionId();
+					currentRowId = null;
+					rows = new ArrayList<>();
+					sections.add(new SeatMapSectionResponse(
+							entry.getSectionId(),
+							entry.getSectionName(),
+							entry.getPrice(),
+							Collections.unmodifiableList(rows)
+					));
+				}
+
+				if (!entry.getRowId().equals(currentRowId)) {
+					currentRowId = entry.getRowId();
+					seatIds = new ArrayList<>();
+					seatNumbers = new ArrayList<>();
+					rows.add(new SeatMapRowResponse(
+							entry.getRowId(),
+							entry.getRowName(),
+							entry.getRowOrder(),
+							Collections.unmodifiableList(seatIds),
+							Collections.unmodifiableList(seatNumbers)
+					));
+				}
+
+				seatIds.add(entry.getSeatId());
+				seatNumbers.add(entry.getSeatNumber());
+
+				int ordinal = Arrays.binarySearch(sortedSeatIds, entry.getSeatId());
+				positions[ordinal] = position;
+				statuses[position] = statusCode(entry.getSeatStatus());
+			}
+
+			return new SeatMapSnapshot(Collections.unmodifiableList(sections), sortedSeatIds, positions, statuses,
+			                           version);
+		}
+
+		synchronized void apply(SeatMapChangeResponse change) {
+			char status = change.status().charAt(0);
+
+			for (Long seatId : change.seatIds()) {
+				int ordinal = Arrays.binarySearch(sortedSeatIds, seatId);
+				if (ordinal >= 0) {
+					statuses[positions[ordinal]] = status;
+				}
+			}
+
+			version = Math.max(version, change.version());
+		}
+
+		synchronized SeatMapResponse toResponse(Long eventId) {
+			return SeatMapResponse.builder()
+			                      .eventId(eventId)
+			                      .version(version)
+			                      .sections(sections)
+			                      .statuses(new String(statuses))
+			                      .build();
+		}
+	}
+}
@@ -1,12 +1,19 @@
 package io.github.kxng0109.quicktix.service;
 
+import io.github.kxng0109.quicktix.dto.request.HoldBestAvailableRequest;
 import io.github.kxng0109.quicktix.dto.request.HoldSeatsRequest;
+import io.github.kxng0109.quicktix.dto.request.projection.ReleasedSeat;
+import io.github.kxng0109.quicktix.dto.request.projection.SeatLayoutEntry;
 import io.github.kxng0109.quicktix.dto.response.PagedResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatAvailabilityResponse;
 import io.github.kxng0109.quicktix.dto.response.SeatResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatScrollResponse;
 import io.github.kxng0109.quicktix.entity.Event;
 import io.github.kxng0109.quicktix.entity.Seat;
 import io.github.kxng0109.quicktix.entity.User;
+import io.github.kxng0109.quicktix.enums.EventStatus;
 import io.github.kxng0109.quicktix.enums.SeatStatus;
+import io.github.kxng0109.quicktix.event.SeatStatusChangedEvent;
 import io.github.kxng0109.quicktix.exception.InvalidOperationException;
 import io.github.kxng0109.quicktix.repositories.EventRepository;
 import io.github.kxng0109.quicktix.repositories.SeatRepository;
@@ -14,26 +21,56 @@ import io.github.kxng0109.quicktix.repositories.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SeatService {
 
+	/**
+	 * How many candidate blocks a best-available hold tries before giving up.
+	 */
+	private static final int MAX_BEST_AVAILABLE_ATTEMPTS = 3;
+	/**
+	 * How many seats a single bulk release statement touches.
+	 */
+	static final int RELEASE_BATCH_SIZE = 500;
+	/**
+	 * How soon a claimed hold that couldn't be released yet is retried. Row locks are only held for the length
+	 * of a booking or release transaction, so a few seconds is plenty.
+	 */
+	static final Duration UNRELEASED_HOLD_RETRY_DELAY = Duration.ofSeconds(5);
+
 	private final SeatRepository seatRepository;
 	private final EventRepository eventRepository;
 	private final UserRepository userRepository;
 	private final SeatLockService seatLockService;
+	private final SeatAvailabilityIndex seatAvailabilityIndex;
+	private final SeatHoldExpiryService seatHoldExpiryService;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	/**
 	 * Retrieves a paginated list of available seats for a specific event.
@@ -43,8 +80,13 @@ public class SeatService {
 	 * when multiple requests are made for the same event and page number.
 	 * </p>
 	 * <p>
-	 * The cache key combines the event ID and page number, ensuring that only relevant cache entries are invalidated
-	 * when seats become unavailable (e.g., during seat holding operations).
+	 * Cache misses are served by the {@link SeatAvailabilityIndex}, so neither the page nor its total count
+	 * needs a database query once the event's seat layout has been loaded.
+	 * </p>
+	 * <p>
+	 * The cache key combines the event ID, the event's current cache generation and the page, ensuring that only
+	 * the event's own cache entries are invalidated when its seats change status (e.g., during seat holding
+	 * operations). See {@link AvailableSeatsCacheGeneration}.
 	 * </p>
 	 *
 	 * @param eventId  The unique identifier of the event for which to retrieve available seats.
@@ -58,31 +100,45 @@ public class SeatService {
 	@Transactional(readOnly = true)
 	@Cacheable(
 			value = "availableSeats",
-			key = "#eventId + '-' + #pageable.pageNumber + '-' + #pageable.pageSize",
+			key = "#eventId + '-' + @availableSeatsCacheGeneration.current(#eventId) + '-' " +
+					"+ #pageable.pageNumber + '-' + #pageable.pageSize",
 			sync = true
 	)
 	public PagedResponse<SeatResponse> getAvailableSeats(Long eventId, Pageable pageable) {
-		Event event = eventRepository.findById(eventId)
-		                             .orElseThrow(
-				                             () -> new EntityNotFoundException("Event not found")
-		                             );
-
-		Page<Seat> pagedSeats = seatRepository.findByEventIdAndSeatStatus(
-				event.getId(),
-				SeatStatus.AVAILABLE,
-				pageable
-		);
+		return seatAvailabilityIndex.getAvailableSeats(eventId, pageable);
+	}
 
-		Page<SeatResponse> seatResponsePage = pagedSeats.map(this::buildSeatResponse);
-		return PagedResponse.from(seatResponsePage);
+	/**
+	 * Retrieves how many seats of an event are still available, overall and per section.
+	 * <p>
+	 * Served from the per-section counters kept next to the {@link SeatAvailabilityIndex}, so it costs a single
+	 * Redis read and never counts rows in the database.
+	 * </p>
+	 *
+	 * @param eventId The unique identifier of the event.
+	 * @return The available seat counts of the event.
+	 * @throws EntityNotFoundException if the event does not exist.
+	 */
+	@Transactional(readOnly = true)
+	public SeatAvailabilityResponse getSeatAvailability(Long eventId) {
+		Map<Long, Long> sections = seatAvailabilityIndex.countAvailableBySection(eventId);
+
+		return SeatAvailabilityResponse.builder()
+		                               .eventId(eventId)
+		                               .availableSeats(sections.values().stream().mapToLong(Long::longValue).sum())
+		                               .sections(sections)
+		                               .build();
 	}
 
 	/**
 	 * Retrieves a paginated list of all seats (regardless of status) for a specific event.
+	 * <p>
+	 * Events still in {@link EventStatus#DRAFT} are getting their seats generated, so they have none to show yet.
+	 * </p>
 	 *
 	 * @param eventId  The unique identifier of the event.
 	 * @param pageable Pagination metadata.
-	 * @return A paginated list of all seats associated with the event.
+	 * @return A paginated list of all seats associated with the event, empty for drafts.
 	 * @throws EntityNotFoundException if the event does not exist.
 	 */
 	@Transactional(readOnly = true)
@@ -92,29 +148,91 @@ public class SeatService {
 				                             () -> new EntityNotFoundException("Event not found")
 		                             );
 
+		if (event.getStatus() == EventStatus.DRAFT) {
+			return Page.empty(pageable);
+		}
+
 		Page<Seat> pagedSeats = seatRepository.findByEventId(event.getId(), pageable);
 
 		return pagedSeats.map(this::buildSeatResponse);
 	}
 
+	/**
+	 * Retrieves the next slice of an event's seats, in layout order, using an opaque cursor instead of page numbers.
+	 * <p>
+	 * Seats are ordered by section, row order, seat number and finally seat ID. The cursor encodes that position
+	 * for the last seat returned, and the next slice is looked up with a keyset comparison on it, so deep slices
+	 * are as cheap as the first one and no total count is ever computed. Seats changing status while a client
+	 * scrolls never cause duplicates or gaps in the layout order. Events still in {@link EventStatus#DRAFT} have
+	 * no seats to show yet.
+	 * </p>
+	 *
+	 * @param eventId The unique identifier of the event.
+	 * @param status  Only return seats with this status, or {@code null} for every seat.
+	 * @param cursor  The {@code nextCursor} of the previous slice, or {@code null} to start from the beginning.
+	 * @param size    The maximum number of seats to return.
+	 * @return The seats of the slice and the cursor of the next one.
+	 * @throws EntityNotFoundException  if the event does not exist.
+	 * @throws IllegalArgumentException if the cursor is malformed.
+	 */
+	@Transactional(readOnly = true)
+	public SeatScrollResponse scrollSeatsByEvent(Long eventId, SeatStatus status, String cursor, int size) {
+		Event event = eventRepository.findById(eventId)
+		                             .orElseThrow(
+				                             () -> new EntityNotFoundException("Event not found")
+		                             );
+
+		if (event.getStatus() == EventStatus.DRAFT) {
+			return SeatScrollResponse.builder()
+			                         .content(List.of())
+			                         .hasMore(false)
+			                         .build();
+		}
+
+		SeatCursor after = cursor == null || cursor.isBlank() ? SeatCursor.START : SeatCursor.decode(cursor);
+		Collection<SeatStatus> statuses = status == null ? EnumSet.allOf(SeatStatus.class) : EnumSet.of(status);
+
+		//One extra row tells us whether there is another slice without counting anything
+		List<SeatLayoutEntry> entries = seatRepository.findSeatLayoutAfter(
+				eventId,
+				statuses,
+				after.sectionId(),
+				after.rowOrder(),
+				after.seatNumber(),
+				after.seatId(),
+				Limit.of(size + 1)
+		);
+
+		boolean hasMore = entries.size() > size;
+		List<SeatLayoutEntry> slice = hasMore ? entries.subList(0, size) : entries;
+
+		return SeatScrollResponse.builder()
+		                         .content(slice.stream().map(this::buildSeatResponse).toList())
+		                         .nextCursor(hasMore ? SeatCursor.of(slice.getLast()).encode() : null)
+		                         .hasMore(hasMore)
+		                         .build();
+	}
+
 	/**
 	 * Temporarily holds a batch of seats for a user to prevent race conditions during checkout.
 	 * <p>
-	 * This method utilizes pessimistic locking via Redis and the database. It first attempts to acquire an atomic lock
-	 * for every requested seat. If successful, it verifies the database state and updates the seats
-	 * to {@link SeatStatus#HELD}. If any lock or validation fails, it safely rolls back and releases
-	 * any partially acquired Redis locks to prevent deadlocks.
+	 * This method utilizes pessimistic locking via Redis and the database. It first locks the whole seat group
+	 * atomically in a single Redis call, so the group is either fully locked or rejected. If successful, it verifies
+	 * the database state and updates the seats to {@link SeatStatus#HELD}. If any validation fails, it safely rolls
+	 * back and releases the group's Redis locks to prevent deadlocks.
 	 * </p>
 	 *
 	 * @param request     The payload containing the event ID and the list of seat IDs to hold.
 	 * @param currentUser The authenticated user attempting to hold the seats.
 	 * @return A list of successfully held {@link SeatResponse} objects.
+	 * @throws EntityNotFoundException   if the event does not exist or is still a draft.
 	 * @throws InvalidOperationException if one or more seats are already locked in Redis.
 	 * @throws IllegalArgumentException  if a seat is not in an AVAILABLE state in the database.
 	 */
 	@Transactional
-	@CacheEvict(value = "availableSeats", allEntries = true)
 	public List<SeatResponse> holdSeats(HoldSeatsRequest request, User currentUser) {
+		requireSeatsOnSale(request.eventId());
+
 		//Hitting Redis before the actual database is better. It also helps with the connection to the database.
 		//Instead of having 10000 users hitting the database at a go, hitting redis by locking seats in redis
 		//Will help reduce the number of people that will eventually hit the actual database
@@ -126,69 +244,218 @@ public class SeatService {
 		                                  .sorted()
 		                                  .toList();
 
-		List<Long> successfullyLockedSeats = new ArrayList<>();
+		//The whole group is locked in one Redis call. Either every seat gets locked or none of them does,
+		//so there is nothing half-acquired to clean up when someone else got to one of the seats first
+		boolean locksAcquired = seatLockService.acquireLocks(
+				sortedSeatIds,
+				currentUser.getEmail(),
+				SeatLockService.LOCK_TTL
+		);
 
-		try {
-			for (Long seatId : sortedSeatIds) {
-				boolean lockAcquired = seatLockService.acquireLock(seatId, currentUser.getEmail());
-				if (lockAcquired) {
-					successfullyLockedSeats.add(seatId);
-				} else {
-					//If one of them fails to be locked, throw an exception so it can all seats locked
-					// can be rollback
-					throw new InvalidOperationException(
-							"One or more requested seats are no longer available. Please select a different group.");
-				}
+		if (!locksAcquired) {
+			throw new InvalidOperationException(
+					"One or more requested seats are no longer available. Please select a different group.");
+		}
+
+		return holdLockedSeats(request.eventId(), sortedSeatIds, currentUser);
+	}
+
+	/**
+	 * Holds the best available block of adjacent seats, so the user doesn't have to pick seat IDs.
+	 * <p>
+	 * Candidate blocks come from the {@link SeatAvailabilityIndex}: front rows first, each block centred in a free
+	 * run of consecutive seat numbers. Candidates are disjoint, so when another user locks a block first, the next
+	 * candidate is tried instead of failing the whole request. Each attempt locks its block atomically in a single
+	 * Redis call, exactly like {@link #holdSeats(HoldSeatsRequest, User)}.
+	 * </p>
+	 *
+	 * @param request     The payload containing the event ID, the optional section ID and the number of seats.
+	 * @param currentUser The authenticated user attempting to hold the seats.
+	 * @return The held seats, ordered by seat number.
+	 * @throws InvalidOperationException if no block of adjacent seats could be held.
+	 * @throws EntityNotFoundException   if the event does not exist or is still a draft.
+	 */
+	@Transactional
+	public List<SeatResponse> holdBestAvailableSeats(HoldBestAvailableRequest request, User currentUser) {
+		requireSeatsOnSale(request.eventId());
+
+		List<List<Long>> candidateBlocks = seatAvailabilityIndex.findContiguousBlocks(
+				request.eventId(),
+				request.sectionId(),
+				request.quantity(),
+				MAX_BEST_AVAILABLE_ATTEMPTS
+		);
+
+		for (List<Long> block : candidateBlocks) {
+			List<Long> sortedSeatIds = block.stream().sorted().toList();
+
+			if (!seatLockService.acquireLocks(sortedSeatIds, currentUser.getEmail(), SeatLockService.LOCK_TTL)) {
+				log.debug("Best available block {} was taken, trying the next one", sortedSeatIds);
+				continue;
 			}
 
-			//First of all, we don't need to lock the database anymore since we are using redis to perform the fast in-memory
-			//pessimistic locking. Now, instead of using something like findById, we are using getReferenceById which
-			//doesn't make any calls to the database.
-			// The reason why is that the currentUser is already the authenticated user from
-			//the jwt, which is not easy for someone to crack. Also, if the user doesn't exist later when saving it to the database,
-			//an error will be thrown and the seats will end up being rollback.
-			//getReferenceById just creates a dummy Java User object that holds the id we gave it.
-			//There are times you'll use one over the other. Basically, if you need to know extra details of that id,
-			//then use findById, if you just need a pointer to something that you know exists, then getReferenceById
-			User user = userRepository.getReferenceById(currentUser.getId());
-
-			List<Seat> seats = seatRepository.findAllByIdWithLock(sortedSeatIds);
-
-			if (seats.size() != sortedSeatIds.size()) {
-				throw new EntityNotFoundException("One or more seat IDs are invalid");
+			try {
+				List<SeatResponse> heldSeats = holdLockedSeats(request.eventId(), sortedSeatIds, currentUser);
+
+				return heldSeats.stream()
+				                .sorted(Comparator.comparing(seat -> block.indexOf(seat.id())))
+				                .toList();
+			} catch (IllegalArgumentException e) {
+				//The index was a moment behind and the block was already taken in the database.
+				//Nothing was changed and the locks are already released, so just move on
+				log.debug("Best available block {} is no longer available: {}", sortedSeatIds, e.getMessage());
 			}
+		}
 
-			for (Seat seat : seats) {
-				validateSeatBelongsToEvent(request.eventId(), seat);
+		throw new InvalidOperationException(
+				"Not enough adjacent seats are available. Please try a smaller group or a different section.");
+	}
 
-				if (!seat.getSeatStatus().equals(SeatStatus.AVAILABLE)) {
-					boolean isHeldByCurrentUser = seat.getHeldByUser() != null && seat.getHeldByUser().getId()
-					                                                                  .equals(user.getId());
+	/**
+	 * Holds seats on behalf of a booking that the caller creates in the same transaction.
+	 * <p>
+	 * This is the first half of a one-step checkout: the seats are locked in Redis in a single call, row-locked and
+	 * marked {@link SeatStatus#HELD} exactly like {@link #holdSeats(HoldSeatsRequest, User)}, but they are returned
+	 * as managed entities and left unsaved, so the caller can link them to its booking and everything is written
+	 * in a single flush. No hold expiry is scheduled, since the seats belong to a booking before anyone else can
+	 * see them and pending bookings expire on their own.
+	 * </p>
+	 * <p>
+	 * For the same reason, nothing would ever release the Redis locks of a checkout that doesn't go through. They
+	 * are released as soon as the surrounding transaction rolls back, whether it fails here, in the caller, or
+	 * only when it is flushed or committed.
+	 * </p>
+	 *
+	 * @param eventId     The ID of the event the seats belong to.
+	 * @param seatIds     The seats to hold.
+	 * @param currentUser The authenticated user checking out.
+	 * @return The held seats.
+	 * @throws EntityNotFoundException   if the event does not exist or is still a draft.
+	 * @throws InvalidOperationException if one or more seats are already locked in Redis.
+	 * @throws IllegalArgumentException  if a seat is not in an AVAILABLE state in the database.
+	 */
+	@Transactional
+	public List<Seat> holdSeatsForBooking(Long eventId, List<Long> seatIds, User currentUser) {
+		requireSeatsOnSale(eventId);
 
-					if (!isHeldByCurrentUser) {
-						throw new IllegalArgumentException("Seat is not available");
-					}
-				}
+		List<Long> sortedSeatIds = seatIds.stream()
+		                                  .sorted()
+		                                  .toList();
+
+		if (!seatLockService.acquireLocks(sortedSeatIds, currentUser.getEmail(), SeatLockService.LOCK_TTL)) {
+			throw new InvalidOperationException(
+					"One or more requested seats are no longer available. Please select a different group.");
+		}
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			releaseLocksOnRollback(sortedSeatIds, currentUser.getEmail());
+			return markSeatsHeld(eventId, sortedSeatIds, currentUser, true);
+		}
+
+		try {
+			return markSeatsHeld(eventId, sortedSeatIds, currentUser, true);
+		} catch (Exception e) {
+			seatLockService.releaseLocks(sortedSeatIds, currentUser.getEmail());
 
-				seat.setHeldAt(Instant.now());
-				seat.setHeldByUser(user);
-				log.debug("Seat held by user with email: {}", currentUser.getEmail());
-				seat.setSeatStatus(SeatStatus.HELD);
+			throw e;
+		}
+	}
+
+	//Drafts are still getting their seats and aren't listed yet, so as far as buyers are concerned they don't exist.
+	//Checked before any Redis lock is taken, so nothing has to be cleaned up.
+	private void requireSeatsOnSale(Long eventId) {
+		if (!eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)) {
+			throw new EntityNotFoundException("Event not found");
+		}
+	}
+
+	private void releaseLocksOnRollback(List<Long> sortedSeatIds, String owner) {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					seatLockService.releaseLocks(sortedSeatIds, owner);
+				}
 			}
+		});
+	}
 
+	//Expects the Redis locks for every seat to have just been acquired by this call (acquireLocks is all-or-nothing
+	//NX, so none of them predates it), and releases them again if the seats can't be held in the database
+	private List<SeatResponse> holdLockedSeats(Long eventId, List<Long> sortedSeatIds, User currentUser) {
+		try {
+			List<Seat> seats = markSeatsHeld(eventId, sortedSeatIds, currentUser, false);
 			List<Seat> savedSeats = seatRepository.saveAll(seats);
+			//A seat still HELD by this user in the database only gets here once its Redis lock has expired, so its
+			//new deadline matches the new lock
+			seatHoldExpiryService.scheduleExpiry(sortedSeatIds, seats.getFirst().getHeldAt());
+
 			return savedSeats.stream().map(this::buildSeatResponse).toList();
 		} catch (Exception e) {
-			//If something goes wrong like a seat being locked, postgres crashing or maybe a validation failed
-			//We need to release all the locked seats
-			for (Long lockedSeatId : successfullyLockedSeats) {
-				seatLockService.releaseLock(lockedSeatId, currentUser.getEmail());
-			}
+			//If something goes wrong like postgres crashing or maybe a validation failed
+			//We need to release all the locked seats, again in a single call
+			seatLockService.releaseLocks(sortedSeatIds, currentUser.getEmail());
 
 			throw e;
 		}
 	}
 
+	//Validates the row-locked seats and marks them held by the current user. The seats stay managed, so the
+	//changes are written on the next flush.
+	private List<Seat> markSeatsHeld(Long eventId, List<Long> sortedSeatIds, User currentUser, boolean forNewBooking) {
+		//First of all, we don't need to lock the database anymore since we are using redis to perform the fast in-memory
+		//pessimistic locking. Now, instead of using something like findById, we are using getReferenceById which
+		//doesn't make any calls to the database.
+		// The reason why is that the currentUser is already the authenticated user from
+		//the jwt, which is not easy for someone to crack. Also, if the user doesn't exist later when saving it to the database,
+		//an error will be thrown and the seats will end up being rollback.
+		//getReferenceById just creates a dummy Java User object that holds the id we gave it.
+		//There are times you'll use one over the other. Basically, if you need to know extra details of that id,
+		//then use findById, if you just need a pointer to something that you know exists, then getReferenceById
+		User user = userRepository.getReferenceById(currentUser.getId());
+
+		List<Seat> seats = seatRepository.findAllByIdWithLock(sortedSeatIds);
+
+		if (seats.size() != sortedSeatIds.size()) {
+			throw new EntityNotFoundException("One or more seat IDs are invalid");
+		}
+
+		List<Seat> newlyHeldSeats = new ArrayList<>();
+
+		for (Seat seat : seats) {
+			validateSeatBelongsToEvent(eventId, seat);
+
+			if (seat.getSeatStatus().equals(SeatStatus.AVAILABLE)) {
+				newlyHeldSeats.add(seat);
+			} else {
+				boolean isHeldByCurrentUser = seat.getHeldByUser() != null && seat.getHeldByUser().getId()
+				                                                                  .equals(user.getId());
+
+				if (!isHeldByCurrentUser) {
+					throw new IllegalArgumentException("Seat is not available");
+				}
+
+				//A seat can only be held again by its own pending booking, never moved into another one
+				if (forNewBooking && seat.getBooking() != null) {
+					throw new IllegalArgumentException("Seat is already part of one of your bookings");
+				}
+			}
+		}
+
+		//Every seat is checked before any of them is touched, so a failed check leaves nothing dirty behind
+		Instant heldAt = Instant.now();
+		for (Seat seat : seats) {
+			seat.setHeldAt(heldAt);
+			seat.setHeldByUser(user);
+			log.debug("Seat held by user with email: {}", currentUser.getEmail());
+			seat.setSeatStatus(SeatStatus.HELD);
+		}
+
+		publishSeatStatusChange(newlyHeldSeats, SeatStatus.HELD);
+
+		return seats;
+	}
+
 	/**
 	 * Allows a user to intentionally release seats they are currently holding.
 	 * <p>
@@ -201,9 +468,10 @@ public class SeatService {
 	 * @throws IllegalArgumentException if the user attempts to release a seat held by someone else.
 	 */
 	@Transactional
-	@CacheEvict(value = "availableSeats", allEntries = true)
 	public void releaseSeats(HoldSeatsRequest request, User currentUser) {
 		List<Seat> seats = seatRepository.findAllById(request.seatIds());
+		List<Seat> releasedSeats = new ArrayList<>();
+
 		for (Seat seat : seats) {
 			validateSeatBelongsToEvent(request.eventId(), seat);
 
@@ -211,14 +479,20 @@ public class SeatService {
 				throw new IllegalArgumentException("You cannot release a seat you do not hold.");
 			}
 
-			seatLockService.releaseLock(seat.getId(), currentUser.getEmail());
+			if (seat.getSeatStatus() != SeatStatus.AVAILABLE) {
+				releasedSeats.add(seat);
+			}
 
 			seat.setSeatStatus(SeatStatus.AVAILABLE);
 			seat.setHeldAt(null);
 			seat.setHeldByUser(null);
 		}
 
+		//Only after every seat has been checked do we drop the locks, all in one go
+		seatLockService.releaseLocks(seats.stream().map(Seat::getId).toList(), currentUser.getEmail());
+
 		seatRepository.saveAll(seats);
+		publishSeatStatusChange(releasedSeats, SeatStatus.AVAILABLE);
 	}
 
 	/**
@@ -226,26 +500,28 @@ public class SeatService {
 	 * clearing all database allocations and destroying any lingering Redis locks.
 	 * <p>
 	 * This administrative override is used to un-jam seats that remain in a {@link SeatStatus#HELD}
-	 * state despite the expiration of their corresponding Redis TTL. This method triggers a cache eviction
-	 * for the "availableSeats" cache to ensure frontend clients immediately see the freed capacity.
+	 * state despite the expiration of their corresponding Redis TTL. The published {@link SeatStatusChangedEvent}
+	 * invalidates the "availableSeats" cache of the affected events to ensure frontend clients immediately see
+	 * the freed capacity.
+	 * </p>
+	 * <p>
+	 * Seats are released in chunks of {@value #RELEASE_BATCH_SIZE}, one {@code UPDATE ... RETURNING} and one
+	 * multi-key Redis {@code DEL} per chunk, each chunk in its own transaction, so releasing a whole venue never
+	 * loads a single seat entity.
 	 * </p>
 	 *
 	 * @param seatIds A list of unique seat identifiers to forcefully reset.
 	 */
-	@CacheEvict(value = "availableSeats", allEntries = true)
 	public void releaseSeats(List<Long> seatIds) {
 		try {
-			List<Seat> seats = seatRepository.findAllById(seatIds);
-			for (Seat seat : seats) {
-				seatLockService.forceReleaseLock(seat.getId());
-
-				seat.setSeatStatus(SeatStatus.AVAILABLE);
-				seat.setBooking(null);
-				seat.setHeldAt(null);
-				seat.setHeldByUser(null);
-			}
+			for (int from = 0; from < seatIds.size(); from += RELEASE_BATCH_SIZE) {
+				List<Long> chunk = seatIds.subList(from, Math.min(from + RELEASE_BATCH_SIZE, seatIds.size()));
 
-			seatRepository.saveAll(seats);
+				List<ReleasedSeat> releasedSeats = seatRepository.releaseByIdIn(chunk);
+				//Every requested lock goes, even for seats the database already had as available
+				seatLockService.forceReleaseLocks(chunk);
+				publishRelease(releasedSeats);
+			}
 		} catch (Exception e) {
 			log.error("An issue occurred when trying to release seats: {}.", e.getMessage(), e);
 			throw e;
@@ -254,33 +530,118 @@ public class SeatService {
 
 	/**
 	 * System task invoked by the Scheduler to release seat holds that have timed out.
+	 * <p>
+	 * This is the safety net behind the hold expiry queue (see {@link SeatHoldExpiryService}), it catches any hold
+	 * that never made it onto the queue. Expired holds are released {@value #RELEASE_BATCH_SIZE} at a time, each
+	 * batch in its own short transaction, until none are left. Seats that belong to a pending booking are left
+	 * to the booking's own expiry.
+	 * </p>
 	 *
 	 * @param cutoffTime The timestamp defining the expiration threshold (e.g., 15 minutes ago).
 	 */
-	@Transactional
-	@CacheEvict(value = "availableSeats", allEntries = true)
 	public void releaseExpiredHolds(Instant cutoffTime) {
-		List<Seat> expiredSeats = seatRepository.findBySeatStatusAndHeldAtBefore(
-				SeatStatus.HELD,
-				cutoffTime
-		);
+		List<ReleasedSeat> releasedSeats;
 
-		if (expiredSeats.isEmpty()) return;
+		do {
+			releasedSeats = seatRepository.releaseExpiredHolds(cutoffTime, RELEASE_BATCH_SIZE);
+			releaseOwnedLocks(releasedSeats);
+			publishRelease(releasedSeats);
+		} while (releasedSeats.size() == RELEASE_BATCH_SIZE);
+	}
 
-		for (Seat seat : expiredSeats) {
-			String heldByEmail = seat.getHeldByUser().getEmail();
-			if (heldByEmail == null) {
-				log.warn("Seat with ID {} has a null email field. Can not release Redis lock!", seat.getId());
-			} else {
-				seatLockService.releaseLock(seat.getId(), heldByEmail);
-			}
+	/**
+	 * System task invoked by the Scheduler to release a batch of seats claimed from the hold expiry queue.
+	 * <p>
+	 * Each seat is re-checked by the release statement itself: only seats that are still {@link SeatStatus#HELD},
+	 * were held at or before the cutoff and are not part of a pending booking are released. Seats that were
+	 * booked or released in the meantime are stale queue entries and are dropped. Seats that are still held but
+	 * weren't released (locked by another transaction at the time) are put back on the queue to be retried
+	 * shortly, since nothing else would release them before the periodic sweep.
+	 * </p>
+	 *
+	 * @param seatIds    The seat IDs claimed from the queue.
+	 * @param cutoffTime The timestamp defining the expiration threshold (e.g., 15 minutes ago).
+	 * @return The number of seats that were actually released.
+	 */
+	public int releaseExpiredHolds(List<Long> seatIds, Instant cutoffTime) {
+		if (seatIds.isEmpty()) return 0;
 
-			seat.setHeldAt(null);
-			seat.setHeldByUser(null);
-			seat.setSeatStatus(SeatStatus.AVAILABLE);
+		List<ReleasedSeat> releasedSeats = seatRepository.releaseExpiredHoldsByIdIn(seatIds, cutoffTime);
+
+		releaseOwnedLocks(releasedSeats);
+		publishRelease(releasedSeats);
+
+		if (releasedSeats.size() < seatIds.size()) {
+			requeueUnreleasedHolds(seatIds, releasedSeats);
 		}
+		return releasedSeats.size();
+	}
+
+	private void requeueUnreleasedHolds(List<Long> seatIds, List<ReleasedSeat> releasedSeats) {
+		Set<Long> released = releasedSeats.stream().map(ReleasedSeat::seatId).collect(Collectors.toSet());
+		List<Long> unreleased = seatIds.stream().filter(seatId -> !released.contains(seatId)).toList();
+
+		List<Long> stillHeld = seatRepository.findUnbookedSeatIdsByIdInAndSeatStatus(unreleased, SeatStatus.HELD);
+		if (stillHeld.isEmpty()) return;
 
-		seatRepository.saveAll(expiredSeats);
+		seatHoldExpiryService.retryLater(stillHeld, UNRELEASED_HOLD_RETRY_DELAY);
+	}
+
+	/**
+	 * INTERNAL USE ONLY.
+	 * Returns every seat attached to the given bookings to the {@link SeatStatus#AVAILABLE} pool, releasing
+	 * the owners' Redis locks along the way.
+	 * <p>
+	 * Runs as a handful of set-based statements of at most {@value #RELEASE_BATCH_SIZE} seats each inside the
+	 * caller's transaction, so cancelling the bookings of a sold-out event doesn't load (or flush) its seats.
+	 * </p>
+	 *
+	 * @param bookingIds The unique identifiers of the bookings being cancelled or expired.
+	 */
+	@Transactional
+	public void releaseBookedSeats(List<Long> bookingIds) {
+		for (int from = 0; from < bookingIds.size(); from += RELEASE_BATCH_SIZE) {
+			List<Long> chunk = bookingIds.subList(from, Math.min(from + RELEASE_BATCH_SIZE, bookingIds.size()));
+			List<ReleasedSeat> releasedSeats;
+
+			do {
+				releasedSeats = seatRepository.releaseByBookingIdIn(chunk, RELEASE_BATCH_SIZE);
+				releaseOwnedLocks(releasedSeats);
+				publishRelease(releasedSeats);
+			} while (releasedSeats.size() == RELEASE_BATCH_SIZE);
+		}
+	}
+
+	/**
+	 * INTERNAL USE ONLY.
+	 * Attaches the next batch of a block reservation's seats to its booking.
+	 * <p>
+	 * One set-based statement picks up to {@code limit} available seats of the block, marks them
+	 * {@link SeatStatus#HELD} and links them to the booking (see
+	 * {@link io.github.kxng0109.quicktix.repositories.SeatBulkOperations#reserveBlock}). No Redis locks are taken:
+	 * seats a consumer is holding right now are row-locked or already held, and are skipped rather than waited on.
+	 * </p>
+	 *
+	 * @param eventId    The ID of the event the block belongs to.
+	 * @param sectionIds Sections whose seats are part of the block.
+	 * @param rowIds     Rows whose seats are part of the block.
+	 * @param seatIds    Individual seats of the block.
+	 * @param bookingId  The pending booking the seats are attached to.
+	 * @param userId     The owner of the booking.
+	 * @param limit      The maximum number of seats to reserve.
+	 * @return The IDs of the reserved seats. Fewer than {@code limit} means the block has nothing left to reserve.
+	 */
+	@Transactional
+	public List<Long> reserveBlock(Long eventId, Collection<Long> sectionIds, Collection<Long> rowIds,
+	                               Collection<Long> seatIds, Long bookingId, Long userId, int limit) {
+		List<Long> reservedSeatIds = seatRepository.reserveBlock(
+				eventId, sectionIds, rowIds, seatIds, bookingId, userId, limit
+		);
+
+		if (!reservedSeatIds.isEmpty()) {
+			applicationEventPublisher.publishEvent(new SeatStatusChangedEvent(eventId, reservedSeatIds, SeatStatus.HELD));
+		}
+		return reservedSeatIds;
 	}
 
 	/**
@@ -296,7 +657,8 @@ public class SeatService {
 	 */
 	@Transactional(readOnly = true)
 	public List<Seat> validateAndGetHeldSeats(List<Long> seatIds, Long userId, Long eventId) {
-		List<Seat> seats = seatRepository.findAllById(seatIds);
+		//The caller builds a booking response from these, which reads every seat's row and section
+		List<Seat> seats = seatRepository.findWithLayoutByIdIn(seatIds);
 
 		if (seats.size() != seatIds.size()) {
 			throw new EntityNotFoundException("One or more seats not found");
@@ -322,6 +684,33 @@ public class SeatService {
 	}
 
 
+	private void releaseOwnedLocks(List<ReleasedSeat> releasedSeats) {
+		Map<Long, String> ownersBySeatId = new HashMap<>();
+
+		for (ReleasedSeat seat : releasedSeats) {
+			if (seat.lockOwner() == null) {
+				log.warn("Seat with ID {} has no known holder. Can not release Redis lock!", seat.seatId());
+			} else {
+				ownersBySeatId.put(seat.seatId(), seat.lockOwner());
+			}
+		}
+
+		seatLockService.releaseLocks(ownersBySeatId);
+	}
+
+	//Same contract as publishSeatStatusChange, for seats released in bulk
+	private void publishRelease(List<ReleasedSeat> releasedSeats) {
+		releasedSeats.stream()
+		             .filter(seat -> seat.previousStatus() != SeatStatus.AVAILABLE)
+		             .collect(Collectors.groupingBy(
+				             ReleasedSeat::eventId,
+				             Collectors.mapping(ReleasedSeat::seatId, Collectors.toList())
+		             ))
+		             .forEach((eventId, seatIds) -> applicationEventPublisher.publishEvent(
+				             new SeatStatusChangedEvent(eventId, seatIds, SeatStatus.AVAILABLE)
+		             ));
+	}
+
 	private void validateSeatBelongsToEvent(Long eventId, Seat seat) {
 		if (!seat.getEvent().getId().equals(eventId)) {
 			throw new IllegalArgumentException(
@@ -330,6 +719,29 @@ public class SeatService {
 		}
 	}
 
+	//Listeners only run once the surrounding transaction commits, see SeatStatusChangeListener
+	private void publishSeatStatusChange(List<Seat> seats, SeatStatus status) {
+		seats.stream()
+		     .collect(Collectors.groupingBy(
+				     seat -> seat.getEvent().getId(),
+				     Collectors.mapping(Seat::getId, Collectors.toList())
+		     ))
+		     .forEach((eventId, seatIds) -> applicationEventPublisher.publishEvent(
+				     new SeatStatusChangedEvent(eventId, seatIds, status)
+		     ));
+	}
+
+	private SeatResponse buildSeatResponse(SeatLayoutEntry entry) {
+		return SeatResponse.builder()
+		                   .id(entry.getSeatId())
+		                   .seatNumber(entry.getSeatNumber())
+		                   .rowName(entry.getRowName())
+		                   .sectionName(entry.getSectionName())
+		                   .price(entry.getPrice())
+		                   .status(entry.getSeatStatus().getDisplayName())
+		                   .build();
+	}
+
 	private SeatResponse buildSeatResponse(Seat seat) {
 		return SeatResponse.builder()
 		                   .id(seat.getId())
@@ -340,4 +752,35 @@ public class SeatService {
 		                   .status(seat.getSeatStatus().getDisplayName())
 		                   .build();
 	}
+
+	/**
+	 * Position of a seat in layout order, handed to clients as an opaque URL-safe token.
+	 */
+	private record SeatCursor(long sectionId, int rowOrder, int seatNumber, long seatId) {
+		//Sorts before every real seat
+		private static final SeatCursor START = new SeatCursor(0, Integer.MIN_VALUE, Integer.MIN_VALUE, 0);
+
+		private static SeatCursor of(SeatLayoutEntry entry) {
+			return new SeatCursor(entry.getSectionId(), entry.getRowOrder(), entry.getSeatNumber(), entry.getSeatId());
+		}
+
+		private static SeatCursor decode(String cursor) {
+			try {
+				String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+				return new SeatCursor(
+						Long.parseLong(parts[0]),
+						Integer.parseInt(parts[1]),
+						Integer.parseInt(parts[2]),
+						Long.parseLong(parts[3])
+				);
+			} catch (RuntimeException e) {
+				throw new IllegalArgumentException("Invalid cursor");
+			}
+		}
+
+		private String encode() {
+			String position = sectionId + ":" + rowOrder + ":" + seatNumber + ":" + seatId;
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+		}
+	}
 }
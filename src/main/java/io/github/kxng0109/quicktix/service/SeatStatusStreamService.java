@@ -0,0 +1,228 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.response.SeatStatusUpdateResponse;
+import io.github.kxng0109.quicktix.event.SeatStatusChangedEvent;
+import io.github.kxng0109.quicktix.repositories.EventRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams live seat status changes to browsers over Server-Sent Events.
+ * <p>
+ * Committed seat status transitions are published to a Redis channel per event ({@code seat-status:{eventId}}).
+ * Every node subscribes to the whole channel pattern and forwards each message to the SSE connections it holds
+ * for that event, so a subscriber sees every change no matter which node handled the hold or the booking.
+ * </p>
+ * <p>
+ * Each connection gets its own bounded buffer, drained by its own virtual thread. Fanning out a message never
+ * blocks: if a client reads too slowly and its buffer fills up, its stream is closed instead of letting it hold
+ * memory or delay everyone else. The client can then fetch the seat map again and reconnect.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatStatusStreamService implements MessageListener {
+
+	public static final String CHANNEL_PREFIX = "seat-status:";
+	public static final Topic CHANNEL_PATTERN = new PatternTopic(CHANNEL_PREFIX + "*");
+
+	/**
+	 * How many changes may be waiting for a single connection before it is considered too slow and closed.
+	 */
+	static final int BUFFER_CAPACITY = 256;
+	/**
+	 * Idle streams get a comment line this often so proxies and load balancers don't cut them off.
+	 */
+	private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+	private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(30);
+
+	private final StringRedisTemplate redisTemplate;
+	private final EventRepository eventRepository;
+	private final ObjectMapper objectMapper;
+
+	private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * Opens a live stream of seat status changes for an event.
+	 * <p>
+	 * Each change is sent as a {@code seat-status} event whose ID is the seat map version it produced, so the
+	 * stream lines up with the versioned seat map.
+	 * </p>
+	 *
+	 * @param eventId The unique identifier of the event.
+	 * @return The emitter backing the stream.
+	 * @throws EntityNotFoundException if the event does not exist.
+	 */
+	public SseEmitter subscribe(Long eventId) {
+		if (!eventRepository.existsById(eventId)) {
+			throw new EntityNotFoundException("Event not found");
+		}
+
+		SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+		Subscriber subscriber = new Subscriber(eventId, emitter);
+
+		subscribers.computeIfAbsent(eventId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+		emitter.onCompletion(subscriber::close);
+		emitter.onTimeout(subscriber::close);
+		emitter.onError(error -> subscriber.close());
+
+		subscriber.start();
+		return emitter;
+	}
+
+	/**
+	 * Publishes a committed seat status transition to every node.
+	 *
+	 * @param change  The committed transition.
+	 * @param version The seat map version the transition was recorded as.
+	 */
+	public void publish(SeatStatusChangedEvent change, long version) {
+		SeatStatusUpdateResponse update = SeatStatusUpdateResponse.builder()
+		                                                          .eventId(change.eventId())
+		                                                          .version(version)
+		                                                          .status(String.valueOf(
+				                                                          SeatMapService.statusCode(change.status())
+		                                                          ))
+		                                                          .seatIds(change.seatIds())
+		                                                          .build();
+
+		redisTemplate.convertAndSend(CHANNEL_PREFIX + change.eventId(), objectMapper.writeValueAsString(update));
+	}
+
+	/**
+	 * Receives seat status changes from Redis and hands them to the local subscribers of the event.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			dispatch(objectMapper.readValue(message.getBody(), SeatStatusUpdateResponse.class));
+		} catch (Exception e) {
+			log.error("Failed to dispatch seat status update: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Returns how many open streams this node holds for an event.
+	 *
+	 * @param eventId The unique identifier of the event.
+	 * @return The number of local subscribers.
+	 */
+	public int getSubscriberCount(Long eventId) {
+		Set<Subscriber> eventSubscribers = subscribers.get(eventId);
+		return eventSubscribers == null ? 0 : eventSubscribers.size();
+	}
+
+	void dispatch(SeatStatusUpdateResponse update) {
+		Set<Subscriber> eventSubscribers = subscribers.get(update.eventId());
+		if (eventSubscribers == null) return;
+
+		eventSubscribers.forEach(subscriber -> subscriber.offer(update));
+	}
+
+	@PreDestroy
+	void closeAll() {
+		subscribers.values().forEach(eventSubscribers -> eventSubscribers.forEach(Subscriber::close));
+	}
+
+	private void unregister(Subscriber subscriber) {
+		subscribers.computeIfPresent(subscriber.eventId, (id, eventSubscribers) -> {
+			eventSubscribers.remove(subscriber);
+			return eventSubscribers.isEmpty() ? null : eventSubscribers;
+		});
+	}
+
+	/**
+	 * One open stream. Updates are queued by the Redis listener thread and sent by the subscriber's own
+	 * virtual thread, so a slow client only ever blocks itself.
+	 */
+	private final class Subscriber implements Runnable {
+		private final Long eventId;
+		private final SseEmitter emitter;
+		private final BlockingQueue<SeatStatusUpdateResponse> buffer = new ArrayBlockingQueue<>(BUFFER_CAPACITY);
+		private volatile boolean closed;
+		private volatile Thread sender;
+
+		private Subscriber(Long eventId, SseEmitter emitter) {
+			this.eventId = eventId;
+			this.emitter = emitter;
+		}
+
+		void start() {
+			sender = Thread.ofVirtual()
+			               .name("seat-stream-" + eventId)
+			               .start(this);
+		}
+
+		void offer(SeatStatusUpdateResponse update) {
+			if (closed) return;
+
+			if (!buffer.offer(update)) {
+				log.warn("Closing seat status stream for event {}: client is too slow to keep up", eventId);
+				close();
+			}
+		}
+
+		void close() {
+			closed = true;
+			unregister(this);
+
+			Thread thread = sender;
+			if (thread != null && thread != Thread.currentThread()) thread.interrupt();
+		}
+
+		@Override
+		public void run() {
+			try {
+				while (!closed) {
+					SeatStatusUpdateResponse update = buffer.poll(HEARTBEAT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+					if (update == null) {
+						emitter.send(SseEmitter.event().comment("heartbeat"));
+					} else {
+						emitter.send(SseEmitter.event()
+						                       .name("seat-status")
+						                       .id(String.valueOf(update.version()))
+						                       .data(update, MediaType.APPLICATION_JSON));
+					}
+				}
+			} catch (InterruptedException e) {
+				//Closed while waiting for the next update
+			} catch (IOException | IllegalStateException e) {
+				//The client went away or the emitter was already completed
+				log.debug("Seat status stream for event {} ended: {}", eventId, e.getMessage());
+			} finally {
+				close();
+				completeQuietly();
+			}
+		}
+
+		private void completeQuietly() {
+			try {
+				emitter.complete();
+			} catch (Exception e) {
+				log.debug("Seat status stream for event {} was already closed", eventId);
+			}
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.request.CreateSeatingTemplateRequest;
+import io.github.kxng0109.quicktix.dto.request.RowRequest;
+import io.github.kxng0109.quicktix.dto.request.SectionRequest;
+import io.github.kxng0109.quicktix.dto.response.SeatingTemplateResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatingTemplateSectionResponse;
+import io.github.kxng0109.quicktix.entity.SeatingTemplate;
+import io.github.kxng0109.quicktix.entity.TemplateRow;
+import io.github.kxng0109.quicktix.entity.TemplateSection;
+import io.github.kxng0109.quicktix.entity.Venue;
+import io.github.kxng0109.quicktix.repositories.SeatingTemplateRepository;
+import io.github.kxng0109.quicktix.repositories.VenueRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Service responsible for the reusable seating layouts of venues.
+ * <p>
+ * A venue usually hosts many events with the same layout. Saving that layout once as a template lets each event
+ * be created from the template's ID (see {@link EventService#createEvent}), which copies the sections and rows
+ * inside the database instead of having the whole layout sent and inserted row by row again.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatingTemplateService {
+
+	private final SeatingTemplateRepository seatingTemplateRepository;
+	private final VenueRepository venueRepository;
+
+	/**
+	 * Saves a seating layout for a venue.
+	 *
+	 * @param venueId The unique identifier of the venue.
+	 * @param request The name of the layout and its sections and rows.
+	 * @return The saved template.
+	 * @throws EntityNotFoundException if the venue does not exist.
+	 */
+	@Transactional
+	public SeatingTemplateResponse createTemplate(Long venueId, CreateSeatingTemplateRequest request) {
+		Venue venue = venueRepository.findById(venueId)
+		                             .orElseThrow(() -> new EntityNotFoundException("Venue not found"));
+
+		SeatingTemplate template = SeatingTemplate.builder()
+		                                          .name(request.name())
+		                                          .venue(venue)
+		                                          .build();
+
+		long totalSeats = 0;
+
+		for (SectionRequest sectionRequest : request.sections()) {
+			TemplateSection section = TemplateSection.builder()
+			                                         .name(sectionRequest.name())
+			                                         .description(sectionRequest.description())
+			                                         .capacity(sectionRequest.capacity())
+			                                         .price(sectionRequest.basePrice())
+			                                         .template(template)
+			                                         .build();
+
+			for (RowRequest rowRequest : sectionRequest.rows()) {
+				section.getRows().add(TemplateRow.builder()
+				                                 .name(rowRequest.name())
+				                                 .rowOrder(rowRequest.rowOrder())
+				                                 .seatCount(rowRequest.numberOfSeats())
+				                                 .section(section)
+				                                 .build());
+				totalSeats += rowRequest.numberOfSeats();
+			}
+
+			template.getSections().add(section);
+		}
+
+		template.setTotalSeats(totalSeats);
+
+		return buildSeatingTemplateResponse(seatingTemplateRepository.save(template));
+	}
+
+	/**
+	 * Retrieves every seating template of a venue.
+	 *
+	 * @param venueId The unique identifier of the venue.
+	 * @return The venue's templates, oldest first.
+	 * @throws EntityNotFoundException if the venue does not exist.
+	 */
+	@Transactional(readOnly = true)
+	public List<SeatingTemplateResponse> getTemplatesByVenue(Long venueId) {
+		if (!venueRepository.existsById(venueId)) {
+			throw new EntityNotFoundException("Venue not found");
+		}
+
+		return seatingTemplateRepository.findByVenueIdOrderById(venueId)
+		                                .stream()
+		                                .map(this::buildSeatingTemplateResponse)
+		                                .toList();
+	}
+
+	private SeatingTemplateResponse buildSeatingTemplateResponse(SeatingTemplate template) {
+		return SeatingTemplateResponse.builder()
+		                              .id(template.getId())
+		                              .venueId(template.getVenue().getId())
+		                              .name(template.getName())
+		                              .totalSeats(template.getTotalSeats())
+		                              .sections(template.getSections()
+		                                                .stream()
+		                                                .map(section -> SeatingTemplateSectionResponse
+				                                                .builder()
+				                                                .id(section.getId())
+				                                                .name(section.getName())
+				                                                .capacity(section.getCapacity())
+				                                                .basePrice(section.getPrice())
+				                                                .build())
+		                                                .toList())
+		                              .build();
+	}
+}
@@ -0,0 +1,177 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.response.EventResponse;
+import io.github.kxng0109.quicktix.dto.response.PagedResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Stampede-protected Redis cache for the pages of the upcoming events listing.
+ * <p>
+ * Every page (by number, size and sort) is stored for {@link #HARD_TTL}, next to a freshness marker that Redis
+ * expires after {@link #SOFT_TTL}. Once the marker is gone the page counts as stale: the first reader to notice takes a short Redis lock for the
+ * page and recomputes it, while every other reader on every node keeps getting the stale copy. An expiry in the
+ * middle of an on-sale therefore costs one query per page, not one per request.
+ * </p>
+ * <p>
+ * Pages that aren't cached at all have nothing to serve in the meantime, so readers that miss the lock wait up
+ * to {@link #MISS_WAIT} for the holder to write the page, and only then compute it themselves.
+ * </p>
+ * <p>
+ * {@link #invalidate()} marks every page stale at once by bumping a generation counter that every page records,
+ * so an event being created, updated or cancelled shows up on the next refresh without waiting out the soft TTL.
+ * Both checks are made by Redis alone, so clock skew between nodes can't make a page look fresher than it is.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UpcomingEventsCache {
+
+	private static final String PAGE_PREFIX = "upcomingEvents:page:";
+	private static final String FRESH_PREFIX = "upcomingEvents:fresh:";
+	private static final String LOCK_PREFIX = "upcomingEvents:lock:";
+	private static final String GENERATION_KEY = "upcomingEvents:generation";
+
+	/**
+	 * How long a page is served as-is. Seat counts on it may be this far behind.
+	 */
+	static final Duration SOFT_TTL = Duration.ofSeconds(15);
+	/**
+	 * How long a page stays in Redis, and so how long it can be served stale if every refresh keeps failing.
+	 */
+	static final Duration HARD_TTL = Duration.ofMinutes(10);
+	/**
+	 * Upper bound on a refresh. If the holder dies, the lock frees itself after this long.
+	 */
+	static final Duration LOCK_TTL = Duration.ofSeconds(10);
+	static final Duration MISS_WAIT = Duration.ofSeconds(2);
+	private static final long MISS_POLL_INTERVAL_MILLIS = 50;
+
+	/**
+	 * Check-and-delete, so a refresh that overran {@link #LOCK_TTL} doesn't release the lock of the next one.
+	 */
+	private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+			"""
+			if redis.call('get', KEYS[1]) == ARGV[1] then
+				return redis.call('del', KEYS[1])
+			end
+			return 0
+			""",
+			Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Returns a page of the upcoming events listing, computing it with {@code loader} only when no fresh copy
+	 * exists and no other caller is already computing it.
+	 *
+	 * @param pageable The requested page, including its sort.
+	 * @param loader   Computes the page from the database.
+	 * @return The page, possibly up to {@link #SOFT_TTL} old (or older while a refresh is running).
+	 */
+	public PagedResponse<EventResponse> get(Pageable pageable, Supplier<PagedResponse<EventResponse>> loader) {
+		String pageKey = pageKey(pageable);
+
+		List<String> values = redisTemplate.opsForValue().multiGet(
+				List.of(PAGE_PREFIX + pageKey, FRESH_PREFIX + pageKey, GENERATION_KEY)
+		);
+		CachedPage cached = values == null ? null : read(values.get(0));
+		boolean fresh = values != null && values.get(1) != null;
+
+		if (cached != null && fresh && cached.generation() == generationOf(values.get(2))) return cached.page();
+
+		String lockKey = LOCK_PREFIX + pageKey;
+		String token = UUID.randomUUID().toString();
+
+		if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, LOCK_TTL))) {
+			try {
+				return refresh(pageKey, loader);
+			} finally {
+				redisTemplate.execute(RELEASE_LOCK_SCRIPT, Collections.singletonList(lockKey), token);
+			}
+		}
+
+		//Another caller is refreshing the page, the stale copy will do until it's done
+		if (cached != null) return cached.page();
+
+		return awaitRefresh(pageKey, loader);
+	}
+
+	/**
+	 * Marks every cached page stale. The pages stay servable, the next reader of each one refreshes it.
+	 */
+	public void invalidate() {
+		redisTemplate.opsForValue().increment(GENERATION_KEY);
+	}
+
+	private PagedResponse<EventResponse> refresh(String pageKey, Supplier<PagedResponse<EventResponse>> loader) {
+		//Read before loading, so an invalidation that lands while the query runs still marks the result stale
+		long generation = generationOf(redisTemplate.opsForValue().get(GENERATION_KEY));
+		PagedResponse<EventResponse> page = loader.get();
+
+		redisTemplate.opsForValue().set(
+				PAGE_PREFIX + pageKey,
+				objectMapper.writeValueAsString(new CachedPage(generation, page)),
+				HARD_TTL
+		);
+		redisTemplate.opsForValue().set(FRESH_PREFIX + pageKey, String.valueOf(generation), SOFT_TTL);
+		return page;
+	}
+
+	private PagedResponse<EventResponse> awaitRefresh(String pageKey, Supplier<PagedResponse<EventResponse>> loader) {
+		long deadline = System.currentTimeMillis() + MISS_WAIT.toMillis();
+
+		try {
+			while (System.currentTimeMillis() < deadline) {
+				Thread.sleep(MISS_POLL_INTERVAL_MILLIS);
+
+				CachedPage cached = read(redisTemplate.opsForValue().get(PAGE_PREFIX + pageKey));
+				if (cached != null) return cached.page();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		log.warn("Upcoming events page {} was not refreshed within {}, loading it directly", pageKey, MISS_WAIT);
+		return loader.get();
+	}
+
+	private static long generationOf(String value) {
+		return value == null ? 0 : Long.parseLong(value);
+	}
+
+	private CachedPage read(String json) {
+		if (json == null) return null;
+
+		try {
+			return objectMapper.readValue(json, CachedPage.class);
+		} catch (JacksonException e) {
+			//Most likely written by an older version of the response, treat it like a miss
+			log.warn("Discarding unreadable upcoming events page: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private static String pageKey(Pageable pageable) {
+		return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+	}
+
+	record CachedPage(long generation, PagedResponse<EventResponse> page) {
+	}
+}
@@ -0,0 +1,255 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.request.WaitingRoomConfigRequest;
+import io.github.kxng0109.quicktix.dto.response.WaitingRoomResponse;
+import io.github.kxng0109.quicktix.entity.User;
+import io.github.kxng0109.quicktix.enums.AdmissionStatus;
+import io.github.kxng0109.quicktix.exception.AdmissionRequiredException;
+import io.github.kxng0109.quicktix.repositories.EventRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Virtual waiting room that admits users to high-demand events at a steady, configurable rate.
+ * <p>
+ * Without it, a flash sale sends the whole crowd to the hold endpoint at once, and the rate limiter's 429s only
+ * turn that crowd into a thundering herd of retries. With a waiting room enabled, users first join the event's
+ * queue, a Redis sorted set where each user's score is the ticket number they were given on arrival. Users are
+ * admitted strictly in ticket order, at {@code admissionsPerMinute}, no matter how large the queue gets, so the
+ * load that reaches Postgres stays flat.
+ * </p>
+ * <p>
+ * <b>Admission:</b> The admission frontier is advanced lazily, like a token bucket: every poll moves it forward by
+ * however many admissions have accrued since the last one, in a single Lua script. No scheduler is needed and all
+ * nodes share the same frontier. Admitted users receive a short-lived admission token, which the hold and booking
+ * endpoints require for gated events (see {@link #checkAdmission(Long, User, String)}). When the token expires,
+ * the user has to queue again.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+	public static final String ADMISSION_TOKEN_HEADER = "X-Admission-Token";
+
+	/**
+	 * How long an admitted user has to hold seats and create a booking.
+	 */
+	public static final Duration ADMISSION_TTL = Duration.ofMinutes(20);
+
+	private static final String STATE_PREFIX = "waiting-room:state:";
+	private static final String QUEUE_PREFIX = "waiting-room:queue:";
+	private static final String ADMISSION_PREFIX = "waiting-room:admission:";
+	private static final Duration QUEUE_TTL = Duration.ofDays(1);
+
+	/**
+	 * Queues a user (once) and advances the admission frontier.
+	 * KEYS: state hash, queue sorted set. ARGV: user ID, queue TTL in seconds.
+	 * Returns {ticket, admitted, rate}, or {-1, 0, 0} if the event has no waiting room.
+	 * <p>
+	 * At most one minute's worth of admissions can build up while the queue is empty, so the first users
+	 * of a quiet event get straight in, but a sudden crowd still can't get in faster than the configured rate.
+	 * A freshly enabled waiting room starts with that minute already accrued.
+	 * </p>
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> JOIN_SCRIPT = new DefaultRedisScript<>(
+			"""
+			local rate = tonumber(redis.call('hget', KEYS[1], 'rate'))
+			if not rate then
+				return {-1, 0, 0}
+			end
+
+			local ticket = redis.call('zscore', KEYS[2], ARGV[1])
+			if ticket then
+				ticket = tonumber(ticket)
+			else
+				ticket = redis.call('hincrby', KEYS[1], 'issued', 1)
+				redis.call('zadd', KEYS[2], ticket, ARGV[1])
+				redis.call('expire', KEYS[2], ARGV[2])
+			end
+
+			local time = redis.call('time')
+			local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+			local issued = tonumber(redis.call('hget', KEYS[1], 'issued') or '0')
+			local admitted = tonumber(redis.call('hget', KEYS[1], 'admitted') or '0')
+			local last = tonumber(redis.call('hget', KEYS[1], 'last') or (now - 60000))
+
+			if last < now - 60000 then
+				last = now - 60000
+			end
+
+			local granted = math.min(math.floor((now - last) * rate / 60000), issued - admitted)
+			if granted > 0 then
+				admitted = admitted + granted
+				last = last + math.floor(granted * 60000 / rate)
+			end
+
+			redis.call('hset', KEYS[1], 'admitted', admitted, 'last', last)
+			return {ticket, admitted, rate}
+			""",
+			List.class
+	);
+
+	/**
+	 * Returns 1 if the event has no waiting room (KEYS[1]) or the user's admission token (KEYS[2]) matches ARGV[1].
+	 * Both checks happen in one round trip, so gated and ungated events cost the same on the hold path.
+	 */
+	private static final RedisScript<Long> CHECK_ADMISSION_SCRIPT = new DefaultRedisScript<>(
+			"""
+			if redis.call('hexists', KEYS[1], 'rate') == 0 then
+				return 1
+			end
+			if redis.call('get', KEYS[2]) == ARGV[1] then
+				return 1
+			end
+			return 0
+			""",
+			Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final EventRepository eventRepository;
+
+	/**
+	 * Enables an event's waiting room, or changes its admission rate if it is already enabled.
+	 * <p>
+	 * Changing the rate keeps the queue and everyone's position in it.
+	 * </p>
+	 *
+	 * @param eventId The unique identifier of the event.
+	 * @param request The payload containing the admission rate.
+	 * @throws EntityNotFoundException if the event does not exist.
+	 */
+	public void configure(Long eventId, WaitingRoomConfigRequest request) {
+		if (!eventRepository.existsById(eventId)) {
+			throw new EntityNotFoundException("Event not found");
+		}
+
+		redisTemplate.opsForHash().put(
+				STATE_PREFIX + eventId,
+				"rate",
+				String.valueOf(request.admissionsPerMinute())
+		);
+		log.info("Waiting room for event {} admits {} users per minute", eventId, request.admissionsPerMinute());
+	}
+
+	/**
+	 * Disables an event's waiting room and discards its queue. Admission tokens that were already issued simply
+	 * expire, since they are no longer required.
+	 *
+	 * @param eventId The unique identifier of the event.
+	 */
+	public void disable(Long eventId) {
+		redisTemplate.delete(List.of(STATE_PREFIX + eventId, QUEUE_PREFIX + eventId));
+		log.info("Waiting room for event {} disabled", eventId);
+	}
+
+	/**
+	 * Joins the event's waiting room, or reports the user's place in it if they already joined.
+	 * <p>
+	 * Clients poll this endpoint until they are admitted. Joining again never loses the user's place.
+	 * </p>
+	 *
+	 * @param eventId     The unique identifier of the event.
+	 * @param currentUser The authenticated user.
+	 * @return The user's position and, once admitted, their admission token.
+	 * @throws EntityNotFoundException if the event does not exist.
+	 */
+	public WaitingRoomResponse join(Long eventId, User currentUser) {
+		String admissionKey = admissionKey(eventId, currentUser);
+
+		String existingToken = redisTemplate.opsForValue().get(admissionKey);
+		if (existingToken != null) {
+			return buildResponse(eventId, AdmissionStatus.ADMITTED, 0, 0, existingToken);
+		}
+
+		List<?> result = redisTemplate.execute(
+				JOIN_SCRIPT,
+				List.of(STATE_PREFIX + eventId, QUEUE_PREFIX + eventId),
+				String.valueOf(currentUser.getId()),
+				String.valueOf(QUEUE_TTL.toSeconds())
+		);
+
+		long ticket = ((Number) result.get(0)).longValue();
+		long admitted = ((Number) result.get(1)).longValue();
+		long rate = ((Number) result.get(2)).longValue();
+
+		if (ticket < 0) {
+			//Only look the event up when it isn't gated, gated events are known to exist
+			if (!eventRepository.existsById(eventId)) {
+				throw new EntityNotFoundException("Event not found");
+			}
+			return buildResponse(eventId, AdmissionStatus.OPEN, 0, 0, null);
+		}
+
+		if (ticket > admitted) {
+			long position = ticket - admitted;
+			long estimatedWaitSeconds = (position * 60 + rate - 1) / rate;
+			return buildResponse(eventId, AdmissionStatus.WAITING, position, estimatedWaitSeconds, null);
+		}
+
+		//Two polls racing here both end up with whichever token was stored first
+		String token = UUID.randomUUID().toString();
+		Boolean issued = redisTemplate.opsForValue().setIfAbsent(admissionKey, token, ADMISSION_TTL);
+		if (!Boolean.TRUE.equals(issued)) {
+			token = redisTemplate.opsForValue().get(admissionKey);
+		}
+
+		//Leaving the queue means an expired admission sends the user to the back of the line
+		redisTemplate.opsForZSet().remove(QUEUE_PREFIX + eventId, String.valueOf(currentUser.getId()));
+
+		return buildResponse(eventId, AdmissionStatus.ADMITTED, 0, 0, token);
+	}
+
+	/**
+	 * Ensures the user may hold or book seats for the event.
+	 * <p>
+	 * Events without a waiting room are always allowed. For gated events, the admission token issued to this
+	 * user must be presented.
+	 * </p>
+	 *
+	 * @param eventId        The unique identifier of the event.
+	 * @param currentUser    The authenticated user.
+	 * @param admissionToken The token from the {@value #ADMISSION_TOKEN_HEADER} header, if any.
+	 * @throws AdmissionRequiredException if the event is gated and the token is missing, expired, or not the
+	 *                                    user's.
+	 */
+	public void checkAdmission(Long eventId, User currentUser, String admissionToken) {
+		Long allowed = redisTemplate.execute(
+				CHECK_ADMISSION_SCRIPT,
+				List.of(STATE_PREFIX + eventId, admissionKey(eventId, currentUser)),
+				admissionToken == null ? "" : admissionToken
+		);
+
+		if (!Long.valueOf(1).equals(allowed)) {
+			throw new AdmissionRequiredException(
+					"This event has a waiting room. Join the queue and retry once you have been admitted.");
+		}
+	}
+
+	private String admissionKey(Long eventId, User currentUser) {
+		return ADMISSION_PREFIX + eventId + ":" + currentUser.getId();
+	}
+
+	private WaitingRoomResponse buildResponse(Long eventId, AdmissionStatus status, long position,
+	                                          long estimatedWaitSeconds, String admissionToken) {
+		return WaitingRoomResponse.builder()
+		                          .eventId(eventId)
+		                          .status(status)
+		                          .position(position)
+		                          .estimatedWaitSeconds(estimatedWaitSeconds)
+		                          .admissionToken(admissionToken)
+		                          .build();
+	}
+}
@@ -22,9 +22,20 @@ public class AssertOwnershipOrAdmin {
 	 * @throws AccessDeniedException if the current user is neither the owner nor an administrator.
 	 */
 	public static void check(User currentUser, User owner) throws AccessDeniedException {
+		check(currentUser, owner.getId());
+	}
+
+	/**
+	 * Validates access rights for a resource whose owner is only known by ID, e.g. a cached read model.
+	 *
+	 * @param currentUser The authenticated user attempting the action.
+	 * @param ownerId     The ID of the user that owns the requested resource.
+	 * @throws AccessDeniedException if the current user is neither the owner nor an administrator.
+	 */
+	public static void check(User currentUser, Long ownerId) throws AccessDeniedException {
 		if (currentUser.getRole() == Role.ADMIN) return;
 
-		if (!currentUser.getId().equals(owner.getId())) {
+		if (!currentUser.getId().equals(ownerId)) {
 			throw new AccessDeniedException("Requested resource not found.");
 		}
 	}
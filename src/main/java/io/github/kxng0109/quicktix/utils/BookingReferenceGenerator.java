@@ -1,28 +1,52 @@
 package io.github.kxng0109.quicktix.utils;
 
-import java.security.SecureRandom;
-
 /**
- * Utility class for generating secure, human-readable booking reference codes.
+ * Utility class for encoding booking reference numbers into human-readable reference codes.
+ * <p>
+ * Every reference number maps to exactly one code (e.g., "QT-A9K4P2M") and back, so references handed out from a
+ * sequence can never collide. The number is scrambled before it is encoded, so consecutive bookings don't get
+ * consecutive-looking codes. The character pool explicitly excludes visually ambiguous characters (like '1', 'I',
+ * 'O', '0') to prevent customer confusion during ticket lookups.
+ * </p>
  * <p>
- * Utilizes {@link java.security.SecureRandom} to generate cryptographically strong,
- * alphanumeric strings (e.g., "QT-A9K4P2"). The character pool explicitly excludes
- * visually ambiguous characters (like '1', 'I', 'O', '0') to prevent customer
- * confusion during ticket lookups.
+ * Codes are one character longer than the randomly generated six-character codes used before, so they can never
+ * match one of those either.
  * </p>
  */
 public class BookingReferenceGenerator {
 
 	private static final String CHARACTERS = "ABCDEFGHJKMNPQRSTUVWXYZ23456789";
-	private static final int CODE_LENGTH = 6;
-	private static final SecureRandom random = new SecureRandom();
+	private static final int CODE_LENGTH = 7;
+	/**
+	 * Number of distinct codes, {@code CHARACTERS.length()} to the power of {@link #CODE_LENGTH}.
+	 */
+	static final long CODE_SPACE = 27_512_614_111L;
+	/**
+	 * Not a multiple of 31, so multiplying by it modulo {@link #CODE_SPACE} is a bijection. Small enough that the
+	 * product never overflows a long.
+	 */
+	private static final long MULTIPLIER = 295_075_153L;
+	private static final long OFFSET = 9_143_264_027L;
+
+	/**
+	 * Encodes a reference number into its booking reference code.
+	 *
+	 * @param referenceNumber A number from the booking reference sequence, between 0 and 31^7 - 1.
+	 * @return The reference code, unique to this number.
+	 * @throws IllegalArgumentException if the number is outside the code space.
+	 */
+	public static String encode(long referenceNumber) {
+		if (referenceNumber < 0 || referenceNumber >= CODE_SPACE) {
+			throw new IllegalArgumentException("Booking reference number out of range: " + referenceNumber);
+		}
+
+		long scrambled = (referenceNumber * MULTIPLIER + OFFSET) % CODE_SPACE;
 
-	public static String generate() {
-		StringBuilder sb = new StringBuilder("QT-");
-		for (int i = 0; i < CODE_LENGTH; i++) {
-			int index = random.nextInt(CHARACTERS.length());
-			sb.append(CHARACTERS.charAt(index));
+		char[] code = new char[CODE_LENGTH];
+		for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+			code[i] = CHARACTERS.charAt((int) (scrambled % CHARACTERS.length()));
+			scrambled /= CHARACTERS.length();
 		}
-		return sb.toString();
+		return "QT-" + new String(code);
 	}
 }
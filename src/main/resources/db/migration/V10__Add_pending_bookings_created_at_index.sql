@@ -0,0 +1,2 @@
+-- Booking expiry claims the oldest pending bookings in chunks, this keeps each claim off a full table scan
+CREATE INDEX idx_bookings_pending_created_at ON bookings (created_at) WHERE status = 'PENDING';
@@ -0,0 +1,13 @@
+-- Seats without a number can't be placed in layout order, which the seat scroll cursor and the contiguous block
+-- search both rely on. Any such seat gets the next free numbers of its row before the column is locked down.
+UPDATE seats s
+SET seat_number = numbered.seat_number
+FROM (SELECT u.id,
+             COALESCE((SELECT MAX(m.seat_number) FROM seats m WHERE m.row_id = u.row_id), 0)
+                 + ROW_NUMBER() OVER (PARTITION BY u.row_id ORDER BY u.id) AS seat_number
+      FROM seats u
+      WHERE u.seat_number IS NULL) numbered
+WHERE s.id = numbered.id;
+
+ALTER TABLE seats
+    ALTER COLUMN seat_number SET NOT NULL;
@@ -0,0 +1,17 @@
+-- Seat generation only skipped rows that already had seats, so two nodes generating the same row at once could both
+-- insert it. Any number that ended up taken twice keeps its oldest seat; the others move to the next free numbers of
+-- their row before the constraint goes on.
+UPDATE seats s
+SET seat_number = renumbered.seat_number
+FROM (SELECT d.id,
+             (SELECT MAX(m.seat_number) FROM seats m WHERE m.row_id = d.row_id)
+                 + ROW_NUMBER() OVER (PARTITION BY d.row_id ORDER BY d.id) AS seat_number
+      FROM (SELECT id,
+                   row_id,
+                   ROW_NUMBER() OVER (PARTITION BY row_id, seat_number ORDER BY id) AS occurrence
+            FROM seats) d
+      WHERE d.occurrence > 1) renumbered
+WHERE s.id = renumbered.id;
+
+ALTER TABLE seats
+    ADD CONSTRAINT uc_seats_row_seat_number UNIQUE (row_id, seat_number);
@@ -0,0 +1,5 @@
+CREATE INDEX idx_section_event ON sections (event_id, id);
+
+CREATE INDEX idx_row_section_order ON seat_rows (section_id, row_order);
+
+CREATE INDEX idx_seat_row_number ON seats (row_id, seat_number, id);
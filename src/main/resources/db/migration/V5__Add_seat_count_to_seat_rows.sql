@@ -0,0 +1,6 @@
+ALTER TABLE seat_rows
+    ADD seat_count INTEGER;
+
+-- Existing rows already have their seats, so their count is simply what is there
+UPDATE seat_rows r
+SET seat_count = (SELECT COUNT(*) FROM seats s WHERE s.row_id = r.id);
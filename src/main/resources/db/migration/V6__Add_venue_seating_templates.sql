@@ -0,0 +1,47 @@
+CREATE TABLE seating_templates
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    name        VARCHAR(255)                            NOT NULL,
+    venue_id    BIGINT                                  NOT NULL,
+    total_seats BIGINT                                  NOT NULL,
+    created_at  TIMESTAMP WITHOUT TIME ZONE,
+    updated_at  TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_seating_templates PRIMARY KEY (id)
+);
+
+CREATE TABLE template_sections
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    name        VARCHAR(255)                            NOT NULL,
+    description TEXT                                    NOT NULL,
+    capacity    BIGINT                                  NOT NULL,
+    price       DECIMAL(10, 2)                          NOT NULL,
+    template_id BIGINT                                  NOT NULL,
+    CONSTRAINT pk_template_sections PRIMARY KEY (id)
+);
+
+CREATE TABLE template_rows
+(
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    name                VARCHAR(255)                            NOT NULL,
+    row_order           INTEGER                                 NOT NULL,
+    seat_count          INTEGER                                 NOT NULL,
+    template_section_id BIGINT                                  NOT NULL,
+    CONSTRAINT pk_template_rows PRIMARY KEY (id)
+);
+
+-- Templates belong to their venue, so they go with it
+ALTER TABLE seating_templates
+    ADD CONSTRAINT FK_SEATING_TEMPLATES_ON_VENUE FOREIGN KEY (venue_id) REFERENCES venues (id) ON DELETE CASCADE;
+
+ALTER TABLE template_sections
+    ADD CONSTRAINT FK_TEMPLATE_SECTIONS_ON_TEMPLATE FOREIGN KEY (template_id) REFERENCES seating_templates (id) ON DELETE CASCADE;
+
+ALTER TABLE template_rows
+    ADD CONSTRAINT FK_TEMPLATE_ROWS_ON_SECTION FOREIGN KEY (template_section_id) REFERENCES template_sections (id) ON DELETE CASCADE;
+
+CREATE INDEX idx_seating_template_venue ON seating_templates (venue_id);
+
+CREATE INDEX idx_template_section_template ON template_sections (template_id, id);
+
+CREATE INDEX idx_template_row_section ON template_rows (template_section_id, id);
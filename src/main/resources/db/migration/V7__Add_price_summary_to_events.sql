@@ -0,0 +1,12 @@
+ALTER TABLE events
+    ADD min_price DECIMAL(10, 2),
+    ADD max_price DECIMAL(10, 2);
+
+-- Seat prices are stamped from their section, so the sections already hold every price an event has
+UPDATE events e
+SET min_price = p.min_price,
+    max_price = p.max_price
+FROM (SELECT event_id, MIN(price) AS min_price, MAX(price) AS max_price
+      FROM sections
+      GROUP BY event_id) p
+WHERE p.event_id = e.id;
@@ -0,0 +1,63 @@
+ALTER TABLE events
+    ADD search_vector TSVECTOR;
+
+-- Event names rank above venue names and cities, which rank above descriptions
+CREATE FUNCTION event_search_vector(event_name TEXT, event_description TEXT, venue_name TEXT, venue_city TEXT)
+    RETURNS TSVECTOR
+    LANGUAGE sql
+    IMMUTABLE
+AS
+$$
+SELECT setweight(to_tsvector('english', coalesce(event_name, '')), 'A') ||
+       setweight(to_tsvector('english', coalesce(venue_name, '')), 'B') ||
+       setweight(to_tsvector('english', coalesce(venue_city, '')), 'B') ||
+       setweight(to_tsvector('english', coalesce(event_description, '')), 'C')
+$$;
+
+-- A generated column can only read its own row, so the venue's name and city are pulled in by triggers instead
+CREATE FUNCTION events_search_vector_trigger()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    SELECT event_search_vector(NEW.name, NEW.description, v.name, v.city)
+    INTO NEW.search_vector
+    FROM venues v
+    WHERE v.id = NEW.venue_id;
+    RETURN NEW;
+END
+$$;
+
+CREATE TRIGGER trg_events_search_vector
+    BEFORE INSERT OR UPDATE OF name, description, venue_id
+    ON events
+    FOR EACH ROW
+EXECUTE FUNCTION events_search_vector_trigger();
+
+CREATE FUNCTION venues_search_vector_trigger()
+    RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    UPDATE events e
+    SET search_vector = event_search_vector(e.name, e.description, NEW.name, NEW.city)
+    WHERE e.venue_id = NEW.id;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_venues_search_vector
+    AFTER UPDATE OF name, city
+    ON venues
+    FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name OR OLD.city IS DISTINCT FROM NEW.city)
+EXECUTE FUNCTION venues_search_vector_trigger();
+
+UPDATE events e
+SET search_vector = event_search_vector(e.name, e.description, v.name, v.city)
+FROM venues v
+WHERE v.id = e.venue_id;
+
+CREATE INDEX idx_event_search_vector ON events USING GIN (search_vector);
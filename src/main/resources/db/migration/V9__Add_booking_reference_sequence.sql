@@ -0,0 +1,2 @@
+-- Each nextval hands a node a block of 50 reference numbers, see BookingReferenceAllocator
+CREATE SEQUENCE booking_reference_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,180 @@
+package io.github.kxng0109.quicktix.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TwoTierCacheManagerTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Mock
+	private RedisCacheManager redisCacheManager;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private Cache remoteCache;
+
+	private TwoTierCacheManager cacheManager;
+
+	@BeforeEach
+	void setUp() {
+		cacheManager = new TwoTierCacheManager(
+				redisCacheManager,
+				redisTemplate,
+				objectMapper,
+				Set.of("events"),
+				100,
+				Duration.ofMinutes(1)
+		);
+	}
+
+	@Test
+	public void getCache_should_returnRedisCache_whenCacheIsNotNearCached() {
+		when(redisCacheManager.getCache("userProfiles")).thenReturn(remoteCache);
+
+		assertSame(remoteCache, cacheManager.getCache("userProfiles"));
+	}
+
+	@Test
+	public void get_should_serveFromLocalTier_afterFirstRead() {
+		when(redisCacheManager.getCache("events")).thenReturn(remoteCache);
+		when(remoteCache.get(1L)).thenReturn(new SimpleValueWrapper("Concert"));
+
+		Cache cache = cacheManager.getCache("events");
+		cache.get(1L);
+		Cache.ValueWrapper wrapper = cache.get(1L);
+
+		assertNotNull(wrapper);
+		assertEquals("Concert", wrapper.get());
+		verify(remoteCache, times(1)).get(1L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithLoader_should_publishInvalidation_whenValueWasLoaded() {
+		when(redisCacheManager.getCache("events")).thenReturn(remoteCache);
+		when(remoteCache.get(eq(1L), any(Callable.class)))
+				.thenAnswer(invocation -> ((Callable<String>) invocation.getArgument(1)).call());
+
+		Cache cache = cacheManager.getCache("events");
+		String value = cache.get(1L, () -> "Concert");
+
+		assertEquals("Concert", value);
+		assertEquals("Concert", cache.get(1L, () -> "Reloaded"));
+		verify(remoteCache, times(1)).get(eq(1L), any(Callable.class));
+		verify(redisTemplate, times(1)).convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL), anyString());
+	}
+
+	@Test
+	public void evict_should_evictBothTiersAndPublishInvalidation() {
+		when(redisCacheManager.getCache("events")).thenReturn(remoteCache);
+		when(remoteCache.get(1L)).thenReturn(new SimpleValueWrapper("Concert"));
+
+		Cache cache = cacheManager.getCache("events");
+		cache.get(1L);
+		cache.evict(1L);
+		cache.get(1L);
+
+		verify(remoteCache).evict(1L);
+		verify(remoteCache, times(2)).get(1L);
+
+		ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL), payloadCaptor.capture());
+
+		TwoTierCacheManager.CacheInvalidation invalidation = objectMapper.readValue(
+				payloadCaptor.getValue(),
+				TwoTierCacheManager.CacheInvalidation.class
+		);
+		assertEquals("events", invalidation.cacheName());
+		assertEquals("1", invalidation.key());
+	}
+
+	@Test
+	public void clear_should_publishInvalidationWithoutKey() {
+		when(redisCacheManager.getCache("events")).thenReturn(remoteCache);
+
+		cacheManager.getCache("events").clear();
+
+		ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+		verify(remoteCache).clear();
+		verify(redisTemplate).convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL), payloadCaptor.capture());
+
+		assertNull(objectMapper.readValue(payloadCaptor.getValue(), TwoTierCacheManager.CacheInvalidation.class).key());
+	}
+
+	@Test
+	public void evict_should_notThrow_whenPublishingFails() {
+		when(redisCacheManager.getCache("events")).thenReturn(remoteCache);
+		when(redisTemplate.convertAndSend(anyString(), anyString())).thenThrow(new RuntimeException("Connection refused"));
+
+		assertDoesNotThrow(() -> cacheManager.getCache("events").evict(1L));
+		verify(remoteCache).evict(1L);
+	}
+
+	@Test
+	public void onMessage_should_dropLocalEntry_whenAnotherNodeChangedIt() {
+		when(redisCacheManager.getCache("events")).thenReturn(remoteCache);
+		when(remoteCache.get(1L)).thenReturn(new SimpleValueWrapper("Concert"));
+
+		Cache cache = cacheManager.getCache("events");
+		cache.get(1L);
+
+		String payload = objectMapper.writeValueAsString(
+				new TwoTierCacheManager.CacheInvalidation("other-node", "events", "1")
+		);
+		cacheManager.onMessage(invalidationMessage(payload), null);
+		cache.get(1L);
+
+		verify(remoteCache, times(2)).get(1L);
+	}
+
+	@Test
+	public void onMessage_should_ignoreOwnInvalidations() {
+		when(redisCacheManager.getCache("events")).thenReturn(remoteCache);
+
+		Cache cache = cacheManager.getCache("events");
+		cache.put(1L, "Concert");
+
+		ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL), payloadCaptor.capture());
+
+		cacheManager.onMessage(invalidationMessage(payloadCaptor.getValue()), null);
+
+		assertEquals("Concert", cache.get(1L).get());
+		verify(remoteCache, never()).get(1L);
+	}
+
+	@Test
+	public void onMessage_should_notThrow_whenPayloadIsMalformed() {
+		assertDoesNotThrow(() -> cacheManager.onMessage(invalidationMessage("not json"), null));
+	}
+
+	private DefaultMessage invalidationMessage(String payload) {
+		return new DefaultMessage(
+				TwoTierCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+				payload.getBytes(StandardCharsets.UTF_8)
+		);
+	}
+}
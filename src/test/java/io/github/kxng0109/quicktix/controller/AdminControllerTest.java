@@ -1,6 +1,10 @@
 package io.github.kxng0109.quicktix.controller;
 
+import io.github.kxng0109.quicktix.dto.request.BlockReservationRequest;
+import io.github.kxng0109.quicktix.dto.request.WaitingRoomConfigRequest;
+import io.github.kxng0109.quicktix.dto.response.BlockReservationResponse;
 import io.github.kxng0109.quicktix.dto.response.DashboardMetricsResponse;
+import io.github.kxng0109.quicktix.enums.BlockReservationStatus;
 import io.github.kxng0109.quicktix.service.*;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,10 +17,8 @@ import tools.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
 import java.util.List;
 
-import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -47,6 +49,12 @@ public class AdminControllerTest {
 	@MockitoBean
 	private AdminDashboardService adminDashboardService;
 
+	@MockitoBean
+	private WaitingRoomService waitingRoomService;
+
+	@MockitoBean
+	private BlockReservationService blockReservationService;
+
 	@MockitoBean
 	private JwtService jwtService;
 
@@ -94,6 +102,105 @@ public class AdminControllerTest {
 		       .andExpect(status().isNoContent());
 	}
 
+	@Test
+	public void configureWaitingRoom_shouldReturn204_whenCalledByAdmin() throws Exception {
+		WaitingRoomConfigRequest request = new WaitingRoomConfigRequest(600);
+		doNothing().when(waitingRoomService).configure(anyLong(), any(WaitingRoomConfigRequest.class));
+
+		mockMvc.perform(put(BASE_URL + "/events/{eventId}/waiting-room", 50L)
+				                .with(user("admin@test.com").roles("ADMIN"))
+				                .contentType(MediaType.APPLICATION_JSON)
+				                .content(objectMapper.writeValueAsString(request)))
+		       .andExpect(status().isNoContent());
+
+		verify(waitingRoomService).configure(50L, request);
+	}
+
+	@Test
+	public void configureWaitingRoom_shouldReturn400_whenAdmissionRateIsInvalid() throws Exception {
+		mockMvc.perform(put(BASE_URL + "/events/{eventId}/waiting-room", 50L)
+				                .with(user("admin@test.com").roles("ADMIN"))
+				                .contentType(MediaType.APPLICATION_JSON)
+				                .content(objectMapper.writeValueAsString(new WaitingRoomConfigRequest(0))))
+		       .andExpect(status().isBadRequest())
+		       .andExpect(jsonPath("$.admissionsPerMinute").value("Admission rate must be at least 1 per minute"));
+
+		verify(waitingRoomService, never()).configure(anyLong(), any(WaitingRoomConfigRequest.class));
+	}
+
+	@Test
+	public void disableWaitingRoom_shouldReturn204_whenCalledByAdmin() throws Exception {
+		mockMvc.perform(delete(BASE_URL + "/events/{eventId}/waiting-room", 50L)
+				                .with(user("admin@test.com").roles("ADMIN")))
+		       .andExpect(status().isNoContent());
+
+		verify(waitingRoomService).disable(50L);
+	}
+
+	@Test
+	public void reserveSeatBlock_shouldReturn202AndProgress_whenCalledByAdmin() throws Exception {
+		BlockReservationRequest request = BlockReservationRequest.builder()
+		                                                         .userId(42L)
+		                                                         .sectionIds(List.of(3L))
+		                                                         .build();
+		BlockReservationResponse response = BlockReservationResponse.builder()
+		                                                            .reservationId("reservation-1")
+		                                                            .eventId(50L)
+		                                                            .bookingId(200L)
+		                                                            .bookingReference("QT-ABCDEFG")
+		                                                            .status(BlockReservationStatus.PENDING)
+		                                                            .requestedSeats(2000)
+		                                                            .reservedSeats(0)
+		                                                            .build();
+		when(blockReservationService.start(50L, request)).thenReturn(response);
+
+		mockMvc.perform(post(BASE_URL + "/events/{eventId}/block-reservations", 50L)
+				                .with(user("admin@test.com").roles("ADMIN"))
+				                .contentType(MediaType.APPLICATION_JSON)
+				                .content(objectMapper.writeValueAsString(request)))
+		       .andExpect(status().isAccepted())
+		       .andExpect(jsonPath("$.reservationId").value("reservation-1"))
+		       .andExpect(jsonPath("$.bookingId").value(200))
+		       .andExpect(jsonPath("$.status").value("Pending"))
+		       .andExpect(jsonPath("$.requestedSeats").value(2000));
+	}
+
+	@Test
+	public void reserveSeatBlock_shouldReturn400_whenUserIdIsMissing() throws Exception {
+		BlockReservationRequest request = BlockReservationRequest.builder()
+		                                                         .rowIds(List.of(10L))
+		                                                         .build();
+
+		mockMvc.perform(post(BASE_URL + "/events/{eventId}/block-reservations", 50L)
+				                .with(user("admin@test.com").roles("ADMIN"))
+				                .contentType(MediaType.APPLICATION_JSON)
+				                .content(objectMapper.writeValueAsString(request)))
+		       .andExpect(status().isBadRequest())
+		       .andExpect(jsonPath("$.userId").value("User ID can't be null"));
+
+		verify(blockReservationService, never()).start(anyLong(), any(BlockReservationRequest.class));
+	}
+
+	@Test
+	public void getBlockReservation_shouldReturn200AndProgress_whenCalledByAdmin() throws Exception {
+		BlockReservationResponse response = BlockReservationResponse.builder()
+		                                                            .reservationId("reservation-1")
+		                                                            .eventId(50L)
+		                                                            .bookingId(200L)
+		                                                            .bookingReference("QT-ABCDEFG")
+		                                                            .status(BlockReservationStatus.IN_PROGRESS)
+		                                                            .requestedSeats(2000)
+		                                                            .reservedSeats(1500)
+		                                                            .build();
+		when(blockReservationService.getProgress("reservation-1")).thenReturn(response);
+
+		mockMvc.perform(get(BASE_URL + "/block-reservations/{reservationId}", "reservation-1")
+				                .with(user("admin@test.com").roles("ADMIN")))
+		       .andExpect(status().isOk())
+		       .andExpect(jsonPath("$.status").value("In Progress"))
+		       .andExpect(jsonPath("$.reservedSeats").value(1500));
+	}
+
 	@Test
 	public void getDashboardMetrics_shouldReturn200AndMetrics_whenCalledByAdmin() throws Exception {
 		DashboardMetricsResponse mockResponse = DashboardMetricsResponse.builder()
@@ -2,6 +2,7 @@ package io.github.kxng0109.quicktix.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.kxng0109.quicktix.dto.request.HoldSeatsRequest;
 import io.github.kxng0109.quicktix.dto.request.InitiateBookingRequest;
 import io.github.kxng0109.quicktix.dto.response.BookingResponse;
 import io.github.kxng0109.quicktix.dto.response.PaymentResponse;
@@ -10,11 +11,13 @@ import io.github.kxng0109.quicktix.enums.BookingStatus;
 import io.github.kxng0109.quicktix.enums.PaymentMethod;
 import io.github.kxng0109.quicktix.enums.PaymentStatus;
 import io.github.kxng0109.quicktix.enums.Role;
+import io.github.kxng0109.quicktix.exception.AdmissionRequiredException;
 import io.github.kxng0109.quicktix.exception.InvalidOperationException;
 import io.github.kxng0109.quicktix.service.BookingService;
 import io.github.kxng0109.quicktix.service.CustomUserDetailsService;
 import io.github.kxng0109.quicktix.service.JwtService;
 import io.github.kxng0109.quicktix.service.PaymentService;
+import io.github.kxng0109.quicktix.service.WaitingRoomService;
 import io.github.kxng0109.quicktix.utils.BookingReferenceGenerator;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -55,6 +58,9 @@ public class BookingControllerTest {
 	@MockitoBean
 	private PaymentService paymentService;
 
+	@MockitoBean
+	private WaitingRoomService waitingRoomService;
+
 	@MockitoBean
 	private JwtService jwtService;
 
@@ -74,7 +80,7 @@ public class BookingControllerTest {
 
 		response = BookingResponse.builder()
 		                          .id(bookingId)
-		                          .bookingReference(BookingReferenceGenerator.generate())
+		                          .bookingReference(BookingReferenceGenerator.encode(1))
 		                          .eventName("Test Event")
 		                          .eventStartDateTime(Instant.now().plus(2, ChronoUnit.DAYS))
 		                          .eventEndDateTime(Instant.now().plus(2, ChronoUnit.DAYS).plus(2, ChronoUnit.HOURS))
@@ -139,6 +145,55 @@ public class BookingControllerTest {
 		       .andExpect(jsonPath("$.path").value("/api/v1/bookings"));
 	}
 
+	@Test
+	public void checkout_should_return201Created_whenRequestIsValid() throws Exception {
+		HoldSeatsRequest checkoutRequest = new HoldSeatsRequest(request.eventId(), request.seatIds());
+		when(bookingService.checkout(any(HoldSeatsRequest.class), any(User.class)))
+				.thenReturn(response);
+
+		mockMvc.perform(
+				       post("/api/v1/bookings/checkout")
+						       .with(user(currentUser))
+						       .contentType(MediaType.APPLICATION_JSON)
+						       .content(objectMapper.writeValueAsString(checkoutRequest))
+		       ).andExpect(status().isCreated())
+		       .andExpect(jsonPath("$.id").value(bookingId))
+		       .andExpect(jsonPath("$.status").value(BookingStatus.PENDING.getDisplayName()));
+
+		verify(waitingRoomService).checkAdmission(eq(request.eventId()), any(User.class), isNull());
+	}
+
+	@Test
+	public void checkout_should_return400BadRequest_whenNoSeatsAreGiven() throws Exception {
+		HoldSeatsRequest checkoutRequest = new HoldSeatsRequest(request.eventId(), List.of());
+
+		mockMvc.perform(
+				       post("/api/v1/bookings/checkout")
+						       .with(user(currentUser))
+						       .contentType(MediaType.APPLICATION_JSON)
+						       .content(objectMapper.writeValueAsString(checkoutRequest))
+		       ).andExpect(status().isBadRequest());
+
+		verify(bookingService, never()).checkout(any(HoldSeatsRequest.class), any(User.class));
+	}
+
+	@Test
+	public void createBooking_should_return403Forbidden_whenEventRequiresAdmission() throws Exception {
+		doThrow(new AdmissionRequiredException("Join the queue"))
+				.when(waitingRoomService).checkAdmission(eq(request.eventId()), any(User.class), eq("stale-token"));
+
+		mockMvc.perform(
+				       post("/api/v1/bookings")
+						       .with(user(currentUser))
+						       .header(WaitingRoomService.ADMISSION_TOKEN_HEADER, "stale-token")
+						       .contentType(MediaType.APPLICATION_JSON)
+						       .content(objectMapper.writeValueAsString(request))
+		       ).andExpect(status().isForbidden())
+		       .andExpect(jsonPath("$.statusCode").value(403));
+
+		verify(bookingService, never()).createPendingBooking(any(InitiateBookingRequest.class), any(User.class));
+	}
+
 	@Test
 	public void getBookingById_should_return200Ok_whenBookingExists() throws Exception {
 		when(bookingService.getBookingById(eq(bookingId), any(User.class)))
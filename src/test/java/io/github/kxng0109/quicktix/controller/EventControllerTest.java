@@ -3,17 +3,19 @@ package io.github.kxng0109.quicktix.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.github.kxng0109.quicktix.dto.request.*;
-import io.github.kxng0109.quicktix.dto.response.EventResponse;
-import io.github.kxng0109.quicktix.dto.response.PagedResponse;
-import io.github.kxng0109.quicktix.dto.response.SeatResponse;
+import io.github.kxng0109.quicktix.dto.response.*;
 import io.github.kxng0109.quicktix.entity.User;
 import io.github.kxng0109.quicktix.enums.EventStatus;
 import io.github.kxng0109.quicktix.enums.Role;
+import io.github.kxng0109.quicktix.enums.SeatGenerationStatus;
 import io.github.kxng0109.quicktix.enums.SeatStatus;
 import io.github.kxng0109.quicktix.service.CustomUserDetailsService;
 import io.github.kxng0109.quicktix.service.EventService;
+import io.github.kxng0109.quicktix.service.SeatGenerationService;
 import io.github.kxng0109.quicktix.service.JwtService;
+import io.github.kxng0109.quicktix.service.SeatMapService;
 import io.github.kxng0109.quicktix.service.SeatService;
+import io.github.kxng0109.quicktix.service.SeatStatusStreamService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,22 +24,27 @@ import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(EventController.class)
 @RateLimitedWebTest
@@ -56,6 +63,15 @@ public class EventControllerTest {
 	@MockitoBean
 	private SeatService seatService;
 
+	@MockitoBean
+	private SeatMapService seatMapService;
+
+	@MockitoBean
+	private SeatStatusStreamService seatStatusStreamService;
+
+	@MockitoBean
+	private SeatGenerationService seatGenerationService;
+
 	@MockitoBean
 	private JwtService jwtService;
 
@@ -256,6 +272,33 @@ public class EventControllerTest {
 		       .andExpect(jsonPath("$.page.totalPages").value(1));
 	}
 
+	@Test
+	public void searchEvents_should_return200OkAndPagedResponseOfEventResponse_whenQueryIsValid() throws Exception {
+		PagedResponse<EventResponse> pagedResponse = PagedResponse.from(new PageImpl<>(List.of(response)));
+		when(eventService.searchEvents(eq("jazz lagos"), any(Pageable.class)))
+				.thenReturn(pagedResponse);
+
+		mockMvc.perform(
+				       get("/api/v1/events/search")
+						       .param("q", "jazz lagos")
+						       .contentType(MediaType.APPLICATION_JSON)
+		       ).andExpect(status().isOk())
+		       .andExpect(jsonPath("$.content.length()").value(1))
+		       .andExpect(jsonPath("$.content[0].id").value(eventId))
+		       .andExpect(jsonPath("$.totalElements").value(1));
+	}
+
+	@Test
+	public void searchEvents_should_return400BadRequest_whenQueryIsBlank() throws Exception {
+		mockMvc.perform(
+				       get("/api/v1/events/search")
+						       .param("q", " ")
+						       .contentType(MediaType.APPLICATION_JSON)
+		       ).andExpect(status().isBadRequest());
+
+		verify(eventService, never()).searchEvents(anyString(), any(Pageable.class));
+	}
+
 	@Test
 	public void getAllSeatsByEvent_should_return200OkAndAPageOfSeatResponse_whenIdIsValid() throws Exception {
 		Page<SeatResponse> seatResponsePage = new PageImpl<>(List.of(seatResponse()));
@@ -291,6 +334,64 @@ public class EventControllerTest {
 		       .andExpect(jsonPath("$.content[0].id").value(seatId));
 	}
 
+	@Test
+	public void scrollSeatsByEvent_should_return200OkWithNextCursor_whenMoreSeatsFollow() throws Exception {
+		SeatScrollResponse scrollResponse = SeatScrollResponse.builder()
+		                                                      .content(List.of(seatResponse()))
+		                                                      .nextCursor("MTo1OjIzOjQ0")
+		                                                      .hasMore(true)
+		                                                      .build();
+		when(seatService.scrollSeatsByEvent(eventId, SeatStatus.AVAILABLE, "MTo1OjIyOjQz", 1))
+				.thenReturn(scrollResponse);
+
+		mockMvc.perform(
+				       get("/api/v1/events/{eventId}/seats/scroll", eventId)
+						       .param("status", "AVAILABLE")
+						       .param("cursor", "MTo1OjIyOjQz")
+						       .param("size", "1")
+		       ).andExpect(status().isOk())
+		       .andExpect(jsonPath("$.content.length()").value(1))
+		       .andExpect(jsonPath("$.content[0].id").value(seatId))
+		       .andExpect(jsonPath("$.nextCursor").value("MTo1OjIzOjQ0"))
+		       .andExpect(jsonPath("$.hasMore").value(true))
+		       .andExpect(jsonPath("$.totalElements").doesNotExist());
+	}
+
+	@Test
+	public void scrollSeatsByEvent_should_startFromTheBeginningWithDefaultSize_whenParamsAreMissing() throws Exception {
+		when(seatService.scrollSeatsByEvent(eventId, null, null, 50))
+				.thenReturn(SeatScrollResponse.builder().content(List.of()).hasMore(false).build());
+
+		mockMvc.perform(get("/api/v1/events/{eventId}/seats/scroll", eventId))
+		       .andExpect(status().isOk())
+		       .andExpect(jsonPath("$.hasMore").value(false));
+
+		verify(seatService).scrollSeatsByEvent(eventId, null, null, 50);
+	}
+
+	@Test
+	public void scrollSeatsByEvent_should_return400BadRequest_whenSizeIsTooLarge() throws Exception {
+		mockMvc.perform(
+				       get("/api/v1/events/{eventId}/seats/scroll", eventId)
+						       .param("size", "501")
+		       ).andExpect(status().isBadRequest())
+		       .andExpect(jsonPath("$.statusCode").value(400));
+
+		verify(seatService, never()).scrollSeatsByEvent(anyLong(), any(), any(), anyInt());
+	}
+
+	@Test
+	public void scrollSeatsByEvent_should_return400BadRequest_whenCursorIsInvalid() throws Exception {
+		when(seatService.scrollSeatsByEvent(eventId, null, "garbage", 50))
+				.thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+		mockMvc.perform(
+				       get("/api/v1/events/{eventId}/seats/scroll", eventId)
+						       .param("cursor", "garbage")
+		       ).andExpect(status().isBadRequest())
+		       .andExpect(jsonPath("$.statusCode").value(400));
+	}
+
 	@Test
 	public void getAllSeatsByEvent_should_return400BadRequest_whenIdIsInvalid() throws Exception {
 		mockMvc.perform(
@@ -388,6 +489,168 @@ public class EventControllerTest {
 		       .andExpect(jsonPath("$.path").value("/api/v1/events/100/seats/available"));
 	}
 
+	@Test
+	public void getSeatAvailability_should_return200OkWithCountsPerSection() throws Exception {
+		SeatAvailabilityResponse availability = SeatAvailabilityResponse.builder()
+		                                                                 .eventId(eventId)
+		                                                                 .availableSeats(7)
+		                                                                 .sections(Map.of(1L, 3L, 2L, 4L))
+		                                                                 .build();
+		when(seatService.getSeatAvailability(eventId)).thenReturn(availability);
+
+		mockMvc.perform(get("/api/v1/events/{eventId}/seats/availability", eventId))
+		       .andExpect(status().isOk())
+		       .andExpect(jsonPath("$.availableSeats").value(7))
+		       .andExpect(jsonPath("$.sections.1").value(3))
+		       .andExpect(jsonPath("$.sections.2").value(4));
+	}
+
+	@Test
+	public void getSeatAvailability_should_return404NotFound_whenEventIsNotFound() throws Exception {
+		doThrow(EntityNotFoundException.class).when(seatService).getSeatAvailability(anyLong());
+
+		mockMvc.perform(get("/api/v1/events/{eventId}/seats/availability", eventId))
+		       .andExpect(status().isNotFound())
+		       .andExpect(jsonPath("$.statusCode").value(404));
+	}
+
+	@Test
+	public void getSeatGenerationProgress_should_return200OkWithProgress() throws Exception {
+		SeatGenerationResponse progress = SeatGenerationResponse.builder()
+		                                                        .eventId(eventId)
+		                                                        .status(SeatGenerationStatus.IN_PROGRESS)
+		                                                        .totalSeats(50_000)
+		                                                        .generatedSeats(15_000)
+		                                                        .build();
+		when(seatGenerationService.getProgress(eventId)).thenReturn(progress);
+
+		mockMvc.perform(
+				       get("/api/v1/events/{eventId}/seat-generation", eventId)
+						       .with(user(adminUser))
+		       ).andExpect(status().isOk())
+		       .andExpect(jsonPath("$.status").value("In Progress"))
+		       .andExpect(jsonPath("$.totalSeats").value(50_000))
+		       .andExpect(jsonPath("$.generatedSeats").value(15_000));
+	}
+
+	@Test
+	public void getSeatGenerationProgress_should_return404NotFound_whenEventIsNotFound() throws Exception {
+		doThrow(EntityNotFoundException.class).when(seatGenerationService).getProgress(anyLong());
+
+		mockMvc.perform(
+				       get("/api/v1/events/{eventId}/seat-generation", eventId)
+						       .with(user(adminUser))
+		       ).andExpect(status().isNotFound())
+		       .andExpect(jsonPath("$.statusCode").value(404));
+	}
+
+	@Test
+	public void streamSeatStatusChanges_should_startEventStream_whenEventExists() throws Exception {
+		when(seatStatusStreamService.subscribe(eventId)).thenReturn(new SseEmitter());
+
+		mockMvc.perform(
+				       get("/api/v1/events/{eventId}/seats/stream", eventId)
+						       .accept(MediaType.TEXT_EVENT_STREAM)
+		       ).andExpect(status().isOk())
+		       .andExpect(request().asyncStarted());
+	}
+
+	@Test
+	public void streamSeatStatusChanges_should_return404NotFound_whenEventIsNotFound() throws Exception {
+		doThrow(EntityNotFoundException.class)
+				.when(seatStatusStreamService).subscribe(anyLong());
+
+		mockMvc.perform(
+				       get("/api/v1/events/{eventId}/seats/stream", eventId)
+		       ).andExpect(status().isNotFound())
+		       .andExpect(jsonPath("$.statusCode").value(404));
+	}
+
+	@Test
+	public void getSeatMap_should_return200OkWithETag_whenSeatMapHasChanged() throws Exception {
+		SeatMapResponse seatMap = seatMapResponse();
+		when(seatMapService.getCurrentVersion(eventId)).thenReturn(7L);
+		when(seatMapService.getSeatMap(eventId)).thenReturn(seatMap);
+
+		mockMvc.perform(
+				       get("/api/v1/events/{eventId}/seat-map", eventId)
+						       .header(HttpHeaders.IF_NONE_MATCH, "\"100-3\"")
+						       .contentType(MediaType.APPLICATION_JSON)
+		       ).andExpect(status().isOk())
+		       .andExpect(header().string(HttpHeaders.ETAG, "\"100-7\""))
+		       .andExpect(jsonPath("$.version").value(7))
+		       .andExpect(jsonPath("$.statuses").value("AHB"))
+		       .andExpect(jsonPath("$.sections[0].rows[0].seatIds.length()").value(3));
+	}
+
+	@Test
+	public void getSeatMap_should_return304NotModified_whenETagMatchesCurrentVersion() throws Exception {
+		when(seatMapService.getCurrentVersion(eventId)).thenReturn(7L);
+
+		mockMvc.perform(
+				       get("/api/v1/events/{eventId}/seat-map", eventId)
+						       .header(HttpHeaders.IF_NONE_MATCH, "\"100-7\"")
+						       .contentType(MediaType.APPLICATION_JSON)
+		       ).andExpect(status().isNotModified())
+		       .andExpect(header().string(HttpHeaders.ETAG, "\"100-7\""));
+
+		verify(seatMapService, never()).getSeatMap(anyLong());
+	}
+
+	@Test
+	public void getSeatMap_should_return404NotFound_whenEventIsNotFound() throws Exception {
+		doThrow(EntityNotFoundException.class)
+				.when(seatMapService).getSeatMap(anyLong());
+
+		mockMvc.perform(
+				       get("/api/v1/events/{eventId}/seat-map", eventId)
+						       .contentType(MediaType.APPLICATION_JSON)
+		       ).andExpect(status().isNotFound())
+		       .andExpect(jsonPath("$.statusCode").value(404));
+	}
+
+	@Test
+	public void getSeatMapChanges_should_return200OkAndChanges_whenSinceIsProvided() throws Exception {
+		SeatMapChangesResponse changes = SeatMapChangesResponse.builder()
+		                                                       .eventId(eventId)
+		                                                       .fromVersion(5)
+		                                                       .toVersion(6)
+		                                                       .resyncRequired(false)
+		                                                       .changes(List.of(
+				                                                       SeatMapChangeResponse.builder()
+				                                                                            .version(6)
+				                                                                            .status("H")
+				                                                                            .seatIds(List.of(101L, 102L))
+				                                                                            .build()
+		                                                       ))
+		                                                       .build();
+		when(seatMapService.getSeatMapChanges(eventId, 5L)).thenReturn(changes);
+
+		mockMvc.perform(
+				       get("/api/v1/events/{eventId}/seat-map", eventId)
+						       .param("since", "5")
+						       .contentType(MediaType.APPLICATION_JSON)
+		       ).andExpect(status().isOk())
+		       .andExpect(jsonPath("$.toVersion").value(6))
+		       .andExpect(jsonPath("$.resyncRequired").value(false))
+		       .andExpect(jsonPath("$.changes[0].status").value("H"))
+		       .andExpect(jsonPath("$.changes[0].seatIds.length()").value(2));
+
+		verify(seatMapService, never()).getSeatMap(anyLong());
+	}
+
+	@Test
+	public void getSeatMapChanges_should_return400BadRequest_whenSinceIsNegative() throws Exception {
+		mockMvc.perform(
+				       get("/api/v1/events/{eventId}/seat-map", eventId)
+						       .param("since", "-1")
+						       .contentType(MediaType.APPLICATION_JSON)
+		       ).andExpect(status().isBadRequest())
+		       .andExpect(jsonPath("$.statusCode").value(400));
+
+		verify(seatMapService, never()).getSeatMapChanges(anyLong(), anyLong());
+	}
+
 	@Test
 	public void getEventsByVenueId_should_return200OkAndPageOfEventResponse_whenRequestIsSuccessful() throws Exception {
 		Page<EventResponse> eventResponsePage = new PageImpl<>(List.of(response));
@@ -583,4 +846,28 @@ public class EventControllerTest {
 		                   .sectionName("1")
 		                   .build();
 	}
-}
\ No newline at end of file
+
+	private SeatMapResponse seatMapResponse() {
+		SeatMapRowResponse row = SeatMapRowResponse.builder()
+		                                           .id(1L)
+		                                           .name("A")
+		                                           .rowOrder(1)
+		                                           .seatIds(List.of(101L, 102L, 103L))
+		                                           .seatNumbers(List.of(1, 2, 3))
+		                                           .build();
+
+		SeatMapSectionResponse section = SeatMapSectionResponse.builder()
+		                                                       .id(1L)
+		                                                       .name("VIP")
+		                                                       .price(new BigDecimal("25000.00"))
+		                                                       .rows(List.of(row))
+		                                                       .build();
+
+		return SeatMapResponse.builder()
+		                      .eventId(eventId)
+		                      .version(7)
+		                      .sections(List.of(section))
+		                      .statuses("AHB")
+		                      .build();
+	}
+}
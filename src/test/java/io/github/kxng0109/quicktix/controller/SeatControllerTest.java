@@ -1,6 +1,7 @@
 package io.github.kxng0109.quicktix.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.kxng0109.quicktix.dto.request.HoldBestAvailableRequest;
 import io.github.kxng0109.quicktix.dto.request.HoldSeatsRequest;
 import io.github.kxng0109.quicktix.dto.response.SeatResponse;
 import io.github.kxng0109.quicktix.entity.User;
@@ -9,6 +10,7 @@ import io.github.kxng0109.quicktix.enums.SeatStatus;
 import io.github.kxng0109.quicktix.service.CustomUserDetailsService;
 import io.github.kxng0109.quicktix.service.JwtService;
 import io.github.kxng0109.quicktix.service.SeatService;
+import io.github.kxng0109.quicktix.service.WaitingRoomService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,6 +46,9 @@ public class SeatControllerTest {
 	@MockitoBean
 	private SeatService seatService;
 
+	@MockitoBean
+	private WaitingRoomService waitingRoomService;
+
 	@MockitoBean
 	private JwtService jwtService;
 
@@ -53,6 +58,8 @@ public class SeatControllerTest {
 	private HoldSeatsRequest request;
 	private SeatResponse response;
 	private User currentUser;
+	//Holds are rate limited per user, so these requests get a bucket of their own
+	private User bestAvailableUser;
 
 	@BeforeEach
 	public void setup() {
@@ -74,6 +81,13 @@ public class SeatControllerTest {
 		                  .role(Role.ADMIN)
 		                  .passwordHash("hashed")
 		                  .build();
+
+		bestAvailableUser = User.builder()
+		                        .id(2L)
+		                        .email("best-available@quicktix.com")
+		                        .role(Role.USER)
+		                        .passwordHash("hashed")
+		                        .build();
 	}
 
 	@Test
@@ -146,6 +160,44 @@ public class SeatControllerTest {
 		       .andExpect(jsonPath("$.path").value("/api/v1/seats/hold"));
 	}
 
+	@Test
+	public void holdBestAvailableSeats_should_return201CreatedAndListOfSeatResponse_whenRequestIsValid() throws Exception {
+		when(seatService.holdBestAvailableSeats(
+				any(HoldBestAvailableRequest.class),
+				any(User.class)
+		))
+				.thenReturn(List.of(response));
+
+		mockMvc.perform(
+				       post("/api/v1/seats/hold/best-available")
+						       .with(user(bestAvailableUser))
+						       .contentType(MediaType.APPLICATION_JSON)
+						       .content(objectMapper.writeValueAsString(
+								       new HoldBestAvailableRequest(eventId, null, 2)
+						       ))
+		       ).andExpect(status().isCreated())
+		       .andExpect(jsonPath("$.length()").value(1))
+		       .andExpect(jsonPath("$[0].id").value(seatId));
+	}
+
+	@Test
+	public void holdBestAvailableSeats_should_return400BadRequest_whenQuantityIsTooLarge() throws Exception {
+		mockMvc.perform(
+				       post("/api/v1/seats/hold/best-available")
+						       .with(user(bestAvailableUser))
+						       .contentType(MediaType.APPLICATION_JSON)
+						       .content(objectMapper.writeValueAsString(
+								       new HoldBestAvailableRequest(eventId, null, 11)
+						       ))
+		       ).andExpect(status().isBadRequest())
+		       .andExpect(jsonPath("$.quantity").value("Quantity can't be more than 10"));
+
+		verify(seatService, never()).holdBestAvailableSeats(
+				any(HoldBestAvailableRequest.class),
+				any(User.class)
+		);
+	}
+
 	@Test
 	public void releaseSeats_should_return204NoContent_whenRequestIsValid() throws Exception {
 		mockMvc.perform(
@@ -1,8 +1,12 @@
 package io.github.kxng0109.quicktix.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.kxng0109.quicktix.dto.request.CreateSeatingTemplateRequest;
 import io.github.kxng0109.quicktix.dto.request.CreateVenueRequest;
+import io.github.kxng0109.quicktix.dto.request.RowRequest;
+import io.github.kxng0109.quicktix.dto.request.SectionRequest;
 import io.github.kxng0109.quicktix.dto.response.PagedResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatingTemplateResponse;
 import io.github.kxng0109.quicktix.dto.response.VenueResponse;
 import io.github.kxng0109.quicktix.entity.User;
 import io.github.kxng0109.quicktix.entity.Venue;
@@ -10,6 +14,7 @@ import io.github.kxng0109.quicktix.enums.Role;
 import io.github.kxng0109.quicktix.exception.ResourceInUseException;
 import io.github.kxng0109.quicktix.service.CustomUserDetailsService;
 import io.github.kxng0109.quicktix.service.JwtService;
+import io.github.kxng0109.quicktix.service.SeatingTemplateService;
 import io.github.kxng0109.quicktix.service.VenueService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,10 +27,12 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -47,6 +54,9 @@ public class VenueControllerTest {
 	@MockitoBean
 	private VenueService venueService;
 
+	@MockitoBean
+	private SeatingTemplateService seatingTemplateService;
+
 	@MockitoBean
 	private JwtService jwtService;
 
@@ -385,4 +395,64 @@ public class VenueControllerTest {
 
 		verify(venueService).deleteVenueById(anyLong());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void createSeatingTemplate_should_return201Created_whenRequestIsValid() throws Exception {
+		CreateSeatingTemplateRequest templateRequest = CreateSeatingTemplateRequest
+				.builder()
+				.name("Concert layout")
+				.sections(List.of(SectionRequest.builder()
+				                                .name("VIP")
+				                                .description("VIP section")
+				                                .capacity(20)
+				                                .basePrice(BigDecimal.valueOf(5000.00))
+				                                .rows(List.of(RowRequest.builder()
+				                                                        .name("A")
+				                                                        .rowOrder(1)
+				                                                        .numberOfSeats(20)
+				                                                        .build()))
+				                                .build()))
+				.build();
+		SeatingTemplateResponse templateResponse = SeatingTemplateResponse.builder()
+		                                                                  .id(3L)
+		                                                                  .venueId(venueId)
+		                                                                  .name(templateRequest.name())
+		                                                                  .totalSeats(20)
+		                                                                  .sections(List.of())
+		                                                                  .build();
+
+		when(seatingTemplateService.createTemplate(eq(venueId), any(CreateSeatingTemplateRequest.class)))
+				.thenReturn(templateResponse);
+
+		mockMvc.perform(
+				       post("/api/v1/venues/{venueId}/seating-templates", venueId)
+						       .with(user(adminUser))
+						       .contentType(MediaType.APPLICATION_JSON)
+						       .content(objectMapper.writeValueAsString(templateRequest))
+		       ).andExpect(status().isCreated())
+		       .andExpect(jsonPath("$.id").value(3))
+		       .andExpect(jsonPath("$.totalSeats").value(20));
+	}
+
+	@Test
+	public void createSeatingTemplate_should_return400BadRequest_whenSectionsAreMissing() throws Exception {
+		mockMvc.perform(
+				       post("/api/v1/venues/{venueId}/seating-templates", venueId)
+						       .with(user(adminUser))
+						       .contentType(MediaType.APPLICATION_JSON)
+						       .content(objectMapper.writeValueAsString(
+								       CreateSeatingTemplateRequest.builder().name("Empty layout").build()
+						       ))
+		       ).andExpect(status().isBadRequest());
+
+		verify(seatingTemplateService, never()).createTemplate(anyLong(), any(CreateSeatingTemplateRequest.class));
+	}
+
+	@Test
+	public void getSeatingTemplates_should_return404NotFound_whenVenueIsNotFound() throws Exception {
+		when(seatingTemplateService.getTemplatesByVenue(venueId)).thenThrow(EntityNotFoundException.class);
+
+		mockMvc.perform(get("/api/v1/venues/{venueId}/seating-templates", venueId))
+		       .andExpect(status().isNotFound());
+	}
+}
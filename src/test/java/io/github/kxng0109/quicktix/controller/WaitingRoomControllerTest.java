@@ -0,0 +1,97 @@
+package io.github.kxng0109.quicktix.controller;
+
+import io.github.kxng0109.quicktix.dto.response.WaitingRoomResponse;
+import io.github.kxng0109.quicktix.entity.User;
+import io.github.kxng0109.quicktix.enums.AdmissionStatus;
+import io.github.kxng0109.quicktix.enums.Role;
+import io.github.kxng0109.quicktix.service.CustomUserDetailsService;
+import io.github.kxng0109.quicktix.service.JwtService;
+import io.github.kxng0109.quicktix.service.WaitingRoomService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(WaitingRoomController.class)
+@RateLimitedWebTest
+public class WaitingRoomControllerTest {
+
+	private final Long eventId = 100L;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private WaitingRoomService waitingRoomService;
+
+	@MockitoBean
+	private JwtService jwtService;
+
+	@MockitoBean
+	private CustomUserDetailsService userDetailsService;
+
+	private User currentUser;
+
+	@BeforeEach
+	public void setup() {
+		currentUser = User.builder()
+		                  .id(1L)
+		                  .email("user@quicktix.com")
+		                  .role(Role.USER)
+		                  .passwordHash("hashed")
+		                  .build();
+	}
+
+	@Test
+	public void joinWaitingRoom_should_return200OkAndPosition_whenUserIsWaiting() throws Exception {
+		WaitingRoomResponse response = WaitingRoomResponse.builder()
+		                                                   .eventId(eventId)
+		                                                   .status(AdmissionStatus.WAITING)
+		                                                   .position(1250)
+		                                                   .estimatedWaitSeconds(125)
+		                                                   .build();
+		when(waitingRoomService.join(eq(eventId), any(User.class))).thenReturn(response);
+
+		mockMvc.perform(
+				       post("/api/v1/waiting-room/{eventId}", eventId)
+						       .with(user(currentUser))
+		       ).andExpect(status().isOk())
+		       .andExpect(jsonPath("$.status").value(AdmissionStatus.WAITING.getDisplayName()))
+		       .andExpect(jsonPath("$.position").value(1250))
+		       .andExpect(jsonPath("$.admissionToken").isEmpty());
+	}
+
+	@Test
+	public void joinWaitingRoom_should_return400BadRequest_whenIdIsInvalid() throws Exception {
+		mockMvc.perform(
+				       post("/api/v1/waiting-room/{eventId}", -1)
+						       .with(user(currentUser))
+		       ).andExpect(status().isBadRequest())
+		       .andExpect(jsonPath("$.statusCode").value(400));
+
+		verify(waitingRoomService, never()).join(anyLong(), any(User.class));
+	}
+
+	@Test
+	public void joinWaitingRoom_should_return404NotFound_whenEventIsNotFound() throws Exception {
+		doThrow(EntityNotFoundException.class)
+				.when(waitingRoomService).join(anyLong(), any(User.class));
+
+		mockMvc.perform(
+				       post("/api/v1/waiting-room/{eventId}", eventId)
+						       .with(user(currentUser))
+		       ).andExpect(status().isNotFound())
+		       .andExpect(jsonPath("$.statusCode").value(404));
+	}
+}
@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -76,6 +77,9 @@ public abstract class BaseIntegrationTest {
 	@Autowired
 	private StringRedisTemplate  stringRedisTemplate;
 
+	@Autowired
+	private CacheManager cacheManager;
+
 	@BeforeEach
 	void flushRedisState() {
 		// This instantly wipes all rate-limit buckets and blacklisted JWTs
@@ -85,6 +89,9 @@ public abstract class BaseIntegrationTest {
 		                   .getConnection()
 		                   .serverCommands()
 		                   .flushDb();
+
+		// The in-memory cache tier isn't in Redis, so it has to be emptied on its own
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
 	}
 
 	protected User createUser(String email){
@@ -19,12 +19,14 @@ import org.springframework.test.web.servlet.MvcResult;
 
 import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -48,7 +50,7 @@ public class BookingFlowIntegrationTest extends BaseIntegrationTest {
 
 	@BeforeEach
 	void setUp() {
-		lenient().when(seatLockService.acquireLock(anyLong(), anyString())).thenReturn(true);
+		lenient().when(seatLockService.acquireLocks(anyList(), anyString(), any(Duration.class))).thenReturn(true);
 	}
 
 	@Test
@@ -293,6 +295,13 @@ public class BookingFlowIntegrationTest extends BaseIntegrationTest {
 				                .content(objectMapper.writeValueAsString(holdRequest2)))
 		       .andExpect(status().isBadRequest());
 
+		//Holding the same seats again doesn't extend the hold, not even for the user who holds them
+		mockMvc.perform(post("/api/v1/seats/hold")
+				                .header("Authorization", "Bearer " + user1Token)
+				                .contentType(MediaType.APPLICATION_JSON)
+				                .content(objectMapper.writeValueAsString(holdRequest1)))
+		       .andExpect(status().isBadRequest());
+
 		List<Seat> seats = seatRepository.findAllById(seatIds);
 //		assertThat(seats).allMatch(s -> s.getHeldByUser().getId().equals());
 	}
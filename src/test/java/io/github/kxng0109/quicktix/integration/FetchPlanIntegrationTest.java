@@ -0,0 +1,195 @@
+package io.github.kxng0109.quicktix.integration;
+
+import io.github.kxng0109.quicktix.entity.*;
+import io.github.kxng0109.quicktix.enums.BookingStatus;
+import io.github.kxng0109.quicktix.enums.SeatStatus;
+import io.github.kxng0109.quicktix.repositories.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the read paths against N+1 regressions by counting the statements each request sends to the database.
+ * <p>
+ * The seats are spread over several sections and rows on purpose: if a fetch plan goes missing, every distinct
+ * row and section turns into its own select and the counts below are blown by a wide margin.
+ * </p>
+ */
+public class FetchPlanIntegrationTest extends BaseIntegrationTest {
+
+	private static final int SECTIONS = 3;
+	private static final int ROWS_PER_SECTION = 4;
+	private static final int SEATS_PER_ROW = 5;
+
+	@Autowired
+	private VenueRepository venueRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private SectionRepository sectionRepository;
+
+	@Autowired
+	private RowRepository rowRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Event event;
+	private List<Seat> seats;
+
+	@BeforeEach
+	void setUp() {
+		Venue venue = venueRepository.save(Venue.builder()
+		                                        .name("Fetch Plan Arena")
+		                                        .address("1 Query Street")
+		                                        .city("Lagos")
+		                                        .totalCapacity(1000)
+		                                        .build());
+
+		event = eventRepository.save(Event.builder()
+		                                  .name("Fetch Plan Concert")
+		                                  .venue(venue)
+		                                  .eventStartDateTime(Instant.now().plus(7, ChronoUnit.DAYS))
+		                                  .eventEndDateTime(Instant.now().plus(7, ChronoUnit.DAYS)
+		                                                           .plus(3, ChronoUnit.HOURS))
+		                                  .build());
+
+		seats = new ArrayList<>();
+		for (int s = 1; s <= SECTIONS; s++) {
+			Section section = sectionRepository.save(Section.builder()
+			                                                .name("Section " + s)
+			                                                .description("Section " + s)
+			                                                .capacity(ROWS_PER_SECTION * SEATS_PER_ROW)
+			                                                .price(BigDecimal.valueOf(1000L * s))
+			                                                .event(event)
+			                                                .build());
+
+			for (int r = 1; r <= ROWS_PER_SECTION; r++) {
+				Row row = rowRepository.save(Row.builder()
+				                                .name("R" + r)
+				                                .rowOrder(r)
+				                                .section(section)
+				                                .build());
+
+				for (int n = 1; n <= SEATS_PER_ROW; n++) {
+					seats.add(Seat.builder()
+					              .event(event)
+					              .row(row)
+					              .seatNumber(n)
+					              .price(section.getPrice())
+					              .seatStatus(SeatStatus.AVAILABLE)
+					              .build());
+				}
+			}
+		}
+		seats = seatRepository.saveAll(seats);
+	}
+
+	@Test
+	void getAllSeatsByEvent_should_loadAPageOfSeatsWithTheirRowsAndSections_inAFixedNumberOfStatements()
+			throws Exception {
+		Statistics statistics = startCounting();
+
+		mockMvc.perform(get("/api/v1/events/{eventId}/seats", event.getId())
+				                .param("size", "50"))
+		       .andExpect(status().isOk())
+		       .andExpect(jsonPath("$.content.length()").value(50))
+		       .andExpect(jsonPath("$.content[0].rowName").exists())
+		       .andExpect(jsonPath("$.content[0].sectionName").exists());
+
+		//Event lookup, the seat page with its row and section joined in, and the page count
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+	}
+
+	@Test
+	void getBookingById_should_loadSeatsRowsAndSections_inAFixedNumberOfStatements() throws Exception {
+		String token = createUserAndGetToken("fetch.plan@example.com");
+		Booking booking = createBooking(userRepository.findByEmail("fetch.plan@example.com").orElseThrow(),
+		                                "QT-FETCH1", seats.subList(0, 12));
+		Statistics statistics = startCounting();
+
+		mockMvc.perform(get("/api/v1/bookings/{id}", booking.getId())
+				                .header("Authorization", "Bearer " + token))
+		       .andExpect(status().isOk())
+		       .andExpect(jsonPath("$.seats.length()").value(12));
+
+		//The authenticated user and the booking with everything it renders
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void getBookingsByUser_should_loadSeatsForTheWholePage_inAFixedNumberOfStatements() throws Exception {
+		String token = createUserAndGetToken("fetch.plan@example.com");
+		User user = userRepository.findByEmail("fetch.plan@example.com").orElseThrow();
+		createBooking(user, "QT-FETCH1", seats.subList(0, 20));
+		createBooking(user, "QT-FETCH2", seats.subList(20, 40));
+		createBooking(user, "QT-FETCH3", seats.subList(40, 60));
+		Statistics statistics = startCounting();
+
+		mockMvc.perform(get("/api/v1/users/{userId}/bookings", user.getId())
+				                .header("Authorization", "Bearer " + token))
+		       .andExpect(status().isOk())
+		       .andExpect(jsonPath("$.content.length()").value(3));
+
+		//The authenticated user, the booking page with its events, the page count and the seats of the whole page
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+	}
+
+	private Booking createBooking(User user, String reference, List<Seat> bookedSeats) {
+		Booking booking = bookingRepository.save(Booking.builder()
+		                                                .user(user)
+		                                                .event(event)
+		                                                .status(BookingStatus.CONFIRMED)
+		                                                .bookingReference(reference)
+		                                                .totalAmount(BigDecimal.valueOf(1000L * bookedSeats.size()))
+		                                                .build());
+
+		bookedSeats.forEach(seat -> {
+			seat.setBooking(booking);
+			seat.setSeatStatus(SeatStatus.BOOKED);
+		});
+		seatRepository.saveAll(bookedSeats);
+
+		return booking;
+	}
+
+	/**
+	 * Writes out and forgets everything set up so far, so the request has to load what it renders from the
+	 * database, then resets the statement counters.
+	 */
+	private Statistics startCounting() {
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		return statistics;
+	}
+}
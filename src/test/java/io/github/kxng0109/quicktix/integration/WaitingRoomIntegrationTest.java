@@ -0,0 +1,72 @@
+package io.github.kxng0109.quicktix.integration;
+
+import io.github.kxng0109.quicktix.dto.request.WaitingRoomConfigRequest;
+import io.github.kxng0109.quicktix.dto.response.WaitingRoomResponse;
+import io.github.kxng0109.quicktix.entity.Event;
+import io.github.kxng0109.quicktix.entity.User;
+import io.github.kxng0109.quicktix.entity.Venue;
+import io.github.kxng0109.quicktix.enums.AdmissionStatus;
+import io.github.kxng0109.quicktix.repositories.EventRepository;
+import io.github.kxng0109.quicktix.repositories.VenueRepository;
+import io.github.kxng0109.quicktix.service.WaitingRoomService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the waiting room's admission script against a real Redis, since its token bucket lives entirely in Lua.
+ */
+public class WaitingRoomIntegrationTest extends BaseIntegrationTest {
+
+	@Autowired
+	private VenueRepository venueRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private WaitingRoomService waitingRoomService;
+
+	private Event event;
+
+	@BeforeEach
+	void setUp() {
+		Venue venue = venueRepository.save(Venue.builder()
+		                                        .name("Queue Arena")
+		                                        .address("1 Queue Street")
+		                                        .city("Lagos")
+		                                        .totalCapacity(1000)
+		                                        .build());
+
+		event = eventRepository.save(Event.builder()
+		                                  .name("Queue Concert")
+		                                  .venue(venue)
+		                                  .eventStartDateTime(Instant.now().plus(7, ChronoUnit.DAYS))
+		                                  .eventEndDateTime(Instant.now().plus(7, ChronoUnit.DAYS)
+		                                                           .plus(3, ChronoUnit.HOURS))
+		                                  .build());
+	}
+
+	@Test
+	void join_should_admitFirstUserRightAway_butQueueTheCrowdBehindThem() {
+		waitingRoomService.configure(event.getId(), new WaitingRoomConfigRequest(1));
+
+		User first = createUser("first@queue.com");
+		User second = createUser("second@queue.com");
+
+		WaitingRoomResponse firstResponse = waitingRoomService.join(event.getId(), first);
+		WaitingRoomResponse secondResponse = waitingRoomService.join(event.getId(), second);
+
+		assertThat(firstResponse.status()).isEqualTo(AdmissionStatus.ADMITTED);
+		assertThat(firstResponse.admissionToken()).isNotNull();
+
+		//One admission per minute, and the first user already took this minute's
+		assertThat(secondResponse.status()).isEqualTo(AdmissionStatus.WAITING);
+		assertThat(secondResponse.position()).isEqualTo(1);
+	}
+}
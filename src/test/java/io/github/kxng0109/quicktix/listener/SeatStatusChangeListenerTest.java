@@ -0,0 +1,79 @@
+package io.github.kxng0109.quicktix.listener;
+
+import io.github.kxng0109.quicktix.enums.SeatStatus;
+import io.github.kxng0109.quicktix.event.SeatStatusChangedEvent;
+import io.github.kxng0109.quicktix.service.AvailableSeatsCacheGeneration;
+import io.github.kxng0109.quicktix.service.SeatAvailabilityIndex;
+import io.github.kxng0109.quicktix.service.SeatMapService;
+import io.github.kxng0109.quicktix.service.SeatStatusStreamService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SeatStatusChangeListenerTest {
+
+	private final Long eventId = 100L;
+	private final SeatStatusChangedEvent change = new SeatStatusChangedEvent(
+			eventId,
+			List.of(300L, 301L),
+			SeatStatus.HELD
+	);
+
+	@Mock
+	private SeatAvailabilityIndex seatAvailabilityIndex;
+
+	@Mock
+	private AvailableSeatsCacheGeneration availableSeatsCacheGeneration;
+
+	@Mock
+	private SeatMapService seatMapService;
+
+	@Mock
+	private SeatStatusStreamService seatStatusStreamService;
+
+	@InjectMocks
+	private SeatStatusChangeListener seatStatusChangeListener;
+
+	@Test
+	public void handleSeatStatusChange_should_onlyRunAfterCommit() throws Exception {
+		TransactionalEventListener listener = SeatStatusChangeListener.class
+				.getMethod("handleSeatStatusChange", SeatStatusChangedEvent.class)
+				.getAnnotation(TransactionalEventListener.class);
+
+		assertNotNull(listener);
+		assertEquals(TransactionPhase.AFTER_COMMIT, listener.phase());
+	}
+
+	@Test
+	public void handleSeatStatusChange_should_advanceCacheGeneration_afterTheIndexIsUpdated() {
+		when(seatMapService.recordChange(change)).thenReturn(5L);
+
+		seatStatusChangeListener.handleSeatStatusChange(change);
+
+		InOrder inOrder = inOrder(seatAvailabilityIndex, availableSeatsCacheGeneration);
+		inOrder.verify(seatAvailabilityIndex).apply(change);
+		inOrder.verify(availableSeatsCacheGeneration).advance(eventId);
+		verify(seatStatusStreamService).publish(change, 5L);
+	}
+
+	@Test
+	public void handleSeatStatusChange_should_stillAdvanceCacheGeneration_when_indexUpdateFails() {
+		doThrow(new RuntimeException("Connection reset")).when(seatAvailabilityIndex).apply(change);
+
+		seatStatusChangeListener.handleSeatStatusChange(change);
+
+		verify(seatAvailabilityIndex).evict(eventId);
+		verify(availableSeatsCacheGeneration).advance(eventId);
+	}
+}
@@ -0,0 +1,56 @@
+package io.github.kxng0109.quicktix.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AvailableSeatsCacheGenerationTest {
+
+	private final Long eventId = 100L;
+	private final String generationKey = "availableSeats:generation:" + eventId;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@InjectMocks
+	private AvailableSeatsCacheGeneration availableSeatsCacheGeneration;
+
+	@Test
+	public void current_should_returnZero_when_eventWasNeverInvalidated() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get(generationKey)).thenReturn(null);
+
+		assertEquals(0, availableSeatsCacheGeneration.current(eventId));
+	}
+
+	@Test
+	public void current_should_readTheEventsCounter() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get(generationKey)).thenReturn("4");
+
+		assertEquals(4, availableSeatsCacheGeneration.current(eventId));
+	}
+
+	@Test
+	public void advance_should_incrementTheEventsCounter_andKeepItAlive() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+		availableSeatsCacheGeneration.advance(eventId);
+
+		verify(valueOperations).increment(generationKey);
+		verify(redisTemplate).expire(generationKey, Duration.ofDays(1));
+	}
+}
@@ -0,0 +1,187 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.request.BlockReservationRequest;
+import io.github.kxng0109.quicktix.dto.response.BlockReservationResponse;
+import io.github.kxng0109.quicktix.dto.response.BookingResponse;
+import io.github.kxng0109.quicktix.enums.BlockReservationStatus;
+import io.github.kxng0109.quicktix.event.BlockReservationRequestedEvent;
+import io.github.kxng0109.quicktix.exception.InvalidOperationException;
+import io.github.kxng0109.quicktix.repositories.SeatRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BlockReservationServiceTest {
+
+	private final Long eventId = 100L;
+	private final Long userId = 200L;
+	private final Long bookingId = 300L;
+	private final String reservationId = "reservation-1";
+	private final String progressKey = "block-reservation:" + reservationId;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@Mock
+	private BookingService bookingService;
+
+	@Mock
+	private SeatRepository seatRepository;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@InjectMocks
+	private BlockReservationService blockReservationService;
+
+	@Test
+	public void start_should_createBookingRecordProgressAndHandOverToTheBackground() {
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(bookingService.createBlockBooking(eventId, userId)).thenReturn(
+				BookingResponse.builder().id(bookingId).bookingReference("QT-ABCDEFG").build()
+		);
+		when(seatRepository.countBlock(eventId, List.of(5L), List.of(), List.of())).thenReturn(2_000L);
+
+		BlockReservationResponse response = blockReservationService.start(
+				eventId,
+				BlockReservationRequest.builder().userId(userId).sectionIds(List.of(5L)).build()
+		);
+
+		assertEquals(BlockReservationStatus.PENDING, response.status());
+		assertEquals(bookingId, response.bookingId());
+		assertEquals(2_000L, response.requestedSeats());
+		assertEquals(0L, response.reservedSeats());
+
+		ArgumentCaptor<BlockReservationRequestedEvent> captor =
+				ArgumentCaptor.forClass(BlockReservationRequestedEvent.class);
+		verify(applicationEventPublisher).publishEvent(captor.capture());
+		assertEquals(response.reservationId(), captor.getValue().reservationId());
+		assertEquals(List.of(5L), captor.getValue().sectionIds());
+		assertEquals(List.of(), captor.getValue().rowIds());
+		assertEquals(List.of(), captor.getValue().seatIds());
+
+		verify(hashOperations).putAll(eq("block-reservation:" + response.reservationId()), anyMap());
+	}
+
+	@Test
+	public void start_should_throwIllegalArgumentException_when_blockIsEmpty() {
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> blockReservationService.start(eventId, BlockReservationRequest.builder().userId(userId).build())
+		);
+
+		verifyNoInteractions(bookingService, applicationEventPublisher);
+	}
+
+	@Test
+	public void start_should_propagateException_when_eventIsNotOnSale() {
+		when(bookingService.createBlockBooking(eventId, userId))
+				.thenThrow(new InvalidOperationException("Cannot reserve seats of an event in status: CANCELLED"));
+
+		assertThrows(
+				InvalidOperationException.class,
+				() -> blockReservationService.start(
+						eventId,
+						BlockReservationRequest.builder().userId(userId).rowIds(List.of(10L)).build()
+				)
+		);
+
+		verifyNoInteractions(applicationEventPublisher);
+	}
+
+	@Test
+	public void reserve_should_reserveInBatchesUntilTheBlockIsExhausted_thenSettleTheBooking() {
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(bookingService.reserveBlockBatch(bookingId, List.of(5L), List.of(), List.of(),
+		                                      BlockReservationService.BATCH_SIZE))
+				.thenReturn(seatIds(BlockReservationService.BATCH_SIZE), seatIds(120));
+		when(bookingService.completeBlockBooking(bookingId)).thenReturn(620L);
+
+		blockReservationService.reserve(request());
+
+		verify(bookingService, times(2)).reserveBlockBatch(anyLong(), anyCollection(), anyCollection(),
+		                                                   anyCollection(), anyInt());
+		verify(hashOperations).putAll(progressKey, Map.of(
+				"status", BlockReservationStatus.IN_PROGRESS.name(),
+				"reservedSeats", String.valueOf(BlockReservationService.BATCH_SIZE)
+		));
+		verify(hashOperations).putAll(progressKey, Map.of(
+				"status", BlockReservationStatus.COMPLETED.name(),
+				"reservedSeats", "620"
+		));
+	}
+
+	@Test
+	public void reserve_should_settleBookingAndRecordFailure_when_aBatchFails() {
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(bookingService.reserveBlockBatch(anyLong(), anyCollection(), anyCollection(), anyCollection(), anyInt()))
+				.thenReturn(seatIds(BlockReservationService.BATCH_SIZE))
+				.thenThrow(new InvalidOperationException("Cannot reserve seats for a booking in status: EXPIRED"));
+		when(bookingService.completeBlockBooking(bookingId)).thenReturn(500L);
+
+		blockReservationService.reserve(request());
+
+		verify(bookingService).completeBlockBooking(bookingId);
+		verify(hashOperations).putAll(progressKey, Map.of(
+				"status", BlockReservationStatus.FAILED.name(),
+				"reservedSeats", "500"
+		));
+	}
+
+	@Test
+	public void getProgress_should_readProgressFromRedis() {
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(hashOperations.entries(progressKey)).thenReturn(Map.of(
+				"eventId", String.valueOf(eventId),
+				"bookingId", String.valueOf(bookingId),
+				"bookingReference", "QT-ABCDEFG",
+				"status", BlockReservationStatus.IN_PROGRESS.name(),
+				"requestedSeats", "2000",
+				"reservedSeats", "1500"
+		));
+
+		BlockReservationResponse response = blockReservationService.getProgress(reservationId);
+
+		assertEquals(BlockReservationStatus.IN_PROGRESS, response.status());
+		assertEquals(bookingId, response.bookingId());
+		assertEquals(2_000L, response.requestedSeats());
+		assertEquals(1_500L, response.reservedSeats());
+	}
+
+	@Test
+	public void getProgress_should_throwEntityNotFoundException_when_reservationIsUnknown() {
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(hashOperations.entries(progressKey)).thenReturn(Map.of());
+
+		assertThrows(EntityNotFoundException.class, () -> blockReservationService.getProgress(reservationId));
+	}
+
+	private BlockReservationRequestedEvent request() {
+		return new BlockReservationRequestedEvent(
+				reservationId, eventId, bookingId, userId, List.of(5L), List.of(), List.of()
+		);
+	}
+
+	private static List<Long> seatIds(int count) {
+		return LongStream.rangeClosed(1, count).boxed().toList();
+	}
+}
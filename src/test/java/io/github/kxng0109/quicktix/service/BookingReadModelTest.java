@@ -0,0 +1,92 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.response.BookingResponse;
+import io.github.kxng0109.quicktix.service.BookingReadModel.BookingView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingReadModelTest {
+
+	private final Long bookingId = 10L;
+	private final String generationKey = "bookings:generation:" + bookingId;
+	private final BookingView view = new BookingView(1L, BookingResponse.builder().id(bookingId).build());
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private CacheManager cacheManager;
+	private BookingReadModel bookingReadModel;
+
+	@BeforeEach
+	void setUp() {
+		cacheManager = new ConcurrentMapCacheManager("bookings", "bookingReferences");
+		bookingReadModel = new BookingReadModel(cacheManager, redisTemplate);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	public void get_should_cacheView_whenBookingDidNotChangeWhileLoading() {
+		when(valueOperations.get(generationKey)).thenReturn("2", "2");
+
+		assertEquals(view, bookingReadModel.get(bookingId, this::load));
+		assertEquals(view, bookingReadModel.get(bookingId, this::load));
+
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void get_should_notKeepView_whenBookingChangedWhileLoading() {
+		//The booking was confirmed and evicted between the generation read and the put
+		when(valueOperations.get(generationKey)).thenReturn(null, "1");
+
+		assertEquals(view, bookingReadModel.get(bookingId, this::load));
+
+		assertNull(cacheManager.getCache("bookings").get(bookingId));
+	}
+
+	@Test
+	public void get_should_serveUncached_whenGenerationCannotBeRead() {
+		when(valueOperations.get(generationKey)).thenThrow(new RuntimeException("Connection refused"));
+
+		assertEquals(view, bookingReadModel.get(bookingId, this::load));
+
+		assertNull(cacheManager.getCache("bookings").get(bookingId));
+	}
+
+	@Test
+	public void evict_should_bumpGeneration_beforeEvictingTheView() {
+		cacheManager.getCache("bookings").put(bookingId, view);
+
+		bookingReadModel.evict(List.of(bookingId));
+
+		InOrder inOrder = inOrder(valueOperations, redisTemplate);
+		inOrder.verify(valueOperations).increment(generationKey);
+		inOrder.verify(redisTemplate).expire(generationKey, Duration.ofHours(1));
+		assertNull(cacheManager.getCache("bookings").get(bookingId));
+	}
+
+	private BookingView load(Long bookingId) {
+		loads.incrementAndGet();
+		return view;
+	}
+}
@@ -0,0 +1,63 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.repositories.BookingRepository;
+import io.github.kxng0109.quicktix.utils.BookingReferenceGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingReferenceAllocatorTest {
+
+	@Mock
+	private BookingRepository bookingRepository;
+
+	@InjectMocks
+	private BookingReferenceAllocator bookingReferenceAllocator;
+
+	@Test
+	public void allocate_should_claimOneBlockPerBlockSizeReferences() {
+		when(bookingRepository.nextBookingReferenceBlock()).thenReturn(1L, 51L);
+
+		Set<String> references = new HashSet<>();
+		for (int i = 0; i < BookingReferenceAllocator.BLOCK_SIZE + 1; i++) {
+			references.add(bookingReferenceAllocator.allocate());
+		}
+
+		assertEquals(BookingReferenceAllocator.BLOCK_SIZE + 1, references.size());
+		assertTrue(references.contains(BookingReferenceGenerator.encode(1)));
+		assertTrue(references.contains(BookingReferenceGenerator.encode(51)));
+		verify(bookingRepository, times(2)).nextBookingReferenceBlock();
+	}
+
+	@Test
+	public void encode_should_produceDistinctReadableCodes_forConsecutiveNumbers() {
+		Set<String> references = new HashSet<>();
+		for (long number = 0; number < 10_000; number++) {
+			String reference = BookingReferenceGenerator.encode(number);
+
+			assertTrue(reference.matches("QT-[ABCDEFGHJKMNPQRSTUVWXYZ2-9]{7}"), reference);
+			references.add(reference);
+		}
+
+		assertEquals(10_000, references.size());
+		assertNotEquals(
+				BookingReferenceGenerator.encode(1).substring(0, 8),
+				BookingReferenceGenerator.encode(2).substring(0, 8)
+		);
+	}
+
+	@Test
+	public void encode_should_throwIllegalArgumentException_whenNumberIsOutOfRange() {
+		assertThrows(IllegalArgumentException.class, () -> BookingReferenceGenerator.encode(-1));
+		assertThrows(IllegalArgumentException.class, () -> BookingReferenceGenerator.encode(27_512_614_111L));
+	}
+}
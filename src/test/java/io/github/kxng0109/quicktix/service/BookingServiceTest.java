@@ -1,10 +1,13 @@
 package io.github.kxng0109.quicktix.service;
 
+import io.github.kxng0109.quicktix.dto.request.HoldSeatsRequest;
 import io.github.kxng0109.quicktix.dto.request.InitiateBookingRequest;
 import io.github.kxng0109.quicktix.dto.response.BookingResponse;
 import io.github.kxng0109.quicktix.dto.response.SeatResponse;
 import io.github.kxng0109.quicktix.entity.*;
 import io.github.kxng0109.quicktix.enums.*;
+import io.github.kxng0109.quicktix.event.BookingChangedEvent;
+import io.github.kxng0109.quicktix.event.SeatStatusChangedEvent;
 import io.github.kxng0109.quicktix.exception.InvalidOperationException;
 import io.github.kxng0109.quicktix.repositories.BookingRepository;
 import io.github.kxng0109.quicktix.repositories.EventRepository;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -29,6 +33,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -42,7 +47,7 @@ public class BookingServiceTest {
 	private final Long paymentId = 300L;
 	private final BigDecimal totalAmount = BigDecimal.valueOf(12334.54);
 	private final Pageable pageable = PageRequest.of(0, 2);
-	private final String bookingReference = BookingReferenceGenerator.generate();
+	private final String bookingReference = BookingReferenceGenerator.encode(1);
 
 	@Mock
 	private BookingRepository bookingRepository;
@@ -60,7 +65,13 @@ public class BookingServiceTest {
 	private SeatService seatService;
 
 	@Mock
-	private SeatLockService seatLockService;
+	private BookingReferenceAllocator bookingReferenceAllocator;
+
+	@Mock
+	private BookingReadModel bookingReadModel;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
 
 	@InjectMocks
 	private BookingService bookingService;
@@ -167,7 +178,8 @@ public class BookingServiceTest {
 
 	@Test
 	public void getBookingById_should_returnBookingResponse_when_bookingExists() {
-		when(bookingRepository.findById(anyLong()))
+		passThroughBookingReadModel();
+		when(bookingRepository.findWithDetailsById(anyLong()))
 				.thenReturn(Optional.of(booking));
 
 		BookingResponse response = bookingService.getBookingById(bookingId, user);
@@ -177,23 +189,34 @@ public class BookingServiceTest {
 		assertEquals(BookingStatus.PENDING.getDisplayName(), response.status());
 		assertEquals(event.getName(), response.eventName());
 
-		verify(bookingRepository).findById(anyLong());
+		verify(bookingRepository).findWithDetailsById(bookingId);
+	}
+
+	@Test
+	public void getBookingById_should_serveCachedBooking_withoutTouchingTheDatabase() {
+		BookingResponse cached = BookingResponse.builder().id(bookingId).build();
+		when(bookingReadModel.get(eq(bookingId), any()))
+				.thenReturn(new BookingReadModel.BookingView(userId, cached));
+
+		BookingResponse response = bookingService.getBookingById(bookingId, user);
+
+		assertSame(cached, response);
+		verifyNoInteractions(bookingRepository);
 	}
 
 	@Test
 	void getBookingById_should_throwAccessDenied_when_nonOwnerNonAdmin() {
-		User owner = User.builder().id(1L).role(Role.USER).build();
 		User attacker = User.builder().id(2L).role(Role.USER).build();
-		Booking booking = Booking.builder().id(10L).user(owner).build();
-
-		when(bookingRepository.findById(10L)).thenReturn(Optional.of(booking));
+		when(bookingReadModel.get(eq(10L), any()))
+				.thenReturn(new BookingReadModel.BookingView(1L, BookingResponse.builder().id(10L).build()));
 
 		assertThrows(AccessDeniedException.class, () -> bookingService.getBookingById(10L, attacker));
 	}
 
 	@Test
 	public void getBookingById_should_throwEntityNotFoundException_when_bookingIsNotFound() {
-		when(bookingRepository.findById(anyLong()))
+		passThroughBookingReadModel();
+		when(bookingRepository.findWithDetailsById(anyLong()))
 				.thenReturn(Optional.empty());
 
 		assertThrows(
@@ -201,13 +224,14 @@ public class BookingServiceTest {
 				() -> bookingService.getBookingById(bookingId, user)
 		);
 
-		verify(bookingRepository).findById(anyLong());
+		verify(bookingRepository).findWithDetailsById(bookingId);
 	}
 
 	@Test
 	public void getBookingById_should_throwAccessDeniedException_when_userDoesNotOwnBooking() {
+		passThroughBookingReadModel();
 		User anotherUser = User.builder().id(999L).role(Role.USER).build();
-		when(bookingRepository.findById(anyLong()))
+		when(bookingRepository.findWithDetailsById(anyLong()))
 				.thenReturn(Optional.of(booking));
 
 		assertThrows(
@@ -215,12 +239,15 @@ public class BookingServiceTest {
 				() -> bookingService.getBookingById(bookingId, anotherUser)
 		);
 
-		verify(bookingRepository).findById(anyLong());
+		verify(bookingRepository).findWithDetailsById(bookingId);
 	}
 
 	@Test
 	public void getBookingByReference_should_returnBookingResponse_when_bookingExists() {
-		when(bookingRepository.findByBookingReference(anyString()))
+		passThroughBookingReadModel();
+		when(bookingRepository.findIdByBookingReference(bookingReference))
+				.thenReturn(Optional.of(bookingId));
+		when(bookingRepository.findWithDetailsById(bookingId))
 				.thenReturn(Optional.of(booking));
 
 		BookingResponse response = bookingService.getBookingByReference(bookingReference, user);
@@ -230,12 +257,13 @@ public class BookingServiceTest {
 		assertEquals(BookingStatus.PENDING.getDisplayName(), response.status());
 		assertEquals(event.getName(), response.eventName());
 
-		verify(bookingRepository).findByBookingReference(anyString());
+		verify(bookingRepository).findIdByBookingReference(bookingReference);
 	}
 
 	@Test
 	public void getBookingByReference_should_throwEntityNotFoundException_when_bookingIsNotFound() {
-		when(bookingRepository.findByBookingReference(anyString()))
+		passThroughBookingReadModel();
+		when(bookingRepository.findIdByBookingReference(anyString()))
 				.thenReturn(Optional.empty());
 
 		assertThrows(
@@ -243,21 +271,22 @@ public class BookingServiceTest {
 				() -> bookingService.getBookingByReference(bookingReference, user)
 		);
 
-		verify(bookingRepository).findByBookingReference(anyString());
+		verify(bookingRepository, never()).findWithDetailsById(anyLong());
 	}
 
 	@Test
 	public void getBookingByReference_should_throwAccessDeniedException_when_userDoesNotOwnBooking() {
+		passThroughBookingReadModel();
 		User anotherUser = User.builder().id(999L).role(Role.USER).build();
-		when(bookingRepository.findByBookingReference(anyString()))
+		when(bookingRepository.findIdByBookingReference(bookingReference))
+				.thenReturn(Optional.of(bookingId));
+		when(bookingRepository.findWithDetailsById(bookingId))
 				.thenReturn(Optional.of(booking));
 
 		assertThrows(
 				AccessDeniedException.class,
 				() -> bookingService.getBookingByReference(bookingReference, anotherUser)
 		);
-
-		verify(bookingRepository).findByBookingReference(anyString());
 	}
 
 	@Test
@@ -277,6 +306,7 @@ public class BookingServiceTest {
 
 		verify(userRepository).findById(anyLong());
 		verify(bookingRepository).findByUserId(anyLong(), any(Pageable.class));
+		verify(bookingRepository).findWithSeatsByIdIn(List.of(bookingId));
 	}
 
 	@Test
@@ -299,6 +329,8 @@ public class BookingServiceTest {
 				.thenReturn(Optional.of(event));
 		when(seatService.validateAndGetHeldSeats(anyList(), anyLong(), anyLong()))
 				.thenReturn(List.of(seat1, seat2));
+		when(bookingReferenceAllocator.allocate())
+				.thenReturn(bookingReference);
 		when(bookingRepository.save(any(Booking.class)))
 				.thenReturn(booking);
 
@@ -313,7 +345,7 @@ public class BookingServiceTest {
 
 		verify(eventRepository).findById(anyLong());
 		verify(seatService).validateAndGetHeldSeats(anyList(), anyLong(), anyLong());
-		verify(bookingRepository).save(any(Booking.class));
+		verify(bookingRepository).save(argThat(saved -> bookingReference.equals(saved.getBookingReference())));
 		verify(seatRepository).saveAll(anyList());
 	}
 
@@ -340,6 +372,50 @@ public class BookingServiceTest {
 		verify(seatRepository).saveAll(anyList());
 	}
 
+	@Test
+	public void checkout_should_holdSeatsAndCreateBooking_withoutSavingSeatsTwice() {
+		HoldSeatsRequest checkoutRequest = new HoldSeatsRequest(event.getId(), List.of(seat1.getId(), seat2.getId()));
+		when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+		when(seatService.holdSeatsForBooking(event.getId(), checkoutRequest.seatIds(), user))
+				.thenReturn(List.of(seat1, seat2));
+		when(bookingReferenceAllocator.allocate()).thenReturn(bookingReference);
+		when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+
+		BookingResponse response = bookingService.checkout(checkoutRequest, user);
+
+		assertNotNull(response);
+		assertEquals(booking, seat1.getBooking());
+		assertEquals(booking, seat2.getBooking());
+		verify(bookingRepository).save(argThat(
+				saved -> saved.getTotalAmount().compareTo(BigDecimal.valueOf(15000.00)) == 0
+						&& saved.getStatus() == BookingStatus.PENDING
+						&& bookingReference.equals(saved.getBookingReference())
+		));
+		verify(seatService, never()).validateAndGetHeldSeats(anyList(), anyLong(), anyLong());
+		verify(seatRepository, never()).saveAll(anyList());
+	}
+
+	@Test
+	public void checkout_should_throwInvalidOperationException_andHoldNothing_whenEventIsNotOnSale() {
+		HoldSeatsRequest checkoutRequest = new HoldSeatsRequest(event.getId(), List.of(seat1.getId()));
+		event.setStatus(EventStatus.DRAFT);
+		when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+
+		assertThrows(InvalidOperationException.class, () -> bookingService.checkout(checkoutRequest, user));
+
+		verify(seatService, never()).holdSeatsForBooking(anyLong(), anyList(), any(User.class));
+	}
+
+	@Test
+	public void checkout_should_throwEntityNotFoundException_andHoldNothing_whenEventIsNotFound() {
+		HoldSeatsRequest checkoutRequest = new HoldSeatsRequest(event.getId(), List.of(seat1.getId()));
+		when(eventRepository.findById(event.getId())).thenReturn(Optional.empty());
+
+		assertThrows(EntityNotFoundException.class, () -> bookingService.checkout(checkoutRequest, user));
+
+		verify(seatService, never()).holdSeatsForBooking(anyLong(), anyList(), any(User.class));
+	}
+
 	@Test
 	public void createPendingBooking_should_throwEntityNotFoundException_when_eventIsNotFound() {
 		when(eventRepository.findById(anyLong()))
@@ -421,6 +497,10 @@ public class BookingServiceTest {
 		verify(bookingRepository).findByIdWithPayment(anyLong());
 		verify(bookingRepository).save(any(Booking.class));
 		verify(seatRepository).saveAll(anyList());
+		verify(applicationEventPublisher).publishEvent(
+				new SeatStatusChangedEvent(event.getId(), List.of(seat1.getId(), seat2.getId()), SeatStatus.BOOKED)
+		);
+		verify(applicationEventPublisher).publishEvent(new BookingChangedEvent(List.of(bookingId)));
 	}
 
 	@Test
@@ -438,6 +518,7 @@ public class BookingServiceTest {
 		verify(bookingRepository).findByIdWithPayment(anyLong());
 		verify(seatRepository, never()).saveAll(anyList());
 		verify(bookingRepository, never()).save(any(Booking.class));
+		verify(applicationEventPublisher, never()).publishEvent(any(SeatStatusChangedEvent.class));
 	}
 
 	@Test
@@ -502,11 +583,12 @@ public class BookingServiceTest {
 		bookingService.cancelBooking(bookingId, user);
 
 		assertEquals(BookingStatus.CANCELLED, booking.getStatus());
-		assertEquals(SeatStatus.AVAILABLE, booking.getSeats().getFirst().getSeatStatus());
 
 		verify(bookingRepository).findById(anyLong());
-		verify(seatRepository).saveAll(anyList());
+		verify(seatService).releaseBookedSeats(List.of(booking.getId()));
+		verify(seatRepository, never()).saveAll(anyList());
 		verify(bookingRepository).save(any(Booking.class));
+		verify(applicationEventPublisher).publishEvent(new BookingChangedEvent(List.of(bookingId)));
 	}
 
 	@Test
@@ -561,43 +643,113 @@ public class BookingServiceTest {
 	}
 
 	@Test
-	public void expirePendingBookings_should_cancelBooking_when_bookingHasBeenPendingForAWhile() {
-		when(bookingRepository.findByStatusAndCreatedAtBefore(
-				eq(BookingStatus.PENDING),
-				any(Instant.class)
-		)).thenReturn(List.of(booking));
+	public void expirePendingBookings_should_expireClaimedBookings_withoutLoadingThem() {
+		Instant cutoffTime = Instant.now().minus(20, ChronoUnit.MINUTES);
+		when(bookingRepository.claimExpiredPendingBookingIds(cutoffTime, 50))
+				.thenReturn(List.of(bookingId));
+
+		int expired = bookingService.expirePendingBookings(cutoffTime, 50);
+
+		assertEquals(1, expired);
+		verify(seatService).releaseBookedSeats(List.of(bookingId));
+		verify(bookingRepository).updateStatusByIdIn(List.of(bookingId), BookingStatus.EXPIRED);
+		verify(applicationEventPublisher).publishEvent(new BookingChangedEvent(List.of(bookingId)));
+		verify(bookingRepository, never()).findAllById(anyIterable());
+		verify(bookingRepository, never()).saveAll(anyList());
+	}
 
-		bookingService.expirePendingBookings(Instant.now().minus(20, ChronoUnit.MINUTES));
+	@Test
+	public void expirePendingBookings_should_doNothing_when_noBookingsArePending() {
+		Instant cutoffTime = Instant.now().minus(20, ChronoUnit.MINUTES);
+		when(bookingRepository.claimExpiredPendingBookingIds(cutoffTime, 50))
+				.thenReturn(List.of());
 
-		assertEquals(BookingStatus.EXPIRED, booking.getStatus());
-		assertEquals(SeatStatus.AVAILABLE, booking.getSeats().getFirst().getSeatStatus());
+		int expired = bookingService.expirePendingBookings(cutoffTime, 50);
+
+		assertEquals(0, expired);
+		verify(seatService, never()).releaseBookedSeats(anyList());
+		verify(bookingRepository, never()).updateStatusByIdIn(anyCollection(), any(BookingStatus.class));
+	}
+
+	@Test
+	public void createBlockBooking_should_createEmptyPendingBooking_when_eventIsOnSale() {
+		when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+		when(bookingReferenceAllocator.allocate()).thenReturn(bookingReference);
+		when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		BookingResponse response = bookingService.createBlockBooking(event.getId(), userId);
+
+		assertEquals(BookingStatus.PENDING.getDisplayName(), response.status());
+		assertEquals(bookingReference, response.bookingReference());
+		assertEquals(0, BigDecimal.ZERO.compareTo(response.totalAmount()));
+		assertTrue(response.seats().isEmpty());
+	}
+
+	@Test
+	public void createBlockBooking_should_throwInvalidOperationException_when_eventIsCancelled() {
+		event.setStatus(EventStatus.CANCELLED);
+		when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
 
-		verify(bookingRepository).findByStatusAndCreatedAtBefore(
-				eq(BookingStatus.PENDING),
-				any(Instant.class)
+		assertThrows(
+				InvalidOperationException.class,
+				() -> bookingService.createBlockBooking(event.getId(), userId)
 		);
-		verify(seatRepository).saveAll(anyList());
-		verify(bookingRepository).saveAll(anyList());
+
+		verify(bookingRepository, never()).save(any(Booking.class));
 	}
 
 	@Test
-	public void expirePendingBookings_should_cancelBooking_when_noBookingsArePending() {
-		when(bookingRepository.findByStatusAndCreatedAtBefore(
-				eq(BookingStatus.PENDING),
-				any(Instant.class)
-		)).thenReturn(List.of());
+	public void reserveBlockBatch_should_reserveSeatsForTheLockedBooking() {
+		when(bookingRepository.findByIdWithLock(bookingId)).thenReturn(Optional.of(booking));
+		when(seatService.reserveBlock(event.getId(), List.of(100L), List.of(), List.of(), bookingId, userId, 500))
+				.thenReturn(List.of(400L, 401L));
 
-		bookingService.expirePendingBookings(Instant.now().minus(20, ChronoUnit.MINUTES));
+		List<Long> reserved = bookingService.reserveBlockBatch(bookingId, List.of(100L), List.of(), List.of(), 500);
 
-		assertEquals(BookingStatus.PENDING, booking.getStatus());
-		assertEquals(SeatStatus.HELD, booking.getSeats().getFirst().getSeatStatus());
+		assertEquals(List.of(400L, 401L), reserved);
+	}
 
-		verify(bookingRepository).findByStatusAndCreatedAtBefore(
-				eq(BookingStatus.PENDING),
-				any(Instant.class)
+	@Test
+	public void reserveBlockBatch_should_throwInvalidOperationException_when_bookingIsNoLongerPending() {
+		booking.setStatus(BookingStatus.EXPIRED);
+		when(bookingRepository.findByIdWithLock(bookingId)).thenReturn(Optional.of(booking));
+
+		assertThrows(
+				InvalidOperationException.class,
+				() -> bookingService.reserveBlockBatch(bookingId, List.of(100L), List.of(), List.of(), 500)
 		);
-		verify(seatRepository, never()).saveAll(anyList());
-		verify(bookingRepository, never()).saveAll(anyList());
+
+		verify(seatService, never()).reserveBlock(anyLong(), anyCollection(), anyCollection(), anyCollection(),
+		                                          anyLong(), anyLong(), anyInt());
+	}
+
+	@Test
+	public void completeBlockBooking_should_settleTotalFromReservedSeats() {
+		when(bookingRepository.findByIdWithLock(bookingId)).thenReturn(Optional.of(booking));
+		when(seatRepository.countByBookingId(bookingId)).thenReturn(2L);
+		when(seatRepository.sumPriceByBookingId(bookingId)).thenReturn(BigDecimal.valueOf(15000.00));
+
+		long seats = bookingService.completeBlockBooking(bookingId);
+
+		assertEquals(2L, seats);
+		assertEquals(BigDecimal.valueOf(15000.00), booking.getTotalAmount());
+		assertEquals(BookingStatus.PENDING, booking.getStatus());
+		verify(bookingRepository).save(booking);
+		verify(applicationEventPublisher).publishEvent(new BookingChangedEvent(List.of(bookingId)));
+	}
+
+	@Test
+	public void completeBlockBooking_should_expireBooking_when_noSeatWasReserved() {
+		when(bookingRepository.findByIdWithLock(bookingId)).thenReturn(Optional.of(booking));
+		when(seatRepository.countByBookingId(bookingId)).thenReturn(0L);
+
+		long seats = bookingService.completeBlockBooking(bookingId);
+
+		assertEquals(0L, seats);
+		assertEquals(BookingStatus.EXPIRED, booking.getStatus());
+		verify(seatRepository, never()).sumPriceByBookingId(anyLong());
+		verify(bookingRepository).save(booking);
 	}
 
 	@Test
@@ -610,10 +762,9 @@ public class BookingServiceTest {
 		bookingService.cancelRefundedBooking(bookingId);
 
 		assertEquals(BookingStatus.CANCELLED, booking.getStatus());
-		assertEquals(SeatStatus.AVAILABLE, booking.getSeats().getFirst().getSeatStatus());
 
 		verify(bookingRepository).findById(bookingId);
-		verify(seatRepository).saveAll(anyList());
+		verify(seatService).releaseBookedSeats(List.of(booking.getId()));
 		verify(bookingRepository).save(any(Booking.class));
 	}
 
@@ -641,4 +792,13 @@ public class BookingServiceTest {
 		                   .price(seat.getPrice())
 		                   .build();
 	}
-}
\ No newline at end of file
+
+	@SuppressWarnings("unchecked")
+	private void passThroughBookingReadModel() {
+		lenient().when(bookingReadModel.get(anyLong(), any()))
+		         .thenAnswer(i -> ((Function<Long, BookingReadModel.BookingView>) i.getArgument(1))
+				         .apply(i.getArgument(0)));
+		lenient().when(bookingReadModel.getBookingId(anyString(), any()))
+		         .thenAnswer(i -> ((Function<String, Long>) i.getArgument(1)).apply(i.getArgument(0)));
+	}
+}
@@ -1,12 +1,18 @@
 package io.github.kxng0109.quicktix.service;
 
 import io.github.kxng0109.quicktix.dto.request.*;
+import io.github.kxng0109.quicktix.dto.request.projection.EventSeatCount;
+import io.github.kxng0109.quicktix.dto.request.projection.EventSeatRevision;
+import io.github.kxng0109.quicktix.dto.request.projection.SectionPrice;
 import io.github.kxng0109.quicktix.dto.response.EventResponse;
+import io.github.kxng0109.quicktix.dto.response.PagedResponse;
 import io.github.kxng0109.quicktix.entity.*;
 import io.github.kxng0109.quicktix.enums.BookingStatus;
 import io.github.kxng0109.quicktix.enums.EventStatus;
 import io.github.kxng0109.quicktix.enums.SeatStatus;
 import io.github.kxng0109.quicktix.event.EventCancelledEvent;
+import io.github.kxng0109.quicktix.event.EventListingChangedEvent;
+import io.github.kxng0109.quicktix.event.SeatGenerationRequestedEvent;
 import io.github.kxng0109.quicktix.exception.InvalidOperationException;
 import io.github.kxng0109.quicktix.exception.ResourceInUseException;
 import io.github.kxng0109.quicktix.repositories.*;
@@ -22,16 +28,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -62,6 +72,18 @@ public class EventServiceTest {
 	@Mock
 	private ApplicationEventPublisher applicationEventPublisher;
 
+	@Mock
+	private SeatAvailabilityIndex seatAvailabilityIndex;
+
+	@Mock
+	private SeatMapService seatMapService;
+
+	@Mock
+	private SeatingTemplateRepository seatingTemplateRepository;
+
+	@Mock
+	private UpcomingEventsCache upcomingEventsCache;
+
 	@InjectMocks
 	private EventService eventService;
 
@@ -152,6 +174,188 @@ public class EventServiceTest {
 		verify(eventRepository).save(any(Event.class));
 	}
 
+	@Test
+	public void createEvent_should_generateSeatsInline_whenLayoutIsSmall() {
+		when(venueRepository.findById(venueId)).thenReturn(Optional.of(venue));
+		when(eventRepository.save(any(Event.class))).thenReturn(event);
+		when(rowRepository.save(any(Row.class))).thenAnswer(i -> i.getArgument(0));
+		when(sectionRepository.save(any(Section.class))).thenAnswer(i -> i.getArgument(0));
+		when(seatRepository.countByEventIdAndSeatStatus(eventId, SeatStatus.AVAILABLE)).thenReturn(5L);
+
+		EventResponse response = eventService.createEvent(createRequest);
+
+		assertEquals(5L, response.availableSeats());
+		assertEquals(BigDecimal.valueOf(5000.00), response.ticketPrice());
+		verify(seatRepository).insertSeatsForRows(anyCollection());
+		verify(seatRepository, never()).saveAll(anyIterable());
+		verify(applicationEventPublisher, never()).publishEvent(any(SeatGenerationRequestedEvent.class));
+	}
+
+	@Test
+	public void createEvent_should_leaveEventAsDraftAndGenerateSeatsInBackground_whenLayoutIsLarge() {
+		RowRequest largeRow = RowRequest.builder()
+		                                .name("A")
+		                                .rowOrder(1)
+		                                .numberOfSeats(EventService.INLINE_SEAT_GENERATION_LIMIT + 1)
+		                                .build();
+		SectionRequest largeSection = SectionRequest.builder()
+		                                            .name("Stands")
+		                                            .description("Stands")
+		                                            .capacity(EventService.INLINE_SEAT_GENERATION_LIMIT + 1)
+		                                            .basePrice(BigDecimal.valueOf(2000.00))
+		                                            .rows(List.of(largeRow))
+		                                            .build();
+		CreateEventRequest largeRequest = CreateEventRequest.builder()
+		                                                    .name("Stadium event")
+		                                                    .description("A very large event")
+		                                                    .venueId(venueId)
+		                                                    .eventStartDateTime(createRequest.eventStartDateTime())
+		                                                    .eventEndDateTime(createRequest.eventEndDateTime())
+		                                                    .sections(List.of(largeSection))
+		                                                    .numberOfSeats((long) EventService.INLINE_SEAT_GENERATION_LIMIT + 1)
+		                                                    .build();
+
+		when(venueRepository.findById(venueId)).thenReturn(Optional.of(venue));
+		when(eventRepository.save(any(Event.class))).thenAnswer(i -> {
+			Event saved = i.getArgument(0);
+			saved.setId(eventId);
+			return saved;
+		});
+		when(rowRepository.save(any(Row.class))).thenAnswer(i -> i.getArgument(0));
+		when(sectionRepository.save(any(Section.class))).thenAnswer(i -> i.getArgument(0));
+
+		EventResponse response = eventService.createEvent(largeRequest);
+
+		assertEquals(EventStatus.DRAFT.getDisplayName(), response.status());
+		assertEquals(0L, response.availableSeats());
+		verify(seatRepository, never()).insertSeatsForRows(anyCollection());
+		verify(applicationEventPublisher).publishEvent(new SeatGenerationRequestedEvent(eventId));
+	}
+
+	@Test
+	public void createEvent_should_copyTemplateLayoutWithPriceOverrides_whenSeatingTemplateIdIsGiven() {
+		SeatingTemplate template = SeatingTemplate.builder()
+		                                          .id(7L)
+		                                          .venue(venue)
+		                                          .totalSeats(20)
+		                                          .build();
+		template.getSections().add(TemplateSection.builder()
+		                                          .id(70L)
+		                                          .name("VIP")
+		                                          .description("VIP section")
+		                                          .capacity(10)
+		                                          .price(BigDecimal.valueOf(5000.00))
+		                                          .build());
+		template.getSections().add(TemplateSection.builder()
+		                                          .id(71L)
+		                                          .name("Regular")
+		                                          .description("Regular section")
+		                                          .capacity(10)
+		                                          .price(BigDecimal.valueOf(2000.00))
+		                                          .build());
+		CreateEventRequest templateRequest = CreateEventRequest.builder()
+		                                                       .name("Templated event")
+		                                                       .description("An event laid out from a template")
+		                                                       .venueId(venueId)
+		                                                       .eventStartDateTime(createRequest.eventStartDateTime())
+		                                                       .eventEndDateTime(createRequest.eventEndDateTime())
+		                                                       .seatingTemplateId(7L)
+		                                                       .sectionPriceOverrides(Map.of(70L, BigDecimal.valueOf(7500.00)))
+		                                                       .build();
+
+		when(venueRepository.findById(venueId)).thenReturn(Optional.of(venue));
+		when(seatingTemplateRepository.findWithSectionsByIdAndVenueId(7L, venueId)).thenReturn(Optional.of(template));
+		when(eventRepository.save(any(Event.class))).thenReturn(event);
+		List<Section> savedSections = new ArrayList<>();
+		when(sectionRepository.save(any(Section.class))).thenAnswer(i -> {
+			Section section = i.getArgument(0);
+			section.setId(900L + savedSections.size());
+			savedSections.add(section);
+			return section;
+		});
+		when(seatRepository.countByEventIdAndSeatStatus(eventId, SeatStatus.AVAILABLE)).thenReturn(20L);
+
+		EventResponse response = eventService.createEvent(templateRequest);
+
+		assertEquals(20L, response.availableSeats());
+		assertEquals(BigDecimal.valueOf(7500.00), response.ticketPrice());
+		assertEquals(BigDecimal.valueOf(7500.00), savedSections.get(0).getPrice());
+		assertEquals(BigDecimal.valueOf(2000.00), savedSections.get(1).getPrice());
+		verify(rowRepository).copyTemplateRows(70L, 900L);
+		verify(rowRepository).copyTemplateRows(71L, 901L);
+		verify(rowRepository, never()).save(any(Row.class));
+		verify(seatRepository).insertSeatsForRows(anyCollection());
+	}
+
+	@Test
+	public void createEvent_should_throwEntityNotFoundException_whenSeatingTemplateIsNotOfTheVenue() {
+		CreateEventRequest templateRequest = CreateEventRequest.builder()
+		                                                       .name("Templated event")
+		                                                       .description("An event laid out from a template")
+		                                                       .venueId(venueId)
+		                                                       .eventStartDateTime(createRequest.eventStartDateTime())
+		                                                       .eventEndDateTime(createRequest.eventEndDateTime())
+		                                                       .seatingTemplateId(7L)
+		                                                       .build();
+
+		when(venueRepository.findById(venueId)).thenReturn(Optional.of(venue));
+		when(seatingTemplateRepository.findWithSectionsByIdAndVenueId(7L, venueId)).thenReturn(Optional.empty());
+
+		assertThrows(EntityNotFoundException.class, () -> eventService.createEvent(templateRequest));
+		verify(eventRepository, never()).save(any(Event.class));
+	}
+
+	@Test
+	public void createEvent_should_throwIllegalArgumentException_whenPriceOverrideIsNotATemplateSection() {
+		SeatingTemplate template = SeatingTemplate.builder()
+		                                          .id(7L)
+		                                          .venue(venue)
+		                                          .totalSeats(10)
+		                                          .build();
+		template.getSections().add(TemplateSection.builder()
+		                                          .id(70L)
+		                                          .price(BigDecimal.valueOf(5000.00))
+		                                          .build());
+		CreateEventRequest templateRequest = CreateEventRequest.builder()
+		                                                       .name("Templated event")
+		                                                       .description("An event laid out from a template")
+		                                                       .venueId(venueId)
+		                                                       .eventStartDateTime(createRequest.eventStartDateTime())
+		                                                       .eventEndDateTime(createRequest.eventEndDateTime())
+		                                                       .seatingTemplateId(7L)
+		                                                       .sectionPriceOverrides(Map.of(99L, BigDecimal.TEN))
+		                                                       .build();
+
+		when(venueRepository.findById(venueId)).thenReturn(Optional.of(venue));
+		when(seatingTemplateRepository.findWithSectionsByIdAndVenueId(7L, venueId)).thenReturn(Optional.of(template));
+		when(eventRepository.save(any(Event.class))).thenReturn(event);
+
+		assertThrows(IllegalArgumentException.class, () -> eventService.createEvent(templateRequest));
+		verify(sectionRepository, never()).save(any(Section.class));
+	}
+
+	@Test
+	public void publishDraftEvent_should_moveEventToUpcoming_whenEventIsDraft() {
+		event.setStatus(EventStatus.DRAFT);
+		when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+		assertTrue(eventService.publishDraftEvent(eventId));
+
+		assertEquals(EventStatus.UPCOMING, event.getStatus());
+		verify(eventRepository).save(event);
+	}
+
+	@Test
+	public void publishDraftEvent_should_returnFalse_whenEventIsNoLongerDraft() {
+		event.setStatus(EventStatus.CANCELLED);
+		when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+		assertFalse(eventService.publishDraftEvent(eventId));
+
+		assertEquals(EventStatus.CANCELLED, event.getStatus());
+		verify(eventRepository, never()).save(any(Event.class));
+	}
+
 	@Test
 	public void createEvent_should_throwEntityNotFoundException_whenVenueDoesNotExist() {
 		when(venueRepository.findById(venueId)).thenReturn(Optional.empty());
@@ -163,7 +367,7 @@ public class EventServiceTest {
 
 	@Test
 	public void getEventById_should_returnEventResponse_whenRequestIsValid() {
-		when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+		when(eventRepository.findWithVenueById(eventId)).thenReturn(Optional.of(event));
 		when(seatRepository.countByEventIdAndSeatStatus(eventId, SeatStatus.AVAILABLE)).thenReturn((long) seats.size());
 
 		EventResponse response = eventService.getEventById(eventId);
@@ -171,17 +375,28 @@ public class EventServiceTest {
 		assertNotNull(response);
 		assertEquals(seats.size(), response.availableSeats());
 
-		verify(eventRepository).findById(eventId);
+		verify(eventRepository).findWithVenueById(eventId);
 		verify(seatRepository).countByEventIdAndSeatStatus(eventId, SeatStatus.AVAILABLE);
 	}
 
+	@Test
+	public void getEventById_should_readAvailableSeatsFromTheCounter_whenOneExists() {
+		when(eventRepository.findWithVenueById(eventId)).thenReturn(Optional.of(event));
+		when(seatAvailabilityIndex.countAvailable(List.of(eventId))).thenReturn(Map.of(eventId, 42L));
+
+		EventResponse response = eventService.getEventById(eventId);
+
+		assertEquals(42L, response.availableSeats());
+		verify(seatRepository, never()).countByEventIdAndSeatStatus(anyLong(), any(SeatStatus.class));
+	}
+
 	@Test
 	public void getEventById_should_throwEntityNotFoundException_whenEventDoesNotExist() {
-		when(eventRepository.findById(eventId)).thenReturn(Optional.empty());
+		when(eventRepository.findWithVenueById(eventId)).thenReturn(Optional.empty());
 
 		assertThrows(EntityNotFoundException.class, () -> eventService.getEventById(eventId));
 
-		verify(eventRepository).findById(eventId);
+		verify(eventRepository).findWithVenueById(eventId);
 		verify(seatRepository, never()).countByEventIdAndSeatStatus(anyLong(), any(SeatStatus.class));
 	}
 
@@ -190,6 +405,8 @@ public class EventServiceTest {
 		Page<Event> eventPage = new PageImpl<>(List.of(event));
 		when(eventRepository.findEventsByStatus(any(EventStatus.class), any(Pageable.class))).thenReturn(eventPage);
 
+		passThroughUpcomingEventsCache();
+
 		Page<EventResponse> response = eventService.getAllUpcomingEvents(pageable);
 
 		assertNotNull(response);
@@ -197,6 +414,164 @@ public class EventServiceTest {
 		verify(eventRepository).findEventsByStatus(any(EventStatus.class), any(Pageable.class));
 	}
 
+	@Test
+	public void getAllUpcomingEvents_should_onlyCountEventsWithoutACounterInTheDatabase() {
+		Event otherEvent = Event.builder()
+		                        .id(eventId + 1)
+		                        .venue(venue)
+		                        .status(EventStatus.UPCOMING)
+		                        .build();
+		Page<Event> eventPage = new PageImpl<>(List.of(event, otherEvent));
+		EventSeatCount otherEventCount = mock(EventSeatCount.class);
+		when(otherEventCount.getEventId()).thenReturn(eventId + 1);
+		when(otherEventCount.getAvailableSeats()).thenReturn(7L);
+
+		when(eventRepository.findEventsByStatus(any(EventStatus.class), any(Pageable.class))).thenReturn(eventPage);
+		when(seatAvailabilityIndex.countAvailable(List.of(eventId, eventId + 1))).thenReturn(Map.of(eventId, 42L));
+		when(seatRepository.countAvailableSeatsByEventIds(List.of(eventId + 1), SeatStatus.AVAILABLE))
+				.thenReturn(List.of(otherEventCount));
+
+		passThroughUpcomingEventsCache();
+
+		Page<EventResponse> response = eventService.getAllUpcomingEvents(pageable);
+
+		assertEquals(42L, response.getContent().get(0).availableSeats());
+		assertEquals(7L, response.getContent().get(1).availableSeats());
+	}
+
+	@Test
+	public void getAllUpcomingEvents_should_priceTheWholePageFromItsSummaryAndSections_withoutLoadingSeats() {
+		event.setMinPrice(BigDecimal.valueOf(5000.00));
+		event.setMaxPrice(BigDecimal.valueOf(9000.00));
+		Event spyEvent = spy(event);
+		Page<Event> eventPage = new PageImpl<>(List.of(spyEvent));
+		SectionPrice sectionPrice = mock(SectionPrice.class);
+		when(sectionPrice.getEventId()).thenReturn(eventId);
+		when(sectionPrice.getSectionId()).thenReturn(3L);
+		when(sectionPrice.getName()).thenReturn("VIP");
+		when(sectionPrice.getPrice()).thenReturn(BigDecimal.valueOf(9000.00));
+
+		when(eventRepository.findEventsByStatus(any(EventStatus.class), any(Pageable.class))).thenReturn(eventPage);
+		when(sectionRepository.findPricesByEventIds(List.of(eventId))).thenReturn(List.of(sectionPrice));
+
+		passThroughUpcomingEventsCache();
+
+		Page<EventResponse> response = eventService.getAllUpcomingEvents(pageable);
+
+		EventResponse eventResponse = response.getContent().getFirst();
+		assertEquals(BigDecimal.valueOf(5000.00), eventResponse.ticketPrice());
+		assertEquals(BigDecimal.valueOf(5000.00), eventResponse.minPrice());
+		assertEquals(BigDecimal.valueOf(9000.00), eventResponse.maxPrice());
+		assertEquals(1, eventResponse.sectionPrices().size());
+		assertEquals("VIP", eventResponse.sectionPrices().getFirst().name());
+		verify(sectionRepository).findPricesByEventIds(List.of(eventId));
+		verify(spyEvent, never()).getSeats();
+	}
+
+	@Test
+	public void getAllUpcomingEvents_should_serveTheCachedPage_withoutQueryingTheDatabase() {
+		when(upcomingEventsCache.get(eq(pageable), any()))
+				.thenReturn(new PagedResponse<>(List.of(EventResponse.builder().id(eventId).build()), 0, 10, 1, 1, true));
+
+		Page<EventResponse> response = eventService.getAllUpcomingEvents(pageable);
+
+		assertEquals(eventId, response.getContent().getFirst().id());
+		assertEquals(1, response.getTotalElements());
+		verifyNoInteractions(eventRepository);
+	}
+
+	@Test
+	public void searchEvents_should_returnEventsInRankingOrder_andIgnoreRequestedSort() {
+		Event otherEvent = Event.builder()
+		                        .id(eventId + 1)
+		                        .name("Lagos Jazz Night")
+		                        .venue(venue)
+		                        .status(EventStatus.UPCOMING)
+		                        .build();
+		Pageable sortedPageable = PageRequest.of(0, 10, Sort.by("name"));
+
+		when(eventRepository.searchIds("jazz lagos", PageRequest.of(0, 10)))
+				.thenReturn(new PageImpl<>(List.of(eventId + 1, eventId), PageRequest.of(0, 10), 2));
+		when(eventRepository.findWithVenueByIdIn(List.of(eventId + 1, eventId)))
+				.thenReturn(List.of(event, otherEvent));
+
+		PagedResponse<EventResponse> response = eventService.searchEvents("  jazz lagos ", sortedPageable);
+
+		assertEquals(2, response.totalElements());
+		assertEquals(eventId + 1, response.content().get(0).id());
+		assertEquals(eventId, response.content().get(1).id());
+	}
+
+	@Test
+	public void searchEvents_should_notLoadEvents_whenNothingMatches() {
+		when(eventRepository.searchIds("nothing", PageRequest.of(0, 10))).thenReturn(Page.empty());
+
+		PagedResponse<EventResponse> response = eventService.searchEvents("nothing", PageRequest.of(0, 10));
+
+		assertTrue(response.content().isEmpty());
+		verify(eventRepository, never()).findWithVenueByIdIn(any());
+	}
+
+	@Test
+	public void updateEventStatus_should_notInvalidateListings_whenNoEventChanged() {
+		eventService.updateEventStatus();
+
+		verify(applicationEventPublisher, never()).publishEvent(any(EventListingChangedEvent.class));
+	}
+
+	@Test
+	public void reconcileAvailableSeatCounters_should_reconcileEveryActiveEventAgainstItsDatabaseCount() {
+		EventSeatCount count = mock(EventSeatCount.class);
+		when(count.getEventId()).thenReturn(1L);
+		when(count.getAvailableSeats()).thenReturn(5L);
+
+		when(eventRepository.findIdsByStatusIn(List.of(EventStatus.UPCOMING, EventStatus.ONGOING)))
+				.thenReturn(List.of(1L, 2L));
+		when(seatRepository.countAvailableSeatsByEventIds(List.of(1L, 2L), SeatStatus.AVAILABLE))
+				.thenReturn(List.of(count));
+		when(seatAvailabilityIndex.reconcile(1L, 5L)).thenReturn(false);
+		//Events with no available seat left don't show up in the grouped count at all
+		when(seatAvailabilityIndex.reconcile(2L, 0L)).thenReturn(true);
+
+		assertEquals(1, eventService.reconcileAvailableSeatCounters());
+	}
+
+	@Test
+	public void reconcileAvailableSeatCounters_should_carryOn_whenOneEventFails() {
+		when(eventRepository.findIdsByStatusIn(anyList())).thenReturn(List.of(1L, 2L));
+		when(seatRepository.countAvailableSeatsByEventIds(anyList(), any(SeatStatus.class))).thenReturn(List.of());
+		when(seatAvailabilityIndex.reconcile(1L, 0L)).thenThrow(new RuntimeException("Connection refused"));
+		when(seatAvailabilityIndex.reconcile(2L, 0L)).thenReturn(true);
+
+		assertEquals(1, eventService.reconcileAvailableSeatCounters());
+	}
+
+	@Test
+	public void reconcileSeatMaps_should_reconcileEveryActiveEventAgainstItsSeatRevision() {
+		EventSeatRevision revision = mock(EventSeatRevision.class);
+		when(revision.getEventId()).thenReturn(1L);
+		when(revision.getRevision()).thenReturn(12L);
+
+		when(eventRepository.findIdsByStatusIn(List.of(EventStatus.UPCOMING, EventStatus.ONGOING)))
+				.thenReturn(List.of(1L, 2L));
+		when(seatRepository.sumSeatVersionsByEventIds(List.of(1L, 2L))).thenReturn(List.of(revision));
+		when(seatMapService.reconcile(1L, 12L)).thenReturn(true);
+		//Events without seats don't show up in the grouped sum at all
+		when(seatMapService.reconcile(2L, 0L)).thenReturn(false);
+
+		assertEquals(1, eventService.reconcileSeatMaps());
+	}
+
+	@Test
+	public void reconcileSeatMaps_should_carryOn_whenOneEventFails() {
+		when(eventRepository.findIdsByStatusIn(anyList())).thenReturn(List.of(1L, 2L));
+		when(seatRepository.sumSeatVersionsByEventIds(anyList())).thenReturn(List.of());
+		when(seatMapService.reconcile(1L, 0L)).thenThrow(new RuntimeException("Connection refused"));
+		when(seatMapService.reconcile(2L, 0L)).thenReturn(true);
+
+		assertEquals(1, eventService.reconcileSeatMaps());
+	}
+
 	@Test
 	public void getEventsByVenueId_should_returnListOfEventResponse_whenRequestIsValid() {
 		Page<Event> eventPage = new PageImpl<>(List.of(event));
@@ -310,6 +685,8 @@ public class EventServiceTest {
 
 		verify(eventRepository).findById(anyLong());
 		verify(eventRepository).delete(any(Event.class));
+		verify(seatAvailabilityIndex).evict(eventId);
+		verify(seatMapService).evict(eventId);
 	}
 
 	@Test
@@ -343,5 +720,12 @@ public class EventServiceTest {
 		verify(eventRepository).findStartedEvent(any(EventStatus.class), any(Instant.class));
 		verify(eventRepository).findEventsToComplete(anyList(), any(Instant.class));
 		verify(eventRepository, times(2)).saveAll(anyList());
+		verify(applicationEventPublisher).publishEvent(new EventListingChangedEvent(null));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void passThroughUpcomingEventsCache() {
+		when(upcomingEventsCache.get(any(Pageable.class), any()))
+				.thenAnswer(i -> ((Supplier<PagedResponse<EventResponse>>) i.getArgument(1)).get());
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,152 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class JobLeaseServiceTest {
+
+	private final String jobName = "expirePendingBookings";
+	private final List<String> acquireKeys = List.of(
+			"scheduler:lease:" + jobName,
+			"scheduler:fence:" + jobName,
+			"scheduler:job:" + jobName
+	);
+	private final List<String> completeKeys = List.of(
+			"scheduler:lease:" + jobName,
+			"scheduler:job:" + jobName,
+			"scheduler:job:" + jobName + ":history"
+	);
+	private final Duration spacing = Duration.ofMinutes(4);
+	private final AtomicInteger runs = new AtomicInteger();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	private JobLeaseService jobLeaseService;
+
+	@BeforeEach
+	void setUp() {
+		jobLeaseService = new JobLeaseService(redisTemplate, new ObjectMapper(), meterRegistry);
+	}
+
+	@Test
+	public void runExclusively_should_runJobAndRecordCompletion_whenLeaseIsAcquired() {
+		when(redisTemplate.execute(any(RedisScript.class), eq(acquireKeys), anyString(), anyString(), anyString()))
+				.thenReturn(7L);
+
+		boolean ran = jobLeaseService.runExclusively(jobName, spacing, runs::incrementAndGet);
+
+		assertTrue(ran);
+		assertEquals(1, runs.get());
+		verify(redisTemplate).execute(
+				any(RedisScript.class),
+				eq(completeKeys),
+				endsWith(":7"),
+				eq(JobLeaseService.SUCCEEDED),
+				anyString(),
+				contains("\"fencingToken\":7"),
+				eq(String.valueOf(JobLeaseService.HISTORY_SIZE))
+		);
+		assertEquals(1, meterRegistry.get("quicktix.scheduler.job")
+		                             .tag("job", jobName)
+		                             .tag("outcome", JobLeaseService.SUCCEEDED)
+		                             .timer()
+		                             .count());
+	}
+
+	@Test
+	public void runExclusively_should_skipJob_whenLeaseIsHeldOrJobRanRecently() {
+		when(redisTemplate.execute(any(RedisScript.class), eq(acquireKeys), anyString(), anyString(), anyString()))
+				.thenReturn(0L);
+
+		boolean ran = jobLeaseService.runExclusively(jobName, spacing, runs::incrementAndGet);
+
+		assertFalse(ran);
+		assertEquals(0, runs.get());
+		verify(redisTemplate, never()).execute(
+				any(RedisScript.class), eq(completeKeys), any(), any(), any(), any(), any()
+		);
+	}
+
+	@Test
+	public void runExclusively_should_recordFailure_withoutRethrowing_whenJobFails() {
+		when(redisTemplate.execute(any(RedisScript.class), eq(acquireKeys), anyString(), anyString(), anyString()))
+				.thenReturn(3L);
+
+		boolean ran = jobLeaseService.runExclusively(jobName, spacing, () -> {
+			throw new IllegalStateException("Database unavailable");
+		});
+
+		assertTrue(ran);
+		verify(redisTemplate).execute(
+				any(RedisScript.class),
+				eq(completeKeys),
+				endsWith(":3"),
+				eq(JobLeaseService.FAILED),
+				anyString(),
+				anyString(),
+				anyString()
+		);
+	}
+
+	@Test
+	public void runExclusively_should_skipJob_whenRedisIsUnavailable() {
+		when(redisTemplate.execute(any(RedisScript.class), eq(acquireKeys), anyString(), anyString(), anyString()))
+				.thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+		boolean ran = jobLeaseService.runExclusively(jobName, spacing, runs::incrementAndGet);
+
+		assertFalse(ran);
+		assertEquals(0, runs.get());
+	}
+
+	@Test
+	public void renewUntilInterrupted_should_keepRenewing_afterARedisError() {
+		String leaseKey = "scheduler:lease:" + jobName;
+		AtomicBoolean leaseLost = new AtomicBoolean();
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of(leaseKey)), anyString(), anyString()))
+				.thenThrow(new RedisConnectionFailureException("Connection reset"))
+				.thenReturn(1L)
+				.thenThrow(new RedisConnectionFailureException("Connection reset"))
+				.thenReturn(0L);
+
+		jobLeaseService.renewUntilInterrupted(jobName, leaseKey, "node:7", leaseLost, Duration.ofMillis(1),
+		                                      Duration.ofHours(1));
+
+		//Only the lease actually being gone ends the renewal
+		verify(redisTemplate, times(4)).execute(any(RedisScript.class), eq(List.of(leaseKey)), anyString(), anyString());
+		assertTrue(leaseLost.get());
+	}
+
+	@Test
+	public void renewUntilInterrupted_should_markLeaseLost_onceItsTtlPassedWithoutARenewal() {
+		String leaseKey = "scheduler:lease:" + jobName;
+		AtomicBoolean leaseLost = new AtomicBoolean();
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of(leaseKey)), anyString(), anyString()))
+				.thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+		jobLeaseService.renewUntilInterrupted(jobName, leaseKey, "node:7", leaseLost, Duration.ofMillis(5),
+		                                      Duration.ofMillis(50));
+
+		assertTrue(leaseLost.get());
+	}
+}
@@ -0,0 +1,116 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.response.PaymentResponse;
+import io.github.kxng0109.quicktix.enums.PaymentMethod;
+import io.github.kxng0109.quicktix.service.PaymentIdempotencyStore.StoredPayment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import tools.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentIdempotencyStoreTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final String idempotencyKey = "retry-key-123";
+	private final String redisKey = "payment:idempotency:" + idempotencyKey;
+	private final StoredPayment storedPayment = StoredPayment.of(
+			PaymentIdempotencyStore.fingerprint(200L, PaymentMethod.BANK_TRANSFER),
+			300L,
+			PaymentResponse.builder()
+			               .paymentId(100L)
+			               .amount(new BigDecimal("12345.68"))
+			               .status("Pending")
+			               .paymentMethod("Bank Transfer")
+			               .clientSecret("clientSecret")
+			               .build()
+	);
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private PaymentIdempotencyStore paymentIdempotencyStore;
+
+	@BeforeEach
+	void setUp() {
+		paymentIdempotencyStore = new PaymentIdempotencyStore(redisTemplate, objectMapper);
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	public void save_should_storeResponseWithTtl_andFindShouldReadItBack() {
+		paymentIdempotencyStore.save(idempotencyKey, storedPayment);
+
+		ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+		verify(valueOperations).set(eq(redisKey), json.capture(), eq(PaymentIdempotencyStore.TTL));
+
+		when(valueOperations.get(redisKey)).thenReturn(json.getValue());
+
+		assertEquals(Optional.of(storedPayment), paymentIdempotencyStore.find(idempotencyKey));
+	}
+
+	@Test
+	public void find_should_returnEmpty_when_nothingIsStored() {
+		when(valueOperations.get(redisKey)).thenReturn(null);
+
+		assertTrue(paymentIdempotencyStore.find(idempotencyKey).isEmpty());
+	}
+
+	@Test
+	public void find_should_returnEmpty_when_storedValueIsUnreadable() {
+		when(valueOperations.get(redisKey)).thenReturn("{not json");
+
+		assertTrue(paymentIdempotencyStore.find(idempotencyKey).isEmpty());
+	}
+
+	@Test
+	public void save_should_leaveOutTheStatus_whichChangesAfterInitialization() {
+		paymentIdempotencyStore.save(idempotencyKey, storedPayment);
+
+		ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+		verify(valueOperations).set(eq(redisKey), json.capture(), eq(PaymentIdempotencyStore.TTL));
+
+		assertFalse(json.getValue().contains("Pending"));
+		assertTrue(json.getValue().contains("clientSecret"));
+	}
+
+	@Test
+	public void find_should_returnEmpty_when_redisIsUnavailable() {
+		when(valueOperations.get(redisKey)).thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+		assertTrue(paymentIdempotencyStore.find(idempotencyKey).isEmpty());
+	}
+
+	@Test
+	public void save_should_notThrow_when_redisIsUnavailable() {
+		doThrow(new RedisConnectionFailureException("Connection refused"))
+				.when(valueOperations).set(anyString(), anyString(), any());
+
+		assertDoesNotThrow(() -> paymentIdempotencyStore.save(idempotencyKey, storedPayment));
+	}
+
+	@Test
+	public void fingerprint_should_differ_when_bookingOrPaymentMethodDiffers() {
+		String fingerprint = PaymentIdempotencyStore.fingerprint(200L, PaymentMethod.BANK_TRANSFER);
+
+		assertEquals(fingerprint, PaymentIdempotencyStore.fingerprint(200L, PaymentMethod.BANK_TRANSFER));
+		assertNotEquals(fingerprint, PaymentIdempotencyStore.fingerprint(201L, PaymentMethod.BANK_TRANSFER));
+		assertNotEquals(fingerprint, PaymentIdempotencyStore.fingerprint(200L, PaymentMethod.CREDIT_CARD));
+	}
+}
@@ -1,6 +1,7 @@
 package io.github.kxng0109.quicktix.service;
 
 import io.github.kxng0109.quicktix.dto.request.PaymentRequest;
+import io.github.kxng0109.quicktix.dto.request.projection.PaymentState;
 import io.github.kxng0109.quicktix.dto.response.PaymentResponse;
 import io.github.kxng0109.quicktix.entity.Booking;
 import io.github.kxng0109.quicktix.entity.Event;
@@ -16,6 +17,7 @@ import io.github.kxng0109.quicktix.exception.InvalidOperationException;
 import io.github.kxng0109.quicktix.exception.PaymentFailedException;
 import io.github.kxng0109.quicktix.repositories.BookingRepository;
 import io.github.kxng0109.quicktix.repositories.PaymentRepository;
+import io.github.kxng0109.quicktix.service.PaymentIdempotencyStore.StoredPayment;
 import io.github.kxng0109.quicktix.service.gateway.PaymentGateway;
 import io.github.kxng0109.quicktix.service.gateway.dto.GatewayInitializationResponse;
 import jakarta.persistence.EntityNotFoundException;
@@ -75,6 +77,9 @@ public class PaymentServiceTest {
 	@Mock
 	private ValueOperations<String, String> valueOps;
 
+	@Mock
+	private PaymentIdempotencyStore paymentIdempotencyStore;
+
 	@InjectMocks
 	private PaymentService paymentService;
 
@@ -222,6 +227,136 @@ public class PaymentServiceTest {
 		verify(valueOps, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
 		verify(bookingRepository, never()).findById(anyLong());
 		verify(paymentRepository, never()).save(any(Payment.class));
+		verify(paymentIdempotencyStore).save(
+				idempotencyKey,
+				StoredPayment.of(PaymentIdempotencyStore.fingerprint(bookingId, paymentMethod), user.getId(), response)
+		);
+	}
+
+	@Test
+	public void initializePayment_should_storeResponse_when_paymentIsCreated() {
+		when(bookingRepository.findById(anyLong()))
+				.thenReturn(Optional.of(booking));
+		when(paymentRepository.save(any(Payment.class)))
+				.thenReturn(payment);
+		when(paymentGateway.initializePayment(any(Payment.class)))
+				.thenReturn(
+						GatewayInitializationResponse.builder()
+						                             .transactionId(UUID.randomUUID().toString())
+						                             .clientSecret("clientSecret")
+						                             .build()
+				);
+
+		PaymentResponse response = paymentService.initializePayment(request, "  " + idempotencyKey.toUpperCase(), user);
+
+		verify(paymentIdempotencyStore).save(
+				idempotencyKey,
+				StoredPayment.of(PaymentIdempotencyStore.fingerprint(bookingId, paymentMethod), user.getId(), response)
+		);
+	}
+
+	@Test
+	public void initializePayment_should_replayStoredResponse_withoutLoadingThePayment() {
+		PaymentResponse storedResponse = PaymentResponse.builder()
+		                                                .paymentId(paymentId)
+		                                                .amount(totalAmount)
+		                                                .status(PaymentStatus.PENDING.getDisplayName())
+		                                                .paymentMethod(paymentMethod.getDisplayName())
+		                                                .clientSecret("clientSecret")
+		                                                .build();
+		when(paymentIdempotencyStore.find(idempotencyKey)).thenReturn(Optional.of(StoredPayment.of(
+				PaymentIdempotencyStore.fingerprint(bookingId, paymentMethod),
+				user.getId(),
+				storedResponse
+		)));
+		when(paymentRepository.findStateById(paymentId))
+				.thenReturn(Optional.of(new State(PaymentStatus.PENDING, null)));
+
+		PaymentResponse response = paymentService.initializePayment(request, idempotencyKey, user);
+
+		assertEquals(storedResponse, response);
+		verify(paymentRepository, never()).findByIdempotencyKey(anyString());
+		verify(valueOps, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+		verify(bookingRepository, never()).findById(anyLong());
+		verify(paymentIdempotencyStore, never()).save(anyString(), any(StoredPayment.class));
+	}
+
+	@Test
+	public void initializePayment_should_replayCurrentStatus_when_paymentCompletedAfterItWasStored() {
+		Instant paidAt = Instant.parse("2026-01-28T12:05:00Z");
+		when(paymentIdempotencyStore.find(idempotencyKey)).thenReturn(Optional.of(StoredPayment.of(
+				PaymentIdempotencyStore.fingerprint(bookingId, paymentMethod),
+				user.getId(),
+				PaymentResponse.builder()
+				               .paymentId(paymentId)
+				               .status(PaymentStatus.PENDING.getDisplayName())
+				               .clientSecret("clientSecret")
+				               .build()
+		)));
+		//The webhook confirmed the payment after the first attempt was answered
+		when(paymentRepository.findStateById(paymentId))
+				.thenReturn(Optional.of(new State(PaymentStatus.COMPLETED, paidAt)));
+
+		PaymentResponse response = paymentService.initializePayment(request, idempotencyKey, user);
+
+		assertEquals(PaymentStatus.COMPLETED.getDisplayName(), response.status());
+		assertEquals(paidAt, response.paidAt());
+		assertEquals("clientSecret", response.clientSecret());
+		verify(paymentRepository, never()).findByIdempotencyKey(anyString());
+	}
+
+	@Test
+	public void initializePayment_should_throwIllegalArgumentException_when_storedKeyWasUsedWithADifferentRequest() {
+		when(paymentIdempotencyStore.find(idempotencyKey)).thenReturn(Optional.of(StoredPayment.of(
+				PaymentIdempotencyStore.fingerprint(bookingId, PaymentMethod.CREDIT_CARD),
+				user.getId(),
+				PaymentResponse.builder().paymentId(paymentId).build()
+		)));
+
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> paymentService.initializePayment(request, idempotencyKey, user)
+		);
+
+		verify(paymentRepository, never()).findByIdempotencyKey(anyString());
+		verify(paymentRepository, never()).save(any(Payment.class));
+	}
+
+	@Test
+	public void initializePayment_should_throwEntityNotFoundException_when_storedResponseBelongsToAnotherUser() {
+		User maliciousUser = User.builder()
+		                         .id(999L)
+		                         .role(Role.USER)
+		                         .email("hacker@example.com")
+		                         .build();
+		when(paymentIdempotencyStore.find(idempotencyKey)).thenReturn(Optional.of(StoredPayment.of(
+				PaymentIdempotencyStore.fingerprint(bookingId, paymentMethod),
+				user.getId(),
+				PaymentResponse.builder().paymentId(paymentId).build()
+		)));
+
+		EntityNotFoundException ex = assertThrows(
+				EntityNotFoundException.class,
+				() -> paymentService.initializePayment(request, idempotencyKey, maliciousUser)
+		);
+
+		assertEquals("Payment Not Found!", ex.getMessage());
+		verify(paymentRepository, never()).findByIdempotencyKey(anyString());
+	}
+
+	@Test
+	public void initializePayment_should_throwIllegalArgumentException_when_existingPaymentWasForADifferentRequest() {
+		payment.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+		when(paymentRepository.findByIdempotencyKey(anyString()))
+				.thenReturn(Optional.of(payment));
+
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> paymentService.initializePayment(request, idempotencyKey, user)
+		);
+
+		verify(valueOps, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+		verify(paymentIdempotencyStore, never()).save(anyString(), any(StoredPayment.class));
 	}
 
 	@Test
@@ -582,4 +717,16 @@ public class PaymentServiceTest {
 		verify(paymentRepository, never()).save(any(Payment.class));
 		verify(bookingService, never()).cancelRefundedBooking(anyLong());
 	}
+
+	private record State(PaymentStatus status, Instant paidAt) implements PaymentState {
+		@Override
+		public PaymentStatus getStatus() {
+			return status;
+		}
+
+		@Override
+		public Instant getPaidAt() {
+			return paidAt;
+		}
+	}
 }
@@ -11,8 +11,10 @@ import io.github.kxng0109.quicktix.enums.PaymentStatus;
 import io.github.kxng0109.quicktix.repositories.BookingRepository;
 import io.github.kxng0109.quicktix.repositories.EventRepository;
 import io.github.kxng0109.quicktix.repositories.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,11 +22,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +37,9 @@ public class SchedulerServiceTest {
 	@Mock
 	private SeatService seatService;
 
+	@Mock
+	private SeatHoldExpiryService seatHoldExpiryService;
+
 	@Mock
 	private BookingService bookingService;
 
@@ -57,6 +64,22 @@ public class SchedulerServiceTest {
 	@Mock
 	private BookingRepository bookingRepository;
 
+	@Mock
+	private SeatGenerationService seatGenerationService;
+
+	@Mock
+	private JobLeaseService jobLeaseService;
+
+	@BeforeEach
+	void setUp() {
+		//Every test runs as the node holding the lease
+		lenient().when(jobLeaseService.runExclusively(anyString(), any(Duration.class), any(Runnable.class)))
+		         .thenAnswer(invocation -> {
+			         invocation.<Runnable>getArgument(2).run();
+			         return true;
+		         });
+	}
+
 	@Test
 	public void releaseExpiredSeatHolds_should_callSeatService_withCutoffTime() {
 		schedulerService.releaseExpiredSeatHolds();
@@ -65,10 +88,82 @@ public class SchedulerServiceTest {
 	}
 
 	@Test
-	public void expirePendingBookings_should_callBookingService_withCutoffTime() {
+	public void releaseDueSeatHolds_should_releaseClaimedSeats_untilQueueIsDrained() {
+		when(seatHoldExpiryService.claimDue(any(Instant.class), anyInt())).thenReturn(List.of(1L, 2L));
+
+		schedulerService.releaseDueSeatHolds();
+
+		verify(seatHoldExpiryService, times(1)).claimDue(any(Instant.class), anyInt());
+		verify(seatService).releaseExpiredHolds(eq(List.of(1L, 2L)), any(Instant.class));
+	}
+
+	@Test
+	public void releaseDueSeatHolds_should_claimAndReleaseAgainstTheSameInstant() {
+		ArgumentCaptor<Instant> claimedAt = ArgumentCaptor.forClass(Instant.class);
+		ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+		when(seatHoldExpiryService.claimDue(claimedAt.capture(), anyInt())).thenReturn(List.of(1L, 2L));
+
+		schedulerService.releaseDueSeatHolds();
+
+		verify(seatService).releaseExpiredHolds(eq(List.of(1L, 2L)), cutoff.capture());
+		assertEquals(claimedAt.getValue().minus(SeatLockService.LOCK_TTL), cutoff.getValue());
+	}
+
+	@Test
+	public void releaseDueSeatHolds_should_doNothing_whenNothingIsDue() {
+		when(seatHoldExpiryService.claimDue(any(Instant.class), anyInt())).thenReturn(List.of());
+
+		schedulerService.releaseDueSeatHolds();
+
+		verify(seatService, never()).releaseExpiredHolds(anyList(), any(Instant.class));
+	}
+
+	@Test
+	public void releaseDueSeatHolds_should_requeueSeats_whenReleaseFails() {
+		when(seatHoldExpiryService.claimDue(any(Instant.class), anyInt())).thenReturn(List.of(1L, 2L));
+		when(seatService.releaseExpiredHolds(anyList(), any(Instant.class)))
+				.thenThrow(new RuntimeException("Database unavailable"));
+
+		schedulerService.releaseDueSeatHolds();
+
+		verify(seatHoldExpiryService).retryLater(eq(List.of(1L, 2L)), any(Duration.class));
+	}
+
+	@Test
+	public void expirePendingBookings_should_expireChunks_untilBacklogIsDrained() {
+		when(bookingService.expirePendingBookings(any(Instant.class), anyInt())).thenReturn(200, 200, 37);
+
 		schedulerService.expirePendingBookings();
 
-		verify(bookingService).expirePendingBookings(any(Instant.class));
+		verify(bookingService, times(3)).expirePendingBookings(any(Instant.class), anyInt());
+	}
+
+	@Test
+	public void expirePendingBookings_should_stopAfterOneChunk_whenNothingIsPending() {
+		when(bookingService.expirePendingBookings(any(Instant.class), anyInt())).thenReturn(0);
+
+		schedulerService.expirePendingBookings();
+
+		verify(bookingService, times(1)).expirePendingBookings(any(Instant.class), anyInt());
+	}
+
+	@Test
+	public void expirePendingBookings_should_doNothing_whenAnotherNodeHoldsTheLease() {
+		doReturn(false).when(jobLeaseService)
+		               .runExclusively(eq("expirePendingBookings"), any(Duration.class), any(Runnable.class));
+
+		schedulerService.expirePendingBookings();
+
+		verifyNoInteractions(bookingService);
+	}
+
+	@Test
+	public void releaseDueSeatHolds_should_runOnEveryNode_withoutALease() {
+		when(seatHoldExpiryService.claimDue(any(Instant.class), anyInt())).thenReturn(List.of());
+
+		schedulerService.releaseDueSeatHolds();
+
+		verify(jobLeaseService, never()).runExclusively(anyString(), any(Duration.class), any(Runnable.class));
 	}
 
 	@Test
@@ -78,6 +173,27 @@ public class SchedulerServiceTest {
 		verify(eventService).updateEventStatus();
 	}
 
+	@Test
+	public void reconcileAvailableSeatCounters_should_callEventService() {
+		schedulerService.reconcileAvailableSeatCounters();
+
+		verify(eventService).reconcileAvailableSeatCounters();
+	}
+
+	@Test
+	public void reconcileSeatMaps_should_callEventService() {
+		schedulerService.reconcileSeatMaps();
+
+		verify(eventService).reconcileSeatMaps();
+	}
+
+	@Test
+	public void resumeSeatGeneration_should_callSeatGenerationService() {
+		schedulerService.resumeSeatGeneration();
+
+		verify(seatGenerationService).resumeDraftEvents();
+	}
+
 	@Test
 	public void retryFailedRefunds_should_triggerRefund_when_stuckPaymentsFound() {
 		Long eventId = 10L;
@@ -0,0 +1,339 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.request.projection.SeatLayoutEntry;
+import io.github.kxng0109.quicktix.dto.response.PagedResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatResponse;
+import io.github.kxng0109.quicktix.enums.EventStatus;
+import io.github.kxng0109.quicktix.enums.SeatStatus;
+import io.github.kxng0109.quicktix.event.SeatStatusChangedEvent;
+import io.github.kxng0109.quicktix.repositories.EventRepository;
+import io.github.kxng0109.quicktix.repositories.SeatRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SeatAvailabilityIndexTest {
+
+	private final Long eventId = 100L;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@Mock
+	private SeatRepository seatRepository;
+
+	@Mock
+	private EventRepository eventRepository;
+
+	@InjectMocks
+	private SeatAvailabilityIndex seatAvailabilityIndex;
+
+	private List<SeatLayoutEntry> layout;
+
+	@BeforeEach
+	void setUp() {
+		layout = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			//Every third seat is already held
+			SeatStatus status = i % 3 == 0 ? SeatStatus.HELD : SeatStatus.AVAILABLE;
+			layout.add(new LayoutEntry(300L + i, i + 1, status));
+		}
+	}
+
+	@Test
+	public void getAvailableSeats_should_returnOnlyAvailableSeatsInOrdinalOrder() {
+		when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(true);
+		when(seatRepository.findSeatLayoutByEventId(eventId)).thenReturn(layout);
+
+		PagedResponse<SeatResponse> firstPage = seatAvailabilityIndex.getAvailableSeats(eventId, PageRequest.of(0, 4));
+		PagedResponse<SeatResponse> secondPage = seatAvailabilityIndex.getAvailableSeats(eventId, PageRequest.of(1, 4));
+
+		assertEquals(6, firstPage.totalElements());
+		assertEquals(2, firstPage.totalPages());
+		assertEquals(List.of(301L, 302L, 304L, 305L), firstPage.content().stream().map(SeatResponse::id).toList());
+		assertEquals(List.of(307L, 308L), secondPage.content().stream().map(SeatResponse::id).toList());
+		assertTrue(secondPage.isLast());
+		assertEquals("A", firstPage.content().getFirst().rowName());
+		assertEquals(SeatStatus.AVAILABLE.getDisplayName(), firstPage.content().getFirst().status());
+
+		//The layout is only loaded once, the second page is served from memory
+		verify(seatRepository, times(1)).findSeatLayoutByEventId(eventId);
+		verify(seatRepository, never()).findByEventIdAndSeatStatus(anyLong(), any(SeatStatus.class), any());
+	}
+
+	@Test
+	public void getAvailableSeats_should_throwEntityNotFoundException_whenEventDoesNotExist() {
+		when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(false);
+
+		assertThrows(EntityNotFoundException.class,
+		             () -> seatAvailabilityIndex.getAvailableSeats(eventId, PageRequest.of(0, 4))
+		);
+
+		verify(seatRepository, never()).findSeatLayoutByEventId(anyLong());
+	}
+
+	@Test
+	public void findContiguousBlocks_should_returnOneBlockPerFreeRun() {
+		when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(true);
+		when(seatRepository.findSeatLayoutByEventId(eventId)).thenReturn(layout);
+
+		//Seats 1, 4, 7 and 10 are held, leaving three free runs of two seats each
+		List<List<Long>> blocks = seatAvailabilityIndex.findContiguousBlocks(eventId, null, 2, 3);
+		List<List<Long>> firstTwo = seatAvailabilityIndex.findContiguousBlocks(eventId, 20L, 2, 2);
+
+		assertEquals(List.of(List.of(301L, 302L), List.of(304L, 305L), List.of(307L, 308L)), blocks);
+		assertEquals(blocks.subList(0, 2), firstTwo);
+	}
+
+	@Test
+	public void findContiguousBlocks_should_returnNothing_whenNoRunIsLongEnoughOrSectionDoesNotMatch() {
+		when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(true);
+		when(seatRepository.findSeatLayoutByEventId(eventId)).thenReturn(layout);
+
+		assertTrue(seatAvailabilityIndex.findContiguousBlocks(eventId, null, 3, 3).isEmpty());
+		assertTrue(seatAvailabilityIndex.findContiguousBlocks(eventId, 21L, 1, 3).isEmpty());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void apply_should_updateLocalMirrorAndRedisBitmap() {
+		when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(true);
+		when(seatRepository.findSeatLayoutByEventId(eventId)).thenReturn(layout);
+		seatAvailabilityIndex.getAvailableSeats(eventId, PageRequest.of(0, 4));
+
+		seatAvailabilityIndex.apply(new SeatStatusChangedEvent(eventId, List.of(301L, 302L), SeatStatus.HELD));
+
+		PagedResponse<SeatResponse> page = seatAvailabilityIndex.getAvailableSeats(eventId, PageRequest.of(0, 10));
+
+		assertEquals(4, page.totalElements());
+		assertEquals(List.of(304L, 305L, 307L, 308L), page.content().stream().map(SeatResponse::id).toList());
+
+		//Ordinals 1 and 2 (both in section 20) are cleared in Redis in a single script call, which also
+		//adjusts the counters, bumps the version and refreshes the time to live
+		verify(redisTemplate).execute(
+				any(RedisScript.class),
+				eq(List.of(
+						"seat:availability:" + eventId,
+						"seat:availability:count:" + eventId,
+						"seat:availability:sections:" + eventId,
+						"seat:availability:version:" + eventId
+				)),
+				eq("0"),
+				eq("86400000"),
+				eq("1"),
+				eq("20"),
+				eq("2"),
+				eq("20")
+		);
+	}
+
+	@Test
+	public void countAvailable_should_readEveryCounterInOneCall_andLeaveOutEventsWithoutOne() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.multiGet(List.of("seat:availability:count:100", "seat:availability:count:101")))
+				.thenReturn(Arrays.asList("42", null));
+
+		Map<Long, Long> counts = seatAvailabilityIndex.countAvailable(List.of(100L, 101L));
+
+		assertEquals(Map.of(100L, 42L), counts);
+	}
+
+	@Test
+	public void countAvailable_should_returnNothing_whenRedisIsUnavailable() {
+		when(redisTemplate.opsForValue()).thenThrow(new RuntimeException("Connection refused"));
+
+		assertTrue(seatAvailabilityIndex.countAvailable(List.of(eventId)).isEmpty());
+	}
+
+	@Test
+	public void countAvailableBySection_should_readSectionCounters_whenTheyExist() {
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(hashOperations.entries("seat:availability:sections:" + eventId))
+				.thenReturn(Map.<Object, Object>of("20", "6", "21", "0"));
+
+		assertEquals(Map.of(20L, 6L, 21L, 0L), seatAvailabilityIndex.countAvailableBySection(eventId));
+
+		verify(seatRepository, never()).findSeatLayoutByEventId(anyLong());
+	}
+
+	@Test
+	public void countAvailableBySection_should_countFromTheIndex_whenCountersAreMissing() {
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(hashOperations.entries("seat:availability:sections:" + eventId)).thenReturn(Map.of());
+		when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(true);
+		when(seatRepository.findSeatLayoutByEventId(eventId)).thenReturn(layout);
+
+		assertEquals(Map.of(20L, 6L), seatAvailabilityIndex.countAvailableBySection(eventId));
+	}
+
+	@Test
+	public void reconcile_should_doNothing_whenCounterMatchesTheDatabase() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get("seat:availability:count:" + eventId)).thenReturn("6");
+
+		assertFalse(seatAvailabilityIndex.reconcile(eventId, 6));
+
+		verify(redisTemplate, never()).delete(anyCollection());
+		verify(seatRepository, never()).findSeatLayoutByEventId(anyLong());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void reconcile_should_rebuildIndexFromTheDatabase_whenCounterDrifted() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get("seat:availability:count:" + eventId)).thenReturn("9");
+		when(seatRepository.findSeatLayoutByEventId(eventId)).thenReturn(layout);
+
+		assertTrue(seatAvailabilityIndex.reconcile(eventId, 6));
+
+		verify(redisTemplate).delete(List.of(
+				"seat:availability:" + eventId,
+				"seat:availability:count:" + eventId,
+				"seat:availability:sections:" + eventId
+		));
+		verify(redisTemplate).execute(any(RedisCallback.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void reconcile_should_seedCounters_whenNoIndexExists() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get("seat:availability:count:" + eventId)).thenReturn(null);
+		when(redisTemplate.hasKey("seat:availability:" + eventId)).thenReturn(false);
+		when(seatRepository.findSeatLayoutByEventId(eventId)).thenReturn(layout);
+
+		assertTrue(seatAvailabilityIndex.reconcile(eventId, 6));
+
+		verify(redisTemplate, never()).delete(anyCollection());
+		verify(redisTemplate).execute(any(RedisCallback.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void apply_should_onlyBumpVersion_whenNoIndexExists() {
+		when(redisTemplate.hasKey("seat:availability:" + eventId)).thenReturn(false);
+
+		seatAvailabilityIndex.apply(new SeatStatusChangedEvent(eventId, List.of(301L), SeatStatus.HELD));
+
+		//A reader rebuilding the index right now sees the version move and drops its seed
+		verify(redisTemplate).execute(
+				any(RedisScript.class),
+				eq(List.of(
+						"seat:availability:" + eventId,
+						"seat:availability:count:" + eventId,
+						"seat:availability:sections:" + eventId,
+						"seat:availability:version:" + eventId
+				)),
+				eq("0"),
+				eq("86400000")
+		);
+		verify(seatRepository, never()).findSeatLayoutByEventId(anyLong());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void reconcile_should_readVersionBeforeTheDatabase_andSkipSeeding_whenItCannotBeRead() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get("seat:availability:count:" + eventId)).thenReturn(null);
+		when(redisTemplate.hasKey("seat:availability:" + eventId)).thenReturn(false);
+		when(valueOperations.get("seat:availability:version:" + eventId))
+				.thenThrow(new RuntimeException("Connection reset"));
+		when(seatRepository.findSeatLayoutByEventId(eventId)).thenReturn(layout);
+
+		assertTrue(seatAvailabilityIndex.reconcile(eventId, 6));
+
+		InOrder inOrder = inOrder(valueOperations, seatRepository);
+		inOrder.verify(valueOperations).get("seat:availability:version:" + eventId);
+		inOrder.verify(seatRepository).findSeatLayoutByEventId(eventId);
+		verify(redisTemplate, never()).execute(any(RedisCallback.class));
+	}
+
+	@Test
+	public void redisBitmapConversion_should_useRedisBitOrder() {
+		BitSet bits = new BitSet();
+		bits.set(0);
+		bits.set(9);
+
+		byte[] bitmap = SeatAvailabilityIndex.toRedisBitmap(bits, 10);
+
+		//Redis numbers bits from the most significant bit of each byte
+		assertArrayEquals(new byte[]{(byte) 0x80, (byte) 0x40}, bitmap);
+		assertEquals(bits, SeatAvailabilityIndex.fromRedisBitmap(bitmap, 10));
+	}
+
+	private record LayoutEntry(Long seatId, Integer seatNumber, SeatStatus seatStatus) implements SeatLayoutEntry {
+		@Override
+		public Long getSeatId() {
+			return seatId;
+		}
+
+		@Override
+		public Integer getSeatNumber() {
+			return seatNumber;
+		}
+
+		@Override
+		public Long getRowId() {
+			return 10L;
+		}
+
+		@Override
+		public String getRowName() {
+			return "A";
+		}
+
+		@Override
+		public Integer getRowOrder() {
+			return 1;
+		}
+
+		@Override
+		public Long getSectionId() {
+			return 20L;
+		}
+
+		@Override
+		public String getSectionName() {
+			return "VIP";
+		}
+
+		@Override
+		public BigDecimal getPrice() {
+			return BigDecimal.valueOf(5000);
+		}
+
+		@Override
+		public SeatStatus getSeatStatus() {
+			return seatStatus;
+		}
+	}
+}
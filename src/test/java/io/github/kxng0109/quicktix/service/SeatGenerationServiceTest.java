@@ -0,0 +1,271 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.request.projection.RowSeatCount;
+import io.github.kxng0109.quicktix.dto.response.SeatGenerationResponse;
+import io.github.kxng0109.quicktix.entity.Event;
+import io.github.kxng0109.quicktix.enums.EventStatus;
+import io.github.kxng0109.quicktix.enums.SeatGenerationStatus;
+import io.github.kxng0109.quicktix.repositories.EventRepository;
+import io.github.kxng0109.quicktix.repositories.RowRepository;
+import io.github.kxng0109.quicktix.repositories.SeatRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SeatGenerationServiceTest {
+
+	private final Long eventId = 100L;
+	private final String progressKey = "event:seat-generation:" + eventId;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@Mock
+	private EventRepository eventRepository;
+
+	@Mock
+	private RowRepository rowRepository;
+
+	@Mock
+	private SeatRepository seatRepository;
+
+	@Mock
+	private EventService eventService;
+
+	@InjectMocks
+	private SeatGenerationService seatGenerationService;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void generateSeats_should_insertSeatsInBatchesAndPublishEvent_whenEventIsDraft() {
+		acquireLock(true);
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(eventRepository.findById(eventId)).thenReturn(Optional.of(draftEvent()));
+		when(rowRepository.findSeatCountsByEventId(eventId)).thenReturn(List.of(
+				row(1L, 3_000),
+				row(2L, 3_000),
+				row(3L, 3_000)
+		));
+		when(seatRepository.insertSeatsForRows(List.of(1L, 2L))).thenReturn(6_000);
+		when(seatRepository.insertSeatsForRows(List.of(3L))).thenReturn(3_000);
+		renewLock(true);
+
+		seatGenerationService.generateSeats(eventId);
+
+		verify(seatRepository).insertSeatsForRows(List.of(1L, 2L));
+		verify(seatRepository).insertSeatsForRows(List.of(3L));
+		verify(eventService).publishDraftEvent(eventId);
+		verify(hashOperations).putAll(progressKey, Map.of(
+				"status", SeatGenerationStatus.COMPLETED.name(),
+				"totalSeats", "9000",
+				"generatedSeats", "9000"
+		));
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("event:seat-generation:lock:" + eventId)), anyString());
+	}
+
+	@Test
+	public void generateSeats_should_continueFromExistingSeats_whenEarlierAttemptWasInterrupted() {
+		acquireLock(true);
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(eventRepository.findById(eventId)).thenReturn(Optional.of(draftEvent()));
+		when(rowRepository.findSeatCountsByEventId(eventId)).thenReturn(List.of(row(1L, 100), row(2L, 100)));
+		when(seatRepository.countByEventId(eventId)).thenReturn(100L);
+		//Row 1 already has its seats and is skipped by the insert
+		when(seatRepository.insertSeatsForRows(List.of(1L, 2L))).thenReturn(100);
+		renewLock(true);
+
+		seatGenerationService.generateSeats(eventId);
+
+		verify(hashOperations).putAll(progressKey, Map.of(
+				"status", SeatGenerationStatus.COMPLETED.name(),
+				"totalSeats", "200",
+				"generatedSeats", "200"
+		));
+	}
+
+	@Test
+	public void generateSeats_should_stopWithoutPublishing_whenLockWasTakenOverBetweenBatches() {
+		acquireLock(true);
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(eventRepository.findById(eventId)).thenReturn(Optional.of(draftEvent()));
+		when(rowRepository.findSeatCountsByEventId(eventId)).thenReturn(List.of(
+				row(1L, 3_000),
+				row(2L, 3_000),
+				row(3L, 3_000)
+		));
+		when(seatRepository.insertSeatsForRows(List.of(1L, 2L))).thenReturn(6_000);
+		renewLock(false);
+
+		seatGenerationService.generateSeats(eventId);
+
+		verify(seatRepository, never()).insertSeatsForRows(List.of(3L));
+		verify(eventService, never()).publishDraftEvent(anyLong());
+		verify(hashOperations, never()).put(progressKey, "status", SeatGenerationStatus.FAILED.name());
+		verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+	}
+
+	@Test
+	public void generateSeats_should_doNothing_whenAnotherNodeIsGenerating() {
+		acquireLock(false);
+
+		seatGenerationService.generateSeats(eventId);
+
+		verify(eventRepository, never()).findById(anyLong());
+		verify(seatRepository, never()).insertSeatsForRows(anyCollection());
+	}
+
+	@Test
+	public void generateSeats_should_doNothing_whenEventIsNoLongerDraft() {
+		acquireLock(true);
+		Event event = draftEvent();
+		event.setStatus(EventStatus.CANCELLED);
+		when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+		seatGenerationService.generateSeats(eventId);
+
+		verify(seatRepository, never()).insertSeatsForRows(anyCollection());
+		verify(eventService, never()).publishDraftEvent(anyLong());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void generateSeats_should_recordFailureAndReleaseLock_whenInsertFails() {
+		acquireLock(true);
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(eventRepository.findById(eventId)).thenReturn(Optional.of(draftEvent()));
+		when(rowRepository.findSeatCountsByEventId(eventId)).thenReturn(List.of(row(1L, 100)));
+		when(seatRepository.insertSeatsForRows(anyCollection())).thenThrow(new RuntimeException("Connection reset"));
+
+		assertDoesNotThrow(() -> seatGenerationService.generateSeats(eventId));
+
+		verify(hashOperations).put(progressKey, "status", SeatGenerationStatus.FAILED.name());
+		verify(eventService, never()).publishDraftEvent(anyLong());
+		verify(redisTemplate).execute(any(RedisScript.class), anyList(), anyString());
+	}
+
+	@Test
+	public void batches_should_groupRowsUntilBatchSizeIsReached() {
+		List<List<Long>> batches = SeatGenerationService.batches(List.of(
+				row(1L, 2_000),
+				row(2L, 2_000),
+				row(3L, 2_000),
+				row(4L, 8_000),
+				row(5L, 10)
+		));
+
+		assertEquals(List.of(List.of(1L, 2L, 3L), List.of(4L), List.of(5L)), batches);
+	}
+
+	@Test
+	public void resumeDraftEvents_should_generateEveryDraftEvent() {
+		when(eventRepository.findIdsByStatusIn(List.of(EventStatus.DRAFT))).thenReturn(List.of(eventId, eventId + 1));
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+		int drafts = seatGenerationService.resumeDraftEvents();
+
+		assertEquals(2, drafts);
+		verify(valueOperations).setIfAbsent(eq("event:seat-generation:lock:" + eventId), anyString(), any(Duration.class));
+		verify(valueOperations).setIfAbsent(eq("event:seat-generation:lock:" + (eventId + 1)), anyString(), any(Duration.class));
+	}
+
+	@Test
+	public void getProgress_should_readProgressFromRedis_whenKnown() {
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(hashOperations.entries(progressKey)).thenReturn(Map.<Object, Object>of(
+				"status", SeatGenerationStatus.IN_PROGRESS.name(),
+				"totalSeats", "50000",
+				"generatedSeats", "15000"
+		));
+
+		SeatGenerationResponse response = seatGenerationService.getProgress(eventId);
+
+		assertEquals(SeatGenerationStatus.IN_PROGRESS, response.status());
+		assertEquals(50_000, response.totalSeats());
+		assertEquals(15_000, response.generatedSeats());
+		verify(eventRepository, never()).findById(anyLong());
+	}
+
+	@Test
+	public void getProgress_should_reportCompleted_whenEventIsPublishedAndProgressIsGone() {
+		Event event = draftEvent();
+		event.setStatus(EventStatus.UPCOMING);
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+		when(seatRepository.countByEventId(eventId)).thenReturn(300L);
+
+		SeatGenerationResponse response = seatGenerationService.getProgress(eventId);
+
+		assertEquals(SeatGenerationStatus.COMPLETED, response.status());
+		assertEquals(300, response.totalSeats());
+		assertEquals(300, response.generatedSeats());
+	}
+
+	@Test
+	public void getProgress_should_throwEntityNotFoundException_whenEventDoesNotExist() {
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(eventRepository.findById(eventId)).thenReturn(Optional.empty());
+
+		assertThrows(EntityNotFoundException.class, () -> seatGenerationService.getProgress(eventId));
+	}
+
+	private void acquireLock(boolean acquired) {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(eq("event:seat-generation:lock:" + eventId), anyString(), any(Duration.class)))
+				.thenReturn(acquired);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void renewLock(boolean renewed) {
+		doReturn(renewed ? 1L : 0L).when(redisTemplate).execute(
+				any(RedisScript.class),
+				eq(List.of("event:seat-generation:lock:" + eventId)),
+				anyString(),
+				eq(String.valueOf(Duration.ofMinutes(2).toMillis()))
+		);
+	}
+
+	private Event draftEvent() {
+		return Event.builder()
+		            .id(eventId)
+		            .status(EventStatus.DRAFT)
+		            .build();
+	}
+
+	private static RowSeatCount row(long rowId, int seatCount) {
+		return new RowSeatCount() {
+			@Override
+			public Long getRowId() {
+				return rowId;
+			}
+
+			@Override
+			public Integer getSeatCount() {
+				return seatCount;
+			}
+		};
+	}
+}
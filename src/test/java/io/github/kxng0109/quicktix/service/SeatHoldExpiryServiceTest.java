@@ -0,0 +1,96 @@
+package io.github.kxng0109.quicktix.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SeatHoldExpiryServiceTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@InjectMocks
+	private SeatHoldExpiryService seatHoldExpiryService;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void scheduleExpiry_should_addSeatsWithDeadlineOneLockTtlAfterHold() {
+		Instant heldAt = Instant.parse("2026-01-01T10:00:00Z");
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+		seatHoldExpiryService.scheduleExpiry(List.of(300L, 301L), heldAt);
+
+		ArgumentCaptor<Set<TypedTuple<String>>> entriesCaptor = ArgumentCaptor.forClass(Set.class);
+		verify(zSetOperations).add(eq("seat:hold:deadlines"), entriesCaptor.capture());
+
+		Set<TypedTuple<String>> entries = entriesCaptor.getValue();
+		assertEquals(2, entries.size());
+		entries.forEach(entry -> assertEquals(
+				(double) heldAt.plus(SeatLockService.LOCK_TTL).toEpochMilli(),
+				entry.getScore()
+		));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void scheduleExpiry_should_roundDeadlineUpToTheNextMillisecond() {
+		Instant heldAt = Instant.parse("2026-01-01T10:00:00.000400Z");
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+		seatHoldExpiryService.scheduleExpiry(List.of(300L), heldAt);
+
+		ArgumentCaptor<Set<TypedTuple<String>>> entriesCaptor = ArgumentCaptor.forClass(Set.class);
+		verify(zSetOperations).add(eq("seat:hold:deadlines"), entriesCaptor.capture());
+
+		//Truncating would make the seat due 0.4 ms before its hold is past the release cutoff
+		assertEquals(
+				(double) heldAt.plus(SeatLockService.LOCK_TTL).toEpochMilli() + 1,
+				entriesCaptor.getValue().iterator().next().getScore()
+		);
+	}
+
+	@Test
+	public void scheduleExpiry_should_notThrow_whenRedisIsUnavailable() {
+		when(redisTemplate.opsForZSet()).thenThrow(new RuntimeException("Connection refused"));
+
+		assertDoesNotThrow(() -> seatHoldExpiryService.scheduleExpiry(List.of(300L), Instant.now()));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void claimDue_should_returnClaimedSeatIds() {
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of("seat:hold:deadlines")), anyString(), anyString()))
+				.thenReturn(List.of("300", "301"));
+
+		List<Long> claimed = seatHoldExpiryService.claimDue(Instant.now(), 100);
+
+		assertEquals(List.of(300L, 301L), claimed);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void claimDue_should_returnEmptyList_whenNothingIsDue() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).thenReturn(List.of());
+
+		assertTrue(seatHoldExpiryService.claimDue(Instant.now(), 100).isEmpty());
+	}
+}
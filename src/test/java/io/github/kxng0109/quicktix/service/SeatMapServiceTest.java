@@ -0,0 +1,250 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.request.projection.SeatLayoutEntry;
+import io.github.kxng0109.quicktix.dto.response.SeatMapChangesResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatMapResponse;
+import io.github.kxng0109.quicktix.enums.EventStatus;
+import io.github.kxng0109.quicktix.enums.SeatStatus;
+import io.github.kxng0109.quicktix.repositories.EventRepository;
+import io.github.kxng0109.quicktix.repositories.SeatRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SeatMapServiceTest {
+
+	private final Long eventId = 100L;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private ZSetOperations<String, String> zSetOperations;
+
+	@Mock
+	private SeatRepository seatRepository;
+
+	@Mock
+	private EventRepository eventRepository;
+
+	@InjectMocks
+	private SeatMapService seatMapService;
+
+	//Row 11 is the front row, so its seats come first even though their IDs are higher
+	private final List<SeatLayoutEntry> layout = List.of(
+			new LayoutEntry(301L, 1, 12L, 2, SeatStatus.AVAILABLE),
+			new LayoutEntry(302L, 2, 12L, 2, SeatStatus.BOOKED),
+			new LayoutEntry(303L, 1, 11L, 1, SeatStatus.HELD),
+			new LayoutEntry(304L, 2, 11L, 1, SeatStatus.AVAILABLE)
+	);
+
+	@Test
+	public void getSeatMap_should_returnLayoutInRowOrderWithStatusCodes() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get("seatmap:version:" + eventId)).thenReturn("4");
+		when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(true);
+		when(seatRepository.findSeatLayoutByEventId(eventId)).thenReturn(layout);
+
+		SeatMapResponse response = seatMapService.getSeatMap(eventId);
+
+		assertEquals(4, response.version());
+		assertEquals("HAAB", response.statuses());
+		assertEquals(1, response.sections().size());
+		assertEquals(List.of(11L, 12L), response.sections().getFirst().rows().stream().map(row -> row.id()).toList());
+		assertEquals(List.of(303L, 304L), response.sections().getFirst().rows().getFirst().seatIds());
+	}
+
+	@Test
+	public void getSeatMap_should_catchUpFromChangeLog_insteadOfReloadingLayout() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(valueOperations.get("seatmap:version:" + eventId)).thenReturn("4", "5");
+		when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(true);
+		when(seatRepository.findSeatLayoutByEventId(eventId)).thenReturn(layout);
+		when(zSetOperations.rangeByScore("seatmap:changes:" + eventId, 5, 5))
+				.thenReturn(new LinkedHashSet<>(List.of("5:H:301,304")));
+
+		seatMapService.getSeatMap(eventId);
+		SeatMapResponse response = seatMapService.getSeatMap(eventId);
+
+		assertEquals(5, response.version());
+		assertEquals("HHHB", response.statuses());
+		verify(seatRepository, times(1)).findSeatLayoutByEventId(eventId);
+	}
+
+	@Test
+	public void getSeatMap_should_throwEntityNotFoundException_whenEventDoesNotExist() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(false);
+
+		assertThrows(EntityNotFoundException.class, () -> seatMapService.getSeatMap(eventId));
+
+		verify(seatRepository, never()).findSeatLayoutByEventId(anyLong());
+	}
+
+	@Test
+	public void getSeatMapChanges_should_returnChangesAfterVersion() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(valueOperations.get("seatmap:version:" + eventId)).thenReturn("7");
+		when(zSetOperations.rangeByScore("seatmap:changes:" + eventId, 6, 7))
+				.thenReturn(new LinkedHashSet<>(List.of("6:H:301,302", "7:A:301")));
+
+		SeatMapChangesResponse response = seatMapService.getSeatMapChanges(eventId, 5);
+
+		assertFalse(response.resyncRequired());
+		assertEquals(7, response.toVersion());
+		assertEquals(2, response.changes().size());
+		assertEquals(List.of(301L, 302L), response.changes().getFirst().seatIds());
+		assertEquals("A", response.changes().getLast().status());
+	}
+
+	@Test
+	public void getSeatMapChanges_should_requireResync_whenChangesWereTrimmed() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(valueOperations.get("seatmap:version:" + eventId)).thenReturn("7");
+		when(zSetOperations.rangeByScore("seatmap:changes:" + eventId, 3, 7))
+				.thenReturn(new LinkedHashSet<>(List.of("6:H:301,302", "7:A:301")));
+
+		SeatMapChangesResponse response = seatMapService.getSeatMapChanges(eventId, 2);
+
+		assertTrue(response.resyncRequired());
+		assertTrue(response.changes().isEmpty());
+	}
+
+	@Test
+	public void getSeatMapChanges_should_returnNothing_whenClientIsUpToDate() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get("seatmap:version:" + eventId)).thenReturn("7");
+
+		SeatMapChangesResponse response = seatMapService.getSeatMapChanges(eventId, 7);
+
+		assertFalse(response.resyncRequired());
+		assertTrue(response.changes().isEmpty());
+		verify(redisTemplate, never()).opsForZSet();
+	}
+
+	@Test
+	public void reconcile_should_sealChangeLog_whenSeatsMovedOnSinceLastSeal() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.multiGet(List.of("seatmap:version:" + eventId, "seatmap:sealed:" + eventId)))
+				.thenReturn(Arrays.asList("7", "7:40"));
+		doReturn(8L).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+		//Same version, but a seat changed without its change being recorded
+		assertTrue(seatMapService.reconcile(eventId, 41));
+
+		verify(redisTemplate).execute(
+				any(RedisScript.class),
+				eq(List.of("seatmap:version:" + eventId, "seatmap:changes:" + eventId, "seatmap:sealed:" + eventId)),
+				eq("41"),
+				eq(String.valueOf(Duration.ofDays(7).toSeconds()))
+		);
+	}
+
+	@Test
+	public void reconcile_should_sealChangeLog_whenChangesWereRecordedSinceLastSeal() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("9", "7:40"));
+		doReturn(10L).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+		assertTrue(seatMapService.reconcile(eventId, 42));
+	}
+
+	@Test
+	public void reconcile_should_keepChangeLog_whenNothingHappenedSinceLastSeal() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("7", "7:40"));
+
+		assertFalse(seatMapService.reconcile(eventId, 40));
+
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+	}
+
+	@Test
+	public void getSeatMap_should_rebuildFromDatabase_afterChangeLogWasSealed() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(valueOperations.get("seatmap:version:" + eventId)).thenReturn("4", "5");
+		when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(true);
+		when(seatRepository.findSeatLayoutByEventId(eventId)).thenReturn(layout);
+		//The seal dropped the log and skipped a version
+		when(zSetOperations.rangeByScore("seatmap:changes:" + eventId, 5, 5)).thenReturn(new LinkedHashSet<>());
+
+		seatMapService.getSeatMap(eventId);
+		SeatMapResponse response = seatMapService.getSeatMap(eventId);
+
+		assertEquals(5, response.version());
+		verify(seatRepository, times(2)).findSeatLayoutByEventId(eventId);
+	}
+
+	private record LayoutEntry(Long seatId, Integer seatNumber, Long rowId, Integer rowOrder,
+	                           SeatStatus seatStatus) implements SeatLayoutEntry {
+		@Override
+		public Long getSeatId() {
+			return seatId;
+		}
+
+		@Override
+		public Integer getSeatNumber() {
+			return seatNumber;
+		}
+
+		@Override
+		public Long getRowId() {
+			return rowId;
+		}
+
+		@Override
+		public String getRowName() {
+			return "R" + rowOrder;
+		}
+
+		@Override
+		public Integer getRowOrder() {
+			return rowOrder;
+		}
+
+		@Override
+		public Long getSectionId() {
+			return 20L;
+		}
+
+		@Override
+		public String getSectionName() {
+			return "VIP";
+		}
+
+		@Override
+		public BigDecimal getPrice() {
+			return BigDecimal.valueOf(5000);
+		}
+
+		@Override
+		public SeatStatus getSeatStatus() {
+			return seatStatus;
+		}
+	}
+}
@@ -1,13 +1,19 @@
 package io.github.kxng0109.quicktix.service;
 
+import io.github.kxng0109.quicktix.dto.request.HoldBestAvailableRequest;
 import io.github.kxng0109.quicktix.dto.request.HoldSeatsRequest;
+import io.github.kxng0109.quicktix.dto.request.projection.ReleasedSeat;
+import io.github.kxng0109.quicktix.dto.request.projection.SeatLayoutEntry;
 import io.github.kxng0109.quicktix.dto.response.PagedResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatAvailabilityResponse;
 import io.github.kxng0109.quicktix.dto.response.SeatResponse;
+import io.github.kxng0109.quicktix.dto.response.SeatScrollResponse;
 import io.github.kxng0109.quicktix.entity.*;
 import io.github.kxng0109.quicktix.enums.BookingStatus;
 import io.github.kxng0109.quicktix.enums.EventStatus;
 import io.github.kxng0109.quicktix.enums.Role;
 import io.github.kxng0109.quicktix.enums.SeatStatus;
+import io.github.kxng0109.quicktix.event.SeatStatusChangedEvent;
 import io.github.kxng0109.quicktix.exception.InvalidOperationException;
 import io.github.kxng0109.quicktix.repositories.EventRepository;
 import io.github.kxng0109.quicktix.repositories.SeatRepository;
@@ -19,17 +25,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -51,6 +69,12 @@ public class SeatServiceTest {
 	private UserRepository userRepository;
 	@Mock
 	private SeatLockService seatLockService;
+	@Mock
+	private SeatAvailabilityIndex seatAvailabilityIndex;
+	@Mock
+	private SeatHoldExpiryService seatHoldExpiryService;
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
 
 	@InjectMocks
 	private SeatService seatService;
@@ -119,36 +143,75 @@ public class SeatServiceTest {
 		                                   .seatIds(seatIds)
 		                                   .build();
 
-		lenient().when(seatLockService.acquireLock(anyLong(), anyString())).thenReturn(true);
+		lenient().when(seatLockService.acquireLocks(anyList(), anyString(), any(Duration.class))).thenReturn(true);
+		lenient().when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(true);
 	}
 
 	@Test
 	public void getAvailableSeats_should_returnAPageOfAvailableSeats_whenAllCorrect() {
-		Page<Seat> seatPage = new PageImpl<>(seats);
+		PagedResponse<SeatResponse> page = new PagedResponse<>(
+				List.of(SeatResponse.builder().id(seatIds.getFirst()).build()),
+				0,
+				availableSeats,
+				availableSeats,
+				1,
+				true
+		);
 
-		when(eventRepository.findById(anyLong())).thenReturn(Optional.of(event));
-		when(seatRepository.findByEventIdAndSeatStatus(anyLong(), eq(SeatStatus.AVAILABLE), any(Pageable.class)))
-				.thenReturn(seatPage);
+		when(seatAvailabilityIndex.getAvailableSeats(eventId, pageable)).thenReturn(page);
 
 		PagedResponse<SeatResponse> responses = seatService.getAvailableSeats(eventId, pageable);
 
 		assertNotNull(responses);
 		assertEquals(availableSeats, responses.totalElements());
 
-		verify(eventRepository).findById(anyLong());
-		verify(seatRepository).findByEventIdAndSeatStatus(anyLong(), eq(SeatStatus.AVAILABLE), any(Pageable.class));
+		verify(seatAvailabilityIndex).getAvailableSeats(eventId, pageable);
+		verify(seatRepository, never()).findByEventIdAndSeatStatus(anyLong(), any(SeatStatus.class),
+		                                                           any(Pageable.class)
+		);
 	}
 
 	@Test
 	public void getAvailableSeats_should_throwEntityNotFoundException_whenNoEventIsFound() {
-		when(eventRepository.findById(anyLong())).thenReturn(Optional.empty());
+		when(seatAvailabilityIndex.getAvailableSeats(eventId, pageable))
+				.thenThrow(new EntityNotFoundException("Event not found"));
 
 		assertThrows(EntityNotFoundException.class, () -> seatService.getAvailableSeats(eventId, pageable));
 
-		verify(eventRepository).findById(anyLong());
-		verify(seatRepository, never()).findByEventIdAndSeatStatus(anyLong(), eq(SeatStatus.AVAILABLE),
-		                                                           any(Pageable.class)
-		);
+		verify(seatAvailabilityIndex).getAvailableSeats(eventId, pageable);
+	}
+
+	@Test
+	public void getAvailableSeats_cacheKey_should_includeTheEventsCurrentGeneration() throws Exception {
+		AvailableSeatsCacheGeneration generation = mock(AvailableSeatsCacheGeneration.class);
+		when(generation.current(eventId)).thenReturn(7L, 8L);
+
+		Cacheable cacheable = SeatService.class.getMethod("getAvailableSeats", Long.class, Pageable.class)
+		                                       .getAnnotation(Cacheable.class);
+		Expression key = new SpelExpressionParser().parseExpression(cacheable.key());
+
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.setVariable("eventId", eventId);
+		context.setVariable("pageable", PageRequest.of(2, 20));
+		context.setBeanResolver((evaluationContext, beanName) -> {
+			assertEquals("availableSeatsCacheGeneration", beanName);
+			return generation;
+		});
+
+		assertEquals("100-7-2-20", key.getValue(context, String.class));
+		//Once the generation moves on, the same page maps to a fresh entry
+		assertEquals("100-8-2-20", key.getValue(context, String.class));
+	}
+
+	@Test
+	public void getSeatAvailability_should_addUpTheSectionCounters() {
+		when(seatAvailabilityIndex.countAvailableBySection(eventId)).thenReturn(Map.of(1L, 3L, 2L, 0L, 3L, 4L));
+
+		SeatAvailabilityResponse response = seatService.getSeatAvailability(eventId);
+
+		assertEquals(eventId, response.eventId());
+		assertEquals(7L, response.availableSeats());
+		assertEquals(Map.of(1L, 3L, 2L, 0L, 3L, 4L), response.sections());
 	}
 
 	@Test
@@ -177,6 +240,111 @@ public class SeatServiceTest {
 		verify(seatRepository, never()).findByEventId(anyLong(), any(Pageable.class));
 	}
 
+	@Test
+	public void scrollSeatsByEvent_should_returnSliceWithCursor_whenMoreSeatsFollow() {
+		when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+		when(seatRepository.findSeatLayoutAfter(
+				eq(eventId), anyCollection(), anyLong(), anyInt(), anyInt(), anyLong(), eq(Limit.of(3))
+		)).thenReturn(List.of(
+				new ScrollEntry(300L, 1, 5, 20L),
+				new ScrollEntry(301L, 2, 5, 20L),
+				new ScrollEntry(302L, 1, 6, 20L)
+		));
+
+		SeatScrollResponse firstSlice = seatService.scrollSeatsByEvent(eventId, null, null, 2);
+
+		assertTrue(firstSlice.hasMore());
+		assertEquals(List.of(300L, 301L), firstSlice.content().stream().map(SeatResponse::id).toList());
+		assertNotNull(firstSlice.nextCursor());
+
+		//The cursor resumes right after the last seat returned
+		when(seatRepository.findSeatLayoutAfter(
+				eventId, EnumSet.of(SeatStatus.AVAILABLE), 20L, 5, 2, 301L, Limit.of(3)
+		)).thenReturn(List.of(new ScrollEntry(302L, 1, 6, 20L)));
+
+		SeatScrollResponse secondSlice = seatService.scrollSeatsByEvent(
+				eventId, SeatStatus.AVAILABLE, firstSlice.nextCursor(), 2
+		);
+
+		assertFalse(secondSlice.hasMore());
+		assertNull(secondSlice.nextCursor());
+		assertEquals(302L, secondSlice.content().getFirst().id());
+	}
+
+	@Test
+	public void scrollSeatsByEvent_should_throwIllegalArgumentException_whenCursorIsMalformed() {
+		when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> seatService.scrollSeatsByEvent(eventId, null, "not-a-cursor", 10)
+		);
+
+		verify(seatRepository, never()).findSeatLayoutAfter(
+				anyLong(), anyCollection(), anyLong(), anyInt(), anyInt(), anyLong(), any(Limit.class)
+		);
+	}
+
+	@Test
+	public void scrollSeatsByEvent_should_throwEntityNotFoundException_whenNoEventIsFound() {
+		when(eventRepository.findById(eventId)).thenReturn(Optional.empty());
+
+		assertThrows(EntityNotFoundException.class, () -> seatService.scrollSeatsByEvent(eventId, null, null, 10));
+	}
+
+	@Test
+	public void scrollSeatsByEvent_should_returnNothing_whenEventIsDraft() {
+		event.setStatus(EventStatus.DRAFT);
+		when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+		SeatScrollResponse response = seatService.scrollSeatsByEvent(eventId, null, null, 10);
+
+		assertTrue(response.content().isEmpty());
+		assertFalse(response.hasMore());
+		verify(seatRepository, never()).findSeatLayoutAfter(
+				anyLong(), anyCollection(), anyLong(), anyInt(), anyInt(), anyLong(), any(Limit.class)
+		);
+	}
+
+	@Test
+	public void getAllSeatsByEvent_should_returnNothing_whenEventIsDraft() {
+		event.setStatus(EventStatus.DRAFT);
+		when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+
+		Page<SeatResponse> responses = seatService.getAllSeatsByEvent(eventId, pageable);
+
+		assertTrue(responses.isEmpty());
+		verify(seatRepository, never()).findByEventId(anyLong(), any(Pageable.class));
+	}
+
+	@Test
+	public void holdSeats_should_throwEntityNotFoundException_andLockNothing_whenEventIsDraft() {
+		when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(false);
+
+		assertThrows(EntityNotFoundException.class, () -> seatService.holdSeats(holdSeatsRequest, user));
+
+		verify(seatLockService, never()).acquireLocks(anyList(), anyString(), any(Duration.class));
+	}
+
+	@Test
+	public void holdBestAvailableSeats_should_throwEntityNotFoundException_whenEventIsDraft() {
+		HoldBestAvailableRequest request = new HoldBestAvailableRequest(eventId, null, availableSeats);
+		when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(false);
+
+		assertThrows(EntityNotFoundException.class, () -> seatService.holdBestAvailableSeats(request, user));
+
+		verify(seatAvailabilityIndex, never()).findContiguousBlocks(anyLong(), any(), anyInt(), anyInt());
+	}
+
+	@Test
+	public void holdSeatsForBooking_should_throwEntityNotFoundException_andLockNothing_whenEventIsDraft() {
+		when(eventRepository.existsByIdAndStatusNot(eventId, EventStatus.DRAFT)).thenReturn(false);
+
+		assertThrows(EntityNotFoundException.class, () -> seatService.holdSeatsForBooking(eventId, seatIds, user));
+
+		verify(seatLockService, never()).acquireLocks(anyList(), anyString(), any(Duration.class));
+	}
+
 	@Test
 	public void holdSeats_should_holdSeatsAndReturnListOfSeatResponse_whenAllCorrect() {
 		when(seatRepository.findAllByIdWithLock(eq(seatIds))).thenReturn(seats);
@@ -189,18 +357,21 @@ public class SeatServiceTest {
 
 		verify(seatRepository).findAllByIdWithLock(eq(seatIds));
 		verify(seatRepository).saveAll(seats);
+		verify(applicationEventPublisher).publishEvent(new SeatStatusChangedEvent(eventId, seatIds, SeatStatus.HELD));
+		verify(seatHoldExpiryService).scheduleExpiry(eq(seatIds), any(Instant.class));
 	}
 
 	@Test
 	public void holdSeats_should_throwInvalidOperationException_whenLockIsNotAcquired() {
-		when(seatLockService.acquireLock(anyLong(), anyString()))
+		when(seatLockService.acquireLocks(anyList(), anyString(), any(Duration.class)))
 				.thenReturn(false);
 
 		assertThrows(InvalidOperationException.class,
 		             () -> seatService.holdSeats(holdSeatsRequest, user)
 		);
 
-		verify(seatLockService).acquireLock(anyLong(), anyString());
+		verify(seatLockService).acquireLocks(eq(seatIds), eq(user.getEmail()), eq(SeatLockService.LOCK_TTL));
+		verify(seatLockService, never()).releaseLocks(anyList(), anyString());
 		verify(userRepository, never()).getReferenceById(anyLong());
 		verify(seatRepository, never()).findAllById(anyList());
 		verify(seatRepository, never()).saveAll(anyList());
@@ -215,7 +386,8 @@ public class SeatServiceTest {
 		assertThrows(EntityNotFoundException.class, () -> seatService.holdSeats(holdSeatsRequest, user));
 
 		verify(userRepository).getReferenceById(anyLong());
-		verify(seatLockService, times(3)).acquireLock(anyLong(), anyString());
+		verify(seatLockService).acquireLocks(eq(seatIds), eq(user.getEmail()), any(Duration.class));
+		verify(seatLockService).releaseLocks(eq(seatIds), eq(user.getEmail()));
 		verify(seatRepository, never()).saveAll(seats);
 	}
 
@@ -247,17 +419,172 @@ public class SeatServiceTest {
 	}
 
 	@Test
-	public void adminReleaseSeats_should_releaseSeatsAndReturnNothing_whenSeatBelongsToTheUser() {
-		seats.forEach(seat -> seat.setHeldByUser(user));
+	public void holdSeatsForBooking_should_holdSeats_withoutSavingThemOrSchedulingExpiry() {
+		when(seatRepository.findAllByIdWithLock(eq(seatIds))).thenReturn(seats);
+
+		List<Seat> heldSeats = seatService.holdSeatsForBooking(eventId, seatIds.reversed(), user);
+
+		assertEquals(seats, heldSeats);
+		assertTrue(heldSeats.stream().allMatch(seat -> seat.getSeatStatus() == SeatStatus.HELD));
+		verify(seatLockService).acquireLocks(eq(seatIds), eq(user.getEmail()), eq(SeatLockService.LOCK_TTL));
+		verify(seatRepository, never()).saveAll(anyList());
+		verify(seatHoldExpiryService, never()).scheduleExpiry(anyList(), any(Instant.class));
+		verify(applicationEventPublisher).publishEvent(new SeatStatusChangedEvent(eventId, seatIds, SeatStatus.HELD));
+	}
+
+	@Test
+	public void holdSeatsForBooking_should_rejectSeatsAlreadyInABooking_andReleaseLocks() {
+		seats.forEach(seat -> {
+			seat.setSeatStatus(SeatStatus.HELD);
+			seat.setHeldByUser(user);
+		});
+		when(userRepository.getReferenceById(user.getId())).thenReturn(user);
+		when(seatRepository.findAllByIdWithLock(eq(seatIds))).thenReturn(seats);
+
+		assertThrows(IllegalArgumentException.class, () -> seatService.holdSeatsForBooking(eventId, seatIds, user));
+
+		verify(seatLockService).releaseLocks(seatIds, user.getEmail());
+	}
+
+	@Test
+	public void holdSeatsForBooking_should_releaseSortedLocks_onlyOnceTransactionRollsBack() {
+		when(seatRepository.findAllByIdWithLock(eq(seatIds))).thenReturn(seats);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			seatService.holdSeatsForBooking(eventId, seatIds.reversed(), user);
+
+			//Nothing is released while the caller is still building its booking
+			verify(seatLockService, never()).releaseLocks(anyList(), anyString());
+
+			//Fails at commit, after this method has long returned
+			TransactionSynchronizationManager.getSynchronizations()
+			                                 .forEach(sync -> sync.afterCompletion(
+					                                 TransactionSynchronization.STATUS_ROLLED_BACK));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		verify(seatLockService).releaseLocks(seatIds, user.getEmail());
+	}
+
+	@Test
+	public void holdSeatsForBooking_should_keepLocks_whenTransactionCommits() {
+		when(seatRepository.findAllByIdWithLock(eq(seatIds))).thenReturn(seats);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			seatService.holdSeatsForBooking(eventId, seatIds, user);
+
+			TransactionSynchronizationManager.getSynchronizations()
+			                                 .forEach(sync -> sync.afterCompletion(
+					                                 TransactionSynchronization.STATUS_COMMITTED));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		verify(seatLockService, never()).releaseLocks(anyList(), anyString());
+	}
 
-		when(seatRepository.findAllById(eq(seatIds)))
-				.thenReturn(seats);
+	@Test
+	public void holdBestAvailableSeats_should_holdFirstCandidateBlock_whenLockIsAcquired() {
+		HoldBestAvailableRequest request = new HoldBestAvailableRequest(eventId, null, availableSeats);
+
+		when(seatAvailabilityIndex.findContiguousBlocks(eventId, null, availableSeats, 3))
+				.thenReturn(List.of(seatIds));
+		when(seatRepository.findAllByIdWithLock(eq(seatIds))).thenReturn(seats);
+		when(seatRepository.saveAll(eq(seats))).thenReturn(seats);
+
+		List<SeatResponse> response = seatService.holdBestAvailableSeats(request, user);
+
+		assertEquals(seatIds, response.stream().map(SeatResponse::id).toList());
+		verify(seatLockService).acquireLocks(eq(seatIds), eq(user.getEmail()), eq(SeatLockService.LOCK_TTL));
+		verify(applicationEventPublisher).publishEvent(new SeatStatusChangedEvent(eventId, seatIds, SeatStatus.HELD));
+	}
+
+	@Test
+	public void holdBestAvailableSeats_should_tryNextBlock_whenFirstBlockIsLockedByAnotherUser() {
+		HoldBestAvailableRequest request = new HoldBestAvailableRequest(eventId, 100L, 1);
+		List<Long> takenBlock = List.of(seatIds.get(1));
+		List<Long> nextBlock = List.of(seatIds.get(0));
+
+		when(seatAvailabilityIndex.findContiguousBlocks(eventId, 100L, 1, 3))
+				.thenReturn(List.of(takenBlock, nextBlock));
+		when(seatLockService.acquireLocks(eq(takenBlock), anyString(), any(Duration.class))).thenReturn(false);
+		when(seatRepository.findAllByIdWithLock(eq(nextBlock))).thenReturn(List.of(seats.getFirst()));
+		when(seatRepository.saveAll(anyList())).thenReturn(List.of(seats.getFirst()));
+
+		List<SeatResponse> response = seatService.holdBestAvailableSeats(request, user);
+
+		assertEquals(nextBlock, response.stream().map(SeatResponse::id).toList());
+		verify(seatRepository, never()).findAllByIdWithLock(eq(takenBlock));
+		verify(seatLockService, never()).releaseLocks(anyList(), anyString());
+	}
+
+	@Test
+	public void holdBestAvailableSeats_should_tryNextBlock_whenIndexIsBehindTheDatabase() {
+		HoldBestAvailableRequest request = new HoldBestAvailableRequest(eventId, null, 1);
+		List<Long> staleBlock = List.of(seatIds.get(1));
+		List<Long> nextBlock = List.of(seatIds.get(0));
+		seats.get(1).setSeatStatus(SeatStatus.BOOKED);
+
+		when(seatAvailabilityIndex.findContiguousBlocks(eventId, null, 1, 3))
+				.thenReturn(List.of(staleBlock, nextBlock));
+		when(seatRepository.findAllByIdWithLock(eq(staleBlock))).thenReturn(List.of(seats.get(1)));
+		when(seatRepository.findAllByIdWithLock(eq(nextBlock))).thenReturn(List.of(seats.getFirst()));
+		when(seatRepository.saveAll(anyList())).thenReturn(List.of(seats.getFirst()));
+
+		List<SeatResponse> response = seatService.holdBestAvailableSeats(request, user);
+
+		assertEquals(nextBlock, response.stream().map(SeatResponse::id).toList());
+		assertEquals(SeatStatus.BOOKED, seats.get(1).getSeatStatus());
+		verify(seatLockService).releaseLocks(eq(staleBlock), eq(user.getEmail()));
+		verify(seatRepository, times(1)).saveAll(anyList());
+	}
+
+	@Test
+	public void holdBestAvailableSeats_should_throwInvalidOperationException_whenNoBlockIsAvailable() {
+		HoldBestAvailableRequest request = new HoldBestAvailableRequest(eventId, null, 4);
+
+		when(seatAvailabilityIndex.findContiguousBlocks(eventId, null, 4, 3)).thenReturn(List.of());
+
+		assertThrows(InvalidOperationException.class, () -> seatService.holdBestAvailableSeats(request, user));
+
+		verify(seatLockService, never()).acquireLocks(anyList(), anyString(), any(Duration.class));
+		verify(seatRepository, never()).saveAll(anyList());
+	}
+
+	@Test
+	public void adminReleaseSeats_should_releaseSeatsInBulkAndReturnNothing_whenSeatBelongsToTheUser() {
+		when(seatRepository.releaseByIdIn(eq(seatIds))).thenReturn(seatIds.stream()
+		                                                                   .map(seatId -> new ReleasedSeat(
+				                                                                   seatId, eventId, SeatStatus.HELD,
+				                                                                   user.getEmail()
+		                                                                   ))
+		                                                                   .toList());
 
 		seatService.releaseSeats(seatIds);
 
-		verify(seatRepository).findAllById(eq(seatIds));
-		verify(seatLockService, times(seatIds.size())).forceReleaseLock(anyLong());
-		verify(seatRepository).saveAll(seats);
+		verify(seatRepository).releaseByIdIn(eq(seatIds));
+		verify(seatLockService).forceReleaseLocks(eq(seatIds));
+		verify(applicationEventPublisher).publishEvent(
+				new SeatStatusChangedEvent(eventId, seatIds, SeatStatus.AVAILABLE)
+		);
+		verify(seatRepository, never()).findAllById(anyList());
+		verify(seatRepository, never()).saveAll(anyList());
+	}
+
+	@Test
+	public void adminReleaseSeats_should_releaseInChunks_whenManySeatsAreGiven() {
+		List<Long> manySeatIds = LongStream.rangeClosed(1, SeatService.RELEASE_BATCH_SIZE + 1).boxed().toList();
+		when(seatRepository.releaseByIdIn(anyList())).thenReturn(List.of());
+
+		seatService.releaseSeats(manySeatIds);
+
+		verify(seatRepository).releaseByIdIn(eq(manySeatIds.subList(0, SeatService.RELEASE_BATCH_SIZE)));
+		verify(seatRepository).releaseByIdIn(eq(List.of((long) SeatService.RELEASE_BATCH_SIZE + 1)));
+		verify(seatLockService, times(2)).forceReleaseLocks(anyList());
+		verify(applicationEventPublisher, never()).publishEvent(any());
 	}
 
 	@Test
@@ -269,6 +596,7 @@ public class SeatServiceTest {
 		seatService.releaseSeats(holdSeatsRequest, user);
 
 		verify(seatRepository).findAllById(eq(seatIds));
+		verify(seatLockService).releaseLocks(eq(seatIds), eq(user.getEmail()));
 		verify(seatRepository).saveAll(seats);
 	}
 
@@ -300,24 +628,165 @@ public class SeatServiceTest {
 	}
 
 	@Test
-	public void releaseExpiredHolds_should_setHeldSeatsToAvailable() {
+	public void releaseExpiredHolds_should_releaseBatchesUntilNoneAreLeft() {
 		Instant cutoff = Instant.now().minus(15, ChronoUnit.MINUTES);
+		List<ReleasedSeat> fullBatch = LongStream.rangeClosed(1, SeatService.RELEASE_BATCH_SIZE)
+		                                         .mapToObj(seatId -> new ReleasedSeat(
+				                                         seatId, eventId, SeatStatus.HELD, user.getEmail()
+		                                         ))
+		                                         .toList();
+		List<ReleasedSeat> lastBatch = List.of(new ReleasedSeat(900L, eventId, SeatStatus.HELD, null));
 
-		seats.forEach(seat -> {
-			seat.setSeatStatus(SeatStatus.HELD);
-			seat.setHeldAt(cutoff.minus(1, ChronoUnit.MINUTES));
-			seat.setHeldByUser(user);
-		});
-
-		when(seatRepository.findBySeatStatusAndHeldAtBefore(eq(SeatStatus.HELD), any(Instant.class)))
-				.thenReturn(seats);
+		when(seatRepository.releaseExpiredHolds(cutoff, SeatService.RELEASE_BATCH_SIZE))
+				.thenReturn(fullBatch, lastBatch);
 
 		seatService.releaseExpiredHolds(cutoff);
 
-		assertEquals(SeatStatus.AVAILABLE, seats.getFirst().getSeatStatus());
-		assertNull(seats.getFirst().getHeldByUser());
+		verify(seatRepository, times(2)).releaseExpiredHolds(cutoff, SeatService.RELEASE_BATCH_SIZE);
+		verify(seatLockService).releaseLocks(argThat((Map<Long, String> owners) ->
+				                                             owners.size() == SeatService.RELEASE_BATCH_SIZE));
+		//The seat without a known holder has no lock to release, but it is still announced
+		verify(seatLockService).releaseLocks(Map.of());
+		verify(applicationEventPublisher).publishEvent(
+				new SeatStatusChangedEvent(eventId, List.of(900L), SeatStatus.AVAILABLE)
+		);
+		verify(seatRepository, never()).saveAll(anyList());
+	}
 
-		verify(seatRepository).findBySeatStatusAndHeldAtBefore(eq(SeatStatus.HELD), any(Instant.class));
-		verify(seatRepository).saveAll(seats);
+	@Test
+	public void releaseExpiredHolds_should_releaseOnlyStillExpiredSeats_whenGivenClaimedSeatIds() {
+		Instant cutoff = Instant.now().minus(15, ChronoUnit.MINUTES);
+		Long expiredSeatId = seatIds.getFirst();
+
+		when(seatRepository.releaseExpiredHoldsByIdIn(seatIds, cutoff))
+				.thenReturn(List.of(new ReleasedSeat(expiredSeatId, eventId, SeatStatus.HELD, user.getEmail())));
+
+		int released = seatService.releaseExpiredHolds(seatIds, cutoff);
+
+		assertEquals(1, released);
+
+		verify(seatLockService).releaseLocks(Map.of(expiredSeatId, user.getEmail()));
+		verify(applicationEventPublisher).publishEvent(
+				new SeatStatusChangedEvent(eventId, List.of(expiredSeatId), SeatStatus.AVAILABLE)
+		);
+	}
+
+	@Test
+	public void releaseExpiredHolds_should_requeueClaimedSeatsThatAreStillHeld_butWereNotReleased() {
+		Instant cutoff = Instant.now().minus(15, ChronoUnit.MINUTES);
+
+		//300 is released, 301 was locked by another transaction (SKIP LOCKED) and 302 was booked meanwhile
+		when(seatRepository.releaseExpiredHoldsByIdIn(seatIds, cutoff))
+				.thenReturn(List.of(new ReleasedSeat(300L, eventId, SeatStatus.HELD, user.getEmail())));
+		when(seatRepository.findUnbookedSeatIdsByIdInAndSeatStatus(List.of(301L, 302L), SeatStatus.HELD))
+				.thenReturn(List.of(301L));
+
+		int released = seatService.releaseExpiredHolds(seatIds, cutoff);
+
+		assertEquals(1, released);
+		verify(seatHoldExpiryService).retryLater(List.of(301L), SeatService.UNRELEASED_HOLD_RETRY_DELAY);
+	}
+
+	@Test
+	public void releaseExpiredHolds_should_doNothing_whenNoClaimedSeatIsStillExpired() {
+		Instant cutoff = Instant.now().minus(15, ChronoUnit.MINUTES);
+
+		when(seatRepository.releaseExpiredHoldsByIdIn(seatIds, cutoff)).thenReturn(List.of());
+
+		int released = seatService.releaseExpiredHolds(seatIds, cutoff);
+
+		assertEquals(0, released);
+		verify(applicationEventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	public void releaseBookedSeats_should_releaseSeatsOfBookings_andOnlyAnnounceRealTransitions() {
+		List<Long> bookingIds = List.of(10L, 11L);
+
+		when(seatRepository.releaseByBookingIdIn(bookingIds, SeatService.RELEASE_BATCH_SIZE))
+				.thenReturn(List.of(
+						new ReleasedSeat(300L, eventId, SeatStatus.HELD, user.getEmail()),
+						new ReleasedSeat(301L, eventId, SeatStatus.AVAILABLE, user.getEmail())
+				));
+
+		seatService.releaseBookedSeats(bookingIds);
+
+		verify(seatLockService).releaseLocks(Map.of(300L, user.getEmail(), 301L, user.getEmail()));
+		verify(applicationEventPublisher).publishEvent(
+				new SeatStatusChangedEvent(eventId, List.of(300L), SeatStatus.AVAILABLE)
+		);
+	}
+
+	@Test
+	public void reserveBlock_should_announceReservedSeatsAsHeld_withoutTakingRedisLocks() {
+		when(seatRepository.reserveBlock(eventId, List.of(5L), List.of(), List.of(), 10L, user.getId(), 500))
+				.thenReturn(List.of(300L, 301L));
+
+		List<Long> reserved = seatService.reserveBlock(eventId, List.of(5L), List.of(), List.of(), 10L, user.getId(), 500);
+
+		assertEquals(List.of(300L, 301L), reserved);
+		verify(applicationEventPublisher).publishEvent(
+				new SeatStatusChangedEvent(eventId, List.of(300L, 301L), SeatStatus.HELD)
+		);
+		verifyNoInteractions(seatLockService);
+	}
+
+	@Test
+	public void reserveBlock_should_announceNothing_when_noSeatWasReserved() {
+		when(seatRepository.reserveBlock(eventId, List.of(5L), List.of(), List.of(), 10L, user.getId(), 500))
+				.thenReturn(List.of());
+
+		List<Long> reserved = seatService.reserveBlock(eventId, List.of(5L), List.of(), List.of(), 10L, user.getId(), 500);
+
+		assertTrue(reserved.isEmpty());
+		verifyNoInteractions(applicationEventPublisher);
+	}
+
+	private record ScrollEntry(Long seatId, Integer seatNumber, Integer rowOrder, Long sectionId)
+			implements SeatLayoutEntry {
+		@Override
+		public Long getSeatId() {
+			return seatId;
+		}
+
+		@Override
+		public Integer getSeatNumber() {
+			return seatNumber;
+		}
+
+		@Override
+		public Long getRowId() {
+			return 10L + rowOrder;
+		}
+
+		@Override
+		public String getRowName() {
+			return "R" + rowOrder;
+		}
+
+		@Override
+		public Integer getRowOrder() {
+			return rowOrder;
+		}
+
+		@Override
+		public Long getSectionId() {
+			return sectionId;
+		}
+
+		@Override
+		public String getSectionName() {
+			return "VIP";
+		}
+
+		@Override
+		public BigDecimal getPrice() {
+			return BigDecimal.valueOf(5000);
+		}
+
+		@Override
+		public SeatStatus getSeatStatus() {
+			return SeatStatus.AVAILABLE;
+		}
 	}
-}
\ No newline at end of file
+}
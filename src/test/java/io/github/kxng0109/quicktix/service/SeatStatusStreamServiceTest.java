@@ -0,0 +1,113 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.response.SeatStatusUpdateResponse;
+import io.github.kxng0109.quicktix.enums.SeatStatus;
+import io.github.kxng0109.quicktix.event.SeatStatusChangedEvent;
+import io.github.kxng0109.quicktix.repositories.EventRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SeatStatusStreamServiceTest {
+
+	private final Long eventId = 100L;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private EventRepository eventRepository;
+
+	private SeatStatusStreamService seatStatusStreamService;
+
+	@BeforeEach
+	void setUp() {
+		seatStatusStreamService = new SeatStatusStreamService(redisTemplate, eventRepository, objectMapper);
+	}
+
+	@AfterEach
+	void tearDown() {
+		seatStatusStreamService.closeAll();
+	}
+
+	@Test
+	public void subscribe_should_registerStream_whenEventExists() {
+		when(eventRepository.existsById(eventId)).thenReturn(true);
+
+		SseEmitter emitter = seatStatusStreamService.subscribe(eventId);
+
+		assertNotNull(emitter);
+		assertEquals(1, seatStatusStreamService.getSubscriberCount(eventId));
+	}
+
+	@Test
+	public void subscribe_should_throwEntityNotFoundException_whenEventDoesNotExist() {
+		when(eventRepository.existsById(eventId)).thenReturn(false);
+
+		assertThrows(EntityNotFoundException.class, () -> seatStatusStreamService.subscribe(eventId));
+
+		assertEquals(0, seatStatusStreamService.getSubscriberCount(eventId));
+	}
+
+	@Test
+	public void publish_should_sendUpdateToEventChannel() {
+		seatStatusStreamService.publish(
+				new SeatStatusChangedEvent(eventId, List.of(301L, 302L), SeatStatus.HELD),
+				12L
+		);
+
+		ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq("seat-status:" + eventId), payloadCaptor.capture());
+
+		SeatStatusUpdateResponse update = objectMapper.readValue(payloadCaptor.getValue(), SeatStatusUpdateResponse.class);
+		assertEquals(eventId, update.eventId());
+		assertEquals(12L, update.version());
+		assertEquals("H", update.status());
+		assertEquals(List.of(301L, 302L), update.seatIds());
+	}
+
+	@Test
+	public void onMessage_should_ignoreMalformedPayloads() {
+		when(eventRepository.existsById(eventId)).thenReturn(true);
+		seatStatusStreamService.subscribe(eventId);
+
+		assertDoesNotThrow(() -> seatStatusStreamService.onMessage(
+				new DefaultMessage(
+						("seat-status:" + eventId).getBytes(StandardCharsets.UTF_8),
+						"not json".getBytes(StandardCharsets.UTF_8)
+				),
+				null
+		));
+
+		assertEquals(1, seatStatusStreamService.getSubscriberCount(eventId));
+	}
+
+	@Test
+	public void closeAll_should_removeEveryStream() {
+		when(eventRepository.existsById(eventId)).thenReturn(true);
+		seatStatusStreamService.subscribe(eventId);
+		seatStatusStreamService.subscribe(eventId);
+
+		seatStatusStreamService.closeAll();
+
+		assertEquals(0, seatStatusStreamService.getSubscriberCount(eventId));
+	}
+}
@@ -0,0 +1,128 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.request.CreateSeatingTemplateRequest;
+import io.github.kxng0109.quicktix.dto.request.RowRequest;
+import io.github.kxng0109.quicktix.dto.request.SectionRequest;
+import io.github.kxng0109.quicktix.dto.response.SeatingTemplateResponse;
+import io.github.kxng0109.quicktix.entity.SeatingTemplate;
+import io.github.kxng0109.quicktix.entity.TemplateSection;
+import io.github.kxng0109.quicktix.entity.Venue;
+import io.github.kxng0109.quicktix.repositories.SeatingTemplateRepository;
+import io.github.kxng0109.quicktix.repositories.VenueRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SeatingTemplateServiceTest {
+
+	private final Long venueId = 500L;
+	private final Venue venue = Venue.builder().id(venueId).build();
+
+	@Mock
+	private SeatingTemplateRepository seatingTemplateRepository;
+
+	@Mock
+	private VenueRepository venueRepository;
+
+	@InjectMocks
+	private SeatingTemplateService seatingTemplateService;
+
+	@Test
+	public void createTemplate_should_saveLayoutAndSumItsSeats() {
+		CreateSeatingTemplateRequest request = CreateSeatingTemplateRequest
+				.builder()
+				.name("Concert layout")
+				.sections(List.of(
+						section("VIP", BigDecimal.valueOf(5000.00), 10, 10),
+						section("Regular", BigDecimal.valueOf(2000.00), 30, 30, 30)
+				))
+				.build();
+
+		when(venueRepository.findById(venueId)).thenReturn(Optional.of(venue));
+		when(seatingTemplateRepository.save(any(SeatingTemplate.class))).thenAnswer(i -> i.getArgument(0));
+
+		SeatingTemplateResponse response = seatingTemplateService.createTemplate(venueId, request);
+
+		assertEquals(110L, response.totalSeats());
+		assertEquals(venueId, response.venueId());
+		assertEquals(2, response.sections().size());
+		assertEquals(BigDecimal.valueOf(2000.00), response.sections().get(1).basePrice());
+	}
+
+	@Test
+	public void createTemplate_should_throwEntityNotFoundException_whenVenueDoesNotExist() {
+		CreateSeatingTemplateRequest request = CreateSeatingTemplateRequest
+				.builder()
+				.name("Concert layout")
+				.sections(List.of(section("VIP", BigDecimal.TEN, 10)))
+				.build();
+
+		when(venueRepository.findById(venueId)).thenReturn(Optional.empty());
+
+		assertThrows(EntityNotFoundException.class, () -> seatingTemplateService.createTemplate(venueId, request));
+		verify(seatingTemplateRepository, never()).save(any(SeatingTemplate.class));
+	}
+
+	@Test
+	public void getTemplatesByVenue_should_returnTemplatesWithTheirSections() {
+		SeatingTemplate template = SeatingTemplate.builder()
+		                                          .id(3L)
+		                                          .name("Concert layout")
+		                                          .venue(venue)
+		                                          .totalSeats(10)
+		                                          .build();
+		template.getSections().add(TemplateSection.builder()
+		                                          .id(30L)
+		                                          .name("VIP")
+		                                          .capacity(10)
+		                                          .price(BigDecimal.TEN)
+		                                          .build());
+
+		when(venueRepository.existsById(venueId)).thenReturn(true);
+		when(seatingTemplateRepository.findByVenueIdOrderById(venueId)).thenReturn(List.of(template));
+
+		List<SeatingTemplateResponse> templates = seatingTemplateService.getTemplatesByVenue(venueId);
+
+		assertEquals(1, templates.size());
+		assertEquals(30L, templates.getFirst().sections().getFirst().id());
+	}
+
+	@Test
+	public void getTemplatesByVenue_should_throwEntityNotFoundException_whenVenueDoesNotExist() {
+		when(venueRepository.existsById(venueId)).thenReturn(false);
+
+		assertThrows(EntityNotFoundException.class, () -> seatingTemplateService.getTemplatesByVenue(venueId));
+	}
+
+	private SectionRequest section(String name, BigDecimal price, int... seatsPerRow) {
+		List<RowRequest> rows = new ArrayList<>();
+		for (int i = 0; i < seatsPerRow.length; i++) {
+			rows.add(RowRequest.builder()
+			                   .name(String.valueOf((char) ('A' + i)))
+			                   .rowOrder(i + 1)
+			                   .numberOfSeats(seatsPerRow[i])
+			                   .build());
+		}
+
+		return SectionRequest.builder()
+		                     .name(name)
+		                     .description(name + " section")
+		                     .capacity(100)
+		                     .basePrice(price)
+		                     .rows(rows)
+		                     .build();
+	}
+}
@@ -0,0 +1,138 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.response.EventResponse;
+import io.github.kxng0109.quicktix.dto.response.PagedResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UpcomingEventsCacheTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Pageable pageable = PageRequest.of(0, 10);
+	private final String pageKey = "upcomingEvents:page:0:10:UNSORTED";
+	private final String freshKey = "upcomingEvents:fresh:0:10:UNSORTED";
+	private final String lockKey = "upcomingEvents:lock:0:10:UNSORTED";
+	private final String generationKey = "upcomingEvents:generation";
+	private final PagedResponse<EventResponse> cachedPage = page(1L);
+	private final PagedResponse<EventResponse> freshPage = page(2L);
+	private final AtomicInteger loads = new AtomicInteger();
+	private final Supplier<PagedResponse<EventResponse>> loader = () -> {
+		loads.incrementAndGet();
+		return freshPage;
+	};
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private UpcomingEventsCache upcomingEventsCache;
+
+	@BeforeEach
+	void setUp() {
+		upcomingEventsCache = new UpcomingEventsCache(redisTemplate, objectMapper);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	public void get_should_returnCachedPage_withoutLoading_whenItIsFresh() {
+		when(valueOperations.multiGet(List.of(pageKey, freshKey, generationKey)))
+				.thenReturn(Arrays.asList(cached(3), "3", "3"));
+
+		PagedResponse<EventResponse> response = upcomingEventsCache.get(pageable, loader);
+
+		assertEquals(1L, response.content().getFirst().id());
+		assertEquals(0, loads.get());
+		verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any());
+	}
+
+	@Test
+	public void get_should_refreshAndStorePage_whenItIsStaleAndLockIsFree() {
+		//The freshness marker has expired
+		when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(cached(3), null, "3"));
+		when(valueOperations.setIfAbsent(eq(lockKey), anyString(), eq(UpcomingEventsCache.LOCK_TTL))).thenReturn(true);
+		when(valueOperations.get(generationKey)).thenReturn("3");
+
+		PagedResponse<EventResponse> response = upcomingEventsCache.get(pageable, loader);
+
+		assertEquals(2L, response.content().getFirst().id());
+		assertEquals(1, loads.get());
+		verify(valueOperations).set(pageKey, cached(3, freshPage), UpcomingEventsCache.HARD_TTL);
+		verify(valueOperations).set(freshKey, "3", UpcomingEventsCache.SOFT_TTL);
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(lockKey)), anyString());
+	}
+
+	@Test
+	public void get_should_serveStalePage_whenAnotherCallerIsRefreshingIt() {
+		when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(cached(3), null, "3"));
+		when(valueOperations.setIfAbsent(eq(lockKey), anyString(), any())).thenReturn(false);
+
+		PagedResponse<EventResponse> response = upcomingEventsCache.get(pageable, loader);
+
+		assertEquals(1L, response.content().getFirst().id());
+		assertEquals(0, loads.get());
+	}
+
+	@Test
+	public void get_should_treatPageAsStale_whenItWasComputedBeforeTheLastInvalidation() {
+		when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(cached(3), "3", "4"));
+		when(valueOperations.setIfAbsent(eq(lockKey), anyString(), any())).thenReturn(true);
+		when(valueOperations.get(generationKey)).thenReturn("4");
+
+		PagedResponse<EventResponse> response = upcomingEventsCache.get(pageable, loader);
+
+		assertEquals(2L, response.content().getFirst().id());
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void get_should_waitForTheRefreshingCaller_whenNothingIsCached() {
+		when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null, null));
+		when(valueOperations.setIfAbsent(eq(lockKey), anyString(), any())).thenReturn(false);
+		when(valueOperations.get(pageKey)).thenReturn(null, cached(0));
+
+		PagedResponse<EventResponse> response = upcomingEventsCache.get(pageable, loader);
+
+		assertEquals(1L, response.content().getFirst().id());
+		assertEquals(0, loads.get());
+	}
+
+	@Test
+	public void invalidate_should_bumpTheGeneration() {
+		upcomingEventsCache.invalidate();
+
+		verify(valueOperations).increment(generationKey);
+	}
+
+	private String cached(long generation) {
+		return cached(generation, cachedPage);
+	}
+
+	private String cached(long generation, PagedResponse<EventResponse> page) {
+		return objectMapper.writeValueAsString(new UpcomingEventsCache.CachedPage(generation, page));
+	}
+
+	private static PagedResponse<EventResponse> page(Long eventId) {
+		return new PagedResponse<>(List.of(EventResponse.builder().id(eventId).build()), 0, 10, 1, 1, true);
+	}
+}
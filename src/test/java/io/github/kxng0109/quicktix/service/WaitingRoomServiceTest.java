@@ -0,0 +1,156 @@
+package io.github.kxng0109.quicktix.service;
+
+import io.github.kxng0109.quicktix.dto.request.WaitingRoomConfigRequest;
+import io.github.kxng0109.quicktix.dto.response.WaitingRoomResponse;
+import io.github.kxng0109.quicktix.entity.User;
+import io.github.kxng0109.quicktix.enums.AdmissionStatus;
+import io.github.kxng0109.quicktix.enums.Role;
+import io.github.kxng0109.quicktix.exception.AdmissionRequiredException;
+import io.github.kxng0109.quicktix.repositories.EventRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WaitingRoomServiceTest {
+
+	private final Long eventId = 100L;
+	private final String admissionKey = "waiting-room:admission:" + eventId + ":200";
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private EventRepository eventRepository;
+
+	@InjectMocks
+	private WaitingRoomService waitingRoomService;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = User.builder()
+		           .id(200L)
+		           .email("adam@baker.com")
+		           .role(Role.USER)
+		           .build();
+	}
+
+	@Test
+	public void join_should_returnPositionAndEstimatedWait_whenUserIsNotAdmittedYet() {
+		stubJoin(1300L, 50L, 600L);
+
+		WaitingRoomResponse response = waitingRoomService.join(eventId, user);
+
+		assertEquals(AdmissionStatus.WAITING, response.status());
+		assertEquals(1250, response.position());
+		assertEquals(125, response.estimatedWaitSeconds());
+		assertNull(response.admissionToken());
+		verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void join_should_issueAdmissionTokenAndLeaveQueue_whenUserIsAdmitted() {
+		ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(valueOperations.setIfAbsent(eq(admissionKey), anyString(), eq(WaitingRoomService.ADMISSION_TTL)))
+				.thenReturn(true);
+		stubJoin(40L, 50L, 600L);
+
+		WaitingRoomResponse response = waitingRoomService.join(eventId, user);
+
+		assertEquals(AdmissionStatus.ADMITTED, response.status());
+		assertNotNull(response.admissionToken());
+		verify(zSetOperations).remove("waiting-room:queue:" + eventId, "200");
+	}
+
+	@Test
+	public void join_should_returnExistingToken_withoutQueueingAgain() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get(admissionKey)).thenReturn("existing-token");
+
+		WaitingRoomResponse response = waitingRoomService.join(eventId, user);
+
+		assertEquals(AdmissionStatus.ADMITTED, response.status());
+		assertEquals("existing-token", response.admissionToken());
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+	}
+
+	@Test
+	public void join_should_returnOpen_whenEventHasNoWaitingRoom() {
+		when(eventRepository.existsById(eventId)).thenReturn(true);
+		stubJoin(-1L, 0L, 0L);
+
+		WaitingRoomResponse response = waitingRoomService.join(eventId, user);
+
+		assertEquals(AdmissionStatus.OPEN, response.status());
+		assertNull(response.admissionToken());
+	}
+
+	@Test
+	public void checkAdmission_should_throwAdmissionRequiredException_whenTokenDoesNotMatch() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("wrong-token"))).thenReturn(0L);
+
+		assertThrows(AdmissionRequiredException.class,
+		             () -> waitingRoomService.checkAdmission(eventId, user, "wrong-token")
+		);
+	}
+
+	@Test
+	public void checkAdmission_should_allowRequest_whenEventIsOpenOrTokenMatches() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), eq(""))).thenReturn(1L);
+
+		assertDoesNotThrow(() -> waitingRoomService.checkAdmission(eventId, user, null));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configure_should_storeAdmissionRate_whenEventExists() {
+		HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(eventRepository.existsById(eventId)).thenReturn(true);
+
+		waitingRoomService.configure(eventId, new WaitingRoomConfigRequest(600));
+
+		verify(hashOperations).put("waiting-room:state:" + eventId, "rate", "600");
+	}
+
+	@Test
+	public void configure_should_throwEntityNotFoundException_whenEventDoesNotExist() {
+		when(eventRepository.existsById(eventId)).thenReturn(false);
+
+		assertThrows(EntityNotFoundException.class,
+		             () -> waitingRoomService.configure(eventId, new WaitingRoomConfigRequest(600))
+		);
+
+		verify(redisTemplate, never()).opsForHash();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void stubJoin(long ticket, long admitted, long rate) {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("200"), anyString()))
+				.thenReturn(List.of(ticket, admitted, rate));
+	}
+}